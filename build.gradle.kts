@@ -51,6 +51,7 @@ license {
 
 tasks.named<Test>("test") {
 	useJUnitPlatform()
+	jvmArgs("--add-modules", "jdk.incubator.vector")
 	environment("env.default", "3")
 	environment("env.custom", "c")
 }
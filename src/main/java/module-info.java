@@ -27,6 +27,7 @@ module net.luis.utils {
 	requires org.jetbrains.annotations;
 	requires com.google.common;
 	requires org.apache.commons.lang3;
+	requires static jdk.incubator.vector;
 	
 	exports net.luis.utils.annotation;
 	exports net.luis.utils.annotation.type;
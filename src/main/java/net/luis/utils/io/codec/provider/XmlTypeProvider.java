@@ -176,8 +176,11 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 	@Override
 	public @NotNull Result<XmlElement> createList(@NotNull List<? extends XmlElement> values) {
 		Objects.requireNonNull(values, "Values must not be null");
-		List<XmlElement> elements = values.stream().map(element -> this.copyWithName(ELEMENT, element)).toList();
-		return Result.success(new XmlContainer(LIST, new XmlElements(elements)));
+		XmlElements elements = new XmlElements();
+		for (XmlElement element : values) {
+			elements.add(this.copyWithName(ELEMENT, element));
+		}
+		return Result.success(new XmlContainer(LIST, elements));
 	}
 	
 	@Override
@@ -419,10 +422,10 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 				return Result.success(current);
 			}
 			if (currentContainer.isContainerArray() && valueContainer.isContainerArray()) {
-				return this.createList(this.mergeArray(currentContainer.getElements(), valueContainer.getElements()));
+				return Result.success(this.mergeArray(currentContainer.getElements(), valueContainer.getElements()));
 			}
 			if (currentContainer.isContainerObject() && valueContainer.isContainerObject()) {
-				return this.createMap(this.mergeObject(currentContainer.getElements(), valueContainer.getElements()));
+				return Result.success(this.mergeObject(currentContainer.getElements(), valueContainer.getElements()));
 			}
 			if (currentContainer.isUndefinedContainer() && valueContainer.isUndefinedContainer()) {
 				return this.mergeUndefined(currentContainer.getElements(), valueContainer.getElements());
@@ -474,63 +477,63 @@ public final class XmlTypeProvider implements TypeProvider<XmlElement> {
 	
 	/**
 	 * Copies the given xml element with the given name.<br>
-	 * The name is used as the new name for the copied element.<br>
-	 * The copy operation is based on the type of the given element.<br>
+	 * The copy does not contain the attributes of the given element.<br>
+	 * The content of the element is not copied again, values are not re-escaped and the children of containers are shared.<br>
 	 * @param name The name for the copied element
 	 * @param value The element to copy
 	 * @return The copied element
 	 * @throws NullPointerException If the name or value is null
-	 * @throws IllegalStateException If the value is not a valid xml element (should not happen)
+	 * @see XmlElement#withName(String)
 	 */
 	private @NotNull XmlElement copyWithName(@NotNull String name, @NotNull XmlElement value) {
 		Objects.requireNonNull(name, "Name must not be null");
 		Objects.requireNonNull(value, "Value must not be null");
-		if (value.isSelfClosing()) {
-			return new XmlElement(name);
-		} else if (value.isXmlValue()) {
-			return new XmlValue(name, value.getAsXmlValue().getUnescapedValue());
-		} else if (value.isXmlContainer()) {
-			return new XmlContainer(name, value.getAsXmlContainer().getElements());
+		XmlElement element = value.withName(name);
+		if (!element.getAttributes().isEmpty()) {
+			element.getAttributes().clear();
 		}
-		throw new IllegalStateException("Unable to copy xml element '" + value + "' with name '" + name + "'");
+		return element;
 	}
 	
 	/**
-	 * Merges two arrays of xml elements.<br>
-	 * The elements of the current and value arrays are copied with the same name.<br>
-	 * The copied elements are then added to a new array.<br>
+	 * Merges two arrays of xml elements into a new list container.<br>
+	 * The elements of the current and value arrays are copied with the element name.<br>
 	 * @param current The current elements
 	 * @param value The value elements
-	 * @return The merged array
+	 * @return The merged list container
 	 * @throws NullPointerException If the current or value elements are null
 	 * @throws XmlTypeException If the current or value elements are not arrays
+	 * @see #copyWithName(String, XmlElement)
 	 */
-	private @NotNull List<XmlElement> mergeArray(@NotNull XmlElements current, @NotNull XmlElements value) {
+	private @NotNull XmlContainer mergeArray(@NotNull XmlElements current, @NotNull XmlElements value) {
 		Objects.requireNonNull(current, "Current elements must not be null");
 		Objects.requireNonNull(value, "Value elements must not be null");
-		String name = Objects.requireNonNull(current.get(0)).getName();
 		XmlElements elements = new XmlElements();
-		current.getAsArray().stream().map(element -> this.copyWithName(name, element)).forEach(elements::add);
-		value.getAsArray().stream().map(element -> this.copyWithName(name, element)).forEach(elements::add);
-		return elements.getAsArray();
+		for (XmlElement element : current.getAsArray()) {
+			elements.add(this.copyWithName(ELEMENT, element));
+		}
+		for (XmlElement element : value.getAsArray()) {
+			elements.add(this.copyWithName(ELEMENT, element));
+		}
+		return new XmlContainer(LIST, elements);
 	}
 	
 	/**
-	 * Merges two objects of xml elements.<br>
-	 * The elements of the current and value objects are moved to a new object.<br>
+	 * Merges two objects of xml elements into a new map container.<br>
+	 * The elements of the current and value objects are moved to the new container.<br>
 	 * @param current The current elements
 	 * @param value The value elements
-	 * @return The merged object as map
+	 * @return The merged map container
 	 * @throws NullPointerException If the current or value elements are null
-	 * @throws XmlTypeException If the current or value elements are not objects
+	 * @throws XmlTypeException If the current or value elements are not objects or contain the same names
 	 */
-	private @NotNull Map<String, XmlElement> mergeObject(@NotNull XmlElements current, @NotNull XmlElements value) {
+	private @NotNull XmlContainer mergeObject(@NotNull XmlElements current, @NotNull XmlElements value) {
 		Objects.requireNonNull(current, "Current elements must not be null");
 		Objects.requireNonNull(value, "Value elements must not be null");
 		XmlElements elements = new XmlElements();
 		current.getAsObject().values().forEach(elements::add);
 		value.getAsObject().values().forEach(elements::add);
-		return elements.getAsObject();
+		return new XmlContainer(this.getMapName(), elements);
 	}
 	
 	/**
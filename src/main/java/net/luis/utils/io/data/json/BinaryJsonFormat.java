@@ -0,0 +1,145 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+/**
+ * Constants and helper methods of the binary json format.<br>
+ * <p>
+ *     A binary json stream starts with the {@link #MAGIC magic bytes} followed by the {@link #VERSION version}.<br>
+ *     After the header, the stream contains any number of documents, each document consists of a dictionary and a root element.<br>
+ *     The dictionary starts with the number of entries followed by the entries as length-prefixed utf-8 strings.<br>
+ *     It contains all keys of the document and all string values which occur more than once.<br>
+ * </p>
+ * <p>
+ *     Each element starts with a type tag:<br>
+ * </p>
+ * <ul>
+ *     <li>{@link #NULL}, {@link #FALSE} and {@link #TRUE} have no content</li>
+ *     <li>{@link #LONG} is followed by a zigzag encoded varint</li>
+ *     <li>{@link #DOUBLE} is followed by the 8 bytes of the double in little-endian order</li>
+ *     <li>{@link #BIG_INTEGER} is followed by the length and the two's complement bytes of the number</li>
+ *     <li>{@link #BIG_DECIMAL} is followed by the zigzag encoded scale, the length and the bytes of the unscaled value</li>
+ *     <li>{@link #STRING} is followed by the length and the utf-8 bytes of the string</li>
+ *     <li>{@link #STRING_REFERENCE} is followed by the index of the string in the dictionary</li>
+ *     <li>{@link #ARRAY} and {@link #OBJECT} are followed by the length of their content in bytes, the number of elements and the elements</li>
+ *     <li>{@link #LONG_ARRAY} and {@link #DOUBLE_ARRAY} are packed arrays and have the same layout with values instead of elements</li>
+ * </ul>
+ * <p>
+ *     Each entry of an object is the dictionary index of its key followed by its element.<br>
+ *     All lengths, counts and indices are unsigned varints.<br>
+ *     Because of the length prefixes, a reader can skip arrays and objects without decoding them.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class BinaryJsonFormat {
+	
+	/**
+	 * The magic bytes at the start of a binary json stream.<br>
+	 */
+	static final byte[] MAGIC = { 'L', 'J', 'B' };
+	/**
+	 * The version of the binary json format.<br>
+	 */
+	static final int VERSION = 1;
+	/**
+	 * The type tag of json null.<br>
+	 */
+	static final int NULL = 0;
+	/**
+	 * The type tag of the boolean false.<br>
+	 */
+	static final int FALSE = 1;
+	/**
+	 * The type tag of the boolean true.<br>
+	 */
+	static final int TRUE = 2;
+	/**
+	 * The type tag of integral numbers which fit into a long.<br>
+	 */
+	static final int LONG = 3;
+	/**
+	 * The type tag of floating point numbers which fit into a double.<br>
+	 */
+	static final int DOUBLE = 4;
+	/**
+	 * The type tag of integral numbers which do not fit into a long.<br>
+	 */
+	static final int BIG_INTEGER = 5;
+	/**
+	 * The type tag of all other numbers, which are stored as big decimal.<br>
+	 */
+	static final int BIG_DECIMAL = 6;
+	/**
+	 * The type tag of strings which are stored inline.<br>
+	 */
+	static final int STRING = 7;
+	/**
+	 * The type tag of strings which are stored in the dictionary.<br>
+	 */
+	static final int STRING_REFERENCE = 8;
+	/**
+	 * The type tag of json arrays.<br>
+	 */
+	static final int ARRAY = 9;
+	/**
+	 * The type tag of json objects.<br>
+	 */
+	static final int OBJECT = 10;
+	/**
+	 * The type tag of packed json arrays of integral numbers.<br>
+	 */
+	static final int LONG_ARRAY = 11;
+	/**
+	 * The type tag of packed json arrays of floating point numbers.<br>
+	 */
+	static final int DOUBLE_ARRAY = 12;
+	
+	/**
+	 * Private constructor to prevent instantiation of utility class.<br>
+	 */
+	private BinaryJsonFormat() {}
+	
+	/**
+	 * Encodes the given signed value with zigzag encoding, so values with a small magnitude have a short varint.<br>
+	 * @param value The value to encode
+	 * @return The encoded value
+	 */
+	static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+	
+	/**
+	 * Decodes the given zigzag encoded value.<br>
+	 * @param value The encoded value
+	 * @return The decoded value
+	 */
+	static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	/**
+	 * Returns the number of bytes of the given unsigned value encoded as varint.<br>
+	 * @param value The value
+	 * @return The size of the varint in bytes
+	 */
+	static int varintSize(long value) {
+		return Math.max(1, (70 - Long.numberOfLeadingZeros(value)) / 7);
+	}
+}
@@ -0,0 +1,869 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static net.luis.utils.io.data.json.BinaryJsonFormat.*;
+
+/**
+ * A reader for reading json elements in the binary format written by a {@link BinaryJsonWriter}.<br>
+ * <p>
+ *     The reader works like the {@link JsonTokenReader}, the content is returned token by token using {@link #peek()} and {@link #next()}.<br>
+ *     Json arrays and objects are prefixed with their length in bytes,<br>
+ *     therefore {@link #skipValue()} skips them in the input without decoding their content.<br>
+ *     Complete json elements can be read with {@link #readElement()} or {@link #readJson()}.<br>
+ * </p>
+ * <p>
+ *     The input may contain multiple documents, the root elements of the documents are returned one after another.<br>
+ * </p>
+ * Example usage:<br>
+ * <pre>{@code
+ * try (BinaryJsonReader reader = new BinaryJsonReader(input)) {
+ *     reader.next(); // BEGIN_OBJECT
+ *     while (reader.peek() == JsonToken.NAME) {
+ *         reader.next();
+ *         if ("id".equals(reader.getName())) {
+ *             JsonElement id = reader.readElement();
+ *         } else {
+ *             reader.skipValue();
+ *         }
+ *     }
+ *     reader.next(); // END_OBJECT
+ * }
+ * }</pre>
+ *
+ * @author Luis-St
+ */
+public class BinaryJsonReader implements AutoCloseable {
+	
+	/**
+	 * The size of the input buffer.<br>
+	 */
+	private static final int BUFFER_SIZE = 8192;
+	/**
+	 * The maximum initial capacity of arrays whose size is read from the input.<br>
+	 */
+	private static final int MAX_INITIAL_CAPACITY = 4096;
+	/**
+	 * Scope constant for the top level of the input.<br>
+	 */
+	private static final int DOCUMENT = 0;
+	/**
+	 * Scope constant for a json array.<br>
+	 */
+	private static final int ARRAY_SCOPE = 1;
+	/**
+	 * Scope constant for a packed json array of integral numbers.<br>
+	 */
+	private static final int LONG_ARRAY_SCOPE = 2;
+	/**
+	 * Scope constant for a packed json array of floating point numbers.<br>
+	 */
+	private static final int DOUBLE_ARRAY_SCOPE = 3;
+	/**
+	 * Scope constant for a json object whose next token is a name or the end of the object.<br>
+	 */
+	private static final int OBJECT_SCOPE = 4;
+	/**
+	 * Scope constant for a json object whose entry name was read but not its value.<br>
+	 */
+	private static final int DANGLING_NAME = 5;
+	/**
+	 * Scope constant for a closed reader.<br>
+	 */
+	private static final int CLOSED = 6;
+	
+	/**
+	 * The input stream to read from.<br>
+	 */
+	private final InputStream stream;
+	/**
+	 * The buffer of the input.<br>
+	 */
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	/**
+	 * The key cache which is used to share the keys of the read json objects.<br>
+	 */
+	private final JsonKeyCache keyCache = new JsonKeyCache();
+	/**
+	 * The position of the first byte of the buffer in the input.<br>
+	 */
+	private long offset;
+	/**
+	 * The current position in the buffer.<br>
+	 */
+	private int position;
+	/**
+	 * The number of valid bytes in the buffer.<br>
+	 */
+	private int limit;
+	/**
+	 * Whether the header of the input has been read.<br>
+	 */
+	private boolean headerRead;
+	/**
+	 * The dictionary of the current document.<br>
+	 */
+	private String[] dictionary = new String[0];
+	/**
+	 * The number of entries in the dictionary of the current document.<br>
+	 */
+	private int dictionarySize;
+	/**
+	 * The stack of scopes, the last entry is the current scope.<br>
+	 */
+	private int[] scopes = new int[32];
+	/**
+	 * The number of remaining elements or entries of the scopes.<br>
+	 */
+	private int[] remaining = new int[32];
+	/**
+	 * The number of scopes on the stack.<br>
+	 */
+	private int scopeSize;
+	/**
+	 * The peeked token or null if no token has been peeked.<br>
+	 */
+	private JsonToken peeked;
+	/**
+	 * The text of the peeked token.<br>
+	 */
+	private String peekedValue;
+	/**
+	 * The number of the peeked token.<br>
+	 */
+	private Number peekedNumber;
+	/**
+	 * The scope of the peeked json array or object.<br>
+	 */
+	private int peekedScope;
+	/**
+	 * The number of elements or entries of the peeked json array or object.<br>
+	 */
+	private int peekedCount;
+	/**
+	 * The number of content bytes of the peeked json array or object after its element count.<br>
+	 */
+	private long peekedLength;
+	/**
+	 * The last consumed token.<br>
+	 */
+	private JsonToken current;
+	/**
+	 * The text of the current token.<br>
+	 */
+	private String currentValue;
+	/**
+	 * The number of the current token.<br>
+	 */
+	private Number currentNumber;
+	
+	/**
+	 * Constructs a new binary json reader for the given input.<br>
+	 * @param input The input to create the reader for
+	 * @throws NullPointerException If the input is null
+	 */
+	public BinaryJsonReader(@NotNull InputProvider input) {
+		this.stream = Objects.requireNonNull(input, "Input must not be null").getStream();
+		this.scopes[this.scopeSize++] = DOCUMENT;
+	}
+	
+	//region Token operations
+	
+	/**
+	 * Checks whether there is another token to read.<br>
+	 * @return True if the next token is not {@link JsonToken#END_DOCUMENT}, otherwise false
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public boolean hasNext() {
+		return this.peek() != JsonToken.END_DOCUMENT;
+	}
+	
+	/**
+	 * Returns the next token without consuming it.<br>
+	 * @return The next token
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonToken peek() {
+		if (this.peeked == null) {
+			try {
+				this.peeked = this.readToken();
+			} catch (IOException e) {
+				throw new UncheckedIOException("An I/O error occurred while reading the binary json input", e);
+			}
+		}
+		return this.peeked;
+	}
+	
+	/**
+	 * Consumes and returns the next token.<br>
+	 * The value of the token can be accessed afterward using the getter methods of this reader.<br>
+	 * @return The next token
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see #getName()
+	 * @see #getString()
+	 * @see #getNumber()
+	 * @see #getBoolean()
+	 */
+	public @NotNull JsonToken next() {
+		JsonToken token = this.peek();
+		if (token.isBegin()) {
+			this.pushScope(this.peekedScope, this.peekedCount);
+		}
+		this.consumePeeked(token);
+		return token;
+	}
+	
+	/**
+	 * Returns the current nesting depth of the reader.<br>
+	 * The depth is zero at the top level and increases by one for each entered json object or array.<br>
+	 * @return The current depth
+	 */
+	public int getDepth() {
+		return Math.max(0, this.scopeSize - 1);
+	}
+	
+	/**
+	 * Returns the last token consumed by {@link #next()}.<br>
+	 * @return The current token or null if no token was consumed yet
+	 */
+	public @Nullable JsonToken getCurrentToken() {
+		return this.current;
+	}
+	
+	/**
+	 * Returns the name of the current {@link JsonToken#NAME name} token.<br>
+	 * @return The name of the current json object entry
+	 * @throws IllegalStateException If the current token is not a name
+	 */
+	public @NotNull String getName() {
+		this.expectCurrent(JsonToken.NAME);
+		return this.currentValue;
+	}
+	
+	/**
+	 * Returns the text of the current token.<br>
+	 * The text is available for {@link JsonToken#NAME name}, {@link JsonToken#STRING string},<br>
+	 * {@link JsonToken#NUMBER number} and {@link JsonToken#BOOLEAN boolean} tokens.<br>
+	 * @return The text of the current token
+	 * @throws IllegalStateException If the current token has no text
+	 */
+	public @NotNull String getString() {
+		if (this.currentValue == null && this.currentNumber != null) {
+			this.currentValue = String.valueOf(this.currentNumber);
+		}
+		if (this.currentValue == null) {
+			throw new IllegalStateException("Expected a token with a text value but got: " + this.current);
+		}
+		return this.currentValue;
+	}
+	
+	/**
+	 * Returns the value of the current {@link JsonToken#NUMBER number} token.<br>
+	 * @return The number value of the current token
+	 * @throws IllegalStateException If the current token is not a number
+	 */
+	public @NotNull Number getNumber() {
+		this.expectCurrent(JsonToken.NUMBER);
+		return this.currentNumber;
+	}
+	
+	/**
+	 * Returns the value of the current {@link JsonToken#BOOLEAN boolean} token.<br>
+	 * @return The boolean value of the current token
+	 * @throws IllegalStateException If the current token is not a boolean
+	 */
+	public boolean getBoolean() {
+		this.expectCurrent(JsonToken.BOOLEAN);
+		return "true".equals(this.currentValue);
+	}
+	
+	/**
+	 * Skips the next value.<br>
+	 * If the next token is a name, the name and the value of the json object entry are skipped.<br>
+	 * If the next value is a json object or array, the whole subtree is skipped in the input without decoding it.<br>
+	 * @throws IllegalStateException If the next token is not a name or value
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void skipValue() {
+		JsonToken token = this.peek();
+		if (token == JsonToken.NAME) {
+			this.next();
+			token = this.peek();
+		}
+		if (token.isEnd() || token == JsonToken.END_DOCUMENT) {
+			throw new IllegalStateException("Expected a json value to skip but got: " + token);
+		}
+		if (token.isBegin()) {
+			try {
+				this.skip(this.peekedLength);
+			} catch (IOException e) {
+				throw new UncheckedIOException("An I/O error occurred while skipping the binary json input", e);
+			}
+			this.consumePeeked(token == JsonToken.BEGIN_OBJECT ? JsonToken.END_OBJECT : JsonToken.END_ARRAY);
+		} else {
+			this.next();
+		}
+	}
+	
+	/**
+	 * Reads the next value as json element.<br>
+	 * If the next value is a json object or array, the whole subtree is decoded directly from the input.<br>
+	 * @return The next value as json element
+	 * @throws IllegalStateException If the next token is not a value
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonElement readElement() {
+		JsonToken token = this.peek();
+		try {
+			return switch (token) {
+				case BEGIN_OBJECT, BEGIN_ARRAY -> {
+					int scope = this.peekedScope;
+					int count = this.peekedCount;
+					this.consumePeeked(token == JsonToken.BEGIN_OBJECT ? JsonToken.END_OBJECT : JsonToken.END_ARRAY);
+					yield this.readContent(scope, count);
+				}
+				case STRING, NUMBER, BOOLEAN, NULL -> {
+					this.next();
+					yield switch (token) {
+						case STRING -> new JsonPrimitive(this.currentValue);
+						case NUMBER -> new JsonPrimitive(this.currentNumber);
+						case BOOLEAN -> new JsonPrimitive(this.getBoolean());
+						default -> JsonNull.INSTANCE;
+					};
+				}
+				default -> throw new IllegalStateException("Expected a json value but got: " + token);
+			};
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while reading the binary json input", e);
+		}
+	}
+	
+	/**
+	 * Reads the root element of the next document in the input.<br>
+	 * @return The root element of the next document
+	 * @throws IllegalStateException If the reader is inside a json array or object or there is no further document
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonElement readJson() {
+		if (this.getDepth() > 0) {
+			throw new IllegalStateException("Unable to read a json document inside of a json array or object");
+		}
+		return this.readElement();
+	}
+	//endregion
+	
+	//region Token reading
+	
+	/**
+	 * Reads the next token depending on the current scope.<br>
+	 * @return The read token
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NotNull JsonToken readToken() throws IOException {
+		int index = this.scopeSize - 1;
+		switch (this.scopes[index]) {
+			case DOCUMENT -> {
+				if (!this.headerRead) {
+					if (this.isEndOfInput()) {
+						return JsonToken.END_DOCUMENT;
+					}
+					this.readHeader();
+				}
+				if (this.isEndOfInput()) {
+					return JsonToken.END_DOCUMENT;
+				}
+				this.readDictionary();
+				return this.readValueToken(this.readByte());
+			}
+			case ARRAY_SCOPE, LONG_ARRAY_SCOPE, DOUBLE_ARRAY_SCOPE -> {
+				if (this.remaining[index] == 0) {
+					this.scopeSize--;
+					return JsonToken.END_ARRAY;
+				}
+				this.remaining[index]--;
+				if (this.scopes[index] == LONG_ARRAY_SCOPE) {
+					this.peekedNumber = unzigzag(this.readVarint());
+					return JsonToken.NUMBER;
+				} else if (this.scopes[index] == DOUBLE_ARRAY_SCOPE) {
+					this.peekedNumber = Double.longBitsToDouble(this.readFixed64());
+					return JsonToken.NUMBER;
+				}
+				return this.readValueToken(this.readByte());
+			}
+			case OBJECT_SCOPE -> {
+				if (this.remaining[index] == 0) {
+					this.scopeSize--;
+					return JsonToken.END_OBJECT;
+				}
+				this.scopes[index] = DANGLING_NAME;
+				this.peekedValue = this.readDictionaryEntry();
+				return JsonToken.NAME;
+			}
+			case DANGLING_NAME -> {
+				this.scopes[index] = OBJECT_SCOPE;
+				this.remaining[index]--;
+				return this.readValueToken(this.readByte());
+			}
+			default -> throw new IllegalStateException("Binary json reader is closed");
+		}
+	}
+	
+	/**
+	 * Reads the token of the value with the given type tag.<br>
+	 * For json arrays and objects, only the length and the number of elements are read.<br>
+	 * @param tag The type tag of the value
+	 * @return The read token
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NotNull JsonToken readValueToken(int tag) throws IOException {
+		switch (tag) {
+			case NULL -> {
+				return JsonToken.NULL;
+			}
+			case FALSE, TRUE -> {
+				this.peekedValue = tag == TRUE ? "true" : "false";
+				return JsonToken.BOOLEAN;
+			}
+			case STRING, STRING_REFERENCE -> {
+				this.peekedValue = tag == STRING ? this.readString() : this.readDictionaryEntry();
+				return JsonToken.STRING;
+			}
+			case ARRAY, LONG_ARRAY, DOUBLE_ARRAY, OBJECT -> {
+				long length = this.readVarint();
+				int count = this.readCount();
+				this.peekedLength = length - varintSize(count);
+				if (length < 0 || this.peekedLength < 0) {
+					throw this.createException("Invalid binary json, invalid length " + length);
+				}
+				this.peekedCount = count;
+				this.peekedScope = switch (tag) {
+					case ARRAY -> ARRAY_SCOPE;
+					case LONG_ARRAY -> LONG_ARRAY_SCOPE;
+					case DOUBLE_ARRAY -> DOUBLE_ARRAY_SCOPE;
+					default -> OBJECT_SCOPE;
+				};
+				return tag == OBJECT ? JsonToken.BEGIN_OBJECT : JsonToken.BEGIN_ARRAY;
+			}
+			default -> {
+				this.peekedNumber = this.readNumber(tag);
+				return JsonToken.NUMBER;
+			}
+		}
+	}
+	
+	/**
+	 * Reads the number with the given type tag.<br>
+	 * @param tag The type tag of the number
+	 * @return The read number
+	 * @throws JsonSyntaxException If the type tag is not a number type tag or the number is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NotNull Number readNumber(int tag) throws IOException {
+		return switch (tag) {
+			case LONG -> unzigzag(this.readVarint());
+			case DOUBLE -> Double.longBitsToDouble(this.readFixed64());
+			case BIG_INTEGER -> this.readBigInteger();
+			case BIG_DECIMAL -> {
+				long scale = unzigzag(this.readVarint());
+				if (scale != (int) scale) {
+					throw this.createException("Invalid binary json, invalid scale " + scale);
+				}
+				yield new BigDecimal(this.readBigInteger(), (int) scale);
+			}
+			default -> throw this.createException("Invalid binary json, unknown type tag " + tag);
+		};
+	}
+	
+	/**
+	 * Consumes the peeked token and makes it the current token.<br>
+	 * @param token The token which becomes the current token
+	 */
+	private void consumePeeked(@NotNull JsonToken token) {
+		this.current = token;
+		this.currentValue = this.peekedValue;
+		this.currentNumber = this.peekedNumber;
+		this.peeked = null;
+		this.peekedValue = null;
+		this.peekedNumber = null;
+	}
+	
+	/**
+	 * Pushes a new scope with the given number of elements or entries on the stack.<br>
+	 * @param scope The scope
+	 * @param count The number of elements or entries
+	 */
+	private void pushScope(int scope, int count) {
+		if (this.scopeSize == this.scopes.length) {
+			this.scopes = Arrays.copyOf(this.scopes, this.scopeSize * 2);
+			this.remaining = Arrays.copyOf(this.remaining, this.scopeSize * 2);
+		}
+		this.scopes[this.scopeSize] = scope;
+		this.remaining[this.scopeSize++] = count;
+	}
+	
+	/**
+	 * Checks that the current token is the given token.<br>
+	 * @param token The expected token
+	 * @throws IllegalStateException If the current token is not the given token
+	 */
+	private void expectCurrent(@NotNull JsonToken token) {
+		if (this.current != token) {
+			throw new IllegalStateException("Expected current token to be " + token + " but got: " + this.current);
+		}
+	}
+	//endregion
+	
+	//region Element decoding
+	
+	/**
+	 * Decodes the value with the given type tag.<br>
+	 * @param tag The type tag of the value
+	 * @return The decoded json element
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NotNull JsonElement readValue(int tag) throws IOException {
+		return switch (tag) {
+			case NULL -> JsonNull.INSTANCE;
+			case FALSE -> new JsonPrimitive(false);
+			case TRUE -> new JsonPrimitive(true);
+			case STRING -> new JsonPrimitive(this.readString());
+			case STRING_REFERENCE -> new JsonPrimitive(this.readDictionaryEntry());
+			case ARRAY, LONG_ARRAY, DOUBLE_ARRAY, OBJECT -> {
+				this.readVarint();
+				int count = this.readCount();
+				yield this.readContent(switch (tag) {
+					case ARRAY -> ARRAY_SCOPE;
+					case LONG_ARRAY -> LONG_ARRAY_SCOPE;
+					case DOUBLE_ARRAY -> DOUBLE_ARRAY_SCOPE;
+					default -> OBJECT_SCOPE;
+				}, count);
+			}
+			default -> new JsonPrimitive(this.readNumber(tag));
+		};
+	}
+	
+	/**
+	 * Decodes the content of a json array or object with the given scope and number of elements or entries.<br>
+	 * @param scope The scope of the json array or object
+	 * @param count The number of elements or entries
+	 * @return The decoded json array or object
+	 * @throws JsonSyntaxException If the binary json is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NotNull JsonElement readContent(int scope, int count) throws IOException {
+		switch (scope) {
+			case OBJECT_SCOPE -> {
+				JsonObject object = new JsonObject();
+				for (int i = 0; i < count; i++) {
+					String key = this.readDictionaryEntry();
+					object.add(key, this.readValue(this.readByte()));
+				}
+				object.shareKeys(this.keyCache);
+				return object;
+			}
+			case LONG_ARRAY_SCOPE -> {
+				long[] values = new long[Math.min(count, MAX_INITIAL_CAPACITY)];
+				for (int i = 0; i < count; i++) {
+					if (i == values.length) {
+						values = Arrays.copyOf(values, (int) Math.min(count, 2L * values.length));
+					}
+					values[i] = unzigzag(this.readVarint());
+				}
+				return JsonArray.of(values);
+			}
+			case DOUBLE_ARRAY_SCOPE -> {
+				double[] values = new double[Math.min(count, MAX_INITIAL_CAPACITY)];
+				for (int i = 0; i < count; i++) {
+					if (i == values.length) {
+						values = Arrays.copyOf(values, (int) Math.min(count, 2L * values.length));
+					}
+					values[i] = Double.longBitsToDouble(this.readFixed64());
+				}
+				return JsonArray.of(values);
+			}
+			default -> {
+				JsonArray array = new JsonArray();
+				for (int i = 0; i < count; i++) {
+					array.add(this.readValue(this.readByte()));
+				}
+				array.pack();
+				return array;
+			}
+		}
+	}
+	//endregion
+	
+	//region Input operations
+	
+	/**
+	 * Reads and validates the header of the input.<br>
+	 * @throws JsonSyntaxException If the header is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void readHeader() throws IOException {
+		for (byte b : MAGIC) {
+			if (this.readByte() != b) {
+				throw this.createException("Invalid binary json, the input does not start with the binary json header");
+			}
+		}
+		int version = this.readByte();
+		if (version != VERSION) {
+			throw this.createException("Invalid binary json, unsupported version " + version);
+		}
+		this.headerRead = true;
+	}
+	
+	/**
+	 * Reads the dictionary of the next document.<br>
+	 * @throws JsonSyntaxException If the dictionary is invalid
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void readDictionary() throws IOException {
+		int size = this.readCount();
+		this.dictionarySize = 0;
+		if (this.dictionary.length < Math.min(size, MAX_INITIAL_CAPACITY)) {
+			this.dictionary = new String[Math.min(size, MAX_INITIAL_CAPACITY)];
+		}
+		for (int i = 0; i < size; i++) {
+			if (i == this.dictionary.length) {
+				this.dictionary = Arrays.copyOf(this.dictionary, (int) Math.min(size, 2L * this.dictionary.length));
+			}
+			this.dictionary[i] = this.readString();
+			this.dictionarySize++;
+		}
+	}
+	
+	/**
+	 * Reads a dictionary index and returns the entry of the dictionary.<br>
+	 * @return The dictionary entry
+	 * @throws JsonSyntaxException If the index is out of bounds
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NotNull String readDictionaryEntry() throws IOException {
+		long index = this.readVarint();
+		if (index < 0 || index >= this.dictionarySize) {
+			throw this.createException("Invalid binary json, dictionary index " + index + " is out of bounds for dictionary size " + this.dictionarySize);
+		}
+		return this.dictionary[(int) index];
+	}
+	
+	/**
+	 * Checks if the end of the input has been reached.<br>
+	 * @return True if there are no more bytes to read, otherwise false
+	 * @throws IOException If an I/O error occurs
+	 */
+	private boolean isEndOfInput() throws IOException {
+		return this.position == this.limit && !this.fill();
+	}
+	
+	/**
+	 * Refills the buffer with the next bytes of the input.<br>
+	 * @return True if at least one byte was read, false if the end of the input was reached
+	 * @throws IOException If an I/O error occurs
+	 */
+	private boolean fill() throws IOException {
+		this.offset += this.limit;
+		this.position = 0;
+		this.limit = Math.max(0, this.stream.read(this.buffer));
+		return this.limit > 0;
+	}
+	
+	/**
+	 * Reads the next byte of the input.<br>
+	 * @return The unsigned byte
+	 * @throws JsonSyntaxException If the end of the input was reached
+	 * @throws IOException If an I/O error occurs
+	 */
+	private int readByte() throws IOException {
+		if (this.position == this.limit && !this.fill()) {
+			throw this.createException("Invalid binary json, unexpected end of input");
+		}
+		return this.buffer[this.position++] & 0xFF;
+	}
+	
+	/**
+	 * Reads an unsigned varint.<br>
+	 * @return The read value
+	 * @throws JsonSyntaxException If the varint is invalid or the end of the input was reached
+	 * @throws IOException If an I/O error occurs
+	 */
+	private long readVarint() throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = this.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if (b < 0x80) {
+				return value;
+			}
+		}
+		throw this.createException("Invalid binary json, malformed varint");
+	}
+	
+	/**
+	 * Reads an unsigned varint which is used as count or length.<br>
+	 * @return The read value
+	 * @throws JsonSyntaxException If the value is negative or too large
+	 * @throws IOException If an I/O error occurs
+	 */
+	private int readCount() throws IOException {
+		long value = this.readVarint();
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw this.createException("Invalid binary json, invalid count or length " + value);
+		}
+		return (int) value;
+	}
+	
+	/**
+	 * Reads 8 bytes in little-endian order.<br>
+	 * @return The read value
+	 * @throws JsonSyntaxException If the end of the input was reached
+	 * @throws IOException If an I/O error occurs
+	 */
+	private long readFixed64() throws IOException {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value |= (long) this.readByte() << (i * 8);
+		}
+		return value;
+	}
+	
+	/**
+	 * Reads the given number of bytes.<br>
+	 * @param length The number of bytes
+	 * @return The read bytes
+	 * @throws JsonSyntaxException If the end of the input was reached
+	 * @throws IOException If an I/O error occurs
+	 */
+	private byte @NotNull [] readBytes(int length) throws IOException {
+		int buffered = this.limit - this.position;
+		if (length <= buffered) {
+			byte[] bytes = Arrays.copyOfRange(this.buffer, this.position, this.position + length);
+			this.position += length;
+			return bytes;
+		}
+		byte[] rest = this.stream.readNBytes(length - buffered);
+		if (rest.length < length - buffered) {
+			this.offset += this.limit + rest.length;
+			this.position = this.limit = 0;
+			throw this.createException("Invalid binary json, unexpected end of input");
+		}
+		byte[] bytes = new byte[length];
+		System.arraycopy(this.buffer, this.position, bytes, 0, buffered);
+		System.arraycopy(rest, 0, bytes, buffered, rest.length);
+		this.offset += this.limit + rest.length;
+		this.position = this.limit = 0;
+		return bytes;
+	}
+	
+	/**
+	 * Reads a length-prefixed utf-8 string.<br>
+	 * @return The read string
+	 * @throws JsonSyntaxException If the string is invalid or the end of the input was reached
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NotNull String readString() throws IOException {
+		int length = this.readCount();
+		if (length <= this.limit - this.position) {
+			String string = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+			this.position += length;
+			return string;
+		}
+		return new String(this.readBytes(length), StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Reads a length-prefixed big integer in two's complement representation.<br>
+	 * @return The read big integer
+	 * @throws JsonSyntaxException If the big integer is invalid or the end of the input was reached
+	 * @throws IOException If an I/O error occurs
+	 */
+	private @NotNull BigInteger readBigInteger() throws IOException {
+		int length = this.readCount();
+		if (length == 0) {
+			throw this.createException("Invalid binary json, empty big integer");
+		}
+		return new BigInteger(this.readBytes(length));
+	}
+	
+	/**
+	 * Skips the given number of bytes of the input.<br>
+	 * @param length The number of bytes to skip
+	 * @throws JsonSyntaxException If the end of the input was reached
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void skip(long length) throws IOException {
+		int buffered = this.limit - this.position;
+		if (length <= buffered) {
+			this.position += (int) length;
+			return;
+		}
+		this.offset += this.limit;
+		this.position = this.limit = 0;
+		try {
+			this.stream.skipNBytes(length - buffered);
+		} catch (EOFException e) {
+			throw this.createException("Invalid binary json, unexpected end of input");
+		}
+		this.offset += length - buffered;
+	}
+	
+	/**
+	 * Creates a new json syntax exception with the given message.<br>
+	 * The current byte offset in the input is appended to the message.<br>
+	 * @param message The message of the exception
+	 * @return The created exception
+	 */
+	private @NotNull JsonSyntaxException createException(@NotNull String message) {
+		return new JsonSyntaxException(message + " at byte " + (this.offset + this.position));
+	}
+	//endregion
+	
+	@Override
+	public void close() throws IOException {
+		this.scopeSize = 1;
+		this.scopes[0] = CLOSED;
+		this.peeked = null;
+		this.stream.close();
+	}
+}
@@ -0,0 +1,391 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.luis.utils.io.data.OutputProvider;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static net.luis.utils.io.data.json.BinaryJsonFormat.*;
+
+/**
+ * A writer for writing json elements in a compact binary format to an {@link OutputProvider output provider}.<br>
+ * <p>
+ *     The binary format is type-tagged, stores numbers as varints and keys and repeated strings in a dictionary (see {@link BinaryJsonFormat}).<br>
+ *     Json arrays and objects are prefixed with their length in bytes, so a {@link BinaryJsonReader} can skip them without decoding.<br>
+ *     Reading the written json elements with a {@link BinaryJsonReader} results in equal json elements.<br>
+ * </p>
+ * <p>
+ *     Each call of {@link #writeJson(JsonElement)} writes a separate document with its own dictionary.<br>
+ *     The document is encoded in memory before it is written to the output.<br>
+ * </p>
+ * Example usage:<br>
+ * <pre>{@code
+ * try (BinaryJsonWriter writer = new BinaryJsonWriter(output)) {
+ *     writer.writeJson(json);
+ * }
+ * }</pre>
+ *
+ * @author Luis-St
+ */
+public class BinaryJsonWriter implements AutoCloseable {
+	
+	/**
+	 * The initial size of the encoding buffer.<br>
+	 */
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	/**
+	 * The maximum size of the encoding buffer which is kept between documents.<br>
+	 */
+	private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+	
+	/**
+	 * The output stream to write to.<br>
+	 */
+	private final OutputStream stream;
+	/**
+	 * The dictionary indices of the keys and repeated strings of the current document.<br>
+	 */
+	private final Map<String, Integer> dictionary = Maps.newHashMap();
+	/**
+	 * The entries of the dictionary of the current document in the order of their indices.<br>
+	 */
+	private final List<String> entries = Lists.newArrayList();
+	/**
+	 * The number of occurrences of the string values of the current document.<br>
+	 */
+	private final Map<String, Integer> counts = Maps.newHashMap();
+	/**
+	 * The buffer in which the current document is encoded.<br>
+	 */
+	private byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+	/**
+	 * The number of bytes in the buffer.<br>
+	 */
+	private int size;
+	/**
+	 * Whether the header of the binary json stream has been written.<br>
+	 */
+	private boolean headerWritten;
+	
+	/**
+	 * Constructs a new binary json writer for the given output.<br>
+	 * @param output The output to create the writer for
+	 * @throws NullPointerException If the output is null
+	 */
+	public BinaryJsonWriter(@NotNull OutputProvider output) {
+		this.stream = new BufferedOutputStream(Objects.requireNonNull(output, "Output must not be null").getStream());
+	}
+	
+	/**
+	 * Writes the given json element as a binary json document to the output.<br>
+	 * @param json The json element to write
+	 * @throws NullPointerException If the json element is null
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void writeJson(@NotNull JsonElement json) {
+		Objects.requireNonNull(json, "Json element must not be null");
+		try {
+			this.collect(json);
+			this.counts.forEach((string, count) -> {
+				if (count > 1) {
+					this.addEntry(string);
+				}
+			});
+			if (!this.headerWritten) {
+				for (byte b : MAGIC) {
+					this.writeByte(b);
+				}
+				this.writeByte(VERSION);
+				this.headerWritten = true;
+			}
+			this.writeVarint(this.entries.size());
+			for (String entry : this.entries) {
+				this.writeString(entry);
+			}
+			this.writeElement(json);
+			this.stream.write(this.buffer, 0, this.size);
+			this.stream.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the binary json element", e);
+		} finally {
+			this.dictionary.clear();
+			this.entries.clear();
+			this.counts.clear();
+			this.size = 0;
+			if (this.buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+				this.buffer = new byte[DEFAULT_BUFFER_SIZE];
+			}
+		}
+	}
+	
+	/**
+	 * Flushes the underlying output.<br>
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void flush() {
+		try {
+			this.stream.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while flushing the binary json writer", e);
+		}
+	}
+	
+	//region Dictionary
+	
+	/**
+	 * Collects the keys and counts the string values of the given json element and its children.<br>
+	 * @param json The json element
+	 */
+	private void collect(@NotNull JsonElement json) {
+		if (json instanceof JsonObject object) {
+			for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+				this.addEntry(entry.getKey());
+				this.collect(entry.getValue());
+			}
+		} else if (json instanceof JsonArray array) {
+			if (array.size() > 0 && !array.isPacked()) {
+				for (JsonElement element : array) {
+					this.collect(element);
+				}
+			}
+		} else if (json instanceof JsonPrimitive primitive && primitive.isString()) {
+			this.counts.merge(primitive.getAsString(), 1, Integer::sum);
+		}
+	}
+	
+	/**
+	 * Adds the given string to the dictionary of the current document if it is not present yet.<br>
+	 * @param string The string to add
+	 */
+	private void addEntry(@NotNull String string) {
+		if (this.dictionary.putIfAbsent(string, this.entries.size()) == null) {
+			this.entries.add(string);
+		}
+	}
+	//endregion
+	
+	//region Encoding
+	
+	/**
+	 * Encodes the given json element into the buffer.<br>
+	 * @param json The json element to encode
+	 */
+	private void writeElement(@NotNull JsonElement json) {
+		if (json instanceof JsonObject object) {
+			this.writeByte(OBJECT);
+			int start = this.beginContainer();
+			this.writeVarint(object.size());
+			for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+				this.writeVarint(this.dictionary.get(entry.getKey()));
+				this.writeElement(entry.getValue());
+			}
+			this.endContainer(start);
+		} else if (json instanceof JsonArray array) {
+			this.writeArray(array);
+		} else if (json instanceof JsonPrimitive primitive) {
+			this.writePrimitive(primitive);
+		} else {
+			this.writeByte(NULL);
+		}
+	}
+	
+	/**
+	 * Encodes the given json array into the buffer.<br>
+	 * Packed json arrays are encoded as packed arrays.<br>
+	 * @param array The json array to encode
+	 */
+	private void writeArray(@NotNull JsonArray array) {
+		int size = array.size();
+		if (!array.isPacked()) {
+			this.writeByte(ARRAY);
+			int start = this.beginContainer();
+			this.writeVarint(size);
+			for (JsonElement element : array) {
+				this.writeElement(element);
+			}
+			this.endContainer(start);
+		} else if (array.isPackedLong()) {
+			this.writeByte(LONG_ARRAY);
+			int start = this.beginContainer();
+			this.writeVarint(size);
+			for (int i = 0; i < size; i++) {
+				this.writeVarint(zigzag(array.getAsLong(i)));
+			}
+			this.endContainer(start);
+		} else {
+			this.writeByte(DOUBLE_ARRAY);
+			this.writeVarint(varintSize(size) + 8L * size);
+			this.writeVarint(size);
+			for (int i = 0; i < size; i++) {
+				this.writeFixed64(Double.doubleToRawLongBits(array.getAsDouble(i)));
+			}
+		}
+	}
+	
+	/**
+	 * Encodes the given json primitive into the buffer.<br>
+	 * @param primitive The json primitive to encode
+	 */
+	private void writePrimitive(@NotNull JsonPrimitive primitive) {
+		if (primitive.isBoolean()) {
+			this.writeByte(primitive.getAsBoolean() ? TRUE : FALSE);
+		} else if (primitive.isLongValue()) {
+			this.writeByte(LONG);
+			this.writeVarint(zigzag(primitive.getAsLong()));
+		} else if (primitive.isDoubleValue()) {
+			this.writeByte(DOUBLE);
+			this.writeFixed64(Double.doubleToRawLongBits(primitive.getAsDouble()));
+		} else if (primitive.isNumber()) {
+			Number number = primitive.getAsNumber();
+			if (number instanceof BigInteger bigInteger) {
+				this.writeByte(BIG_INTEGER);
+				this.writeBytes(bigInteger.toByteArray());
+			} else {
+				BigDecimal bigDecimal = (BigDecimal) number;
+				this.writeByte(BIG_DECIMAL);
+				this.writeVarint(zigzag(bigDecimal.scale()));
+				this.writeBytes(bigDecimal.unscaledValue().toByteArray());
+			}
+		} else {
+			String string = primitive.getAsString();
+			Integer index = this.dictionary.get(string);
+			if (index != null) {
+				this.writeByte(STRING_REFERENCE);
+				this.writeVarint(index);
+			} else {
+				this.writeByte(STRING);
+				this.writeString(string);
+			}
+		}
+	}
+	
+	/**
+	 * Reserves a single byte for the length of a json array or object which starts at the current position.<br>
+	 * @return The position of the reserved byte
+	 */
+	private int beginContainer() {
+		this.ensureCapacity(1);
+		return this.size++;
+	}
+	
+	/**
+	 * Writes the length of the json array or object whose length byte was reserved at the given position.<br>
+	 * If the length does not fit into the reserved byte, the content is moved to make room for the length.<br>
+	 * @param start The position of the reserved byte
+	 */
+	private void endContainer(int start) {
+		int length = this.size - start - 1;
+		int extra = varintSize(length) - 1;
+		if (extra > 0) {
+			this.ensureCapacity(extra);
+			System.arraycopy(this.buffer, start + 1, this.buffer, start + 1 + extra, length);
+			this.size += extra;
+		}
+		int position = start;
+		while (length >= 0x80) {
+			this.buffer[position++] = (byte) (length | 0x80);
+			length >>>= 7;
+		}
+		this.buffer[position] = (byte) length;
+	}
+	//endregion
+	
+	//region Buffer operations
+	
+	/**
+	 * Ensures that the buffer can hold the given number of additional bytes.<br>
+	 * @param bytes The number of additional bytes
+	 * @throws OutOfMemoryError If the buffer would exceed the maximum array size
+	 */
+	private void ensureCapacity(int bytes) {
+		int required = this.size + bytes;
+		if (required < 0) {
+			throw new OutOfMemoryError("Binary json document is too large");
+		}
+		if (required > this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, 2L * this.buffer.length)));
+		}
+	}
+	
+	/**
+	 * Writes the given byte into the buffer.<br>
+	 * @param b The byte to write
+	 */
+	private void writeByte(int b) {
+		this.ensureCapacity(1);
+		this.buffer[this.size++] = (byte) b;
+	}
+	
+	/**
+	 * Writes the given unsigned value as varint into the buffer.<br>
+	 * @param value The value to write
+	 */
+	private void writeVarint(long value) {
+		this.ensureCapacity(10);
+		while ((value & ~0x7FL) != 0) {
+			this.buffer[this.size++] = (byte) (value | 0x80);
+			value >>>= 7;
+		}
+		this.buffer[this.size++] = (byte) value;
+	}
+	
+	/**
+	 * Writes the given value as 8 bytes in little-endian order into the buffer.<br>
+	 * @param value The value to write
+	 */
+	private void writeFixed64(long value) {
+		this.ensureCapacity(8);
+		for (int i = 0; i < 8; i++) {
+			this.buffer[this.size++] = (byte) (value >>> (i * 8));
+		}
+	}
+	
+	/**
+	 * Writes the length of the given bytes followed by the bytes into the buffer.<br>
+	 * @param bytes The bytes to write
+	 */
+	private void writeBytes(byte @NotNull [] bytes) {
+		this.writeVarint(bytes.length);
+		this.ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+		this.size += bytes.length;
+	}
+	
+	/**
+	 * Writes the given string as length-prefixed utf-8 bytes into the buffer.<br>
+	 * @param string The string to write
+	 */
+	private void writeString(@NotNull String string) {
+		this.writeBytes(string.getBytes(StandardCharsets.UTF_8));
+	}
+	//endregion
+	
+	@Override
+	public void close() throws IOException {
+		this.stream.close();
+	}
+}
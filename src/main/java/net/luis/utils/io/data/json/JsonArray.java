@@ -24,21 +24,58 @@ import net.luis.utils.io.data.json.exception.JsonTypeException;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
+import java.util.function.UnaryOperator;
 
 /**
  * Represents a json array.<br>
  * A json array is an ordered collection of values.<br>
  * The values can be of any type, including json null.<br>
+ * <p>
+ *     Arrays which only contain integral numbers or only floating point numbers can be stored packed,<br>
+ *     in which case the values are kept in a primitive array instead of a json primitive per element.<br>
+ *     Packed arrays are created by the json reader and by the {@code of} factory methods,<br>
+ *     they are unpacked transparently as soon as an element of another type is added.<br>
+ * </p>
+ * <p>
+ *     A json array can be frozen into an immutable variant (see {@link #freeze()}).<br>
+ * </p>
  *
  * @author Luis-St
  */
 public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	
 	/**
-	 * The internal linked list of json elements.<br>
+	 * The internal list of json elements.<br>
 	 * The elements are stored in the order they were added.<br>
+	 * The list is null while the elements are stored packed.<br>
 	 */
-	private final List<JsonElement> elements = Lists.newLinkedList();
+	private List<JsonElement> elements = Lists.newArrayList();
+	/**
+	 * The packed values if this json array is packed and only contains integral numbers, otherwise null.<br>
+	 */
+	private long[] longValues;
+	/**
+	 * The packed values if this json array is packed and only contains floating point numbers, otherwise null.<br>
+	 */
+	private double[] doubleValues;
+	/**
+	 * The number of packed values if this json array is packed.<br>
+	 */
+	private int packedSize;
+	/**
+	 * The json primitives of the packed values which have been accessed as json elements, null if no value has been accessed yet.<br>
+	 * The primitives are created once per index, so repeated access returns the same instance.<br>
+	 */
+	private JsonPrimitive[] primitives;
+	/**
+	 * Whether this json array is frozen and can not be modified.<br>
+	 */
+	private boolean frozen;
+	/**
+	 * The cached hash code of this json array if it is frozen or packed, 0 if the hash code has not been computed yet.<br>
+	 * The hash code of a packed json array is reset on every modification.<br>
+	 */
+	private int hash;
 	
 	/**
 	 * Constructs an empty json array.<br>
@@ -54,6 +91,214 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 		this.elements.addAll(Objects.requireNonNull(elements, "Json elements must not be null"));
 	}
 	
+	/**
+	 * Creates a packed json array with the given long values.<br>
+	 * @param values The long values of the json array
+	 * @return The created json array
+	 * @throws NullPointerException If the values are null
+	 */
+	public static @NotNull JsonArray of(long @NotNull ... values) {
+		Objects.requireNonNull(values, "Values must not be null");
+		JsonArray array = new JsonArray();
+		array.elements = null;
+		array.longValues = values.clone();
+		array.packedSize = values.length;
+		return array;
+	}
+	
+	/**
+	 * Creates a packed json array with the given double values.<br>
+	 * @param values The double values of the json array
+	 * @return The created json array
+	 * @throws NullPointerException If the values are null
+	 */
+	public static @NotNull JsonArray of(double @NotNull ... values) {
+		Objects.requireNonNull(values, "Values must not be null");
+		JsonArray array = new JsonArray();
+		array.elements = null;
+		array.doubleValues = values.clone();
+		array.packedSize = values.length;
+		return array;
+	}
+	
+	//region Packing
+	
+	/**
+	 * Hook which is called before the elements of this json array are accessed.<br>
+	 * Json arrays which decode their elements lazily override this method to decode them on first access.<br>
+	 */
+	void load() {}
+	
+	/**
+	 * Checks if the elements of this json array are stored packed.<br>
+	 * @return True if this json array is packed, otherwise false
+	 */
+	boolean isPacked() {
+		return this.elements == null;
+	}
+	
+	/**
+	 * Checks if the elements of this json array are stored packed as integral numbers.<br>
+	 * @return True if this json array is packed with long values, otherwise false
+	 */
+	boolean isPackedLong() {
+		this.load();
+		return this.longValues != null;
+	}
+	
+	/**
+	 * Packs the elements of this json array into a primitive array if possible.<br>
+	 * This is only possible if the array is not empty and all elements are either integral numbers or floating point numbers.<br>
+	 * Numbers which do not fit into a long or double prevent packing.<br>
+	 */
+	void pack() {
+		this.load();
+		if (this.frozen || this.isPacked() || this.elements.isEmpty()) {
+			return;
+		}
+		boolean longs = true;
+		boolean doubles = true;
+		for (JsonElement json : this.elements) {
+			if (!(json instanceof JsonPrimitive primitive)) {
+				return;
+			}
+			longs &= primitive.isLongValue();
+			doubles &= primitive.isDoubleValue();
+			if (!longs && !doubles) {
+				return;
+			}
+		}
+		int size = this.elements.size();
+		if (longs) {
+			this.longValues = new long[size];
+			for (int i = 0; i < size; i++) {
+				this.longValues[i] = ((JsonPrimitive) this.elements.get(i)).getAsLong();
+			}
+		} else {
+			this.doubleValues = new double[size];
+			for (int i = 0; i < size; i++) {
+				this.doubleValues[i] = ((JsonPrimitive) this.elements.get(i)).getAsDouble();
+			}
+		}
+		this.packedSize = size;
+		this.elements = null;
+	}
+	
+	/**
+	 * Unpacks the elements of this json array into a list of json elements.<br>
+	 * If this json array is not packed, the list of elements is returned as it is.<br>
+	 * @return The list of json elements
+	 */
+	private @NotNull List<JsonElement> unpack() {
+		if (!this.isPacked()) {
+			return this.elements;
+		}
+		List<JsonElement> elements = Lists.newArrayListWithCapacity(Math.max(10, this.packedSize));
+		for (int i = 0; i < this.packedSize; i++) {
+			elements.add(this.getPacked(i));
+		}
+		this.elements = elements;
+		this.longValues = null;
+		this.doubleValues = null;
+		this.primitives = null;
+		this.packedSize = 0;
+		return elements;
+	}
+	
+	/**
+	 * Returns the packed value at the given index as json primitive.<br>
+	 * The json primitive is created on first access and reused afterward.<br>
+	 * @param index The index of the value
+	 * @return The json primitive of the value
+	 */
+	private @NotNull JsonPrimitive getPacked(int index) {
+		JsonPrimitive[] primitives = this.primitives;
+		if (primitives == null || index >= primitives.length) {
+			int capacity = this.longValues != null ? this.longValues.length : this.doubleValues.length;
+			primitives = primitives == null ? new JsonPrimitive[capacity] : Arrays.copyOf(primitives, capacity);
+			this.primitives = primitives;
+		}
+		JsonPrimitive primitive = primitives[index];
+		if (primitive == null) {
+			primitive = this.longValues != null ? new JsonPrimitive(this.longValues[index]) : new JsonPrimitive(this.doubleValues[index]);
+			primitives[index] = primitive;
+		}
+		return primitive;
+	}
+	
+	/**
+	 * Checks if the packed value at the given index is equal to the given json primitive.<br>
+	 * @param index The index of the value
+	 * @param primitive The json primitive to compare with
+	 * @return True if the value is equal to the json primitive, false otherwise
+	 */
+	private boolean equalsPacked(int index, @NotNull JsonPrimitive primitive) {
+		return this.longValues != null ? primitive.equalsLong(this.longValues[index]) : primitive.equalsDouble(this.doubleValues[index]);
+	}
+	
+	/**
+	 * Tries to store the given json element at the given index of the packed values.<br>
+	 * The index may be equal to the number of packed values, in which case the element is appended.<br>
+	 * @param index The index to store the element at
+	 * @param json The json element to store
+	 * @return True if the element was stored, false if the element can not be stored packed
+	 */
+	private boolean setPacked(int index, @NotNull JsonElement json) {
+		if (!this.isPacked() || !(json instanceof JsonPrimitive primitive)) {
+			return false;
+		}
+		if (this.longValues != null && primitive.isLongValue()) {
+			if (index == this.longValues.length) {
+				this.longValues = Arrays.copyOf(this.longValues, Math.max(10, index + (index >> 1)));
+			}
+			this.longValues[index] = primitive.getAsLong();
+		} else if (this.doubleValues != null && primitive.isDoubleValue()) {
+			if (index == this.doubleValues.length) {
+				this.doubleValues = Arrays.copyOf(this.doubleValues, Math.max(10, index + (index >> 1)));
+			}
+			this.doubleValues[index] = primitive.getAsDouble();
+		} else {
+			return false;
+		}
+		if (this.primitives != null) {
+			if (index >= this.primitives.length) {
+				this.primitives = Arrays.copyOf(this.primitives, this.longValues != null ? this.longValues.length : this.doubleValues.length);
+			}
+			this.primitives[index] = primitive;
+		}
+		if (index == this.packedSize) {
+			this.packedSize++;
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks if the given index is a valid element index of this json array.<br>
+	 * @param index The index to check
+	 * @throws JsonArrayIndexOutOfBoundsException If the index is negative or greater than the size of this json array
+	 */
+	private void checkIndex(int index) {
+		if (0 > index) {
+			throw new JsonArrayIndexOutOfBoundsException(index);
+		}
+		if (index >= this.size()) {
+			throw new JsonArrayIndexOutOfBoundsException(index, this.size());
+		}
+	}
+	
+	/**
+	 * Checks that this json array is not frozen.<br>
+	 * Since this method is called before every modification, the cached hash code is reset.<br>
+	 * @throws UnsupportedOperationException If this json array is frozen
+	 */
+	private void checkModifiable() {
+		if (this.frozen) {
+			throw new UnsupportedOperationException("Json array is frozen");
+		}
+		this.hash = 0;
+	}
+	//endregion
+	
 	//region Query operations
 	
 	/**
@@ -61,7 +306,8 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @return The size of this json array
 	 */
 	public int size() {
-		return this.elements.size();
+		this.load();
+		return this.isPacked() ? this.packedSize : this.elements.size();
 	}
 	
 	/**
@@ -69,7 +315,7 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @return True if this json array is empty, false otherwise
 	 */
 	public boolean isEmpty() {
-		return this.elements.isEmpty();
+		return this.size() == 0;
 	}
 	
 	/**
@@ -78,7 +324,27 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @return True if this json array contains the given json element, false otherwise
 	 */
 	public boolean contains(@Nullable JsonElement json) {
-		return this.elements.contains(json);
+		return this.indexOf(json) >= 0;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the given json element in this json array.<br>
+	 * @param json The json element to search for
+	 * @return The index of the json element or -1 if this json array does not contain the element
+	 */
+	private int indexOf(@Nullable JsonElement json) {
+		this.load();
+		if (!this.isPacked()) {
+			return this.elements.indexOf(json);
+		}
+		if (json instanceof JsonPrimitive primitive) {
+			for (int i = 0; i < this.packedSize; i++) {
+				if (this.equalsPacked(i, primitive)) {
+					return i;
+				}
+			}
+		}
+		return -1;
 	}
 	
 	/**
@@ -87,15 +353,97 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 */
 	@Override
 	public @NotNull Iterator<JsonElement> iterator() {
-		return this.elements.iterator();
+		this.load();
+		if (!this.isPacked()) {
+			return this.elements.iterator();
+		}
+		return new Iterator<>() {
+			private int cursor;
+			private int last = -1;
+			
+			@Override
+			public boolean hasNext() {
+				return this.cursor < JsonArray.this.size();
+			}
+			
+			@Override
+			public @NotNull JsonElement next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				this.last = this.cursor++;
+				return JsonArray.this.get(this.last);
+			}
+			
+			@Override
+			public void remove() {
+				if (this.last < 0) {
+					throw new IllegalStateException();
+				}
+				JsonArray.this.remove(this.last);
+				this.cursor = this.last;
+				this.last = -1;
+			}
+		};
+	}
+	
+	/**
+	 * Returns an iterator over the elements in this json array as longs.<br>
+	 * If this json array is packed with integral numbers, the values are returned without boxing.<br>
+	 * The elements are converted lazily as in {@link #getAsLong(int)}.<br>
+	 * @return The iterator over the long values
+	 */
+	public @NotNull PrimitiveIterator.OfLong longIterator() {
+		return new PrimitiveIterator.OfLong() {
+			private int cursor;
+			
+			@Override
+			public boolean hasNext() {
+				return this.cursor < JsonArray.this.size();
+			}
+			
+			@Override
+			public long nextLong() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return JsonArray.this.getAsLong(this.cursor++);
+			}
+		};
+	}
+	
+	/**
+	 * Returns an iterator over the elements in this json array as doubles.<br>
+	 * If this json array is packed, the values are returned without boxing.<br>
+	 * The elements are converted lazily as in {@link #getAsDouble(int)}.<br>
+	 * @return The iterator over the double values
+	 */
+	public @NotNull PrimitiveIterator.OfDouble doubleIterator() {
+		return new PrimitiveIterator.OfDouble() {
+			private int cursor;
+			
+			@Override
+			public boolean hasNext() {
+				return this.cursor < JsonArray.this.size();
+			}
+			
+			@Override
+			public double nextDouble() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return JsonArray.this.getAsDouble(this.cursor++);
+			}
+		};
 	}
 	
 	/**
 	 * Returns an unmodifiable collection of the json elements in this json array.<br>
+	 * The collection is a view which reflects later changes to this json array.<br>
 	 * @return The collection of json elements
 	 */
 	public @NotNull @Unmodifiable Collection<JsonElement> elements() {
-		return Collections.unmodifiableCollection(this.elements);
+		return new ElementView();
 	}
 	
 	/**
@@ -103,7 +451,7 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @return The list of json elements
 	 */
 	public @NotNull @Unmodifiable List<JsonElement> getElements() {
-		return List.copyOf(this.elements);
+		return List.copyOf(new ElementView());
 	}
 	//endregion
 	
@@ -118,13 +466,16 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @throws JsonArrayIndexOutOfBoundsException If the index is negative or greater than the size of this json array
 	 */
 	public @NotNull JsonElement set(int index, @Nullable JsonElement json) {
-		if (0 > index) {
-			throw new JsonArrayIndexOutOfBoundsException(index);
-		}
-		if (index >= this.size()) {
-			throw new JsonArrayIndexOutOfBoundsException(index, this.size());
+		this.checkModifiable();
+		this.checkIndex(index);
+		JsonElement element = json == null ? JsonNull.INSTANCE : json;
+		if (this.isPacked()) {
+			JsonElement previous = this.getPacked(index);
+			if (this.setPacked(index, element)) {
+				return previous;
+			}
 		}
-		return this.elements.set(index, json == null ? JsonNull.INSTANCE : json);
+		return this.unpack().set(index, element);
 	}
 	
 	/**
@@ -255,7 +606,43 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @param json The json element to add
 	 */
 	public void add(@Nullable JsonElement json) {
-		this.elements.add(json == null ? JsonNull.INSTANCE : json);
+		this.checkModifiable();
+		JsonElement element = json == null ? JsonNull.INSTANCE : json;
+		if (!this.setPacked(this.size(), element)) {
+			this.unpack().add(element);
+		}
+	}
+	
+	/**
+	 * Inserts the given json element at the given index of this json array.<br>
+	 * The elements at and after the index are shifted to the right.<br>
+	 * If the json element is null, it will be replaced with a json null element.<br>
+	 * @param index The index to insert the element at
+	 * @param json The json element to insert
+	 * @throws JsonArrayIndexOutOfBoundsException If the index is negative or greater than the size of this json array
+	 */
+	public void add(int index, @Nullable JsonElement json) {
+		this.checkModifiable();
+		if (0 > index || index > this.size()) {
+			throw new JsonArrayIndexOutOfBoundsException(index, this.size());
+		}
+		JsonElement element = json == null ? JsonNull.INSTANCE : json;
+		int size = this.packedSize;
+		if (!this.setPacked(size, element)) {
+			this.unpack().add(index, element);
+		} else if (this.longValues != null) {
+			long value = this.longValues[size];
+			System.arraycopy(this.longValues, index, this.longValues, index + 1, size - index);
+			this.longValues[index] = value;
+		} else {
+			double value = this.doubleValues[size];
+			System.arraycopy(this.doubleValues, index, this.doubleValues, index + 1, size - index);
+			this.doubleValues[index] = value;
+		}
+		if (this.isPacked() && this.primitives != null) {
+			System.arraycopy(this.primitives, index, this.primitives, index + 1, size - index);
+			this.primitives[index] = (JsonPrimitive) element;
+		}
 	}
 	
 	/**
@@ -347,7 +734,7 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @throws NullPointerException If the json array is null
 	 */
 	public void addAll(@NotNull JsonArray array) {
-		this.addAll(Objects.requireNonNull(array, "Json array must not be null").elements);
+		this.addAll(Objects.requireNonNull(array, "Json array must not be null").getElements());
 	}
 	
 	/**
@@ -365,7 +752,9 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @throws NullPointerException If the list of json elements is null
 	 */
 	public void addAll(@NotNull List<? extends JsonElement> elements) {
-		this.elements.addAll(Objects.requireNonNull(elements, "Json elements must not be null"));
+		this.checkModifiable();
+		this.load();
+		this.unpack().addAll(Objects.requireNonNull(elements, "Json elements must not be null"));
 	}
 	//endregion
 	
@@ -378,13 +767,20 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @throws JsonArrayIndexOutOfBoundsException If the index is negative or greater than the size of this json array
 	 */
 	public @NotNull JsonElement remove(int index) {
-		if (0 > index) {
-			throw new JsonArrayIndexOutOfBoundsException(index);
+		this.checkModifiable();
+		this.checkIndex(index);
+		if (!this.isPacked()) {
+			return this.elements.remove(index);
 		}
-		if (index >= this.size()) {
-			throw new JsonArrayIndexOutOfBoundsException(index, this.size());
+		JsonElement previous = this.getPacked(index);
+		Object values = this.longValues != null ? this.longValues : this.doubleValues;
+		System.arraycopy(values, index + 1, values, index, this.packedSize - index - 1);
+		if (this.primitives != null) {
+			System.arraycopy(this.primitives, index + 1, this.primitives, index, this.packedSize - index - 1);
+			this.primitives[this.packedSize - 1] = null;
 		}
-		return this.elements.remove(index);
+		this.packedSize--;
+		return previous;
 	}
 	
 	/**
@@ -393,14 +789,26 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @return True if the json element was removed, false otherwise
 	 */
 	public boolean remove(@Nullable JsonElement json) {
-		return this.elements.remove(json);
+		this.checkModifiable();
+		int index = this.indexOf(json);
+		if (index < 0) {
+			return false;
+		}
+		this.remove(index);
+		return true;
 	}
 	
 	/**
 	 * Removes all elements from this json array.<br>
 	 */
 	public void clear() {
-		this.elements.clear();
+		this.checkModifiable();
+		this.load();
+		this.elements = Lists.newArrayList();
+		this.longValues = null;
+		this.doubleValues = null;
+		this.primitives = null;
+		this.packedSize = 0;
 	}
 	//endregion
 	
@@ -413,13 +821,8 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @throws JsonArrayIndexOutOfBoundsException If the index is negative or greater than the size of this json array
 	 */
 	public @NotNull JsonElement get(int index) {
-		if (0 > index) {
-			throw new JsonArrayIndexOutOfBoundsException(index);
-		}
-		if (index >= this.size()) {
-			throw new JsonArrayIndexOutOfBoundsException(index, this.size());
-		}
-		return this.elements.get(index);
+		this.checkIndex(index);
+		return this.isPacked() ? this.getPacked(index) : this.elements.get(index);
 	}
 	
 	/**
@@ -545,6 +948,14 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @see #getAsJsonPrimitive(int)
 	 */
 	public int getAsInteger(int index) {
+		this.load();
+		if (this.longValues != null) {
+			this.checkIndex(index);
+			long value = this.longValues[index];
+			if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+				return (int) value;
+			}
+		}
 		return this.getAsJsonPrimitive(index).getAsInteger();
 	}
 	
@@ -558,6 +969,11 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @see #getAsJsonPrimitive(int)
 	 */
 	public long getAsLong(int index) {
+		this.load();
+		if (this.longValues != null) {
+			this.checkIndex(index);
+			return this.longValues[index];
+		}
 		return this.getAsJsonPrimitive(index).getAsLong();
 	}
 	
@@ -571,6 +987,10 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @see #getAsJsonPrimitive(int)
 	 */
 	public float getAsFloat(int index) {
+		this.load();
+		if (this.isPacked()) {
+			return (float) this.getAsDouble(index);
+		}
 		return this.getAsJsonPrimitive(index).getAsFloat();
 	}
 	
@@ -584,22 +1004,149 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	 * @see #getAsJsonPrimitive(int)
 	 */
 	public double getAsDouble(int index) {
+		this.load();
+		if (this.isPacked()) {
+			this.checkIndex(index);
+			return this.longValues != null ? (double) this.longValues[index] : this.doubleValues[index];
+		}
 		return this.getAsJsonPrimitive(index).getAsDouble();
 	}
 	//endregion
 	
+	//region Freeze operations
+	
+	@Override
+	public boolean isFrozen() {
+		return this.frozen;
+	}
+	
+	@Override
+	public @NotNull JsonArray freeze() {
+		return this.frozen ? this : this.freeze(new HashMap<>());
+	}
+	
+	/**
+	 * Returns a frozen variant of this json array.<br>
+	 * The elements are frozen recursively, equal subtrees are shared using the given map.<br>
+	 * @param shared The frozen json objects and arrays which can be shared
+	 * @return The frozen json array
+	 */
+	@NotNull JsonArray freeze(@NotNull Map<JsonElement, JsonElement> shared) {
+		if (this.frozen) {
+			return this;
+		}
+		JsonArray array = this.copy(json -> JsonHelper.freeze(json, shared));
+		array.markFrozen();
+		return array;
+	}
+	
+	/**
+	 * Returns a frozen json array with the element at the given index replaced by the given json element.<br>
+	 * This json array is not modified, the elements of the frozen variant of this json array are shared with the result.<br>
+	 * If the json element is null, it will be replaced with a json null element.<br>
+	 * @param index The index of the element to replace
+	 * @param json The json element to set
+	 * @return The frozen json array with the replaced element
+	 * @throws JsonArrayIndexOutOfBoundsException If the index is negative or greater than the size of this json array
+	 * @see #freeze()
+	 */
+	public @NotNull JsonArray with(int index, @Nullable JsonElement json) {
+		this.checkIndex(index);
+		JsonArray array = this.freeze().copy(UnaryOperator.identity());
+		array.set(index, json == null ? JsonNull.INSTANCE : json.freeze());
+		array.markFrozen();
+		return array;
+	}
+	
+	/**
+	 * Creates a modifiable copy of this json array whose elements are mapped by the given function.<br>
+	 * Packed values are copied as they are.<br>
+	 * @param mapper The function to map the elements with
+	 * @return The copy of this json array
+	 */
+	@NotNull JsonArray copy(@NotNull UnaryOperator<JsonElement> mapper) {
+		this.load();
+		JsonArray array = new JsonArray();
+		if (this.isPacked()) {
+			array.elements = null;
+			array.longValues = this.longValues == null ? null : Arrays.copyOf(this.longValues, this.packedSize);
+			array.doubleValues = this.doubleValues == null ? null : Arrays.copyOf(this.doubleValues, this.packedSize);
+			array.packedSize = this.packedSize;
+		} else {
+			List<JsonElement> elements = Lists.newArrayListWithCapacity(this.elements.size());
+			for (JsonElement json : this.elements) {
+				elements.add(mapper.apply(json));
+			}
+			array.elements = elements;
+		}
+		return array;
+	}
+	
+	/**
+	 * Marks this json array as frozen, any further modification throws an {@link UnsupportedOperationException}.<br>
+	 */
+	private void markFrozen() {
+		if (this.elements != null) {
+			this.elements = Collections.unmodifiableList(this.elements);
+		}
+		this.frozen = true;
+	}
+	//endregion
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
 		if (!(o instanceof JsonArray array)) return false;
+		if (this.frozen && array.frozen && this.hashCode() != array.hashCode()) return false;
 		
+		this.load();
+		array.load();
+		if (this.isPacked() && array.isPacked()) {
+			if (this.longValues != null && array.longValues != null) {
+				return Arrays.equals(this.longValues, 0, this.packedSize, array.longValues, 0, array.packedSize);
+			}
+			if (this.doubleValues != null && array.doubleValues != null) {
+				return Arrays.equals(this.doubleValues, 0, this.packedSize, array.doubleValues, 0, array.packedSize);
+			}
+			return this.packedSize == 0 && array.packedSize == 0;
+		}
+		if (this.isPacked() || array.isPacked()) {
+			JsonArray packed = this.isPacked() ? this : array;
+			List<JsonElement> elements = this.isPacked() ? array.elements : this.elements;
+			if (packed.packedSize != elements.size()) {
+				return false;
+			}
+			for (int i = 0; i < packed.packedSize; i++) {
+				if (!(elements.get(i) instanceof JsonPrimitive primitive) || !packed.equalsPacked(i, primitive)) {
+					return false;
+				}
+			}
+			return true;
+		}
 		return this.elements.equals(array.elements);
 	}
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.elements);
+		int hash = this.hash;
+		if (hash != 0) {
+			return hash;
+		}
+		this.load();
+		if (!this.isPacked()) {
+			hash = Objects.hash(new ElementView());
+		} else {
+			hash = 1;
+			for (int i = 0; i < this.packedSize; i++) {
+				hash = 31 * hash + (this.longValues != null ? JsonPrimitive.hashLong(this.longValues[i]) : JsonPrimitive.hashDouble(this.doubleValues[i]));
+			}
+			hash = 31 + hash;
+		}
+		if (this.frozen || this.isPacked()) {
+			this.hash = hash;
+		}
+		return hash;
 	}
 	
 	@Override
@@ -608,31 +1155,25 @@ public class JsonArray implements JsonElement, Iterable<JsonElement> {
 	}
 	
 	@Override
-	@SuppressWarnings("DuplicatedCode")
 	public @NotNull String toString(@NotNull JsonConfig config) {
-		StringBuilder builder = new StringBuilder("[");
-		boolean shouldSimplify = config.simplifyArrays() && config.maxArraySimplificationSize() >= this.size();
-		for (int i = 0; i < this.elements.size(); i++) {
-			if (config.prettyPrint() && !shouldSimplify) {
-				builder.append(System.lineSeparator());
-				builder.append(config.indent());
-			}
-			
-			String json = this.elements.get(i).toString(config);
-			if (config.prettyPrint() && !shouldSimplify) {
-				json = json.replace(System.lineSeparator(), System.lineSeparator() + config.indent());
-			}
-			builder.append(json);
-			if (i < this.elements.size() - 1) {
-				builder.append(",");
-				if (shouldSimplify) {
-					builder.append(" ");
-				}
-			} else if (config.prettyPrint() && !shouldSimplify) {
-				builder.append(System.lineSeparator());
-			}
-		}
-		return builder.append("]").toString();
+		return JsonWriter.writeToString(this, config);
 	}
 	//endregion
+	
+	/**
+	 * Unmodifiable list view of the elements of this json array.<br>
+	 * The view is independent of how the elements are stored.<br>
+	 */
+	private final class ElementView extends AbstractList<JsonElement> implements RandomAccess {
+		
+		@Override
+		public @NotNull JsonElement get(int index) {
+			return JsonArray.this.get(index);
+		}
+		
+		@Override
+		public int size() {
+			return JsonArray.this.size();
+		}
+	}
 }
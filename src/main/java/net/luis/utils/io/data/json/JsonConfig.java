@@ -39,6 +39,8 @@ import java.util.Objects;
  * @param simplifyObjects Whether to simplify json objects (write-only)
  * @param maxObjectSimplificationSize The maximum size of a json object to simplify (write-only)
  * @param charset The charset to use for reading and writing
+ * @param parallel Whether to parse large top-level json arrays and objects in parallel (read-only)
+ * @param vectorized Whether to parse strict utf-8 json using a structural index built with the vector api if it is available (read-only)
  */
 public record JsonConfig(
 	@ReadOnly boolean strict,
@@ -48,7 +50,9 @@ public record JsonConfig(
 	@WriteOnly("simplifyArrays") int maxArraySimplificationSize,
 	@WriteOnly("prettyPrint") boolean simplifyObjects,
 	@WriteOnly("simplifyObjects") int maxObjectSimplificationSize,
-	@NotNull Charset charset
+	@NotNull Charset charset,
+	@ReadOnly boolean parallel,
+	@ReadOnly boolean vectorized
 ) {
 	
 	/**
@@ -61,8 +65,45 @@ public record JsonConfig(
 	 * Simplify objects: true<br>
 	 * Max object simplification size: 1<br>
 	 * Charset: UTF-8<br>
+	 * Parallel: false<br>
+	 * Vectorized: false<br>
 	 */
-	public static final JsonConfig DEFAULT = new JsonConfig(true, true, "\t", true, 10, true, 1, StandardCharsets.UTF_8);
+	public static final JsonConfig DEFAULT = new JsonConfig(true, true, "\t", true, 10, true, 1, StandardCharsets.UTF_8, false, false);
+	
+	/**
+	 * Constructs a new json configuration with parallel parsing disabled.<br>
+	 * @param strict Whether to use strict json parsing when reading (read-only)
+	 * @param prettyPrint Whether to pretty print the json (write-only)
+	 * @param indent The string to use for indentation (write-only)
+	 * @param simplifyArrays Whether to simplify json arrays (write-only)
+	 * @param maxArraySimplificationSize The maximum size of a json array to simplify (write-only)
+	 * @param simplifyObjects Whether to simplify json objects (write-only)
+	 * @param maxObjectSimplificationSize The maximum size of a json object to simplify (write-only)
+	 * @param charset The charset to use for reading and writing
+	 * @throws NullPointerException If the indent or charset is null
+	 * @throws IllegalArgumentException If the max array or object simplification size is less than 1 and the corresponding simplification is enabled
+	 */
+	public JsonConfig(boolean strict, boolean prettyPrint, @NotNull String indent, boolean simplifyArrays, int maxArraySimplificationSize, boolean simplifyObjects, int maxObjectSimplificationSize, @NotNull Charset charset) {
+		this(strict, prettyPrint, indent, simplifyArrays, maxArraySimplificationSize, simplifyObjects, maxObjectSimplificationSize, charset, false, false);
+	}
+	
+	/**
+	 * Constructs a new json configuration with vectorized parsing disabled.<br>
+	 * @param strict Whether to use strict json parsing when reading (read-only)
+	 * @param prettyPrint Whether to pretty print the json (write-only)
+	 * @param indent The string to use for indentation (write-only)
+	 * @param simplifyArrays Whether to simplify json arrays (write-only)
+	 * @param maxArraySimplificationSize The maximum size of a json array to simplify (write-only)
+	 * @param simplifyObjects Whether to simplify json objects (write-only)
+	 * @param maxObjectSimplificationSize The maximum size of a json object to simplify (write-only)
+	 * @param charset The charset to use for reading and writing
+	 * @param parallel Whether to parse large top-level json arrays and objects in parallel (read-only)
+	 * @throws NullPointerException If the indent or charset is null
+	 * @throws IllegalArgumentException If the max array or object simplification size is less than 1 and the corresponding simplification is enabled
+	 */
+	public JsonConfig(boolean strict, boolean prettyPrint, @NotNull String indent, boolean simplifyArrays, int maxArraySimplificationSize, boolean simplifyObjects, int maxObjectSimplificationSize, @NotNull Charset charset, boolean parallel) {
+		this(strict, prettyPrint, indent, simplifyArrays, maxArraySimplificationSize, simplifyObjects, maxObjectSimplificationSize, charset, parallel, false);
+	}
 	
 	/**
 	 * Constructs a new json configuration.<br>
@@ -74,6 +115,8 @@ public record JsonConfig(
 	 * @param simplifyObjects Whether to simplify json objects (write-only)
 	 * @param maxObjectSimplificationSize The maximum size of a json object to simplify (write-only)
 	 * @param charset The charset to use for reading and writing
+	 * @param parallel Whether to parse large top-level json arrays and objects in parallel (read-only)
+	 * @param vectorized Whether to parse strict utf-8 json using a structural index built with the vector api if it is available (read-only)
 	 * @throws NullPointerException If the indent or charset is null
 	 * @throws IllegalArgumentException If the max array or object simplification size is less than 1 and the corresponding simplification is enabled
 	 */
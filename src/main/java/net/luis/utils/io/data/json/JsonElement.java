@@ -117,6 +117,31 @@ public interface JsonElement {
 		throw new JsonTypeException("Expected a json primitive, but found: " + this.getName());
 	}
 	
+	/**
+	 * Checks if this json element is frozen.<br>
+	 * Frozen json elements are immutable, json primitives and json null are always frozen.<br>
+	 * @return True if this json element is frozen, false otherwise
+	 * @see #freeze()
+	 */
+	default boolean isFrozen() {
+		return true;
+	}
+	
+	/**
+	 * Returns a frozen variant of this json element.<br>
+	 * <p>
+	 *     A frozen json element and all its children are immutable, modifying them throws an {@link UnsupportedOperationException}.<br>
+	 *     Frozen json objects and arrays cache their hash code and share equal subtrees,<br>
+	 *     therefore they can be used as map keys and be compared cheaply.<br>
+	 *     Once published, a frozen json element can be shared between threads without synchronization.<br>
+	 * </p>
+	 * If this json element is already frozen, it is returned as it is, otherwise a frozen copy is returned.<br>
+	 * @return The frozen json element
+	 */
+	default @NotNull JsonElement freeze() {
+		return this;
+	}
+	
 	/**
 	 * Returns a string representation of this json element based on the given json config.<br>
 	 * The json config specifies how the json element should be formatted.<br>
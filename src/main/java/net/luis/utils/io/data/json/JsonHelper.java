@@ -0,0 +1,277 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.reader.StringReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * Helper class for json related operations.<br>
+ *
+ * @author Luis-St
+ */
+final class JsonHelper {
+	
+	/**
+	 * Private constructor to prevent instantiation of utility class.<br>
+	 */
+	private JsonHelper() {}
+	
+	/**
+	 * Checks if the given character is an ascii digit.<br>
+	 * @param c The character to check
+	 * @return True if the character is a digit, otherwise false
+	 */
+	private static boolean isDigit(char c) {
+		return '0' <= c && c <= '9';
+	}
+	
+	/**
+	 * Checks if the given character is a structural json character which terminates unquoted values.<br>
+	 * @param c The character to check
+	 * @return True if the character is a structural character, otherwise false
+	 */
+	static boolean isStructuralCharacter(char c) {
+		return c == ',' || c == ']' || c == '}' || c == '[' || c == '{';
+	}
+	
+	/**
+	 * Checks if the given region of the character sequence is a complete json value which can not be continued.<br>
+	 * This is the case for the literals {@code null}, {@code true} and {@code false} (case-insensitive) and for numbers.<br>
+	 * In non-strict mode, an unquoted value ends at a whitespace which follows such a region.<br>
+	 * @param sequence The character sequence to check
+	 * @param start The start index of the region (inclusive)
+	 * @param end The end index of the region (exclusive)
+	 * @return True if the region is a json literal or number, otherwise false
+	 * @see #parseNumber(CharSequence, int, int)
+	 */
+	static boolean isCompleteValue(@NotNull CharSequence sequence, int start, int end) {
+		return regionEqualsIgnoreCase(sequence, start, end, "null") || regionEqualsIgnoreCase(sequence, start, end, "true")
+			|| regionEqualsIgnoreCase(sequence, start, end, "false") || parseNumber(sequence, start, end) != null;
+	}
+	
+	/**
+	 * Checks if the given region of the character sequence is equal to the given ascii literal ignoring the case.<br>
+	 * @param sequence The character sequence to check
+	 * @param start The start index of the region (inclusive)
+	 * @param end The end index of the region (exclusive)
+	 * @param literal The lower-case ascii literal
+	 * @return True if the region is equal to the literal ignoring the case, otherwise false
+	 */
+	private static boolean regionEqualsIgnoreCase(@NotNull CharSequence sequence, int start, int end, @NotNull String literal) {
+		if (end - start != literal.length()) {
+			return false;
+		}
+		for (int i = 0; i < literal.length(); i++) {
+			if (Character.toLowerCase(sequence.charAt(start + i)) != literal.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks if the given character sequence is a number literal as defined by the json specification.<br>
+	 * @param sequence The character sequence to check
+	 * @return True if the sequence is a json number literal, otherwise false
+	 */
+	static boolean isNumberLiteral(@NotNull CharSequence sequence) {
+		int length = sequence.length();
+		int i = 0;
+		if (i < length && sequence.charAt(i) == '-') {
+			i++;
+		}
+		int integerStart = i;
+		while (i < length && isDigit(sequence.charAt(i))) {
+			i++;
+		}
+		if (i == integerStart || (i - integerStart > 1 && sequence.charAt(integerStart) == '0')) {
+			return false;
+		}
+		if (i < length && sequence.charAt(i) == '.') {
+			int fractionStart = ++i;
+			while (i < length && isDigit(sequence.charAt(i))) {
+				i++;
+			}
+			if (i == fractionStart) {
+				return false;
+			}
+		}
+		if (i < length && (sequence.charAt(i) == 'e' || sequence.charAt(i) == 'E')) {
+			i++;
+			if (i < length && (sequence.charAt(i) == '+' || sequence.charAt(i) == '-')) {
+				i++;
+			}
+			int exponentStart = i;
+			while (i < length && isDigit(sequence.charAt(i))) {
+				i++;
+			}
+			if (i == exponentStart) {
+				return false;
+			}
+		}
+		return i == length;
+	}
+	
+	/**
+	 * Parses the number in the given region of the character sequence.<br>
+	 * <p>
+	 *     Plain decimal numbers as defined by the json specification are parsed directly from the sequence.<br>
+	 *     Integer numbers are returned as long or, if they do not fit into a long, as big integer.<br>
+	 *     Numbers with a fraction or an exponent are returned as double if the double represents the exact same value,<br>
+	 *     otherwise (e.g. too many digits or a value out of the range of a double) they are returned as big decimal.<br>
+	 * </p>
+	 * <p>
+	 *     All other number formats supported by {@link StringReader#readNumber()} (e.g. radix prefixes or type suffixes)<br>
+	 *     are parsed by a string reader which must consume the whole region.<br>
+	 * </p>
+	 * @param sequence The character sequence to parse the number from
+	 * @param start The start index of the region (inclusive)
+	 * @param end The end index of the region (exclusive)
+	 * @return The parsed number or null if the region is not a valid number
+	 */
+	static @Nullable Number parseNumber(@NotNull CharSequence sequence, int start, int end) {
+		if (start >= end) {
+			return null;
+		}
+		int i = start;
+		boolean negative = sequence.charAt(i) == '-';
+		if (negative) {
+			i++;
+		}
+		int integerStart = i;
+		long value = 0;
+		while (i < end && isDigit(sequence.charAt(i))) {
+			value = value * 10 + (sequence.charAt(i) - '0');
+			i++;
+		}
+		int digits = i - integerStart;
+		boolean plain = digits > 0 && (digits == 1 || sequence.charAt(integerStart) != '0');
+		boolean floatingPoint = false;
+		if (plain && i < end && sequence.charAt(i) == '.') {
+			floatingPoint = true;
+			int fractionStart = ++i;
+			while (i < end && isDigit(sequence.charAt(i))) {
+				i++;
+			}
+			plain = i > fractionStart;
+			digits += i - fractionStart;
+		}
+		if (plain && i < end && (sequence.charAt(i) == 'e' || sequence.charAt(i) == 'E')) {
+			floatingPoint = true;
+			i++;
+			if (i < end && (sequence.charAt(i) == '+' || sequence.charAt(i) == '-')) {
+				i++;
+			}
+			int exponentStart = i;
+			while (i < end && isDigit(sequence.charAt(i))) {
+				i++;
+			}
+			plain = i > exponentStart;
+		}
+		
+		if (plain && i == end) {
+			if (floatingPoint) {
+				return parseDecimal(sequence.subSequence(start, end).toString(), digits);
+			}
+			if (digits <= 18) {
+				return negative ? -value : value;
+			}
+			BigInteger bigInteger = new BigInteger(sequence.subSequence(start, end).toString());
+			return bigInteger.bitLength() < 64 ? (Number) bigInteger.longValue() : bigInteger;
+		}
+		
+		StringReader reader = new StringReader(sequence.subSequence(start, end).toString());
+		try {
+			Number number = reader.readNumber();
+			return reader.canRead() ? null : number;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Parses the given json number literal with a fraction or an exponent.<br>
+	 * <p>
+	 *     The literal is returned as double if it has at most 15 digits and is in the normal range of a double,<br>
+	 *     since such literals are represented exactly by the shortest string representation of the double.<br>
+	 *     Otherwise, the double is only returned if its string representation has the same value as the literal.<br>
+	 * </p>
+	 * @param literal The number literal to parse
+	 * @param digits The number of digits in the integer and fraction part of the literal
+	 * @return The parsed double or big decimal
+	 */
+	private static @NotNull Number parseDecimal(@NotNull String literal, int digits) {
+		double value = Double.parseDouble(literal);
+		if (Double.isFinite(value)) {
+			if (digits <= 15 && Math.abs(value) >= Double.MIN_NORMAL) {
+				return value;
+			}
+			BigDecimal decimal = new BigDecimal(literal);
+			if (decimal.compareTo(new BigDecimal(Double.toString(value))) == 0) {
+				return value;
+			}
+			return decimal;
+		}
+		return new BigDecimal(literal);
+	}
+	
+	/**
+	 * Freezes the given json element and shares it with equal frozen subtrees.<br>
+	 * If an equal json object or array has already been frozen with the given map, the existing one is returned.<br>
+	 * @param json The json element to freeze
+	 * @param shared The frozen json objects and arrays which can be shared
+	 * @return The frozen json element
+	 * @see JsonElement#freeze()
+	 */
+	static @NotNull JsonElement freeze(@NotNull JsonElement json, @NotNull Map<JsonElement, JsonElement> shared) {
+		JsonElement frozen;
+		if (json instanceof JsonObject object) {
+			frozen = object.freeze(shared);
+		} else if (json instanceof JsonArray array) {
+			frozen = array.freeze(shared);
+		} else {
+			return json;
+		}
+		JsonElement existing = shared.putIfAbsent(frozen, frozen);
+		return existing != null ? existing : frozen;
+	}
+	
+	/**
+	 * Creates a modifiable deep copy of the given json element.<br>
+	 * Json objects and arrays are copied recursively, json primitives and json null are immutable and returned as they are.<br>
+	 * @param json The json element to copy
+	 * @return The copy of the json element
+	 */
+	static @NotNull JsonElement copy(@NotNull JsonElement json) {
+		if (json instanceof JsonObject object) {
+			JsonObject copy = new JsonObject();
+			object.forEach((key, element) -> copy.add(key, copy(element)));
+			return copy;
+		} else if (json instanceof JsonArray array) {
+			return array.copy(JsonHelper::copy);
+		}
+		return json;
+	}
+}
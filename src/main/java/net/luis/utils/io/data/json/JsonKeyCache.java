@@ -0,0 +1,283 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A cache which is used by the json readers to share the keys of json objects.<br>
+ * <p>
+ *     Keys are looked up directly in the input, so no string is created for a key which is already cached.<br>
+ *     Equal key sequences of json objects are shared as a single key array, the shape of the objects (see {@link JsonObjectMap}).<br>
+ * </p>
+ * <p>
+ *     The number of cached keys and shapes is bounded, so documents with many distinct keys do not grow the cache without limit.<br>
+ *     A cache is not thread-safe and must either be used with string input or with utf-8 encoded byte input.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class JsonKeyCache {
+	
+	/**
+	 * The maximum length of a cached key.<br>
+	 */
+	private static final int MAX_KEY_LENGTH = 64;
+	/**
+	 * The maximum number of cached keys.<br>
+	 */
+	private static final int MAX_KEYS = 4096;
+	/**
+	 * The maximum number of cached shapes.<br>
+	 */
+	private static final int MAX_SHAPES = 1024;
+	
+	/**
+	 * The hash table of the cached keys.<br>
+	 */
+	private String[] keys = new String[64];
+	/**
+	 * The utf-8 encoded bytes of the cached keys, the index matches the index of the key.<br>
+	 * Only used for byte input.<br>
+	 */
+	private byte[][] encodedKeys;
+	/**
+	 * The number of cached keys.<br>
+	 */
+	private int keyCount;
+	/**
+	 * The hash table of the cached shapes.<br>
+	 */
+	private String[][] shapes = new String[64][];
+	/**
+	 * The number of cached shapes.<br>
+	 */
+	private int shapeCount;
+	
+	/**
+	 * Returns the key for the given region of the string input.<br>
+	 * @param input The input
+	 * @param start The start index of the key (inclusive)
+	 * @param end The end index of the key (exclusive)
+	 * @return The cached key or a new string if the key is not cached
+	 */
+	@NotNull String key(@NotNull String input, int start, int end) {
+		int length = end - start;
+		if (length > MAX_KEY_LENGTH) {
+			return input.substring(start, end);
+		}
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + input.charAt(i);
+		}
+		int mask = this.keys.length - 1;
+		int slot = spread(hash) & mask;
+		String key;
+		while ((key = this.keys[slot]) != null) {
+			if (key.hashCode() == hash && key.length() == length && input.regionMatches(start, key, 0, length)) {
+				return key;
+			}
+			slot = (slot + 1) & mask;
+		}
+		key = input.substring(start, end);
+		if (this.keyCount < MAX_KEYS) {
+			this.keys[slot] = key;
+			this.keyCount++;
+			this.resizeKeys();
+		}
+		return key;
+	}
+	
+	/**
+	 * Returns the key for the given region of the utf-8 encoded byte input.<br>
+	 * @param input The input
+	 * @param start The start index of the key (inclusive)
+	 * @param end The end index of the key (exclusive)
+	 * @return The cached key or a new string if the key is not cached
+	 */
+	@NotNull String key(@NotNull ByteBuffer input, int start, int end) {
+		int length = end - start;
+		byte[] bytes;
+		if (length > MAX_KEY_LENGTH) {
+			bytes = new byte[length];
+			input.get(start, bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+		if (this.encodedKeys == null) {
+			this.encodedKeys = new byte[this.keys.length][];
+		}
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + input.get(i);
+		}
+		int mask = this.keys.length - 1;
+		int slot = spread(hash) & mask;
+		while ((bytes = this.encodedKeys[slot]) != null) {
+			if (bytes.length == length && equals(input, start, bytes)) {
+				return this.keys[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		bytes = new byte[length];
+		input.get(start, bytes);
+		String key = new String(bytes, StandardCharsets.UTF_8);
+		if (this.keyCount < MAX_KEYS) {
+			this.keys[slot] = key;
+			this.encodedKeys[slot] = bytes;
+			this.keyCount++;
+			this.resizeKeys();
+		}
+		return key;
+	}
+	
+	/**
+	 * Returns the shared key array for the first keys of the given array.<br>
+	 * If the key sequence is not cached yet, a copy of it is cached and returned.<br>
+	 * @param keys The keys
+	 * @param size The number of keys to use
+	 * @return The shared key array with the given length or null if the cache is full
+	 */
+	String @Nullable [] shape(String @NotNull [] keys, int size) {
+		int mask = this.shapes.length - 1;
+		int slot = spread(hash(keys, size)) & mask;
+		String[] shape;
+		while ((shape = this.shapes[slot]) != null) {
+			if (Arrays.equals(shape, 0, shape.length, keys, 0, size)) {
+				return shape;
+			}
+			slot = (slot + 1) & mask;
+		}
+		if (this.shapeCount >= MAX_SHAPES) {
+			return null;
+		}
+		shape = Arrays.copyOf(keys, size);
+		this.shapes[slot] = shape;
+		this.shapeCount++;
+		this.resizeShapes();
+		return shape;
+	}
+	
+	//region Helper methods
+	
+	/**
+	 * Spreads the bits of the given hash to reduce collisions in tables with a power of two size.<br>
+	 * @param hash The hash
+	 * @return The spread hash
+	 */
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * Computes the hash of the given utf-8 encoded key in the same way as it is computed for the input.<br>
+	 * @param bytes The bytes of the key
+	 * @return The hash of the key
+	 */
+	private static int hash(byte @NotNull [] bytes) {
+		int hash = 0;
+		for (byte b : bytes) {
+			hash = 31 * hash + b;
+		}
+		return hash;
+	}
+	
+	/**
+	 * Computes the hash of the first keys of the given array.<br>
+	 * @param keys The keys
+	 * @param size The number of keys to use
+	 * @return The hash of the keys
+	 */
+	private static int hash(String @NotNull [] keys, int size) {
+		int hash = 1;
+		for (int i = 0; i < size; i++) {
+			hash = 31 * hash + keys[i].hashCode();
+		}
+		return hash;
+	}
+	
+	/**
+	 * Checks if the bytes of the input starting at the given index are equal to the given bytes.<br>
+	 * @param input The input
+	 * @param start The start index in the input
+	 * @param bytes The bytes to compare with
+	 * @return True if the bytes are equal, otherwise false
+	 */
+	private static boolean equals(@NotNull ByteBuffer input, int start, byte @NotNull [] bytes) {
+		for (int i = 0; i < bytes.length; i++) {
+			if (input.get(start + i) != bytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Doubles the size of the key table if it is more than half full.<br>
+	 */
+	private void resizeKeys() {
+		if (this.keyCount * 2 <= this.keys.length) {
+			return;
+		}
+		String[] oldKeys = this.keys;
+		byte[][] oldEncodedKeys = this.encodedKeys;
+		this.keys = new String[oldKeys.length * 2];
+		this.encodedKeys = oldEncodedKeys == null ? null : new byte[this.keys.length][];
+		int mask = this.keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int hash = oldEncodedKeys == null ? oldKeys[i].hashCode() : hash(oldEncodedKeys[i]);
+				int slot = spread(hash) & mask;
+				while (this.keys[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				this.keys[slot] = oldKeys[i];
+				if (this.encodedKeys != null) {
+					this.encodedKeys[slot] = oldEncodedKeys[i];
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Doubles the size of the shape table if it is more than half full.<br>
+	 */
+	private void resizeShapes() {
+		if (this.shapeCount * 2 <= this.shapes.length) {
+			return;
+		}
+		String[][] oldShapes = this.shapes;
+		this.shapes = new String[oldShapes.length * 2][];
+		int mask = this.shapes.length - 1;
+		for (String[] shape : oldShapes) {
+			if (shape != null) {
+				int slot = spread(hash(shape, shape.length)) & mask;
+				while (this.shapes[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				this.shapes[slot] = shape;
+			}
+		}
+	}
+	//endregion
+}
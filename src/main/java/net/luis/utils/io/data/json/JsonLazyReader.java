@@ -0,0 +1,592 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * A json reader which reads json files lazily.<br>
+ * <p>
+ *     The file is memory-mapped and indexed by a single structural pass,<br>
+ *     which records the start and end offset of every json object and array.<br>
+ *     The returned json objects and arrays are views which decode their direct children on first access,<br>
+ *     nested objects and arrays are returned as views again.<br>
+ *     Therefore the time and memory required depend on the parts of the file which are accessed and not on the size of the file.<br>
+ * </p>
+ * <p>
+ *     The structural pass only validates strings and brackets,<br>
+ *     all other syntax errors are reported when the json object or array which contains them is accessed.<br>
+ *     Errors are reported with the line and column in the file at which they occurred.<br>
+ * </p>
+ * <p>
+ *     The file must be encoded in an ascii compatible charset (e.g. utf-8) and must not be larger than 2 GB.<br>
+ *     The file must not be modified while views of it are still in use.<br>
+ *     Views can be read safely from multiple threads, modifications are not synchronized.<br>
+ *     Closing the reader releases the mapped file, views which have not been accessed before can no longer be decoded.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class JsonLazyReader implements AutoCloseable {
+	
+	/**
+	 * The json config used by this reader.<br>
+	 */
+	private final JsonConfig config;
+	/**
+	 * The memory-mapped content of the file, null after the reader has been closed.<br>
+	 */
+	private ByteBuffer buffer;
+	/**
+	 * The start offsets of all json objects and arrays in the order they appear in the file.<br>
+	 */
+	private int[] starts = new int[16];
+	/**
+	 * The end offsets of all json objects and arrays, the index matches the index of the start offset.<br>
+	 */
+	private int[] ends = new int[16];
+	/**
+	 * The number of indexed json objects and arrays.<br>
+	 */
+	private int containers;
+	/**
+	 * Whether the file has already been indexed.<br>
+	 */
+	private boolean indexed;
+	
+	/**
+	 * Constructs a new lazy json reader for the given file and the default configuration.<br>
+	 * @param file The file to read from
+	 * @throws NullPointerException If the file is null
+	 * @throws UncheckedIOException If the file could not be mapped
+	 */
+	public JsonLazyReader(@NotNull Path file) {
+		this(file, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new lazy json reader for the given file and configuration.<br>
+	 * @param file The file to read from
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the file or configuration is null
+	 * @throws IllegalArgumentException If the file is larger than 2 GB
+	 * @throws UncheckedIOException If the file could not be mapped
+	 */
+	public JsonLazyReader(@NotNull Path file, @NotNull JsonConfig config) {
+		Objects.requireNonNull(file, "File must not be null");
+		this.config = Objects.requireNonNull(config, "Json config must not be null");
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Json file is too large to be mapped, the maximum size is 2 GB: " + file);
+			}
+			this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to map json file: " + file, e);
+		}
+	}
+	
+	/**
+	 * Reads the json element of the file.<br>
+	 * If the json element is an object or array, a lazy view of it is returned.<br>
+	 * <p>
+	 *     In strict mode, the reader only accepts one json element per file.<br>
+	 * </p>
+	 * @return The json element of the file
+	 * @throws JsonSyntaxException If the structure of the json is invalid
+	 * @throws IllegalStateException If the reader is closed
+	 */
+	public @NotNull JsonElement readJson() {
+		this.checkOpen();
+		if (!this.indexed) {
+			this.index();
+			this.indexed = true;
+		}
+		int limit = this.buffer.limit();
+		int start = this.skipWhitespaces(0, limit);
+		if (start >= limit) {
+			throw new JsonSyntaxException("Invalid json, expected content but got nothing");
+		}
+		byte next = this.buffer.get(start);
+		if (next != '{' && next != '[') {
+			return new JsonReader(this.decode(0, limit), this.config).readJson();
+		}
+		
+		List<JsonElement> elements = Lists.newArrayListWithCapacity(1);
+		int end = this.readValue(start, limit, elements);
+		int trailing = this.skipWhitespaces(end, limit);
+		if (this.config.strict() && trailing < limit) {
+			throw this.createException("Invalid json element, expected end of input but got: '" + (char) this.buffer.get(trailing) + "'", trailing);
+		}
+		return elements.getFirst();
+	}
+	
+	//region Indexing
+	
+	/**
+	 * Runs the structural pass over the whole file.<br>
+	 * The start and end offsets of all json objects and arrays are recorded, strings are skipped.<br>
+	 * @throws JsonSyntaxException If a string is not terminated or the brackets do not match
+	 */
+	private void index() {
+		int limit = this.buffer.limit();
+		int[] stack = new int[16];
+		int depth = 0;
+		byte previous = ',';
+		for (int i = 0; i < limit; i++) {
+			byte b = this.buffer.get(i);
+			if (b == '"' || (b == '\'' && !this.config.strict())) {
+				if (previous == ',' || previous == ':' || previous == '[' || previous == '{') {
+					i = this.findClosingQuote(i, limit);
+				}
+			} else if (b == '{' || b == '[') {
+				if (this.containers == this.starts.length) {
+					this.starts = Arrays.copyOf(this.starts, this.containers * 2);
+					this.ends = Arrays.copyOf(this.ends, this.containers * 2);
+				}
+				if (depth == stack.length) {
+					stack = Arrays.copyOf(stack, depth * 2);
+				}
+				this.starts[this.containers] = i;
+				stack[depth++] = this.containers++;
+			} else if (b == '}' || b == ']') {
+				if (depth == 0) {
+					throw this.createException("Invalid json, unexpected closing bracket '" + (char) b + "'", i);
+				}
+				int container = stack[--depth];
+				byte open = this.buffer.get(this.starts[container]);
+				if ((open == '{') != (b == '}')) {
+					throw this.createException("Invalid json, expected closing bracket '" + (open == '{' ? '}' : ']') + "' but got: '" + (char) b + "'", i);
+				}
+				this.ends[container] = i;
+			}
+			if (!isWhitespace(b)) {
+				previous = b;
+			}
+		}
+		if (depth > 0) {
+			int start = this.starts[stack[depth - 1]];
+			throw this.createException("Invalid json, missing closing bracket '" + (this.buffer.get(start) == '{' ? '}' : ']') + "'", start);
+		}
+	}
+	
+	/**
+	 * Finds the end offset of the json object or array which starts at the given offset.<br>
+	 * @param start The start offset of the json object or array
+	 * @return The offset of the closing bracket
+	 */
+	private int findEnd(int start) {
+		int container = Arrays.binarySearch(this.starts, 0, this.containers, start);
+		if (container < 0) {
+			throw new IllegalStateException("No json object or array is indexed at offset " + start);
+		}
+		return this.ends[container];
+	}
+	//endregion
+	
+	//region Decoding
+	
+	/**
+	 * Decodes the direct children of the json object between the given offsets.<br>
+	 * @param start The offset of the opening bracket
+	 * @param end The offset of the closing bracket
+	 * @return The entries of the json object
+	 * @throws JsonSyntaxException If the json object is invalid
+	 * @throws IllegalStateException If the reader is closed
+	 */
+	private @NotNull Map<String, JsonElement> decodeObject(int start, int end) {
+		this.checkOpen();
+		Map<String, JsonElement> entries = Maps.newLinkedHashMap();
+		List<JsonElement> value = Lists.newArrayListWithCapacity(1);
+		int i = this.skipWhitespaces(start + 1, end);
+		while (i < end) {
+			byte next = this.buffer.get(i);
+			String key;
+			if (next == '"' || (next == '\'' && !this.config.strict())) {
+				int close = this.findClosingQuote(i, end);
+				key = this.decode(i + 1, close);
+				i = close + 1;
+			} else if (this.config.strict()) {
+				throw this.createException("Invalid json object, expected a quoted key but got: '" + (char) next + "'", i);
+			} else {
+				int keyStart = i;
+				while (i < end && this.buffer.get(i) != ':' && !isWhitespace(this.buffer.get(i)) && !JsonHelper.isStructuralCharacter((char) this.buffer.get(i))) {
+					i++;
+				}
+				if (keyStart == i) {
+					throw this.createException("Invalid json object, expected a key but got: '" + (char) next + "'", i);
+				}
+				key = this.decode(keyStart, i);
+			}
+			i = this.skipWhitespaces(i, end);
+			if (i >= end || this.buffer.get(i) != ':') {
+				throw this.createException("Invalid json object, expected ':' after key '" + key + "'", i);
+			}
+			i = this.readValue(this.skipWhitespaces(i + 1, end), end, value);
+			entries.put(key, value.removeLast());
+			i = this.skipSeparator(i, end, "object", '}');
+		}
+		return entries;
+	}
+	
+	/**
+	 * Decodes the direct children of the json array between the given offsets.<br>
+	 * @param start The offset of the opening bracket
+	 * @param end The offset of the closing bracket
+	 * @return The elements of the json array
+	 * @throws JsonSyntaxException If the json array is invalid
+	 * @throws IllegalStateException If the reader is closed
+	 */
+	private @NotNull List<JsonElement> decodeArray(int start, int end) {
+		this.checkOpen();
+		List<JsonElement> elements = Lists.newArrayList();
+		int i = this.skipWhitespaces(start + 1, end);
+		while (i < end) {
+			i = this.readValue(i, end, elements);
+			i = this.skipSeparator(i, end, "array", ']');
+		}
+		return elements;
+	}
+	
+	/**
+	 * Reads the json value at the given offset and adds it to the given list.<br>
+	 * Json objects and arrays are not decoded, a lazy view is added instead.<br>
+	 * @param start The offset of the value
+	 * @param end The offset at which the enclosing json object or array ends
+	 * @param elements The list to add the value to
+	 * @return The offset after the value
+	 * @throws JsonSyntaxException If the value is invalid
+	 */
+	private int readValue(int start, int end, @NotNull List<JsonElement> elements) {
+		if (start >= end) {
+			throw this.createException("Invalid json value, expected a value but got nothing", start);
+		}
+		byte next = this.buffer.get(start);
+		if (next == '{' || next == '[') {
+			int close = this.findEnd(start);
+			elements.add(next == '{' ? new LazyJsonObject(this, start, close) : new LazyJsonArray(this, start, close));
+			return close + 1;
+		}
+		if (next == '"' || (next == '\'' && !this.config.strict())) {
+			int close = this.findClosingQuote(start, end);
+			elements.add(new JsonPrimitive(this.decode(start + 1, close)));
+			return close + 1;
+		}
+		
+		boolean strict = this.config.strict();
+		int valueEnd = start;
+		int i = start;
+		while (i < end) {
+			byte b = this.buffer.get(i);
+			if (JsonHelper.isStructuralCharacter((char) b)) {
+				break;
+			}
+			if (isWhitespace(b)) {
+				if (strict) {
+					break;
+				}
+			} else {
+				valueEnd = i + 1;
+			}
+			i++;
+		}
+		if (start == valueEnd) {
+			throw this.createException("Invalid json value, expected a value but got: '" + (char) next + "'", start);
+		}
+		String value = this.decode(start, valueEnd);
+		if (strict ? "null".equals(value) : "null".equalsIgnoreCase(value)) {
+			elements.add(JsonNull.INSTANCE);
+		} else if (strict ? "true".equals(value) : "true".equalsIgnoreCase(value)) {
+			elements.add(new JsonPrimitive(true));
+		} else if (strict ? "false".equals(value) : "false".equalsIgnoreCase(value)) {
+			elements.add(new JsonPrimitive(false));
+		} else {
+			Number number = JsonHelper.parseNumber(value, 0, value.length());
+			if (number != null) {
+				elements.add(new JsonPrimitive(number));
+			} else if (strict) {
+				throw this.createException("Invalid json primitive, expected a number but got: '" + value + "'", start);
+			} else {
+				elements.add(new JsonPrimitive(value));
+			}
+		}
+		return valueEnd;
+	}
+	
+	/**
+	 * Skips the separator after an element of a json object or array.<br>
+	 * @param start The offset after the element
+	 * @param end The offset of the closing bracket
+	 * @param type The type of the enclosing json element, used for error messages
+	 * @param closing The closing bracket of the enclosing json element
+	 * @return The offset of the next element or the end offset if there are no more elements
+	 * @throws JsonSyntaxException If the separator is invalid
+	 */
+	private int skipSeparator(int start, int end, @NotNull String type, char closing) {
+		int i = this.skipWhitespaces(start, end);
+		if (i >= end) {
+			return end;
+		}
+		byte next = this.buffer.get(i);
+		if (next != ',') {
+			throw this.createException("Invalid json " + type + ", expected ',' or '" + closing + "' but got: '" + (char) next + "'", i);
+		}
+		i = this.skipWhitespaces(i + 1, end);
+		if (i >= end && this.config.strict()) {
+			throw this.createException("Invalid json " + type + ", expected another element but got: '" + closing + "'", i);
+		}
+		return i;
+	}
+	//endregion
+	
+	//region Helper methods
+	
+	/**
+	 * Checks that this reader has not been closed.<br>
+	 * @throws IllegalStateException If the reader is closed
+	 */
+	private void checkOpen() {
+		if (this.buffer == null) {
+			throw new IllegalStateException("Json lazy reader is closed");
+		}
+	}
+	
+	/**
+	 * Checks if the given byte is an ascii whitespace character.<br>
+	 * @param b The byte to check
+	 * @return True if the byte is a whitespace character, otherwise false
+	 */
+	private static boolean isWhitespace(byte b) {
+		return b >= 0 && Character.isWhitespace((char) b);
+	}
+	
+	/**
+	 * Skips all whitespace characters starting at the given offset.<br>
+	 * @param start The offset to start at
+	 * @param end The offset at which skipping stops
+	 * @return The offset of the first non-whitespace character or the end offset
+	 */
+	private int skipWhitespaces(int start, int end) {
+		int i = start;
+		while (i < end && isWhitespace(this.buffer.get(i))) {
+			i++;
+		}
+		return i;
+	}
+	
+	/**
+	 * Finds the closing quote of the string which starts at the given offset.<br>
+	 * Escaped characters are skipped.<br>
+	 * @param start The offset of the opening quote
+	 * @param end The offset at which the search stops
+	 * @return The offset of the closing quote
+	 * @throws JsonSyntaxException If the string is not terminated
+	 */
+	private int findClosingQuote(int start, int end) {
+		byte quote = this.buffer.get(start);
+		for (int i = start + 1; i < end; i++) {
+			byte b = this.buffer.get(i);
+			if (b == '\\') {
+				i++;
+			} else if (b == quote) {
+				return i;
+			}
+		}
+		throw this.createException("Invalid json string, missing closing quote " + (char) quote, start);
+	}
+	
+	/**
+	 * Decodes the bytes between the given offsets using the charset of the configuration.<br>
+	 * @param start The start offset (inclusive)
+	 * @param end The end offset (exclusive)
+	 * @return The decoded string
+	 */
+	private @NotNull String decode(int start, int end) {
+		byte[] bytes = new byte[end - start];
+		this.buffer.get(start, bytes);
+		return new String(bytes, this.config.charset());
+	}
+	
+	/**
+	 * Creates a new json syntax exception with the given message.<br>
+	 * The line and column of the given offset are appended to the message.<br>
+	 * Continuation bytes of multibyte characters are not counted as columns.<br>
+	 * @param message The message of the exception
+	 * @param offset The byte offset at which the error occurred
+	 * @return The created exception
+	 */
+	private @NotNull JsonSyntaxException createException(@NotNull String message, int offset) {
+		int line = 1;
+		int column = 1;
+		int position = Math.min(offset, this.buffer.limit());
+		for (int i = 0; i < position; i++) {
+			byte b = this.buffer.get(i);
+			if (b == '\n') {
+				line++;
+				column = 1;
+			} else if ((b & 0xC0) != 0x80) {
+				column++;
+			}
+		}
+		return new JsonSyntaxException(message + " at line " + line + ", column " + column);
+	}
+	//endregion
+	
+	/**
+	 * Closes this reader and releases the mapped file and the structural index.<br>
+	 * The file channel is already closed after the file has been mapped,<br>
+	 * the mapping itself is released once the buffer is no longer referenced.<br>
+	 */
+	@Override
+	public void close() {
+		this.buffer = null;
+		this.starts = null;
+		this.ends = null;
+		this.containers = 0;
+	}
+	
+	//region Lazy views
+	
+	/**
+	 * A json object which decodes its entries on first access.<br>
+	 */
+	private static final class LazyJsonObject extends JsonObject {
+		
+		/**
+		 * The reader which created this view, null after the entries have been decoded.<br>
+		 */
+		private JsonLazyReader reader;
+		/**
+		 * The offset of the opening bracket.<br>
+		 */
+		private final int start;
+		/**
+		 * The offset of the closing bracket.<br>
+		 */
+		private final int end;
+		/**
+		 * Whether the entries have been decoded.<br>
+		 */
+		private volatile boolean loaded;
+		/**
+		 * Whether the decoded entries are currently being added.<br>
+		 */
+		private boolean loading;
+		
+		/**
+		 * Constructs a new lazy json object.<br>
+		 * @param reader The reader which created the view
+		 * @param start The offset of the opening bracket
+		 * @param end The offset of the closing bracket
+		 */
+		private LazyJsonObject(@NotNull JsonLazyReader reader, int start, int end) {
+			this.reader = reader;
+			this.start = start;
+			this.end = end;
+		}
+		
+		@Override
+		void load() {
+			if (this.loaded) {
+				return;
+			}
+			synchronized (this) {
+				if (this.loaded || this.loading) {
+					return;
+				}
+				Map<String, JsonElement> entries = this.reader.decodeObject(this.start, this.end);
+				this.loading = true;
+				this.addAll(entries);
+				this.loading = false;
+				this.reader = null;
+				this.loaded = true;
+			}
+		}
+	}
+	
+	/**
+	 * A json array which decodes its elements on first access.<br>
+	 */
+	private static final class LazyJsonArray extends JsonArray {
+		
+		/**
+		 * The reader which created this view, null after the elements have been decoded.<br>
+		 */
+		private JsonLazyReader reader;
+		/**
+		 * The offset of the opening bracket.<br>
+		 */
+		private final int start;
+		/**
+		 * The offset of the closing bracket.<br>
+		 */
+		private final int end;
+		/**
+		 * Whether the elements have been decoded.<br>
+		 */
+		private volatile boolean loaded;
+		/**
+		 * Whether the decoded elements are currently being added.<br>
+		 */
+		private boolean loading;
+		
+		/**
+		 * Constructs a new lazy json array.<br>
+		 * @param reader The reader which created the view
+		 * @param start The offset of the opening bracket
+		 * @param end The offset of the closing bracket
+		 */
+		private LazyJsonArray(@NotNull JsonLazyReader reader, int start, int end) {
+			this.reader = reader;
+			this.start = start;
+			this.end = end;
+		}
+		
+		@Override
+		void load() {
+			if (this.loaded) {
+				return;
+			}
+			synchronized (this) {
+				if (this.loaded || this.loading) {
+					return;
+				}
+				List<JsonElement> elements = this.reader.decodeArray(this.start, this.end);
+				this.loading = true;
+				this.addAll(elements);
+				this.pack();
+				this.loading = false;
+				this.reader = null;
+				this.loaded = true;
+			}
+		}
+	}
+	//endregion
+}
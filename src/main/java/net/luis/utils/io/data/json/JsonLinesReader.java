@@ -0,0 +1,307 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import com.google.common.collect.Lists;
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A reader for json lines (ndjson) input, where each line contains one json element.<br>
+ * <p>
+ *     The input is read lazily line by line through a buffered reader, blank lines are skipped.<br>
+ *     Each line is parsed by a {@link JsonReader} with the configuration of this reader.<br>
+ *     Syntax errors are reported with the line number of the input.<br>
+ * </p>
+ * <p>
+ *     In parallel mode, the lines are read in batches which are parsed by the tasks of a fork join pool.<br>
+ *     The number of batches in flight is bounded and the elements are returned in the order of the input.<br>
+ * </p>
+ * <p>
+ *     The input can only be consumed once, either by {@link #iterator()}, {@link #stream()} or {@link #parallelStream()}.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class JsonLinesReader implements AutoCloseable {
+	
+	/**
+	 * The default number of lines per batch in parallel mode.<br>
+	 */
+	private static final int DEFAULT_BATCH_SIZE = 1024;
+	
+	/**
+	 * The json config used by this reader.<br>
+	 */
+	private final JsonConfig config;
+	/**
+	 * The reader to read the lines from.<br>
+	 */
+	private final BufferedReader reader;
+	/**
+	 * The key cache shared by the lines which are parsed sequentially.<br>
+	 */
+	private final JsonKeyCache keyCache = new JsonKeyCache();
+	/**
+	 * The number of lines which have been read.<br>
+	 */
+	private long lineNumber;
+	/**
+	 * Whether the input has already been consumed.<br>
+	 */
+	private boolean consumed;
+	
+	/**
+	 * Constructs a new json lines reader with the given input and the default configuration.<br>
+	 * @param input The input to create the reader for
+	 * @throws NullPointerException If the input is null
+	 */
+	public JsonLinesReader(@NotNull InputProvider input) {
+		this(input, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new json lines reader with the given input and configuration.<br>
+	 * The input is decoded using the charset of the configuration.<br>
+	 * @param input The input to create the reader for
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the input or configuration is null
+	 */
+	public JsonLinesReader(@NotNull InputProvider input, @NotNull JsonConfig config) {
+		this.config = Objects.requireNonNull(config, "Json config must not be null");
+		this.reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(input, "Input must not be null").getStream(), config.charset()));
+	}
+	
+	/**
+	 * Returns an iterator which reads and parses the lines of the input one by one.<br>
+	 * @return The iterator over the json elements of the input
+	 * @throws IllegalStateException If the input has already been consumed
+	 */
+	public @NotNull Iterator<JsonElement> iterator() {
+		this.consume();
+		return new Iterator<>() {
+			private JsonElement next;
+			
+			@Override
+			public boolean hasNext() {
+				if (this.next == null) {
+					String line = JsonLinesReader.this.readLine();
+					if (line != null) {
+						this.next = JsonLinesReader.this.parseLine(line, JsonLinesReader.this.lineNumber, JsonLinesReader.this.keyCache);
+					}
+				}
+				return this.next != null;
+			}
+			
+			@Override
+			public @NotNull JsonElement next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				JsonElement next = this.next;
+				this.next = null;
+				return next;
+			}
+		};
+	}
+	
+	/**
+	 * Returns a sequential stream of the json elements of the input.<br>
+	 * The lines are read and parsed lazily, closing the stream closes this reader.<br>
+	 * @return The stream of json elements
+	 * @throws IllegalStateException If the input has already been consumed
+	 */
+	public @NotNull Stream<JsonElement> stream() {
+		return this.toStream(this.iterator());
+	}
+	
+	/**
+	 * Returns a stream of the json elements of the input which are parsed in parallel by the common fork join pool.<br>
+	 * @return The stream of json elements in the order of the input
+	 * @throws IllegalStateException If the input has already been consumed
+	 * @see #parallelStream(ForkJoinPool, int)
+	 */
+	public @NotNull Stream<JsonElement> parallelStream() {
+		return this.parallelStream(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+	}
+	
+	/**
+	 * Returns a stream of the json elements of the input which are parsed in parallel by the given fork join pool.<br>
+	 * <p>
+	 *     The lines are read in batches of the given size, each batch is parsed by a separate task.<br>
+	 *     At most twice as many batches as the parallelism of the pool are in flight at the same time.<br>
+	 *     The returned stream itself is sequential and returns the elements in the order of the input.<br>
+	 *     Exceptions of a batch are rethrown unwrapped, so syntax errors are reported the same way as by {@link #stream()}.<br>
+	 * </p>
+	 * @param pool The fork join pool to parse the batches in
+	 * @param batchSize The number of lines per batch
+	 * @return The stream of json elements in the order of the input
+	 * @throws NullPointerException If the pool is null
+	 * @throws IllegalArgumentException If the batch size is less than 1
+	 * @throws IllegalStateException If the input has already been consumed
+	 */
+	public @NotNull Stream<JsonElement> parallelStream(@NotNull ForkJoinPool pool, int batchSize) {
+		Objects.requireNonNull(pool, "Fork join pool must not be null");
+		if (1 > batchSize) {
+			throw new IllegalArgumentException("Batch size must be greater than 0, but was " + batchSize);
+		}
+		this.consume();
+		int window = Math.max(2, pool.getParallelism() * 2);
+		return this.toStream(new Iterator<>() {
+			private final Deque<CompletableFuture<List<JsonElement>>> pending = new ArrayDeque<>();
+			private Iterator<JsonElement> current = Collections.emptyIterator();
+			private boolean exhausted;
+			
+			@Override
+			public boolean hasNext() {
+				while (!this.current.hasNext()) {
+					this.submit();
+					if (this.pending.isEmpty()) {
+						return false;
+					}
+					try {
+						this.current = this.pending.removeFirst().join().iterator();
+					} catch (CompletionException e) {
+						if (e.getCause() instanceof RuntimeException cause) {
+							throw cause;
+						}
+						throw e;
+					}
+				}
+				return true;
+			}
+			
+			@Override
+			public @NotNull JsonElement next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return this.current.next();
+			}
+			
+			/**
+			 * Reads and submits batches until the window is full or the input is exhausted.<br>
+			 */
+			private void submit() {
+				while (!this.exhausted && this.pending.size() < window) {
+					List<String> lines = Lists.newArrayListWithCapacity(batchSize);
+					long[] lineNumbers = new long[batchSize];
+					String line;
+					while (lines.size() < batchSize && (line = JsonLinesReader.this.readLine()) != null) {
+						lineNumbers[lines.size()] = JsonLinesReader.this.lineNumber;
+						lines.add(line);
+					}
+					if (lines.size() < batchSize) {
+						this.exhausted = true;
+					}
+					if (!lines.isEmpty()) {
+						this.pending.addLast(CompletableFuture.supplyAsync(() -> {
+							List<JsonElement> elements = Lists.newArrayListWithCapacity(lines.size());
+							JsonKeyCache keyCache = new JsonKeyCache();
+							for (int i = 0; i < lines.size(); i++) {
+								elements.add(JsonLinesReader.this.parseLine(lines.get(i), lineNumbers[i], keyCache));
+							}
+							return elements;
+						}, pool));
+					}
+				}
+			}
+		});
+	}
+	
+	//region Helper methods
+	
+	/**
+	 * Marks the input as consumed.<br>
+	 * @throws IllegalStateException If the input has already been consumed
+	 */
+	private void consume() {
+		if (this.consumed) {
+			throw new IllegalStateException("Json lines input has already been consumed");
+		}
+		this.consumed = true;
+	}
+	
+	/**
+	 * Reads the next line which is not blank.<br>
+	 * @return The next line or null if the end of the input has been reached
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private @Nullable String readLine() {
+		try {
+			String line;
+			do {
+				line = this.reader.readLine();
+				if (line == null) {
+					return null;
+				}
+				this.lineNumber++;
+			} while (line.isBlank());
+			return line;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read json lines from input", e);
+		}
+	}
+	
+	/**
+	 * Parses the given line into a json element.<br>
+	 * @param line The line to parse
+	 * @param lineNumber The line number of the line, used for error messages
+	 * @param keyCache The key cache to use for the line
+	 * @return The parsed json element
+	 * @throws JsonSyntaxException If the line is not valid json
+	 */
+	private @NotNull JsonElement parseLine(@NotNull String line, long lineNumber, @NotNull JsonKeyCache keyCache) {
+		try {
+			return new JsonReader(line, this.config, keyCache).readJson();
+		} catch (JsonSyntaxException e) {
+			throw new JsonSyntaxException("Invalid json in line " + lineNumber + ": " + e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Creates an ordered stream from the given iterator which closes this reader when it is closed.<br>
+	 * @param iterator The iterator of the stream
+	 * @return The created stream
+	 */
+	private @NotNull Stream<JsonElement> toStream(@NotNull Iterator<JsonElement> iterator) {
+		Spliterator<JsonElement> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+		return StreamSupport.stream(spliterator, false).onClose(() -> {
+			try {
+				this.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException("Failed to close json lines input", e);
+			}
+		});
+	}
+	//endregion
+	
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+}
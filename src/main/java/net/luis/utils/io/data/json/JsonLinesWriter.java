@@ -0,0 +1,172 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.OutputProvider;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.util.Objects;
+
+/**
+ * A writer for json lines (ndjson) output, where each line contains one json element.<br>
+ * <p>
+ *     The json elements are appended to the output one after another, each written in a single line.<br>
+ *     Pretty printing of the configuration is ignored, all other options are respected.<br>
+ *     Line breaks inside strings are written as escape sequences, so each json element stays in a single line.<br>
+ *     To append to an existing file, the output provider must be created with an appending output stream.<br>
+ * </p>
+ * <p>
+ *     The written lines are buffered and the output is only flushed after a batch of json elements has been written,<br>
+ *     when {@link #flush()} is called explicitly or when the writer is closed.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class JsonLinesWriter implements AutoCloseable, Flushable {
+	
+	/**
+	 * The default number of json elements after which the output is flushed.<br>
+	 */
+	private static final int DEFAULT_BATCH_SIZE = 1024;
+	
+	/**
+	 * The json config used by this writer, pretty printing is always disabled.<br>
+	 */
+	private final JsonConfig config;
+	/**
+	 * The writer to write the lines to.<br>
+	 */
+	private final Writer writer;
+	/**
+	 * The number of json elements after which the output is flushed.<br>
+	 */
+	private final int batchSize;
+	/**
+	 * The number of json elements which have been written since the last flush.<br>
+	 */
+	private int pending;
+	
+	/**
+	 * Constructs a new json lines writer with the given output and the default configuration.<br>
+	 * @param output The output to create the writer for
+	 * @throws NullPointerException If the output is null
+	 */
+	public JsonLinesWriter(@NotNull OutputProvider output) {
+		this(output, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new json lines writer with the given output and configuration.<br>
+	 * @param output The output to create the writer for
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the output or configuration is null
+	 */
+	public JsonLinesWriter(@NotNull OutputProvider output, @NotNull JsonConfig config) {
+		this(output, config, DEFAULT_BATCH_SIZE);
+	}
+	
+	/**
+	 * Constructs a new json lines writer with the given output, configuration and batch size.<br>
+	 * @param output The output to create the writer for
+	 * @param config The configuration to use
+	 * @param batchSize The number of json elements after which the output is flushed
+	 * @throws NullPointerException If the output or configuration is null
+	 * @throws IllegalArgumentException If the batch size is less than 1
+	 */
+	public JsonLinesWriter(@NotNull OutputProvider output, @NotNull JsonConfig config, int batchSize) {
+		Objects.requireNonNull(output, "Output must not be null");
+		Objects.requireNonNull(config, "Json config must not be null");
+		if (1 > batchSize) {
+			throw new IllegalArgumentException("Batch size must be greater than 0, but was " + batchSize);
+		}
+		this.config = new JsonConfig(config.strict(), false, config.indent(), config.simplifyArrays(), config.maxArraySimplificationSize(), config.simplifyObjects(), config.maxObjectSimplificationSize(), config.charset(), config.parallel(), config.vectorized());
+		this.writer = new BufferedWriter(new OutputStreamWriter(output.getStream(), config.charset()));
+		this.batchSize = batchSize;
+	}
+	
+	/**
+	 * Writes the given json element as a new line.<br>
+	 * The output is flushed if a whole batch of json elements has been written.<br>
+	 * Line breaks inside strings are escaped as {@code \n} and {@code \r}.<br>
+	 * @param json The json element to write
+	 * @throws NullPointerException If the json element is null
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void writeJson(@NotNull JsonElement json) {
+		Objects.requireNonNull(json, "Json element must not be null");
+		try {
+			this.writer.write(escapeLineBreaks(JsonWriter.writeToString(json, this.config)));
+			this.writer.write('\n');
+			if (++this.pending >= this.batchSize) {
+				this.flush();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the json line", e);
+		}
+	}
+	
+	/**
+	 * Writes all given json elements, each as a new line.<br>
+	 * @param elements The json elements to write
+	 * @throws NullPointerException If the json elements or any of them are null
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see #writeJson(JsonElement)
+	 */
+	public void writeAll(@NotNull Iterable<? extends JsonElement> elements) {
+		Objects.requireNonNull(elements, "Json elements must not be null");
+		for (JsonElement json : elements) {
+			this.writeJson(json);
+		}
+	}
+	
+	/**
+	 * Replaces all line breaks in the given single line json string with their escape sequences.<br>
+	 * Since pretty printing is disabled, line breaks can only occur inside strings.<br>
+	 * @param json The json string
+	 * @return The json string without line breaks
+	 */
+	private static @NotNull String escapeLineBreaks(@NotNull String json) {
+		if (json.indexOf('\n') < 0 && json.indexOf('\r') < 0) {
+			return json;
+		}
+		StringBuilder builder = new StringBuilder(json.length() + 8);
+		for (int i = 0; i < json.length(); i++) {
+			char c = json.charAt(i);
+			switch (c) {
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				default -> builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+	
+	@Override
+	public void flush() throws IOException {
+		this.writer.flush();
+		this.pending = 0;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		this.flush();
+		this.writer.close();
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Utility class for json merge patches as defined in <a href="https://www.rfc-editor.org/rfc/rfc7396">RFC 7396</a>.<br>
+ * A json merge patch is a json object which describes the changed members of a json object,<br>
+ * members with a json null value are removed and all other members are merged recursively.<br>
+ * Json merge patches can not set members to json null and replace json arrays as a whole,<br>
+ * use a {@link JsonPatch} if these changes must be expressed.<br>
+ *
+ * @author Luis-St
+ */
+public final class JsonMergePatch {
+	
+	/**
+	 * Private constructor to prevent instantiation of utility class.<br>
+	 */
+	private JsonMergePatch() {}
+	
+	/**
+	 * Computes a json merge patch which transforms the given source into the given target.<br>
+	 * Identical subtrees are skipped by reference or by the cached hash of {@link JsonElement#freeze() frozen} json elements.<br>
+	 * If the source or target is not a json object, the target is returned as patch.<br>
+	 * Json null members of the target are not part of the patch, since they can not be expressed.<br>
+	 * @param source The source json element
+	 * @param target The target json element
+	 * @return The json merge patch from the source to the target
+	 * @throws NullPointerException If the source or target is null
+	 */
+	public static @NotNull JsonElement diff(@NotNull JsonElement source, @NotNull JsonElement target) {
+		Objects.requireNonNull(source, "Source must not be null");
+		Objects.requireNonNull(target, "Target must not be null");
+		if (!(source instanceof JsonObject sourceObject) || !(target instanceof JsonObject targetObject)) {
+			return JsonHelper.copy(target);
+		}
+		JsonObject patch = new JsonObject();
+		if (JsonPatch.isEqual(sourceObject, targetObject)) {
+			return patch;
+		}
+		for (String key : sourceObject.keySet()) {
+			if (!targetObject.containsKey(key)) {
+				patch.add(key, JsonNull.INSTANCE);
+			}
+		}
+		for (Map.Entry<String, JsonElement> entry : targetObject.entrySet()) {
+			JsonElement element = sourceObject.get(entry.getKey());
+			JsonElement value = entry.getValue();
+			if (value instanceof JsonNull) {
+				continue;
+			}
+			if (element == null) {
+				patch.add(entry.getKey(), JsonHelper.copy(value));
+			} else if (element instanceof JsonObject && value instanceof JsonObject) {
+				JsonElement nested = diff(element, value);
+				if (!nested.getAsJsonObject().isEmpty()) {
+					patch.add(entry.getKey(), nested);
+				}
+			} else if (!JsonPatch.isEqual(element, value)) {
+				patch.add(entry.getKey(), JsonHelper.copy(value));
+			}
+		}
+		return patch;
+	}
+	
+	/**
+	 * Applies the given json merge patch to the given json element.<br>
+	 * If the patch is a json object and the json element is a json object, the json element is modified in place and returned.<br>
+	 * Otherwise, a new json element is returned and the given json element is not modified.<br>
+	 * The values of the patch are copied, the result does not share modifiable json elements with the patch.<br>
+	 * @param json The json element to apply the patch to
+	 * @param patch The json merge patch
+	 * @return The patched json element
+	 * @throws NullPointerException If the json element or patch is null
+	 * @throws UnsupportedOperationException If a modified json object is frozen
+	 */
+	public static @NotNull JsonElement apply(@NotNull JsonElement json, @NotNull JsonElement patch) {
+		Objects.requireNonNull(json, "Json must not be null");
+		Objects.requireNonNull(patch, "Patch must not be null");
+		if (!(patch instanceof JsonObject patchObject)) {
+			return JsonHelper.copy(patch);
+		}
+		JsonObject object = json instanceof JsonObject jsonObject ? jsonObject : new JsonObject();
+		for (Map.Entry<String, JsonElement> entry : patchObject.entrySet()) {
+			if (entry.getValue() instanceof JsonNull) {
+				object.remove(entry.getKey());
+			} else {
+				JsonElement element = object.get(entry.getKey());
+				JsonElement patched = apply(element == null ? JsonNull.INSTANCE : element, entry.getValue());
+				if (patched != element) {
+					object.add(entry.getKey(), patched);
+				}
+			}
+		}
+		return object;
+	}
+}
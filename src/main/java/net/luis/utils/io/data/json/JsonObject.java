@@ -18,7 +18,6 @@
 
 package net.luis.utils.io.data.json;
 
-import com.google.common.collect.Maps;
 import net.luis.utils.io.data.json.exception.JsonTypeException;
 import net.luis.utils.io.data.json.exception.NoSuchJsonElementException;
 import org.jetbrains.annotations.*;
@@ -37,14 +36,20 @@ public class JsonObject implements JsonElement {
 	
 	/**
 	 * The internal map of elements.<br>
-	 * The order of the elements is preserved.<br>
+	 * The order of the elements is preserved, small json objects are stored compactly.<br>
 	 */
-	private final Map<String, JsonElement> elements = Maps.newLinkedHashMap();
+	private final JsonObjectMap elements;
+	/**
+	 * The cached hash code of this json object if it is frozen, 0 if the hash code has not been computed yet.<br>
+	 */
+	private int hash;
 	
 	/**
 	 * Constructs an empty json object.<br>
 	 */
-	public JsonObject() {}
+	public JsonObject() {
+		this.elements = new JsonObjectMap();
+	}
 	
 	/**
 	 * Constructs a json object with the given elements.<br>
@@ -52,9 +57,42 @@ public class JsonObject implements JsonElement {
 	 * @throws NullPointerException If the given elements are null
 	 */
 	public JsonObject(@NotNull Map<String, ? extends JsonElement> elements) {
+		this();
 		this.elements.putAll(Objects.requireNonNull(elements, "Json elements must not be null"));
 	}
 	
+	/**
+	 * Constructs a frozen json object with the given frozen map of elements.<br>
+	 * @param elements The frozen map of elements
+	 */
+	private JsonObject(@NotNull JsonObjectMap elements) {
+		this.elements = elements;
+	}
+	
+	/**
+	 * Hook which is called before the elements of this json object are accessed.<br>
+	 * Json objects which decode their elements lazily override this method to decode them on first access.<br>
+	 */
+	void load() {}
+	
+	/**
+	 * Returns the internal map of elements after {@link #load() loading} them.<br>
+	 * @return The map of elements
+	 */
+	private @NotNull Map<String, JsonElement> loadedElements() {
+		this.load();
+		return this.elements;
+	}
+	
+	/**
+	 * Shares the keys of this json object with other json objects with the same keys.<br>
+	 * Called by the json readers after a json object has been read completely.<br>
+	 * @param cache The key cache of the reader
+	 */
+	void shareKeys(@NotNull JsonKeyCache cache) {
+		this.elements.shareKeys(cache);
+	}
+	
 	//region Query operations
 	
 	/**
@@ -62,7 +100,7 @@ public class JsonObject implements JsonElement {
 	 * @return The size of this json object
 	 */
 	public int size() {
-		return this.elements.size();
+		return this.loadedElements().size();
 	}
 	
 	/**
@@ -70,7 +108,7 @@ public class JsonObject implements JsonElement {
 	 * @return True if this json object is empty, false otherwise
 	 */
 	public boolean isEmpty() {
-		return this.elements.isEmpty();
+		return this.loadedElements().isEmpty();
 	}
 	
 	/**
@@ -79,7 +117,7 @@ public class JsonObject implements JsonElement {
 	 * @return True if this json object contains the given key, false otherwise
 	 */
 	public boolean containsKey(@Nullable String key) {
-		return this.elements.containsKey(key);
+		return this.loadedElements().containsKey(key);
 	}
 	
 	/**
@@ -88,7 +126,7 @@ public class JsonObject implements JsonElement {
 	 * @return True if this json object contains the given element, false otherwise
 	 */
 	public boolean containsValue(@Nullable JsonElement element) {
-		return this.elements.containsValue(element);
+		return this.loadedElements().containsValue(element);
 	}
 	
 	/**
@@ -96,7 +134,7 @@ public class JsonObject implements JsonElement {
 	 * @return The keys of this json object
 	 */
 	public @NotNull Set<String> keySet() {
-		return this.elements.keySet();
+		return this.loadedElements().keySet();
 	}
 	
 	/**
@@ -104,7 +142,7 @@ public class JsonObject implements JsonElement {
 	 * @return The values of this json object
 	 */
 	public @NotNull @Unmodifiable Collection<JsonElement> elements() {
-		return Collections.unmodifiableCollection(this.elements.values());
+		return Collections.unmodifiableCollection(this.loadedElements().values());
 	}
 	
 	/**
@@ -112,7 +150,7 @@ public class JsonObject implements JsonElement {
 	 * @return The entries of this json object
 	 */
 	public @NotNull Set<Map.Entry<String, JsonElement>> entrySet() {
-		return this.elements.entrySet();
+		return this.loadedElements().entrySet();
 	}
 	
 	/**
@@ -121,7 +159,7 @@ public class JsonObject implements JsonElement {
 	 * @throws NullPointerException If the given action is null
 	 */
 	public void forEach(@NotNull BiConsumer<? super String, ? super JsonElement> action) {
-		this.elements.forEach(Objects.requireNonNull(action, "Action must not be null"));
+		this.loadedElements().forEach(Objects.requireNonNull(action, "Action must not be null"));
 	}
 	//endregion
 	
@@ -138,7 +176,7 @@ public class JsonObject implements JsonElement {
 	 */
 	public @Nullable JsonElement add(@NotNull String key, @Nullable JsonElement element) {
 		Objects.requireNonNull(key, "Key must not be null");
-		return this.elements.put(key, element == null ? JsonNull.INSTANCE : element);
+		return this.loadedElements().put(key, element == null ? JsonNull.INSTANCE : element);
 	}
 	
 	/**
@@ -266,7 +304,7 @@ public class JsonObject implements JsonElement {
 	 * @throws NullPointerException If the given json object is null
 	 */
 	public void addAll(@NotNull JsonObject object) {
-		this.elements.putAll(Objects.requireNonNull(object, "Json object must not be null").elements);
+		this.loadedElements().putAll(Objects.requireNonNull(object, "Json object must not be null").loadedElements());
 	}
 	
 	/**
@@ -275,7 +313,7 @@ public class JsonObject implements JsonElement {
 	 * @throws NullPointerException If the given elements are null
 	 */
 	public void addAll(@NotNull Map<String, ? extends JsonElement> elements) {
-		this.elements.putAll(Objects.requireNonNull(elements, "Json elements must not be null"));
+		this.loadedElements().putAll(Objects.requireNonNull(elements, "Json elements must not be null"));
 	}
 	//endregion
 	
@@ -287,14 +325,14 @@ public class JsonObject implements JsonElement {
 	 * @return The element associated with the key, or null if the key was not present
 	 */
 	public @Nullable JsonElement remove(@Nullable String key) {
-		return this.elements.remove(key);
+		return this.loadedElements().remove(key);
 	}
 	
 	/**
 	 * Removes all element pairs from this json object.<br>
 	 */
 	public void clear() {
-		this.elements.clear();
+		this.loadedElements().clear();
 	}
 	//endregion
 	
@@ -310,7 +348,7 @@ public class JsonObject implements JsonElement {
 	 */
 	public @Nullable JsonElement replace(@NotNull String key, @Nullable JsonElement newElement) {
 		Objects.requireNonNull(key, "Key must not be null");
-		return this.elements.replace(key, newElement == null ? JsonNull.INSTANCE : newElement);
+		return this.loadedElements().replace(key, newElement == null ? JsonNull.INSTANCE : newElement);
 	}
 	
 	/**
@@ -324,7 +362,7 @@ public class JsonObject implements JsonElement {
 	public boolean replace(@NotNull String key, @NotNull JsonElement oldElement, @Nullable JsonElement newElement) {
 		Objects.requireNonNull(key, "Key must not be null");
 		Objects.requireNonNull(oldElement, "Old value must not be null");
-		return this.elements.replace(key, oldElement, newElement == null ? JsonNull.INSTANCE : newElement);
+		return this.loadedElements().replace(key, oldElement, newElement == null ? JsonNull.INSTANCE : newElement);
 	}
 	//endregion
 	
@@ -338,7 +376,7 @@ public class JsonObject implements JsonElement {
 	 */
 	public @Nullable JsonElement get(@NotNull String key) {
 		Objects.requireNonNull(key, "Key must not be null");
-		return this.elements.get(key);
+		return this.loadedElements().get(key);
 	}
 	
 	/**
@@ -528,18 +566,93 @@ public class JsonObject implements JsonElement {
 	}
 	//endregion
 	
+	//region Freeze operations
+	
+	@Override
+	public boolean isFrozen() {
+		return this.elements.isFrozen();
+	}
+	
+	@Override
+	public @NotNull JsonObject freeze() {
+		return this.isFrozen() ? this : this.freeze(new HashMap<>());
+	}
+	
+	/**
+	 * Returns a frozen variant of this json object.<br>
+	 * The elements are frozen recursively, equal subtrees are shared using the given map.<br>
+	 * @param shared The frozen json objects and arrays which can be shared
+	 * @return The frozen json object
+	 */
+	@NotNull JsonObject freeze(@NotNull Map<JsonElement, JsonElement> shared) {
+		if (this.isFrozen()) {
+			return this;
+		}
+		this.load();
+		JsonObjectMap elements = this.elements.copy();
+		elements.replaceAll((key, json) -> JsonHelper.freeze(json, shared));
+		elements.freeze();
+		return new JsonObject(elements);
+	}
+	
+	/**
+	 * Returns a frozen json object with the given element associated with the given key.<br>
+	 * This json object is not modified, the elements of the frozen variant of this json object are shared with the result.<br>
+	 * If the element is null, it will be replaced with json null.<br>
+	 * @param key The key of the element
+	 * @param element The element to associate with the key
+	 * @return The frozen json object with the element
+	 * @throws NullPointerException If the given key is null
+	 * @see #freeze()
+	 */
+	public @NotNull JsonObject with(@NotNull String key, @Nullable JsonElement element) {
+		Objects.requireNonNull(key, "Key must not be null");
+		JsonObjectMap elements = this.freeze().elements.copy();
+		elements.put(key, element == null ? JsonNull.INSTANCE : element.freeze());
+		elements.freeze();
+		return new JsonObject(elements);
+	}
+	
+	/**
+	 * Returns a frozen json object without the element associated with the given key.<br>
+	 * This json object is not modified, the elements of the frozen variant of this json object are shared with the result.<br>
+	 * @param key The key of the element to remove
+	 * @return The frozen json object without the element
+	 * @see #freeze()
+	 */
+	public @NotNull JsonObject without(@Nullable String key) {
+		JsonObject frozen = this.freeze();
+		if (!frozen.containsKey(key)) {
+			return frozen;
+		}
+		JsonObjectMap elements = frozen.elements.copy();
+		elements.remove(key);
+		elements.freeze();
+		return new JsonObject(elements);
+	}
+	//endregion
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
 		if (!(o instanceof JsonObject that)) return false;
+		if (this.isFrozen() && that.isFrozen() && this.hashCode() != that.hashCode()) return false;
 		
-		return this.elements.equals(that.elements);
+		return this.loadedElements().equals(that.loadedElements());
 	}
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.elements);
+		if (!this.isFrozen()) {
+			return Objects.hash(this.loadedElements());
+		}
+		int hash = this.hash;
+		if (hash == 0) {
+			hash = Objects.hash(this.elements);
+			this.hash = hash;
+		}
+		return hash;
 	}
 	
 	@Override
@@ -548,42 +661,8 @@ public class JsonObject implements JsonElement {
 	}
 	
 	@Override
-	@SuppressWarnings("DuplicatedCode")
 	public @NotNull String toString(@NotNull JsonConfig config) {
-		StringBuilder builder = new StringBuilder("{");
-		List<Map.Entry<String, JsonElement>> entries = List.copyOf(this.elements.entrySet());
-		if (!entries.isEmpty()) {
-			boolean shouldSimplify = config.simplifyObjects() && config.maxObjectSimplificationSize() >= entries.size();
-			if (shouldSimplify) {
-				builder.append(" ");
-			}
-			for (int i = 0; i < entries.size(); i++) {
-				if (config.prettyPrint() && !shouldSimplify) {
-					builder.append(System.lineSeparator());
-					builder.append(config.indent());
-				}
-				
-				Map.Entry<String, JsonElement> entry = entries.get(i);
-				builder.append("\"").append(entry.getKey()).append("\": ");
-				String value = entry.getValue().toString(config);
-				if (config.prettyPrint() && !shouldSimplify) {
-					value = value.replace(System.lineSeparator(), System.lineSeparator() + config.indent());
-				}
-				builder.append(value);
-				if (i < this.elements.size() - 1) {
-					builder.append(",");
-					if (shouldSimplify) {
-						builder.append(" ");
-					}
-				} else if (config.prettyPrint() && !shouldSimplify) {
-					builder.append(System.lineSeparator());
-				}
-			}
-			if (shouldSimplify) {
-				builder.append(" ");
-			}
-		}
-		return builder.append("}").toString();
+		return JsonWriter.writeToString(this, config);
 	}
 	//endregion
 }
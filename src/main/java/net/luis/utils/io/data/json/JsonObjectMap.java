@@ -0,0 +1,461 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import com.google.common.collect.Maps;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A compact insertion-ordered map which stores the entries of a json object.<br>
+ * <p>
+ *     Small maps store their keys and values in two parallel arrays and look up keys by a linear search.<br>
+ *     If the map grows beyond {@value #MAX_COMPACT_SIZE} entries, the entries are moved into a linked hash map.<br>
+ * </p>
+ * <p>
+ *     The key array can be shared between maps with the same keys in the same order (see {@link #shareKeys(JsonKeyCache)}).<br>
+ *     A shared key array is copied before the keys of the map are modified.<br>
+ * </p>
+ * <p>
+ *     A frozen map can not be modified anymore (see {@link #freeze()}).<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class JsonObjectMap extends AbstractMap<String, JsonElement> {
+	
+	/**
+	 * The maximum number of entries which are stored in the compact arrays.<br>
+	 */
+	static final int MAX_COMPACT_SIZE = 16;
+	/**
+	 * The key array of empty maps.<br>
+	 */
+	private static final String[] EMPTY_KEYS = new String[0];
+	/**
+	 * The value array of empty maps.<br>
+	 */
+	private static final JsonElement[] EMPTY_VALUES = new JsonElement[0];
+	
+	/**
+	 * The keys of the compact map, the first {@link #size} keys are used.<br>
+	 */
+	private String[] keys = EMPTY_KEYS;
+	/**
+	 * The values of the compact map, the index matches the index of the key.<br>
+	 */
+	private JsonElement[] values = EMPTY_VALUES;
+	/**
+	 * The number of entries in the compact map.<br>
+	 */
+	private int size;
+	/**
+	 * Whether the key array is shared with other maps.<br>
+	 */
+	private boolean sharedKeys;
+	/**
+	 * Whether this map is frozen and can not be modified.<br>
+	 */
+	private boolean frozen;
+	/**
+	 * The map which stores the entries after the map grew beyond the compact size, otherwise null.<br>
+	 */
+	private Map<String, JsonElement> map;
+	/**
+	 * The number of structural modifications, used to detect concurrent modifications during iteration.<br>
+	 */
+	private int modCount;
+	/**
+	 * The cached entry set view.<br>
+	 */
+	private Set<Map.Entry<String, JsonElement>> entrySet;
+	
+	/**
+	 * Constructs a new empty json object map.<br>
+	 */
+	JsonObjectMap() {}
+	
+	/**
+	 * Returns a modifiable copy of this map with the same entries.<br>
+	 * The key array of the copy is shared with this map if it is shared or this map is frozen.<br>
+	 * @return The copy of this map
+	 */
+	@NotNull JsonObjectMap copy() {
+		JsonObjectMap copy = new JsonObjectMap();
+		if (this.map != null) {
+			copy.map = Maps.newLinkedHashMap(this.map);
+		} else if (this.size > 0) {
+			copy.sharedKeys = this.sharedKeys || this.frozen;
+			copy.keys = copy.sharedKeys ? this.keys : Arrays.copyOf(this.keys, this.size);
+			copy.values = Arrays.copyOf(this.values, this.size);
+			copy.size = this.size;
+		}
+		return copy;
+	}
+	
+	/**
+	 * Checks if this map is frozen.<br>
+	 * @return True if this map is frozen, otherwise false
+	 */
+	boolean isFrozen() {
+		return this.frozen;
+	}
+	
+	/**
+	 * Freezes this map, any further modification throws an {@link UnsupportedOperationException}.<br>
+	 * The compact arrays are trimmed to the size of the map.<br>
+	 */
+	void freeze() {
+		if (this.map != null) {
+			this.map = Collections.unmodifiableMap(this.map);
+		} else {
+			if (!this.sharedKeys && this.keys.length != this.size) {
+				this.keys = Arrays.copyOf(this.keys, this.size);
+			}
+			if (this.values.length != this.size) {
+				this.values = Arrays.copyOf(this.values, this.size);
+			}
+		}
+		this.frozen = true;
+	}
+	
+	/**
+	 * Shares the key array of this map with other maps with the same keys using the given key cache.<br>
+	 * The value array is trimmed to the size of the map.<br>
+	 * @param cache The key cache which holds the shared key arrays
+	 */
+	void shareKeys(@NotNull JsonKeyCache cache) {
+		if (this.map != null || this.size == 0) {
+			return;
+		}
+		String[] shared = cache.shape(this.keys, this.size);
+		if (shared != null) {
+			this.keys = shared;
+			this.sharedKeys = true;
+		}
+		if (this.values.length != this.size) {
+			this.values = Arrays.copyOf(this.values, this.size);
+		}
+	}
+	
+	@Override
+	public int size() {
+		return this.map != null ? this.map.size() : this.size;
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+	
+	@Override
+	public boolean containsKey(@Nullable Object key) {
+		return this.map != null ? this.map.containsKey(key) : this.indexOf(key) >= 0;
+	}
+	
+	@Override
+	public boolean containsValue(@Nullable Object value) {
+		if (this.map != null) {
+			return this.map.containsValue(value);
+		}
+		for (int i = 0; i < this.size; i++) {
+			if (Objects.equals(this.values[i], value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	@Override
+	public @Nullable JsonElement get(@Nullable Object key) {
+		if (this.map != null) {
+			return this.map.get(key);
+		}
+		int index = this.indexOf(key);
+		return index >= 0 ? this.values[index] : null;
+	}
+	
+	@Override
+	public @Nullable JsonElement put(@Nullable String key, @Nullable JsonElement value) {
+		this.checkModifiable();
+		if (this.map != null) {
+			return this.map.put(key, value);
+		}
+		int index = this.indexOf(key);
+		if (index >= 0) {
+			JsonElement old = this.values[index];
+			this.values[index] = value;
+			return old;
+		}
+		if (this.size == MAX_COMPACT_SIZE) {
+			this.inflate();
+			return this.map.put(key, value);
+		}
+		if (this.sharedKeys || this.size == this.keys.length) {
+			this.keys = Arrays.copyOf(this.keys, Math.max(4, this.size * 2));
+			this.sharedKeys = false;
+		}
+		if (this.size == this.values.length) {
+			this.values = Arrays.copyOf(this.values, this.keys.length);
+		}
+		this.keys[this.size] = key;
+		this.values[this.size] = value;
+		this.size++;
+		this.modCount++;
+		return null;
+	}
+	
+	@Override
+	public @Nullable JsonElement remove(@Nullable Object key) {
+		this.checkModifiable();
+		if (this.map != null) {
+			return this.map.remove(key);
+		}
+		int index = this.indexOf(key);
+		return index >= 0 ? this.removeAt(index) : null;
+	}
+	
+	@Override
+	public void clear() {
+		this.checkModifiable();
+		if (this.map != null) {
+			this.map.clear();
+			return;
+		}
+		this.keys = EMPTY_KEYS;
+		this.values = EMPTY_VALUES;
+		this.size = 0;
+		this.sharedKeys = false;
+		this.modCount++;
+	}
+	
+	@Override
+	public @NotNull Set<Map.Entry<String, JsonElement>> entrySet() {
+		if (this.map != null) {
+			return this.map.entrySet();
+		}
+		if (this.entrySet == null) {
+			this.entrySet = new EntrySet();
+		}
+		return this.entrySet;
+	}
+	
+	//region Helper methods
+	
+	/**
+	 * Checks that this map is not frozen.<br>
+	 * @throws UnsupportedOperationException If this map is frozen
+	 */
+	private void checkModifiable() {
+		if (this.frozen) {
+			throw new UnsupportedOperationException("Json object is frozen");
+		}
+	}
+	
+	/**
+	 * Finds the index of the given key in the compact arrays.<br>
+	 * @param key The key to find
+	 * @return The index of the key or -1 if the key is not present
+	 */
+	private int indexOf(@Nullable Object key) {
+		if (key == null) {
+			for (int i = 0; i < this.size; i++) {
+				if (this.keys[i] == null) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		int hash = key.hashCode();
+		for (int i = 0; i < this.size; i++) {
+			String k = this.keys[i];
+			if (k == key || (k != null && k.hashCode() == hash && k.equals(key))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Removes the entry at the given index from the compact arrays.<br>
+	 * @param index The index of the entry
+	 * @return The value of the removed entry
+	 */
+	private @Nullable JsonElement removeAt(int index) {
+		this.checkModifiable();
+		JsonElement old = this.values[index];
+		if (this.sharedKeys) {
+			this.keys = this.keys.clone();
+			this.sharedKeys = false;
+		}
+		int moved = this.size - index - 1;
+		System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+		System.arraycopy(this.values, index + 1, this.values, index, moved);
+		this.size--;
+		this.keys[this.size] = null;
+		this.values[this.size] = null;
+		this.modCount++;
+		return old;
+	}
+	
+	/**
+	 * Moves the entries from the compact arrays into a linked hash map.<br>
+	 */
+	private void inflate() {
+		Map<String, JsonElement> map = Maps.newLinkedHashMapWithExpectedSize(this.size * 2);
+		for (int i = 0; i < this.size; i++) {
+			map.put(this.keys[i], this.values[i]);
+		}
+		this.map = map;
+		this.keys = EMPTY_KEYS;
+		this.values = EMPTY_VALUES;
+		this.size = 0;
+		this.sharedKeys = false;
+		this.entrySet = null;
+		this.modCount++;
+	}
+	//endregion
+	
+	//region Views
+	
+	/**
+	 * The entry set view of the compact arrays.<br>
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<String, JsonElement>> {
+		
+		@Override
+		public int size() {
+			return JsonObjectMap.this.size();
+		}
+		
+		@Override
+		public void clear() {
+			JsonObjectMap.this.clear();
+		}
+		
+		@Override
+		public @NotNull Iterator<Map.Entry<String, JsonElement>> iterator() {
+			if (JsonObjectMap.this.map != null) {
+				return JsonObjectMap.this.map.entrySet().iterator();
+			}
+			return new Iterator<>() {
+				private int next;
+				private int last = -1;
+				private int expectedModCount = JsonObjectMap.this.modCount;
+				
+				@Override
+				public boolean hasNext() {
+					return this.next < JsonObjectMap.this.size;
+				}
+				
+				@Override
+				public @NotNull Map.Entry<String, JsonElement> next() {
+					this.checkModCount();
+					if (!this.hasNext()) {
+						throw new NoSuchElementException();
+					}
+					this.last = this.next++;
+					return new Entry(this.last);
+				}
+				
+				@Override
+				public void remove() {
+					if (this.last < 0) {
+						throw new IllegalStateException();
+					}
+					this.checkModCount();
+					JsonObjectMap.this.removeAt(this.last);
+					this.next = this.last;
+					this.last = -1;
+					this.expectedModCount = JsonObjectMap.this.modCount;
+				}
+				
+				/**
+				 * Checks that the map has not been modified outside of this iterator.<br>
+				 * @throws ConcurrentModificationException If the map has been modified
+				 */
+				private void checkModCount() {
+					if (this.expectedModCount != JsonObjectMap.this.modCount) {
+						throw new ConcurrentModificationException();
+					}
+				}
+			};
+		}
+	}
+	
+	/**
+	 * An entry of the compact arrays, writing its value writes through to the map.<br>
+	 */
+	private final class Entry implements Map.Entry<String, JsonElement> {
+		
+		/**
+		 * The index of the entry in the compact arrays.<br>
+		 */
+		private final int index;
+		
+		/**
+		 * Constructs a new entry for the given index.<br>
+		 * @param index The index of the entry
+		 */
+		private Entry(int index) {
+			this.index = index;
+		}
+		
+		@Override
+		public String getKey() {
+			return JsonObjectMap.this.keys[this.index];
+		}
+		
+		@Override
+		public JsonElement getValue() {
+			return JsonObjectMap.this.values[this.index];
+		}
+		
+		@Override
+		public JsonElement setValue(JsonElement value) {
+			JsonObjectMap.this.checkModifiable();
+			JsonElement old = JsonObjectMap.this.values[this.index];
+			JsonObjectMap.this.values[this.index] = value;
+			return old;
+		}
+		
+		//region Object overrides
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Map.Entry<?, ?> that)) return false;
+			
+			return Objects.equals(this.getKey(), that.getKey()) && Objects.equals(this.getValue(), that.getValue());
+		}
+		
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(this.getKey()) ^ Objects.hashCode(this.getValue());
+		}
+		
+		@Override
+		public String toString() {
+			return this.getKey() + "=" + this.getValue();
+		}
+		//endregion
+	}
+	//endregion
+}
@@ -0,0 +1,734 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import com.google.common.collect.Lists;
+import net.luis.utils.io.data.json.exception.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+
+/**
+ * A json patch as defined in <a href="https://www.rfc-editor.org/rfc/rfc6902">RFC 6902</a>.<br>
+ * A json patch is a sequence of operations which transform a json document into another json document.<br>
+ * The locations of the operations are json pointers as defined in <a href="https://www.rfc-editor.org/rfc/rfc6901">RFC 6901</a>.<br>
+ * <p>
+ *     A json patch can be computed from two json elements using {@link #diff(JsonElement, JsonElement)},<br>
+ *     the size of the computed patch depends on the size of the change and not on the size of the json elements.<br>
+ *     Identical subtrees are skipped by reference or by the cached hash of {@link JsonElement#freeze() frozen} json elements,<br>
+ *     elements of json arrays are matched using their longest common subsequence.<br>
+ * </p>
+ * <p>
+ *     The values of the operations are frozen, therefore json patches are immutable and can be shared between threads.<br>
+ *     When a json patch is {@link #apply(JsonElement) applied}, json objects and arrays of the target are modified in place<br>
+ *     and the inserted values are copied, so the result does not share modifiable json elements with the patch.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+public final class JsonPatch {
+	
+	/**
+	 * The maximum number of positions which are stored to match the elements of two json arrays.<br>
+	 * If more positions are required, the elements are matched by their index instead.<br>
+	 */
+	private static final long MAX_MATCH_CELLS = 1L << 22;
+	
+	/**
+	 * The operations of this json patch.<br>
+	 */
+	private final List<Operation> operations;
+	
+	/**
+	 * Constructs a new json patch with the given operations.<br>
+	 * @param operations The operations of the json patch
+	 * @throws NullPointerException If the operations are null or contain null
+	 */
+	public JsonPatch(@NotNull List<Operation> operations) {
+		this.operations = List.copyOf(Objects.requireNonNull(operations, "Operations must not be null"));
+	}
+	
+	/**
+	 * Computes a json patch which transforms the given source into the given target.<br>
+	 * The json patch only contains add, remove and replace operations.<br>
+	 * @param source The source json element
+	 * @param target The target json element
+	 * @return The json patch from the source to the target
+	 * @throws NullPointerException If the source or target is null
+	 */
+	public static @NotNull JsonPatch diff(@NotNull JsonElement source, @NotNull JsonElement target) {
+		Objects.requireNonNull(source, "Source must not be null");
+		Objects.requireNonNull(target, "Target must not be null");
+		List<Operation> operations = Lists.newArrayList();
+		diff(operations, new StringBuilder(), source, target);
+		return new JsonPatch(operations);
+	}
+	
+	/**
+	 * Creates a json patch from the given json representation.<br>
+	 * The json representation must be a json array of json objects as defined in RFC 6902.<br>
+	 * @param json The json representation of the json patch
+	 * @return The json patch
+	 * @throws NullPointerException If the json element is null
+	 * @throws JsonTypeException If the json element or one of its operations has an invalid type
+	 * @throws NoSuchJsonElementException If a required member of an operation is missing
+	 * @throws IllegalArgumentException If an operation is invalid
+	 * @see #toJson()
+	 */
+	public static @NotNull JsonPatch fromJson(@NotNull JsonElement json) {
+		Objects.requireNonNull(json, "Json must not be null");
+		List<Operation> operations = Lists.newArrayList();
+		for (JsonElement element : json.getAsJsonArray()) {
+			JsonObject object = element.getAsJsonObject();
+			OperationType type = OperationType.fromName(object.getAsString("op"));
+			String from = type == OperationType.MOVE || type == OperationType.COPY ? object.getAsString("from") : null;
+			JsonElement value = null;
+			if (type == OperationType.ADD || type == OperationType.REPLACE || type == OperationType.TEST) {
+				value = object.get("value");
+				if (value == null) {
+					throw new NoSuchJsonElementException("Expected value for json patch operation '" + type.getName() + "', but found none");
+				}
+			}
+			operations.add(new Operation(type, object.getAsString("path"), from, value));
+		}
+		return new JsonPatch(operations);
+	}
+	
+	//region Diff
+	
+	/**
+	 * Adds the operations which transform the given source into the given target to the given list.<br>
+	 * @param operations The list to add the operations to
+	 * @param path The json pointer of the source and target
+	 * @param source The source json element
+	 * @param target The target json element
+	 */
+	private static void diff(@NotNull List<Operation> operations, @NotNull StringBuilder path, @NotNull JsonElement source, @NotNull JsonElement target) {
+		if (source == target) {
+			return;
+		}
+		if (source instanceof JsonObject sourceObject && target instanceof JsonObject targetObject) {
+			diffObjects(operations, path, sourceObject, targetObject);
+		} else if (source instanceof JsonArray sourceArray && target instanceof JsonArray targetArray) {
+			diffArrays(operations, path, sourceArray, targetArray);
+		} else if (!isEqual(source, target)) {
+			operations.add(new Operation(OperationType.REPLACE, path.toString(), null, target));
+		}
+	}
+	
+	/**
+	 * Adds the operations which transform the given source json object into the given target json object to the given list.<br>
+	 * @param operations The list to add the operations to
+	 * @param path The json pointer of the json objects
+	 * @param source The source json object
+	 * @param target The target json object
+	 */
+	private static void diffObjects(@NotNull List<Operation> operations, @NotNull StringBuilder path, @NotNull JsonObject source, @NotNull JsonObject target) {
+		if (source.isFrozen() && target.isFrozen() && source.equals(target)) {
+			return;
+		}
+		int length = path.length();
+		for (Map.Entry<String, JsonElement> entry : source.entrySet()) {
+			appendToken(path, entry.getKey());
+			JsonElement element = target.get(entry.getKey());
+			if (element == null) {
+				operations.add(new Operation(OperationType.REMOVE, path.toString(), null, null));
+			} else {
+				diff(operations, path, entry.getValue(), element);
+			}
+			path.setLength(length);
+		}
+		for (Map.Entry<String, JsonElement> entry : target.entrySet()) {
+			if (!source.containsKey(entry.getKey())) {
+				appendToken(path, entry.getKey());
+				operations.add(new Operation(OperationType.ADD, path.toString(), null, entry.getValue()));
+				path.setLength(length);
+			}
+		}
+	}
+	
+	/**
+	 * Adds the operations which transform the given source json array into the given target json array to the given list.<br>
+	 * The common prefix and suffix of the json arrays are skipped, the remaining elements are matched using their longest common subsequence.<br>
+	 * Unmatched elements between two matches are diffed pairwise, the remaining elements are removed or added.<br>
+	 * @param operations The list to add the operations to
+	 * @param path The json pointer of the json arrays
+	 * @param source The source json array
+	 * @param target The target json array
+	 */
+	private static void diffArrays(@NotNull List<Operation> operations, @NotNull StringBuilder path, @NotNull JsonArray source, @NotNull JsonArray target) {
+		List<JsonElement> sourceElements = source.getElements();
+		List<JsonElement> targetElements = target.getElements();
+		int start = 0;
+		int sourceEnd = sourceElements.size();
+		int targetEnd = targetElements.size();
+		while (start < sourceEnd && start < targetEnd && isEqual(sourceElements.get(start), targetElements.get(start))) {
+			start++;
+		}
+		while (sourceEnd > start && targetEnd > start && isEqual(sourceElements.get(sourceEnd - 1), targetElements.get(targetEnd - 1))) {
+			sourceEnd--;
+			targetEnd--;
+		}
+		List<JsonElement> sourceRange = sourceElements.subList(start, sourceEnd);
+		List<JsonElement> targetRange = targetElements.subList(start, targetEnd);
+		int[] matches = matchElements(sourceRange, targetRange);
+		int index = start;
+		int i = 0;
+		int j = 0;
+		for (int match = 0; match <= matches.length; match += 2) {
+			int sourceMatch = match < matches.length ? matches[match] : sourceRange.size();
+			int targetMatch = match < matches.length ? matches[match + 1] : targetRange.size();
+			index = diffGap(operations, path, index, sourceRange.subList(i, sourceMatch), targetRange.subList(j, targetMatch)) + 1;
+			i = sourceMatch + 1;
+			j = targetMatch + 1;
+		}
+	}
+	
+	/**
+	 * Matches the given source elements with the given target elements using their longest common subsequence.<br>
+	 * The elements are matched with the algorithm of Myers, which runs in {@code O((n + m) * d)} where {@code d} is the number of unmatched elements.<br>
+	 * If the number of unmatched elements is too large, no elements are matched.<br>
+	 * @param source The source elements
+	 * @param target The target elements
+	 * @return The indices of the matched elements as pairs of source and target index in ascending order
+	 */
+	private static int @NotNull [] matchElements(@NotNull List<JsonElement> source, @NotNull List<JsonElement> target) {
+		int n = source.size();
+		int m = target.size();
+		if (n == 0 || m == 0) {
+			return new int[0];
+		}
+		int[] sourceHashes = new int[n];
+		for (int i = 0; i < n; i++) {
+			sourceHashes[i] = source.get(i).hashCode();
+		}
+		int[] targetHashes = new int[m];
+		for (int j = 0; j < m; j++) {
+			targetHashes[j] = target.get(j).hashCode();
+		}
+		int offset = n + m + 1;
+		int[] furthest = new int[2 * offset + 1];
+		List<int[]> trace = Lists.newArrayList();
+		long traceSize = 0;
+		for (int d = 0; d <= n + m; d++) {
+			traceSize += 2L * d + 3;
+			if (traceSize > MAX_MATCH_CELLS) {
+				return new int[0];
+			}
+			trace.add(Arrays.copyOfRange(furthest, offset - d - 1, offset + d + 2));
+			for (int k = -d; k <= d; k += 2) {
+				int x = k == -d || (k != d && furthest[offset + k - 1] < furthest[offset + k + 1]) ? furthest[offset + k + 1] : furthest[offset + k - 1] + 1;
+				int y = x - k;
+				while (x < n && y < m && sourceHashes[x] == targetHashes[y] && source.get(x).equals(target.get(y))) {
+					x++;
+					y++;
+				}
+				furthest[offset + k] = x;
+				if (x >= n && y >= m) {
+					return backtrack(trace, n, m);
+				}
+			}
+		}
+		return new int[0];
+	}
+	
+	/**
+	 * Reconstructs the matched elements from the trace of the algorithm of Myers.<br>
+	 * The trace contains the furthest reaching positions before each step {@code d} for the diagonals {@code -d - 1} to {@code d + 1}.<br>
+	 * @param trace The trace of the furthest reaching positions
+	 * @param n The number of source elements
+	 * @param m The number of target elements
+	 * @return The indices of the matched elements as pairs of source and target index in ascending order
+	 */
+	private static int @NotNull [] backtrack(@NotNull List<int[]> trace, int n, int m) {
+		int[] matches = new int[2 * Math.min(n, m)];
+		int count = 0;
+		int x = n;
+		int y = m;
+		for (int d = trace.size() - 1; d >= 0; d--) {
+			int[] furthest = trace.get(d);
+			int k = x - y;
+			int previousK = k == -d || (k != d && furthest[k - 1 + d + 1] < furthest[k + 1 + d + 1]) ? k + 1 : k - 1;
+			int previousX = furthest[previousK + d + 1];
+			int previousY = previousX - previousK;
+			while (x > previousX && y > previousY) {
+				matches[count++] = --y;
+				matches[count++] = --x;
+			}
+			x = previousX;
+			y = previousY;
+		}
+		int[] result = new int[count];
+		for (int i = 0; i < count; i += 2) {
+			result[i] = matches[count - i - 1];
+			result[i + 1] = matches[count - i - 2];
+		}
+		return result;
+	}
+	
+	/**
+	 * Adds the operations which transform the given unmatched source elements into the given unmatched target elements.<br>
+	 * @param operations The list to add the operations to
+	 * @param path The json pointer of the json array
+	 * @param index The index of the first unmatched element in the partially patched json array
+	 * @param source The unmatched source elements
+	 * @param target The unmatched target elements
+	 * @return The index after the last target element in the partially patched json array
+	 */
+	private static int diffGap(@NotNull List<Operation> operations, @NotNull StringBuilder path, int index, @NotNull List<JsonElement> source, @NotNull List<JsonElement> target) {
+		int length = path.length();
+		int common = Math.min(source.size(), target.size());
+		for (int k = 0; k < common; k++, index++) {
+			diff(operations, path.append('/').append(index), source.get(k), target.get(k));
+			path.setLength(length);
+		}
+		for (int k = common; k < source.size(); k++) {
+			operations.add(new Operation(OperationType.REMOVE, path.append('/').append(index).toString(), null, null));
+			path.setLength(length);
+		}
+		for (int k = common; k < target.size(); k++, index++) {
+			operations.add(new Operation(OperationType.ADD, path.append('/').append(index).toString(), null, target.get(k)));
+			path.setLength(length);
+		}
+		return index;
+	}
+	
+	/**
+	 * Checks if the given json elements are equal.<br>
+	 * Frozen json objects and arrays with different cached hashes are not compared deeply.<br>
+	 * @param first The first json element
+	 * @param second The second json element
+	 * @return True if the json elements are equal, otherwise false
+	 */
+	static boolean isEqual(@NotNull JsonElement first, @NotNull JsonElement second) {
+		if (first == second) {
+			return true;
+		}
+		if (!(first instanceof JsonPrimitive) && first.isFrozen() && second.isFrozen() && first.hashCode() != second.hashCode()) {
+			return false;
+		}
+		return first.equals(second);
+	}
+	
+	/**
+	 * Appends the given reference token to the given json pointer.<br>
+	 * The characters {@code ~} and {@code /} are escaped as {@code ~0} and {@code ~1}.<br>
+	 * @param path The json pointer
+	 * @param token The reference token to append
+	 */
+	private static void appendToken(@NotNull StringBuilder path, @NotNull String token) {
+		path.append('/');
+		for (int i = 0; i < token.length(); i++) {
+			char c = token.charAt(i);
+			if (c == '~') {
+				path.append("~0");
+			} else if (c == '/') {
+				path.append("~1");
+			} else {
+				path.append(c);
+			}
+		}
+	}
+	//endregion
+	
+	/**
+	 * Returns the operations of this json patch.<br>
+	 * @return The operations
+	 */
+	public @NotNull @Unmodifiable List<Operation> getOperations() {
+		return this.operations;
+	}
+	
+	/**
+	 * Checks if this json patch has no operations.<br>
+	 * @return True if this json patch is empty, otherwise false
+	 */
+	public boolean isEmpty() {
+		return this.operations.isEmpty();
+	}
+	
+	//region Apply
+	
+	/**
+	 * Applies this json patch to the given json element.<br>
+	 * Json objects and arrays of the given json element are modified in place.<br>
+	 * If an operation replaces the root, the new root is returned, otherwise the given json element is returned.<br>
+	 * <p>
+	 *     The operations are applied one after another, if an operation fails the previous operations remain applied.<br>
+	 *     If the json element must stay unchanged on failure, the patch should be applied to a copy.<br>
+	 * </p>
+	 * @param json The json element to apply this json patch to
+	 * @return The patched json element
+	 * @throws NullPointerException If the json element is null
+	 * @throws NoSuchJsonElementException If a location does not exist
+	 * @throws JsonArrayIndexOutOfBoundsException If an index of a json array is out of bounds
+	 * @throws JsonTypeException If a location is inside of a json primitive or json null
+	 * @throws IllegalArgumentException If a value is moved into itself or the root is removed
+	 * @throws IllegalStateException If a test operation fails
+	 * @throws UnsupportedOperationException If a modified json object or array is frozen
+	 */
+	public @NotNull JsonElement apply(@NotNull JsonElement json) {
+		JsonElement root = Objects.requireNonNull(json, "Json must not be null");
+		for (Operation operation : this.operations) {
+			String[] path = parsePointer(operation.path());
+			root = switch (operation.type()) {
+				case ADD -> add(root, path, JsonHelper.copy(Objects.requireNonNull(operation.value())));
+				case REMOVE -> {
+					remove(root, path);
+					yield root;
+				}
+				case REPLACE -> replace(root, path, JsonHelper.copy(Objects.requireNonNull(operation.value())));
+				case MOVE -> {
+					String from = Objects.requireNonNull(operation.from());
+					if (operation.path().startsWith(from + "/")) {
+						throw new IllegalArgumentException("Unable to move json element from '" + from + "' into its own child '" + operation.path() + "'");
+					}
+					if (from.equals(operation.path())) {
+						yield root;
+					}
+					yield add(root, path, remove(root, parsePointer(from)));
+				}
+				case COPY -> add(root, path, JsonHelper.copy(get(root, parsePointer(Objects.requireNonNull(operation.from())), Integer.MAX_VALUE)));
+				case TEST -> {
+					if (!isEqual(get(root, path, Integer.MAX_VALUE), Objects.requireNonNull(operation.value()))) {
+						throw new IllegalStateException("Json patch test failed, the value at '" + operation.path() + "' is not equal to " + operation.value());
+					}
+					yield root;
+				}
+			};
+		}
+		return root;
+	}
+	
+	/**
+	 * Adds the given value at the given location.<br>
+	 * An existing member of a json object is replaced, the elements of a json array are shifted.<br>
+	 * @param root The root json element
+	 * @param path The reference tokens of the location
+	 * @param value The value to add
+	 * @return The new root json element
+	 */
+	private static @NotNull JsonElement add(@NotNull JsonElement root, String @NotNull [] path, @NotNull JsonElement value) {
+		if (path.length == 0) {
+			return value;
+		}
+		JsonElement parent = get(root, path, path.length - 1);
+		String token = path[path.length - 1];
+		if (parent instanceof JsonObject object) {
+			object.add(token, value);
+		} else if (parent instanceof JsonArray array) {
+			array.add("-".equals(token) ? array.size() : parseIndex(token), value);
+		} else {
+			throw new JsonTypeException("Expected json object or array at the parent of '" + token + "', but found: " + parent.getClass().getSimpleName());
+		}
+		return root;
+	}
+	
+	/**
+	 * Removes the value at the given location.<br>
+	 * @param root The root json element
+	 * @param path The reference tokens of the location
+	 * @return The removed value
+	 */
+	private static @NotNull JsonElement remove(@NotNull JsonElement root, String @NotNull [] path) {
+		if (path.length == 0) {
+			throw new IllegalArgumentException("Unable to remove the root json element");
+		}
+		JsonElement parent = get(root, path, path.length - 1);
+		String token = path[path.length - 1];
+		if (parent instanceof JsonObject object) {
+			JsonElement removed = object.remove(token);
+			if (removed == null) {
+				throw new NoSuchJsonElementException("Expected json element for key '" + token + "', but found none");
+			}
+			return removed;
+		} else if (parent instanceof JsonArray array) {
+			return array.remove(parseIndex(token));
+		}
+		throw new JsonTypeException("Expected json object or array at the parent of '" + token + "', but found: " + parent.getClass().getSimpleName());
+	}
+	
+	/**
+	 * Replaces the value at the given location with the given value.<br>
+	 * @param root The root json element
+	 * @param path The reference tokens of the location
+	 * @param value The new value
+	 * @return The new root json element
+	 */
+	private static @NotNull JsonElement replace(@NotNull JsonElement root, String @NotNull [] path, @NotNull JsonElement value) {
+		if (path.length == 0) {
+			return value;
+		}
+		JsonElement parent = get(root, path, path.length - 1);
+		String token = path[path.length - 1];
+		if (parent instanceof JsonObject object) {
+			if (!object.containsKey(token)) {
+				throw new NoSuchJsonElementException("Expected json element for key '" + token + "', but found none");
+			}
+			object.add(token, value);
+		} else if (parent instanceof JsonArray array) {
+			array.set(parseIndex(token), value);
+		} else {
+			throw new JsonTypeException("Expected json object or array at the parent of '" + token + "', but found: " + parent.getClass().getSimpleName());
+		}
+		return root;
+	}
+	
+	/**
+	 * Returns the json element at the location of the given number of leading reference tokens.<br>
+	 * @param root The root json element
+	 * @param path The reference tokens of the location
+	 * @param depth The number of reference tokens to resolve
+	 * @return The json element at the location
+	 */
+	private static @NotNull JsonElement get(@NotNull JsonElement root, String @NotNull [] path, int depth) {
+		JsonElement current = root;
+		for (int i = 0; i < Math.min(depth, path.length); i++) {
+			String token = path[i];
+			if (current instanceof JsonObject object) {
+				current = object.get(token);
+				if (current == null) {
+					throw new NoSuchJsonElementException("Expected json element for key '" + token + "', but found none");
+				}
+			} else if (current instanceof JsonArray array) {
+				current = array.get(parseIndex(token));
+			} else {
+				throw new JsonTypeException("Expected json object or array at the parent of '" + token + "', but found: " + current.getClass().getSimpleName());
+			}
+		}
+		return current;
+	}
+	//endregion
+	
+	//region Json pointer
+	
+	/**
+	 * Checks if the given string is a valid json pointer.<br>
+	 * @param pointer The string to check
+	 * @throws IllegalArgumentException If the string is not a valid json pointer
+	 */
+	private static void validatePointer(@NotNull String pointer) {
+		if (!pointer.isEmpty() && pointer.charAt(0) != '/') {
+			throw new IllegalArgumentException("Json pointer '" + pointer + "' must be empty or start with '/'");
+		}
+		for (int i = 0; i < pointer.length(); i++) {
+			if (pointer.charAt(i) == '~' && (i + 1 == pointer.length() || (pointer.charAt(i + 1) != '0' && pointer.charAt(i + 1) != '1'))) {
+				throw new IllegalArgumentException("Json pointer '" + pointer + "' contains an invalid escape sequence at index " + i);
+			}
+		}
+	}
+	
+	/**
+	 * Parses the given json pointer into its unescaped reference tokens.<br>
+	 * @param pointer The json pointer to parse
+	 * @return The reference tokens
+	 */
+	private static String @NotNull [] parsePointer(@NotNull String pointer) {
+		if (pointer.isEmpty()) {
+			return new String[0];
+		}
+		String[] tokens = pointer.substring(1).split("/", -1);
+		for (int i = 0; i < tokens.length; i++) {
+			if (tokens[i].indexOf('~') >= 0) {
+				tokens[i] = tokens[i].replace("~1", "/").replace("~0", "~");
+			}
+		}
+		return tokens;
+	}
+	
+	/**
+	 * Parses the given reference token as index of a json array.<br>
+	 * @param token The reference token
+	 * @return The index
+	 * @throws JsonArrayIndexOutOfBoundsException If the token is not a valid index
+	 */
+	private static int parseIndex(@NotNull String token) {
+		if (token.isEmpty() || token.length() > 10 || (token.length() > 1 && token.charAt(0) == '0')) {
+			throw new JsonArrayIndexOutOfBoundsException("Invalid json array index '" + token + "'");
+		}
+		long index = 0;
+		for (int i = 0; i < token.length(); i++) {
+			char c = token.charAt(i);
+			if (c < '0' || c > '9') {
+				throw new JsonArrayIndexOutOfBoundsException("Invalid json array index '" + token + "'");
+			}
+			index = index * 10 + (c - '0');
+		}
+		if (index > Integer.MAX_VALUE) {
+			throw new JsonArrayIndexOutOfBoundsException("Invalid json array index '" + token + "'");
+		}
+		return (int) index;
+	}
+	//endregion
+	
+	/**
+	 * Returns the json representation of this json patch as defined in RFC 6902.<br>
+	 * @return The json array of the operations
+	 * @see #fromJson(JsonElement)
+	 */
+	public @NotNull JsonArray toJson() {
+		JsonArray array = new JsonArray();
+		for (Operation operation : this.operations) {
+			JsonObject object = new JsonObject();
+			object.add("op", operation.type().getName());
+			if (operation.from() != null) {
+				object.add("from", operation.from());
+			}
+			object.add("path", operation.path());
+			if (operation.value() != null) {
+				object.add("value", JsonHelper.copy(operation.value()));
+			}
+			array.add(object);
+		}
+		return array;
+	}
+	
+	//region Object overrides
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof JsonPatch that)) return false;
+		
+		return this.operations.equals(that.operations);
+	}
+	
+	@Override
+	public int hashCode() {
+		return this.operations.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		return this.toJson().toString();
+	}
+	//endregion
+	
+	//region Inner classes
+	
+	/**
+	 * The types of json patch operations.<br>
+	 *
+	 * @author Luis-St
+	 */
+	public enum OperationType {
+		
+		/**
+		 * Adds a value to a json object or inserts it into a json array.<br>
+		 */
+		ADD("add"),
+		/**
+		 * Removes a value.<br>
+		 */
+		REMOVE("remove"),
+		/**
+		 * Replaces an existing value.<br>
+		 */
+		REPLACE("replace"),
+		/**
+		 * Removes a value and adds it at another location.<br>
+		 */
+		MOVE("move"),
+		/**
+		 * Copies a value to another location.<br>
+		 */
+		COPY("copy"),
+		/**
+		 * Tests that a value is equal to the given value.<br>
+		 */
+		TEST("test");
+		
+		/**
+		 * The name of the operation type in the json representation.<br>
+		 */
+		private final String name;
+		
+		/**
+		 * Constructs a new operation type with the given name.<br>
+		 * @param name The name of the operation type
+		 */
+		OperationType(@NotNull String name) {
+			this.name = name;
+		}
+		
+		/**
+		 * Returns the operation type with the given name.<br>
+		 * @param name The name of the operation type
+		 * @return The operation type
+		 * @throws IllegalArgumentException If there is no operation type with the given name
+		 */
+		public static @NotNull OperationType fromName(@Nullable String name) {
+			for (OperationType type : values()) {
+				if (type.name.equals(name)) {
+					return type;
+				}
+			}
+			throw new IllegalArgumentException("Unknown json patch operation '" + name + "'");
+		}
+		
+		/**
+		 * Returns the name of the operation type in the json representation.<br>
+		 * @return The name
+		 */
+		public @NotNull String getName() {
+			return this.name;
+		}
+	}
+	
+	/**
+	 * A single operation of a json patch.<br>
+	 * The value is frozen when the operation is created.<br>
+	 *
+	 * @author Luis-St
+	 *
+	 * @param type The type of the operation
+	 * @param path The json pointer of the location the operation is applied to
+	 * @param from The json pointer of the source location of a move or copy operation
+	 * @param value The value of an add, replace or test operation
+	 */
+	public record Operation(@NotNull OperationType type, @NotNull String path, @Nullable String from, @Nullable JsonElement value) {
+		
+		/**
+		 * Constructs a new operation.<br>
+		 * @param type The type of the operation
+		 * @param path The json pointer of the location the operation is applied to
+		 * @param from The json pointer of the source location, required for move and copy operations
+		 * @param value The value, required for add, replace and test operations
+		 * @throws NullPointerException If the type or path is null or a required from or value is null
+		 * @throws IllegalArgumentException If a json pointer is invalid
+		 */
+		public Operation {
+			Objects.requireNonNull(type, "Operation type must not be null");
+			Objects.requireNonNull(path, "Path must not be null");
+			validatePointer(path);
+			if (type == OperationType.MOVE || type == OperationType.COPY) {
+				validatePointer(Objects.requireNonNull(from, "From must not be null for operation '" + type.getName() + "'"));
+			} else {
+				from = null;
+			}
+			if (type == OperationType.ADD || type == OperationType.REPLACE || type == OperationType.TEST) {
+				value = Objects.requireNonNull(value, "Value must not be null for operation '" + type.getName() + "'").freeze();
+			} else {
+				value = null;
+			}
+		}
+	}
+	//endregion
+}
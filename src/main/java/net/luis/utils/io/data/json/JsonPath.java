@@ -0,0 +1,1157 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import com.google.common.collect.Lists;
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * A compiled json path expression which selects json elements from json trees or json input.<br>
+ * The expression is compiled once and can be applied to any number of json elements.<br>
+ * Compiled json paths are immutable, therefore they can be cached and shared between threads.<br>
+ * <p>
+ *     The following syntax is supported:
+ * </p>
+ * <ul>
+ *     <li>{@code $}: The root element, every expression must start with it</li>
+ *     <li>{@code .name} or {@code ['name']}: The member with the given name of a json object</li>
+ *     <li>{@code .*} or {@code [*]}: All members of a json object or all elements of a json array</li>
+ *     <li>{@code ..name}, {@code ..*} or {@code ..[...]}: Recursive descent, applies the selector to all descendants</li>
+ *     <li>{@code [1]} or {@code [-1]}: The element at the given index of a json array, negative indices count from the end</li>
+ *     <li>{@code [start:end:step]}: A slice of a json array, all parts are optional</li>
+ *     <li>{@code [0, 2]} or {@code ['a', 'b']}: A union of multiple names, indices or slices</li>
+ *     <li>{@code [?(@.price < 10 && @.name)]}: All members or elements for which the filter is true</li>
+ * </ul>
+ * <p>
+ *     Filters support the comparison operators {@code ==, !=, <, <=, >, >=} between relative paths ({@code @.name}, {@code @[0]})<br>
+ *     and literals (numbers, quoted strings, {@code true}, {@code false} and {@code null}), existence checks of relative paths<br>
+ *     and the logical operators {@code &&}, {@code ||} and {@code !} with parentheses.<br>
+ *     Like in the json reader, strings are compared as they appear in the json, escape sequences are not resolved.<br>
+ * </p>
+ * <p>
+ *     The selected elements are returned in document order and every element is returned at most once.<br>
+ *     When the path is applied to json input, the input is streamed and only the selected subtrees are built.<br>
+ *     Subtrees are only built in advance if a filter must be evaluated or a negative index requires the size of an array.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+public final class JsonPath {
+	
+	/**
+	 * The maximum number of segments of a json path.<br>
+	 * The matching state of a json path is stored as bit mask with one bit per segment and one bit for a match.<br>
+	 */
+	private static final int MAX_SEGMENTS = 63;
+	
+	/**
+	 * The expression of this json path.<br>
+	 */
+	private final String expression;
+	/**
+	 * The compiled segments of this json path.<br>
+	 */
+	private final Segment[] segments;
+	/**
+	 * The bit mask of all segments whose selector requires the value of a member or element.<br>
+	 */
+	private final long valueMask;
+	/**
+	 * The bit mask of all segments whose selector requires the size of a json array.<br>
+	 */
+	private final long sizeMask;
+	
+	/**
+	 * Constructs a new json path with the given expression and segments.<br>
+	 * @param expression The expression of the json path
+	 * @param segments The compiled segments of the json path
+	 */
+	private JsonPath(@NotNull String expression, Segment @NotNull [] segments) {
+		this.expression = expression;
+		this.segments = segments;
+		long valueMask = 0;
+		long sizeMask = 0;
+		for (int i = 0; i < segments.length; i++) {
+			if (segments[i].selector().needsValue()) {
+				valueMask |= 1L << i;
+			}
+			if (segments[i].selector().needsSize()) {
+				sizeMask |= 1L << i;
+			}
+		}
+		this.valueMask = valueMask;
+		this.sizeMask = sizeMask;
+	}
+	
+	/**
+	 * Compiles the given json path expression.<br>
+	 * @param expression The expression to compile
+	 * @return The compiled json path
+	 * @throws NullPointerException If the expression is null
+	 * @throws IllegalArgumentException If the expression is invalid
+	 */
+	public static @NotNull JsonPath compile(@NotNull String expression) {
+		Objects.requireNonNull(expression, "Json path expression must not be null");
+		return new JsonPath(expression, new Parser(expression).parse());
+	}
+	
+	/**
+	 * Returns the expression of this json path.<br>
+	 * @return The expression
+	 */
+	public @NotNull String getExpression() {
+		return this.expression;
+	}
+	
+	//region Tree selection
+	
+	/**
+	 * Selects all json elements which match this json path from the given json element.<br>
+	 * @param json The root json element
+	 * @return The matching json elements in document order
+	 * @throws NullPointerException If the json element is null
+	 */
+	public @NotNull List<JsonElement> select(@NotNull JsonElement json) {
+		Objects.requireNonNull(json, "Json element must not be null");
+		List<JsonElement> results = Lists.newArrayList();
+		this.walk(json, 1L, results, Integer.MAX_VALUE);
+		return results;
+	}
+	
+	/**
+	 * Selects the first json element which matches this json path from the given json element.<br>
+	 * The selection stops at the first match.<br>
+	 * @param json The root json element
+	 * @return The first matching json element in document order or an empty optional if no element matches
+	 * @throws NullPointerException If the json element is null
+	 */
+	public @NotNull Optional<JsonElement> selectFirst(@NotNull JsonElement json) {
+		Objects.requireNonNull(json, "Json element must not be null");
+		List<JsonElement> results = Lists.newArrayListWithCapacity(1);
+		this.walk(json, 1L, results, 1);
+		return results.isEmpty() ? Optional.empty() : Optional.of(results.getFirst());
+	}
+	//endregion
+	
+	//region Streaming selection
+	
+	/**
+	 * Selects all json elements which match this json path from the next value of the given json token reader.<br>
+	 * The value is streamed, only the matching subtrees are built.<br>
+	 * @param reader The json token reader positioned before a json value
+	 * @return The matching json elements in document order
+	 * @throws NullPointerException If the reader is null
+	 * @throws IllegalStateException If the next token of the reader is not a value
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull List<JsonElement> select(@NotNull JsonTokenReader reader) {
+		Objects.requireNonNull(reader, "Json token reader must not be null");
+		List<JsonElement> results = Lists.newArrayList();
+		this.stream(reader, 1L, results, Integer.MAX_VALUE);
+		return results;
+	}
+	
+	/**
+	 * Selects the first json element which matches this json path from the next value of the given json token reader.<br>
+	 * The value is streamed until the first match is found, the reader is left at the position after the match.<br>
+	 * @param reader The json token reader positioned before a json value
+	 * @return The first matching json element in document order or an empty optional if no element matches
+	 * @throws NullPointerException If the reader is null
+	 * @throws IllegalStateException If the next token of the reader is not a value
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull Optional<JsonElement> selectFirst(@NotNull JsonTokenReader reader) {
+		Objects.requireNonNull(reader, "Json token reader must not be null");
+		List<JsonElement> results = Lists.newArrayListWithCapacity(1);
+		this.stream(reader, 1L, results, 1);
+		return results.isEmpty() ? Optional.empty() : Optional.of(results.getFirst());
+	}
+	
+	/**
+	 * Selects all json elements which match this json path from the given input using the default configuration.<br>
+	 * @param input The input to read from
+	 * @return The matching json elements in document order
+	 * @throws NullPointerException If the input is null
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see #select(JsonTokenReader)
+	 */
+	public @NotNull List<JsonElement> select(@NotNull InputProvider input) {
+		return this.select(input, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Selects all json elements which match this json path from the given input using the given configuration.<br>
+	 * @param input The input to read from
+	 * @param config The configuration to use
+	 * @return The matching json elements in document order
+	 * @throws NullPointerException If the input or configuration is null
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see #select(JsonTokenReader)
+	 */
+	public @NotNull List<JsonElement> select(@NotNull InputProvider input, @NotNull JsonConfig config) {
+		try (JsonTokenReader reader = new JsonTokenReader(input, config)) {
+			return this.select(reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to close json input", e);
+		}
+	}
+	
+	/**
+	 * Selects the first json element which matches this json path from the given input using the default configuration.<br>
+	 * @param input The input to read from
+	 * @return The first matching json element in document order or an empty optional if no element matches
+	 * @throws NullPointerException If the input is null
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see #selectFirst(JsonTokenReader)
+	 */
+	public @NotNull Optional<JsonElement> selectFirst(@NotNull InputProvider input) {
+		return this.selectFirst(input, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Selects the first json element which matches this json path from the given input using the given configuration.<br>
+	 * The input is only read until the first match is found.<br>
+	 * @param input The input to read from
+	 * @param config The configuration to use
+	 * @return The first matching json element in document order or an empty optional if no element matches
+	 * @throws NullPointerException If the input or configuration is null
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see #selectFirst(JsonTokenReader)
+	 */
+	public @NotNull Optional<JsonElement> selectFirst(@NotNull InputProvider input, @NotNull JsonConfig config) {
+		try (JsonTokenReader reader = new JsonTokenReader(input, config)) {
+			return this.selectFirst(reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to close json input", e);
+		}
+	}
+	//endregion
+	
+	//region Matching
+	
+	/**
+	 * Walks the given json element and adds all matching elements to the given list.<br>
+	 * @param json The json element to walk
+	 * @param mask The matching state of the json element
+	 * @param results The list to add the matching elements to
+	 * @param limit The maximum number of matching elements
+	 * @return True if the limit has been reached, otherwise false
+	 */
+	private boolean walk(@NotNull JsonElement json, long mask, @NotNull List<JsonElement> results, int limit) {
+		long match = 1L << this.segments.length;
+		if ((mask & match) != 0) {
+			results.add(json);
+			if (results.size() >= limit) {
+				return true;
+			}
+			mask &= ~match;
+		}
+		if (mask == 0) {
+			return false;
+		}
+		if (json instanceof JsonObject object) {
+			for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+				long childMask = this.next(mask, entry.getKey(), -1, -1, entry.getValue());
+				if (childMask != 0 && this.walk(entry.getValue(), childMask, results, limit)) {
+					return true;
+				}
+			}
+		} else if (json instanceof JsonArray array) {
+			int size = array.size();
+			for (int i = 0; i < size; i++) {
+				JsonElement element = array.get(i);
+				long childMask = this.next(mask, null, i, size, element);
+				if (childMask != 0 && this.walk(element, childMask, results, limit)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Streams the next value of the given reader and adds all matching elements to the given list.<br>
+	 * Subtrees are skipped if they can not contain a match and only built if they are a match or must be inspected.<br>
+	 * @param reader The json token reader positioned before the value
+	 * @param mask The matching state of the value
+	 * @param results The list to add the matching elements to
+	 * @param limit The maximum number of matching elements
+	 * @return True if the limit has been reached, otherwise false
+	 */
+	private boolean stream(@NotNull JsonTokenReader reader, long mask, @NotNull List<JsonElement> results, int limit) {
+		JsonToken token = reader.peek();
+		if ((mask & (1L << this.segments.length)) != 0 || (token == JsonToken.BEGIN_ARRAY && (mask & this.sizeMask) != 0)) {
+			return this.walk(reader.readElement(), mask, results, limit);
+		}
+		if (token != JsonToken.BEGIN_OBJECT && token != JsonToken.BEGIN_ARRAY) {
+			reader.skipValue();
+			return false;
+		}
+		reader.next();
+		boolean object = token == JsonToken.BEGIN_OBJECT;
+		JsonToken end = object ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+		int index = 0;
+		while (reader.peek() != end) {
+			String name = null;
+			if (object) {
+				reader.next();
+				name = reader.getName();
+			}
+			int elementIndex = object ? -1 : index++;
+			if ((mask & this.valueMask) != 0) {
+				JsonElement value = reader.readElement();
+				long childMask = this.next(mask, name, elementIndex, -1, value);
+				if (childMask != 0 && this.walk(value, childMask, results, limit)) {
+					return true;
+				}
+			} else {
+				long childMask = this.next(mask, name, elementIndex, -1, null);
+				if (childMask == 0) {
+					reader.skipValue();
+				} else if (this.stream(reader, childMask, results, limit)) {
+					return true;
+				}
+			}
+		}
+		reader.next();
+		return false;
+	}
+	
+	/**
+	 * Computes the matching state of a member or element from the matching state of its parent.<br>
+	 * @param mask The matching state of the parent
+	 * @param name The name of the member or null if it is an array element
+	 * @param index The index of the element or -1 if it is an object member
+	 * @param size The size of the parent array or -1 if it is unknown
+	 * @param value The value of the member or element, may be null if no selector requires it
+	 * @return The matching state of the member or element
+	 */
+	private long next(long mask, @Nullable String name, int index, int size, @Nullable JsonElement value) {
+		long result = 0;
+		for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+			int i = Long.numberOfTrailingZeros(remaining);
+			Segment segment = this.segments[i];
+			if (segment.descendant()) {
+				result |= 1L << i;
+			}
+			if (segment.selector().matches(name, index, size, value)) {
+				result |= 1L << (i + 1);
+			}
+		}
+		return result;
+	}
+	//endregion
+	
+	//region Object overrides
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof JsonPath path)) return false;
+		
+		return this.expression.equals(path.expression);
+	}
+	
+	@Override
+	public int hashCode() {
+		return this.expression.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+	//endregion
+	
+	//region Internal
+	
+	/**
+	 * A segment of a json path.<br>
+	 *
+	 * @param descendant True if the selector is applied to all descendants, otherwise it is only applied to the children
+	 * @param selector The selector of the segment
+	 */
+	private record Segment(boolean descendant, @NotNull Selector selector) {}
+	
+	/**
+	 * A selector which decides whether a member or element matches.<br>
+	 */
+	private sealed interface Selector {
+		
+		/**
+		 * Checks if the given member or element matches this selector.<br>
+		 * @param name The name of the member or null if it is an array element
+		 * @param index The index of the element or -1 if it is an object member
+		 * @param size The size of the parent array or -1 if it is unknown
+		 * @param value The value of the member or element, only present if {@link #needsValue()} is true
+		 * @return True if the member or element matches, otherwise false
+		 */
+		boolean matches(@Nullable String name, int index, int size, @Nullable JsonElement value);
+		
+		/**
+		 * Checks if this selector requires the size of the parent array.<br>
+		 * @return True if the size is required, otherwise false
+		 */
+		default boolean needsSize() {
+			return false;
+		}
+		
+		/**
+		 * Checks if this selector requires the value of the member or element.<br>
+		 * @return True if the value is required, otherwise false
+		 */
+		default boolean needsValue() {
+			return false;
+		}
+	}
+	
+	/**
+	 * A selector which matches the object member with the given name.<br>
+	 *
+	 * @param name The name of the member
+	 */
+	private record NameSelector(@NotNull String name) implements Selector {
+		
+		@Override
+		public boolean matches(@Nullable String name, int index, int size, @Nullable JsonElement value) {
+			return this.name.equals(name);
+		}
+	}
+	
+	/**
+	 * A selector which matches all object members and array elements.<br>
+	 */
+	private record WildcardSelector() implements Selector {
+		
+		@Override
+		public boolean matches(@Nullable String name, int index, int size, @Nullable JsonElement value) {
+			return true;
+		}
+	}
+	
+	/**
+	 * A selector which matches the array element at the given index.<br>
+	 *
+	 * @param index The index of the element, negative indices count from the end of the array
+	 */
+	private record IndexSelector(int index) implements Selector {
+		
+		@Override
+		public boolean matches(@Nullable String name, int index, int size, @Nullable JsonElement value) {
+			return index >= 0 && (this.index >= 0 ? index == this.index : index == size + this.index);
+		}
+		
+		@Override
+		public boolean needsSize() {
+			return this.index < 0;
+		}
+	}
+	
+	/**
+	 * A selector which matches the array elements of a slice.<br>
+	 * The bounds are interpreted like python slices, negative bounds count from the end of the array.<br>
+	 *
+	 * @param start The start of the slice or null if the slice starts at the beginning
+	 * @param end The end of the slice (exclusive) or null if the slice ends at the end
+	 * @param step The step of the slice, must not be zero
+	 */
+	private record SliceSelector(@Nullable Integer start, @Nullable Integer end, int step) implements Selector {
+		
+		@Override
+		public boolean matches(@Nullable String name, int index, int size, @Nullable JsonElement value) {
+			if (index < 0) {
+				return false;
+			}
+			if (this.step > 0) {
+				long lower = this.start == null ? 0 : this.normalize(this.start, size);
+				long upper = this.end == null ? Long.MAX_VALUE : this.normalize(this.end, size);
+				return lower <= index && index < upper && (index - lower) % this.step == 0;
+			}
+			long upper = this.start == null ? size - 1 : Math.min(this.normalize(this.start, size), size - 1);
+			long lower = this.end == null ? -1 : this.normalize(this.end, size);
+			return lower < index && index <= upper && (upper - index) % -this.step == 0;
+		}
+		
+		/**
+		 * Normalizes the given bound for an array of the given size.<br>
+		 * @param bound The bound to normalize
+		 * @param size The size of the array or -1 if it is unknown (only allowed for non-negative bounds)
+		 * @return The normalized bound
+		 */
+		private long normalize(int bound, int size) {
+			if (bound < 0) {
+				return Math.max(size + (long) bound, 0);
+			}
+			return size < 0 ? bound : Math.min(bound, size);
+		}
+		
+		@Override
+		public boolean needsSize() {
+			return this.step < 0 || (this.start != null && this.start < 0) || (this.end != null && this.end < 0);
+		}
+	}
+	
+	/**
+	 * A selector which matches if any of the given selectors matches.<br>
+	 *
+	 * @param selectors The selectors of the union
+	 */
+	private record UnionSelector(@NotNull List<Selector> selectors) implements Selector {
+		
+		@Override
+		public boolean matches(@Nullable String name, int index, int size, @Nullable JsonElement value) {
+			for (Selector selector : this.selectors) {
+				if (selector.matches(name, index, size, value)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		
+		@Override
+		public boolean needsSize() {
+			return this.selectors.stream().anyMatch(Selector::needsSize);
+		}
+		
+		@Override
+		public boolean needsValue() {
+			return this.selectors.stream().anyMatch(Selector::needsValue);
+		}
+	}
+	
+	/**
+	 * A selector which matches all object members and array elements for which the given filter is true.<br>
+	 *
+	 * @param filter The filter
+	 */
+	private record FilterSelector(@NotNull Filter filter) implements Selector {
+		
+		@Override
+		public boolean matches(@Nullable String name, int index, int size, @Nullable JsonElement value) {
+			return value != null && this.filter.test(value);
+		}
+		
+		@Override
+		public boolean needsValue() {
+			return true;
+		}
+	}
+	
+	/**
+	 * A filter expression which is evaluated for the current json element ({@code @}).<br>
+	 */
+	private sealed interface Filter {
+		
+		/**
+		 * Evaluates this filter for the given json element.<br>
+		 * @param value The current json element
+		 * @return The result of the filter
+		 */
+		boolean test(@NotNull JsonElement value);
+	}
+	
+	/**
+	 * A filter which is true if any of the two filters is true.<br>
+	 *
+	 * @param left The left filter
+	 * @param right The right filter
+	 */
+	private record OrFilter(@NotNull Filter left, @NotNull Filter right) implements Filter {
+		
+		@Override
+		public boolean test(@NotNull JsonElement value) {
+			return this.left.test(value) || this.right.test(value);
+		}
+	}
+	
+	/**
+	 * A filter which is true if both filters are true.<br>
+	 *
+	 * @param left The left filter
+	 * @param right The right filter
+	 */
+	private record AndFilter(@NotNull Filter left, @NotNull Filter right) implements Filter {
+		
+		@Override
+		public boolean test(@NotNull JsonElement value) {
+			return this.left.test(value) && this.right.test(value);
+		}
+	}
+	
+	/**
+	 * A filter which negates the given filter.<br>
+	 *
+	 * @param filter The filter to negate
+	 */
+	private record NotFilter(@NotNull Filter filter) implements Filter {
+		
+		@Override
+		public boolean test(@NotNull JsonElement value) {
+			return !this.filter.test(value);
+		}
+	}
+	
+	/**
+	 * A filter which is true if the given relative path exists.<br>
+	 *
+	 * @param path The relative path
+	 */
+	private record ExistsFilter(@NotNull Operand path) implements Filter {
+		
+		@Override
+		public boolean test(@NotNull JsonElement value) {
+			return this.path.evaluate(value) != null;
+		}
+	}
+	
+	/**
+	 * A filter which compares two operands.<br>
+	 * <p>
+	 *     Numbers are compared by their numeric value and strings lexicographically.<br>
+	 *     Values of different types are never equal and can not be ordered.<br>
+	 *     Operands which do not exist are only equal to other operands which do not exist.<br>
+	 * </p>
+	 *
+	 * @param left The left operand
+	 * @param operator The comparison operator
+	 * @param right The right operand
+	 */
+	private record ComparisonFilter(@NotNull Operand left, @NotNull String operator, @NotNull Operand right) implements Filter {
+		
+		@Override
+		public boolean test(@NotNull JsonElement value) {
+			JsonElement left = this.left.evaluate(value);
+			JsonElement right = this.right.evaluate(value);
+			if (left == null || right == null) {
+				return switch (this.operator) {
+					case "==" -> left == right;
+					case "!=" -> left != right;
+					default -> false;
+				};
+			}
+			if (this.operator.equals("==")) {
+				return isEqual(left, right);
+			} else if (this.operator.equals("!=")) {
+				return !isEqual(left, right);
+			}
+			Integer comparison = compare(left, right);
+			if (comparison == null) {
+				return false;
+			}
+			return switch (this.operator) {
+				case "<" -> comparison < 0;
+				case "<=" -> comparison <= 0;
+				case ">" -> comparison > 0;
+				default -> comparison >= 0;
+			};
+		}
+		
+		/**
+		 * Checks if the given json elements are equal.<br>
+		 * @param left The left json element
+		 * @param right The right json element
+		 * @return True if the json elements are equal, otherwise false
+		 */
+		private static boolean isEqual(@NotNull JsonElement left, @NotNull JsonElement right) {
+			if (left instanceof JsonPrimitive leftPrimitive && right instanceof JsonPrimitive rightPrimitive) {
+				if (leftPrimitive.isBoolean() && rightPrimitive.isBoolean()) {
+					return leftPrimitive.getAsBoolean() == rightPrimitive.getAsBoolean();
+				}
+				Integer comparison = compare(left, right);
+				return comparison != null && comparison == 0;
+			}
+			return left.equals(right);
+		}
+		
+		/**
+		 * Compares the given json elements if they are both numbers or both strings.<br>
+		 * @param left The left json element
+		 * @param right The right json element
+		 * @return The result of the comparison or null if the json elements can not be compared
+		 */
+		private static @Nullable Integer compare(@NotNull JsonElement left, @NotNull JsonElement right) {
+			if (!(left instanceof JsonPrimitive leftPrimitive) || !(right instanceof JsonPrimitive rightPrimitive)) {
+				return null;
+			}
+			if (leftPrimitive.isString() && rightPrimitive.isString()) {
+				return leftPrimitive.getAsString().compareTo(rightPrimitive.getAsString());
+			}
+			if (!leftPrimitive.isNumber() || !rightPrimitive.isNumber()) {
+				return null;
+			}
+			if (leftPrimitive.isLongValue() && rightPrimitive.isLongValue()) {
+				return Long.compare(leftPrimitive.getAsLong(), rightPrimitive.getAsLong());
+			}
+			if ((leftPrimitive.isLongValue() || leftPrimitive.isDoubleValue()) && (rightPrimitive.isLongValue() || rightPrimitive.isDoubleValue())) {
+				return Double.compare(leftPrimitive.getAsDouble(), rightPrimitive.getAsDouble());
+			}
+			return new BigDecimal(leftPrimitive.getAsString()).compareTo(new BigDecimal(rightPrimitive.getAsString()));
+		}
+	}
+	
+	/**
+	 * An operand of a filter comparison.<br>
+	 */
+	private sealed interface Operand {
+		
+		/**
+		 * Evaluates this operand for the given json element.<br>
+		 * @param value The current json element
+		 * @return The value of the operand or null if it does not exist
+		 */
+		@Nullable JsonElement evaluate(@NotNull JsonElement value);
+	}
+	
+	/**
+	 * An operand with a constant value.<br>
+	 *
+	 * @param value The value of the operand
+	 */
+	private record LiteralOperand(@NotNull JsonElement value) implements Operand {
+		
+		@Override
+		public @NotNull JsonElement evaluate(@NotNull JsonElement value) {
+			return this.value;
+		}
+	}
+	
+	/**
+	 * An operand which selects a descendant of the current json element.<br>
+	 *
+	 * @param steps The names and indices of the path, relative to the current json element
+	 */
+	private record PathOperand(@NotNull List<Object> steps) implements Operand {
+		
+		@Override
+		public @Nullable JsonElement evaluate(@NotNull JsonElement value) {
+			JsonElement current = value;
+			for (Object step : this.steps) {
+				if (step instanceof String name && current instanceof JsonObject object) {
+					current = object.get(name);
+				} else if (step instanceof Integer index && current instanceof JsonArray array) {
+					int i = index < 0 ? array.size() + index : index;
+					current = 0 <= i && i < array.size() ? array.get(i) : null;
+				} else {
+					current = null;
+				}
+				if (current == null) {
+					return null;
+				}
+			}
+			return current;
+		}
+	}
+	
+	/**
+	 * Parser for json path expressions.<br>
+	 */
+	private static final class Parser {
+		
+		/**
+		 * The expression to parse.<br>
+		 */
+		private final String expression;
+		/**
+		 * The current index in the expression.<br>
+		 */
+		private int index;
+		
+		/**
+		 * Constructs a new parser for the given expression.<br>
+		 * @param expression The expression to parse
+		 */
+		private Parser(@NotNull String expression) {
+			this.expression = expression;
+		}
+		
+		/**
+		 * Parses the segments of the expression.<br>
+		 * @return The segments
+		 * @throws IllegalArgumentException If the expression is invalid
+		 */
+		private Segment @NotNull [] parse() {
+			this.skipWhitespaces();
+			this.expect('$');
+			List<Segment> segments = Lists.newArrayList();
+			while (this.canRead()) {
+				char next = this.peek();
+				if (Character.isWhitespace(next)) {
+					this.skipWhitespaces();
+					if (this.canRead()) {
+						throw this.createException("Unexpected whitespace");
+					}
+					break;
+				}
+				if (next == '[') {
+					segments.add(new Segment(false, this.parseBracket()));
+				} else if (next == '.') {
+					this.index++;
+					boolean descendant = this.canRead() && this.peek() == '.';
+					if (descendant) {
+						this.index++;
+					}
+					if (descendant && this.canRead() && this.peek() == '[') {
+						segments.add(new Segment(true, this.parseBracket()));
+					} else {
+						segments.add(new Segment(descendant, this.parseDotSelector()));
+					}
+				} else {
+					throw this.createException("Expected '.' or '[' but got '" + next + "'");
+				}
+				if (segments.size() > MAX_SEGMENTS) {
+					throw this.createException("Json path must not contain more than " + MAX_SEGMENTS + " segments");
+				}
+			}
+			return segments.toArray(Segment[]::new);
+		}
+		
+		/**
+		 * Parses the selector after a dot.<br>
+		 * @return The selector
+		 */
+		private @NotNull Selector parseDotSelector() {
+			if (this.canRead() && this.peek() == '*') {
+				this.index++;
+				return new WildcardSelector();
+			}
+			int start = this.index;
+			while (this.canRead() && this.peek() != '.' && this.peek() != '[' && !Character.isWhitespace(this.peek())) {
+				this.index++;
+			}
+			if (start == this.index) {
+				throw this.createException("Expected a member name");
+			}
+			return new NameSelector(this.expression.substring(start, this.index));
+		}
+		
+		/**
+		 * Parses a selector in square brackets.<br>
+		 * @return The selector
+		 */
+		private @NotNull Selector parseBracket() {
+			this.expect('[');
+			this.skipWhitespaces();
+			Selector selector;
+			if (this.canRead() && this.peek() == '?') {
+				this.index++;
+				this.skipWhitespaces();
+				selector = new FilterSelector(this.parseOr());
+			} else {
+				List<Selector> selectors = Lists.newArrayList();
+				selectors.add(this.parseBracketItem());
+				this.skipWhitespaces();
+				while (this.canRead() && this.peek() == ',') {
+					this.index++;
+					this.skipWhitespaces();
+					selectors.add(this.parseBracketItem());
+					this.skipWhitespaces();
+				}
+				selector = selectors.size() == 1 ? selectors.getFirst() : new UnionSelector(List.copyOf(selectors));
+			}
+			this.skipWhitespaces();
+			this.expect(']');
+			return selector;
+		}
+		
+		/**
+		 * Parses a single name, wildcard, index or slice in square brackets.<br>
+		 * @return The selector
+		 */
+		private @NotNull Selector parseBracketItem() {
+			if (!this.canRead()) {
+				throw this.createException("Expected a selector");
+			}
+			char next = this.peek();
+			if (next == '\'' || next == '"') {
+				return new NameSelector(this.parseQuotedString());
+			}
+			if (next == '*') {
+				this.index++;
+				return new WildcardSelector();
+			}
+			Integer start = this.parseOptionalInteger();
+			this.skipWhitespaces();
+			if (!this.canRead() || this.peek() != ':') {
+				if (start == null) {
+					throw this.createException("Expected a name, index, slice or wildcard");
+				}
+				return new IndexSelector(start);
+			}
+			this.index++;
+			this.skipWhitespaces();
+			Integer end = this.parseOptionalInteger();
+			this.skipWhitespaces();
+			int step = 1;
+			if (this.canRead() && this.peek() == ':') {
+				this.index++;
+				this.skipWhitespaces();
+				Integer value = this.parseOptionalInteger();
+				if (value != null) {
+					step = value;
+				}
+			}
+			if (step == 0) {
+				throw this.createException("Slice step must not be zero");
+			}
+			return new SliceSelector(start, end, step);
+		}
+		
+		/**
+		 * Parses an or expression of a filter.<br>
+		 * @return The filter
+		 */
+		private @NotNull Filter parseOr() {
+			Filter filter = this.parseAnd();
+			while (this.consume("||")) {
+				filter = new OrFilter(filter, this.parseAnd());
+			}
+			return filter;
+		}
+		
+		/**
+		 * Parses an and expression of a filter.<br>
+		 * @return The filter
+		 */
+		private @NotNull Filter parseAnd() {
+			Filter filter = this.parseUnary();
+			while (this.consume("&&")) {
+				filter = new AndFilter(filter, this.parseUnary());
+			}
+			return filter;
+		}
+		
+		/**
+		 * Parses a negation, a parenthesized expression or a comparison of a filter.<br>
+		 * @return The filter
+		 */
+		private @NotNull Filter parseUnary() {
+			this.skipWhitespaces();
+			if (this.consume("!")) {
+				return new NotFilter(this.parseUnary());
+			}
+			if (this.consume("(")) {
+				Filter filter = this.parseOr();
+				this.skipWhitespaces();
+				this.expect(')');
+				return filter;
+			}
+			Operand left = this.parseOperand();
+			this.skipWhitespaces();
+			for (String operator : List.of("==", "!=", "<=", ">=", "<", ">")) {
+				if (this.consume(operator)) {
+					return new ComparisonFilter(left, operator, this.parseOperand());
+				}
+			}
+			if (!(left instanceof PathOperand)) {
+				throw this.createException("Expected a comparison operator");
+			}
+			return new ExistsFilter(left);
+		}
+		
+		/**
+		 * Parses a relative path or a literal operand of a filter.<br>
+		 * @return The operand
+		 */
+		private @NotNull Operand parseOperand() {
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Expected an operand");
+			}
+			char next = this.peek();
+			if (next == '@') {
+				this.index++;
+				List<Object> steps = Lists.newArrayList();
+				while (this.canRead() && (this.peek() == '.' || this.peek() == '[')) {
+					if (this.peek() == '.') {
+						this.index++;
+						int start = this.index;
+						while (this.canRead() && (Character.isLetterOrDigit(this.peek()) || this.peek() == '_' || this.peek() == '-' || this.peek() == '$')) {
+							this.index++;
+						}
+						if (start == this.index) {
+							throw this.createException("Expected a member name");
+						}
+						steps.add(this.expression.substring(start, this.index));
+					} else {
+						this.index++;
+						this.skipWhitespaces();
+						if (this.canRead() && (this.peek() == '\'' || this.peek() == '"')) {
+							steps.add(this.parseQuotedString());
+						} else {
+							Integer value = this.parseOptionalInteger();
+							if (value == null) {
+								throw this.createException("Expected a name or index");
+							}
+							steps.add(value);
+						}
+						this.skipWhitespaces();
+						this.expect(']');
+					}
+				}
+				return new PathOperand(List.copyOf(steps));
+			}
+			if (next == '\'' || next == '"') {
+				return new LiteralOperand(new JsonPrimitive(this.parseQuotedString()));
+			}
+			int start = this.index;
+			while (this.canRead() && (Character.isLetterOrDigit(this.peek()) || this.peek() == '-' || this.peek() == '+' || this.peek() == '.')) {
+				this.index++;
+			}
+			String literal = this.expression.substring(start, this.index);
+			switch (literal) {
+				case "true" -> {
+					return new LiteralOperand(new JsonPrimitive(true));
+				}
+				case "false" -> {
+					return new LiteralOperand(new JsonPrimitive(false));
+				}
+				case "null" -> {
+					return new LiteralOperand(JsonNull.INSTANCE);
+				}
+			}
+			Number number = literal.isEmpty() ? null : JsonHelper.parseNumber(literal, 0, literal.length());
+			if (number == null) {
+				this.index = start;
+				throw this.createException("Expected a relative path or literal");
+			}
+			return new LiteralOperand(new JsonPrimitive(number));
+		}
+		
+		/**
+		 * Parses a string enclosed in single or double quotes.<br>
+		 * Escaped characters are kept as they are.<br>
+		 * @return The content of the string
+		 */
+		private @NotNull String parseQuotedString() {
+			char quote = this.expression.charAt(this.index);
+			int start = ++this.index;
+			while (this.canRead() && this.peek() != quote) {
+				if (this.peek() == '\\') {
+					this.index++;
+				}
+				this.index++;
+			}
+			if (!this.canRead()) {
+				this.index = start - 1;
+				throw this.createException("Missing closing quote " + quote);
+			}
+			return this.expression.substring(start, this.index++);
+		}
+		
+		/**
+		 * Parses an optional integer.<br>
+		 * @return The integer or null if there is no integer at the current index
+		 */
+		private @Nullable Integer parseOptionalInteger() {
+			int start = this.index;
+			if (this.canRead() && this.peek() == '-') {
+				this.index++;
+			}
+			while (this.canRead() && '0' <= this.peek() && this.peek() <= '9') {
+				this.index++;
+			}
+			if (start == this.index) {
+				return null;
+			}
+			try {
+				return Integer.parseInt(this.expression, start, this.index, 10);
+			} catch (NumberFormatException e) {
+				this.index = start;
+				throw this.createException("Invalid integer");
+			}
+		}
+		
+		//region Helper methods
+		
+		/**
+		 * Checks if there are characters left to parse.<br>
+		 * @return True if there are characters left, otherwise false
+		 */
+		private boolean canRead() {
+			return this.index < this.expression.length();
+		}
+		
+		/**
+		 * Returns the character at the current index.<br>
+		 * @return The current character
+		 */
+		private char peek() {
+			return this.expression.charAt(this.index);
+		}
+		
+		/**
+		 * Skips all whitespace characters at the current index.<br>
+		 */
+		private void skipWhitespaces() {
+			while (this.canRead() && Character.isWhitespace(this.peek())) {
+				this.index++;
+			}
+		}
+		
+		/**
+		 * Consumes the given token if the expression continues with it, leading whitespaces are skipped.<br>
+		 * @param token The token to consume
+		 * @return True if the token was consumed, otherwise false
+		 */
+		private boolean consume(@NotNull String token) {
+			this.skipWhitespaces();
+			if (this.expression.startsWith(token, this.index)) {
+				this.index += token.length();
+				return true;
+			}
+			return false;
+		}
+		
+		/**
+		 * Expects the given character at the current index and skips it.<br>
+		 * @param expected The expected character
+		 * @throws IllegalArgumentException If the current character is not the expected one
+		 */
+		private void expect(char expected) {
+			if (!this.canRead() || this.peek() != expected) {
+				throw this.createException("Expected '" + expected + "'");
+			}
+			this.index++;
+		}
+		
+		/**
+		 * Creates a new exception for an invalid expression with the given message and the current index.<br>
+		 * @param message The message
+		 * @return The created exception
+		 */
+		private @NotNull IllegalArgumentException createException(@NotNull String message) {
+			return new IllegalArgumentException("Invalid json path '" + this.expression + "', " + message + " at index " + this.index);
+		}
+		//endregion
+	}
+	//endregion
+}
@@ -18,41 +18,109 @@
 
 package net.luis.utils.io.data.json;
 
-import net.luis.utils.io.reader.StringReader;
 import net.luis.utils.util.getter.ValueGetter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Objects;
+import java.util.concurrent.atomic.*;
 
 /**
  * Represents a json primitive value.<br>
  * A primitive value can be a boolean, number or string.<br>
+ * <p>
+ *     Booleans and numbers are stored in their native representation,<br>
+ *     therefore accessing them does not require the value to be parsed again.<br>
+ *     Numbers which do not fit into a long or double (e.g. big decimals) are stored as big integer or big decimal.<br>
+ *     Non-finite doubles are written as quoted strings, since json does not support them as numbers.<br>
+ * </p>
  *
  * @author Luis-St
  */
 public class JsonPrimitive implements JsonElement, ValueGetter {
 	
 	/**
-	 * The value of this json primitive.<br>
+	 * The type constant for boolean values.<br>
 	 */
-	private final String value;
+	private static final byte BOOLEAN = 0;
+	/**
+	 * The type constant for integral numbers which fit into a long.<br>
+	 */
+	private static final byte LONG = 1;
+	/**
+	 * The type constant for floating point numbers which fit into a double.<br>
+	 */
+	private static final byte DOUBLE = 2;
+	/**
+	 * The type constant for big integers and big decimals.<br>
+	 */
+	private static final byte NUMBER = 3;
+	/**
+	 * The type constant for string values.<br>
+	 */
+	private static final byte STRING = 4;
+	
+	/**
+	 * The type of the value of this json primitive.<br>
+	 */
+	private final byte type;
+	/**
+	 * The raw bits of the value if the value is a boolean, long or double.<br>
+	 * Doubles are stored as {@link Double#doubleToLongBits(double) long bits}.<br>
+	 */
+	private final long bits;
+	/**
+	 * The value if the value is a big integer or big decimal which does not fit into a long or double.<br>
+	 */
+	private final Number number;
+	/**
+	 * The value if the value is a string, otherwise the lazily created string representation of the value.<br>
+	 */
+	private String string;
 	
 	/**
 	 * Constructs a new json primitive with the given boolean value.<br>
 	 * @param value The boolean value
 	 */
 	public JsonPrimitive(boolean value) {
-		this(String.valueOf(value));
+		this(BOOLEAN, value ? 1 : 0, null, value ? "true" : "false");
+	}
+	
+	/**
+	 * Constructs a new json primitive with the given long value.<br>
+	 * @param value The long value
+	 */
+	public JsonPrimitive(long value) {
+		this(LONG, value, null, null);
+	}
+	
+	/**
+	 * Constructs a new json primitive with the given float value.<br>
+	 * The value is stored as the double with the same decimal representation as the float.<br>
+	 * @param value The float value
+	 */
+	public JsonPrimitive(float value) {
+		this(DOUBLE, Double.doubleToLongBits(Double.parseDouble(Float.toString(value))), null, null);
+	}
+	
+	/**
+	 * Constructs a new json primitive with the given double value.<br>
+	 * @param value The double value
+	 */
+	public JsonPrimitive(double value) {
+		this(DOUBLE, Double.doubleToLongBits(value), null, null);
 	}
 	
 	/**
 	 * Constructs a new json primitive with the given number value.<br>
+	 * Numbers of unknown types are stored as big decimal if their string representation is a json number, otherwise as double.<br>
 	 * @param value The number value
 	 * @throws NullPointerException If the value is null
 	 */
 	public JsonPrimitive(@NotNull Number value) {
-		this(String.valueOf(Objects.requireNonNull(value, "Value must not be null")));
+		this(typeOf(Objects.requireNonNull(value, "Value must not be null")), bitsOf(value), numberOf(value), null);
 	}
 	
 	/**
@@ -61,51 +129,304 @@ public class JsonPrimitive implements JsonElement, ValueGetter {
 	 * @throws NullPointerException If the value is null
 	 */
 	public JsonPrimitive(@NotNull String value) {
-		this.value = Objects.requireNonNull(value, "Value must not be null");
+		this(STRING, 0, null, Objects.requireNonNull(value, "Value must not be null"));
+	}
+	
+	/**
+	 * Constructs a new json primitive with the given type and value.<br>
+	 * @param type The type of the value
+	 * @param bits The raw bits of the value
+	 * @param number The number value
+	 * @param string The string value
+	 */
+	private JsonPrimitive(byte type, long bits, @Nullable Number number, @Nullable String string) {
+		this.type = type;
+		this.bits = bits;
+		this.number = number;
+		this.string = string;
 	}
 	
 	//region Static helper methods
 	
 	/**
-	 * Tries to parse the given string to a boolean or number.<br>
+	 * Determines the type in which the given number is stored.<br>
+	 * @param value The number
+	 * @return The type of the number
+	 */
+	private static byte typeOf(@NotNull Number value) {
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return LONG;
+		} else if (value instanceof Double || value instanceof Float) {
+			return DOUBLE;
+		} else if (value instanceof BigInteger bigInteger) {
+			return bigInteger.bitLength() < 64 ? LONG : NUMBER;
+		} else if (value instanceof BigDecimal) {
+			return NUMBER;
+		} else if (value instanceof AtomicInteger || value instanceof AtomicLong || value instanceof LongAdder || value instanceof LongAccumulator) {
+			return LONG;
+		} else if (value instanceof DoubleAdder || value instanceof DoubleAccumulator) {
+			return DOUBLE;
+		}
+		return JsonHelper.isNumberLiteral(value.toString()) ? NUMBER : DOUBLE;
+	}
+	
+	/**
+	 * Returns the raw bits of the given number according to its {@link #typeOf(Number) type}.<br>
+	 * @param value The number
+	 * @return The raw bits of the number
+	 */
+	private static long bitsOf(@NotNull Number value) {
+		return switch (typeOf(value)) {
+			case LONG -> value.longValue();
+			case DOUBLE -> Double.doubleToLongBits(value instanceof Float ? Double.parseDouble(value.toString()) : value.doubleValue());
+			default -> 0;
+		};
+	}
+	
+	/**
+	 * Returns the given number if it can not be stored as raw bits.<br>
+	 * @param value The number
+	 * @return The number or null if the number is stored as raw bits
+	 */
+	private static @Nullable Number numberOf(@NotNull Number value) {
+		if (typeOf(value) != NUMBER) {
+			return null;
+		}
+		return value instanceof BigInteger || value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+	}
+	
+	/**
+	 * Checks if the given string would be read as a boolean or number if it is written without quotes.<br>
 	 * @param string The string
-	 * @return The parsed value or the string if it could not be parsed
+	 * @return True if the string is a boolean or number literal, otherwise false
 	 */
-	private static @NotNull Object tryParse(@NotNull String string) {
-		if ("true".equalsIgnoreCase(string) || "false".equalsIgnoreCase(string)) {
-			return Boolean.parseBoolean(string);
+	private static boolean isLiteral(@NotNull String string) {
+		if (string.isEmpty()) {
+			return false;
+		}
+		char c = string.charAt(0);
+		if (c == 't' || c == 'T' || c == 'f' || c == 'F') {
+			return "true".equalsIgnoreCase(string) || "false".equalsIgnoreCase(string);
 		}
-		StringReader reader = new StringReader(string);
-		try {
-			Number number = reader.readNumber();
-			reader.skipWhitespaces();
-			if (reader.canRead()) {
-				return string;
-			}
-			return number;
-		} catch (Exception e) {
-			return string;
+		if (c != '-' && c != '+' && c != '.' && !('0' <= c && c <= '9')) {
+			return false;
 		}
+		return JsonHelper.parseNumber(string, 0, string.length()) != null;
 	}
 	//endregion
 	
+	/**
+	 * Checks if the value of this json primitive is a boolean.<br>
+	 * @return True if the value is a boolean, otherwise false
+	 */
+	public boolean isBoolean() {
+		return this.type == BOOLEAN;
+	}
+	
+	/**
+	 * Checks if the value of this json primitive is a number.<br>
+	 * @return True if the value is a number, otherwise false
+	 */
+	public boolean isNumber() {
+		return this.type == LONG || this.type == DOUBLE || this.type == NUMBER;
+	}
+	
+	/**
+	 * Checks if the value of this json primitive is a string.<br>
+	 * Note that strings which contain a boolean or number are not converted.<br>
+	 * @return True if the value is a string, otherwise false
+	 */
+	public boolean isString() {
+		return this.type == STRING;
+	}
+	
+	/**
+	 * Checks if the value of this json primitive is stored as long.<br>
+	 * @return True if the value is an integral number which fits into a long, otherwise false
+	 */
+	boolean isLongValue() {
+		return this.type == LONG;
+	}
+	
+	/**
+	 * Checks if the value of this json primitive is stored as double.<br>
+	 * @return True if the value is a floating point number which fits into a double, otherwise false
+	 */
+	boolean isDoubleValue() {
+		return this.type == DOUBLE;
+	}
+	
+	/**
+	 * Checks if this json primitive is equal to a json primitive of the given long value.<br>
+	 * The result is the same as {@link #equals(Object)}, but no json primitive is created for the value.<br>
+	 * @param value The long value to compare with
+	 * @return True if this json primitive is equal to the value, otherwise false
+	 */
+	boolean equalsLong(long value) {
+		if (this.type == LONG) {
+			return this.bits == value;
+		}
+		return (this.type == NUMBER || this.type == STRING) && this.getAsString().equals(Long.toString(value));
+	}
+	
+	/**
+	 * Checks if this json primitive is equal to a json primitive of the given double value.<br>
+	 * The result is the same as {@link #equals(Object)}, but no json primitive is created for the value.<br>
+	 * @param value The double value to compare with
+	 * @return True if this json primitive is equal to the value, otherwise false
+	 */
+	boolean equalsDouble(double value) {
+		if (this.type == DOUBLE) {
+			return this.bits == Double.doubleToLongBits(value);
+		}
+		return (this.type == NUMBER || this.type == STRING) && this.getAsString().equals(Double.toString(value));
+	}
+	
+	/**
+	 * Computes the hash code of a json primitive of the given long value.<br>
+	 * The hash code is computed from the decimal digits of the value without creating a string.<br>
+	 * @param value The long value
+	 * @return The hash code of a json primitive of the value
+	 */
+	static int hashLong(long value) {
+		int hash = 0;
+		long negated = value;
+		if (value < 0) {
+			hash = '-';
+		} else {
+			negated = -value;
+		}
+		long divisor = 1;
+		while (negated / divisor <= -10) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			hash = 31 * hash + ('0' - (int) (negated / divisor % 10));
+		}
+		return hash;
+	}
+	
+	/**
+	 * Computes the hash code of a json primitive of the given double value.<br>
+	 * @param value The double value
+	 * @return The hash code of a json primitive of the value
+	 */
+	static int hashDouble(double value) {
+		return Double.toString(value).hashCode();
+	}
+	
+	/**
+	 * Checks if the value of this json primitive must be quoted when it is written.<br>
+	 * Strings which look like a boolean or number are written without quotes.<br>
+	 * Non-finite doubles (NaN and the infinities) are not valid json numbers and are therefore quoted.<br>
+	 * @return True if the value must be quoted, otherwise false
+	 */
+	boolean isQuoted() {
+		if (this.type == DOUBLE) {
+			return !Double.isFinite(Double.longBitsToDouble(this.bits));
+		}
+		return this.type == STRING && !isLiteral(this.string);
+	}
+	
+	//region Value getters
 	@Override
 	public @NotNull String getAsString() {
-		return String.valueOf(this.value);
+		String string = this.string;
+		if (string == null) {
+			string = switch (this.type) {
+				case LONG -> Long.toString(this.bits);
+				case DOUBLE -> Double.toString(Double.longBitsToDouble(this.bits));
+				default -> String.valueOf(this.number);
+			};
+			this.string = string;
+		}
+		return string;
 	}
 	
+	@Override
+	public boolean getAsBoolean() {
+		if (this.type == BOOLEAN) {
+			return this.bits != 0;
+		}
+		return ValueGetter.super.getAsBoolean();
+	}
+	
+	@Override
+	public @NotNull Number getAsNumber() {
+		return switch (this.type) {
+			case LONG -> this.bits;
+			case DOUBLE -> Double.longBitsToDouble(this.bits);
+			case NUMBER -> this.number;
+			default -> ValueGetter.super.getAsNumber();
+		};
+	}
+	
+	@Override
+	public byte getAsByte() {
+		if (this.type == LONG && Byte.MIN_VALUE <= this.bits && this.bits <= Byte.MAX_VALUE) {
+			return (byte) this.bits;
+		}
+		return ValueGetter.super.getAsByte();
+	}
+	
+	@Override
+	public short getAsShort() {
+		if (this.type == LONG && Short.MIN_VALUE <= this.bits && this.bits <= Short.MAX_VALUE) {
+			return (short) this.bits;
+		}
+		return ValueGetter.super.getAsShort();
+	}
+	
+	@Override
+	public int getAsInteger() {
+		if (this.type == LONG && Integer.MIN_VALUE <= this.bits && this.bits <= Integer.MAX_VALUE) {
+			return (int) this.bits;
+		}
+		return ValueGetter.super.getAsInteger();
+	}
+	
+	@Override
+	public long getAsLong() {
+		if (this.type == LONG) {
+			return this.bits;
+		}
+		return ValueGetter.super.getAsLong();
+	}
+	
+	@Override
+	public float getAsFloat() {
+		return switch (this.type) {
+			case LONG -> (float) this.bits;
+			case DOUBLE -> (float) Double.longBitsToDouble(this.bits);
+			default -> ValueGetter.super.getAsFloat();
+		};
+	}
+	
+	@Override
+	public double getAsDouble() {
+		return switch (this.type) {
+			case LONG -> (double) this.bits;
+			case DOUBLE -> Double.longBitsToDouble(this.bits);
+			default -> ValueGetter.super.getAsDouble();
+		};
+	}
+	//endregion
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
 		if (!(o instanceof JsonPrimitive that)) return false;
 		
-		return this.value.equals(that.value);
+		if (this.type == that.type && this.type != NUMBER && this.type != STRING) {
+			return this.bits == that.bits;
+		}
+		return this.getAsString().equals(that.getAsString());
 	}
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.value);
+		return this.getAsString().hashCode();
 	}
 	
 	@Override
@@ -115,9 +436,8 @@ public class JsonPrimitive implements JsonElement, ValueGetter {
 	
 	@Override
 	public @NotNull String toString(@Nullable JsonConfig config) {
-		Object value = tryParse(this.value);
-		if (value instanceof String string) {
-			return "\"" + string + "\"";
+		if (this.isQuoted()) {
+			return "\"" + this.getAsString() + "\"";
 		}
 		return this.getAsString();
 	}
@@ -20,31 +20,68 @@ package net.luis.utils.io.data.json;
 
 import net.luis.utils.io.data.InputProvider;
 import net.luis.utils.io.data.json.exception.JsonSyntaxException;
-import net.luis.utils.io.reader.ScopedStringReader;
-import net.luis.utils.io.reader.StringReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.util.Objects;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * A json reader for reading json elements from a {@link String string} or {@link InputProvider input provider}.<br>
  * The reader can be used to read json arrays, objects, primitives and null values.<br>
  * The reader expects only one json element per input.<br>
+ * <p>
+ *     The input is parsed by a recursive descent parser which walks the input exactly once using a single index.<br>
+ *     No intermediate strings are created for scopes or elements, only the resulting json elements are allocated.<br>
+ *     Syntax errors are reported with the line and column of the position at which they occurred.<br>
+ * </p>
+ * <p>
+ *     If parallel parsing is enabled in the configuration, large top-level json arrays and objects are split at their top-level elements,<br>
+ *     which are parsed concurrently and assembled in the order of the input.<br>
+ *     The result and the reported errors are the same as for sequential parsing.<br>
+ * </p>
  *
  * @author Luis-St
  */
 public class JsonReader implements AutoCloseable {
 	
+	/**
+	 * The minimum length of the input for which top-level json arrays and objects are parsed in parallel.<br>
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 18;
+	
 	/**
 	 * The json config used by this reader.<br>
 	 */
 	private final JsonConfig config;
 	/**
-	 * The internal reader used to read the json content.<br>
+	 * The json content to read from.<br>
+	 */
+	private final String input;
+	/**
+	 * The exclusive end index of the content to read in the input.<br>
+	 */
+	private final int end;
+	/**
+	 * The utf-8 reader to which reading is delegated if the input is read as bytes, otherwise null.<br>
+	 */
+	private final JsonUtf8Reader utf8Reader;
+	/**
+	 * The cache for the keys and shapes of the read json objects.<br>
+	 */
+	private final JsonKeyCache keyCache;
+	/**
+	 * The current index of the reader in the input.<br>
+	 */
+	private int index;
+	/**
+	 * Whether a json element has been read completely.<br>
 	 */
-	private final ScopedStringReader reader;
+	private boolean read;
 	
 	/**
 	 * Constructs a new json reader with the given string and the default configuration.<br>
@@ -62,8 +99,23 @@ public class JsonReader implements AutoCloseable {
 	 * @throws NullPointerException If the string or configuration is null
 	 */
 	public JsonReader(@NotNull String string, @NotNull JsonConfig config) {
+		this(string, config, new JsonKeyCache());
+	}
+	
+	/**
+	 * Constructs a new json reader with the given string, configuration and key cache.<br>
+	 * The key cache can be shared by readers which read similar json in sequence.<br>
+	 * @param string The string to read from
+	 * @param config The configuration to use
+	 * @param keyCache The key cache to use
+	 * @throws NullPointerException If the string, configuration or key cache is null
+	 */
+	JsonReader(@NotNull String string, @NotNull JsonConfig config, @NotNull JsonKeyCache keyCache) {
 		this.config = Objects.requireNonNull(config, "Json config must not be null");
-		this.reader = new ScopedStringReader(Objects.requireNonNull(string, "String must not be null"));
+		this.input = Objects.requireNonNull(string, "String must not be null");
+		this.end = this.input.length();
+		this.utf8Reader = null;
+		this.keyCache = Objects.requireNonNull(keyCache, "Key cache must not be null");
 	}
 	
 	/**
@@ -77,61 +129,107 @@ public class JsonReader implements AutoCloseable {
 	
 	/**
 	 * Constructs a new json reader with the given input and configuration.<br>
+	 * <p>
+	 *     If the charset of the configuration is utf-8 and parallel parsing is disabled,<br>
+	 *     the content is parsed directly as bytes by a {@link JsonUtf8Reader}.<br>
+	 *     Otherwise, the content of the input is decoded once using the charset of the configuration.<br>
+	 * </p>
 	 * @param input The input to create the reader for
 	 * @param config The configuration to use
 	 * @throws NullPointerException If the input or configuration is null
+	 * @throws UncheckedIOException If an I/O error occurs while reading the input
 	 */
 	public JsonReader(@NotNull InputProvider input, @NotNull JsonConfig config) {
 		this.config = Objects.requireNonNull(config, "Json config must not be null");
-		this.reader = new ScopedStringReader(new InputStreamReader(Objects.requireNonNull(input, "Input must not be null").getStream(), config.charset()));
+		Objects.requireNonNull(input, "Input must not be null");
+		byte[] bytes;
+		try {
+			bytes = input.getStream().readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read json content from input", e);
+		}
+		if (StandardCharsets.UTF_8.equals(config.charset()) && !config.parallel()) {
+			this.input = "";
+			this.utf8Reader = new JsonUtf8Reader(bytes, config);
+		} else {
+			this.input = new String(bytes, config.charset());
+			this.utf8Reader = null;
+		}
+		this.end = this.input.length();
+		this.keyCache = new JsonKeyCache();
+	}
+	
+	/**
+	 * Constructs a new json reader for the given region of the input.<br>
+	 * Used to parse the top-level elements of a json array or object in parallel.<br>
+	 * @param input The input to read from
+	 * @param start The start index of the region (inclusive)
+	 * @param end The end index of the region (exclusive)
+	 * @param config The configuration to use
+	 * @param keyCache The key cache to use
+	 */
+	private JsonReader(@NotNull String input, int start, int end, @NotNull JsonConfig config, @NotNull JsonKeyCache keyCache) {
+		this.config = config;
+		this.input = input;
+		this.end = end;
+		this.utf8Reader = null;
+		this.keyCache = keyCache;
+		this.index = start;
 	}
 	
 	/**
 	 * Reads the next json element from the input.<br>
+	 * <p>
+	 *     In strict mode, the reader only accepts one json element per input.<br>
+	 * </p>
 	 * @return The next json element
-	 * @throws JsonSyntaxException If the json is invalid
-	 * @see #readJsonElement(ScopedStringReader)
+	 * @throws JsonSyntaxException If the json is invalid (depends on the configuration)
+	 * @see #readJsonElement()
 	 */
 	public @NotNull JsonElement readJson() {
-		if (!this.reader.canRead()) {
-			throw new JsonSyntaxException("Invalid json, expected content but got nothing");
+		if (this.utf8Reader != null) {
+			return this.utf8Reader.readJson();
+		}
+		this.skipWhitespaces();
+		if (!this.canRead()) {
+			throw this.createException("Invalid json, expected content but got nothing");
+		}
+		JsonElement element = this.config.parallel() ? this.readJsonElementParallel() : this.readJsonElement();
+		this.skipWhitespaces();
+		if (this.config.strict() && this.canRead()) {
+			throw this.createException("Invalid json element, expected end of input but got: '" + this.peek() + "'");
 		}
-		return this.readJsonElement(this.reader);
+		this.read = true;
+		return element;
 	}
 	
+	//region Parsing
+	
 	/**
-	 * Reads the next json element from the input.<br>
+	 * Reads the json element starting at the current index.<br>
 	 * The reader supports reading of json objects, arrays, primitives and null values.<br>
-	 * <p>
-	 *     In strict mode, the reader only accepts one json element per input.<br>
-	 * </p>
-	 * @param reader The reader to read the json element from
 	 * @return The read json element
 	 * @throws JsonSyntaxException If the json is invalid (depends on the configuration)
-	 * @see #readJsonArray(ScopedStringReader)
-	 * @see #readJsonObject(ScopedStringReader)
-	 * @see #readJsonValue(ScopedStringReader)
-	 */
-	private @NotNull JsonElement readJsonElement(@NotNull ScopedStringReader reader) {
-		this.reader.skipWhitespaces();
-		char next = reader.peek();
-		JsonElement element;
+	 * @see #readJsonArray()
+	 * @see #readJsonObject()
+	 * @see #readJsonValue()
+	 */
+	private @NotNull JsonElement readJsonElement() {
+		this.skipWhitespaces();
+		if (!this.canRead()) {
+			throw this.createException("Invalid json, expected a json element but got nothing");
+		}
+		char next = this.peek();
 		if (next == '{') {
-			element = this.readJsonObject(reader);
+			return this.readJsonObject();
 		} else if (next == '[') {
-			element = this.readJsonArray(reader);
-		} else {
-			element = this.readJsonValue(reader);
+			return this.readJsonArray();
 		}
-		reader.skipWhitespaces();
-		if (this.config.strict() && reader.canRead()) {
-			throw new JsonSyntaxException("Invalid json element, expected end of input but got: '" + reader.peek() + "'");
-		}
-		return element;
+		return this.readJsonValue();
 	}
 	
 	/**
-	 * Reads a json array from the given reader.<br>
+	 * Reads a json array starting at the current index.<br>
 	 * The reader expects the json array to be formatted as follows:<br>
 	 * <ul>
 	 *     <li>Empty array: {@code []}</li>
@@ -140,44 +238,55 @@ public class JsonReader implements AutoCloseable {
 	 * </ul>
 	 * <p>
 	 *     In strict mode, the reader expects no trailing comma after the last element.<br>
+	 *     Arrays which only contain integral or only floating point numbers are packed.<br>
 	 * </p>
-	 * @param jsonReader The reader to read the json array from
 	 * @return The read json array
 	 * @throws JsonSyntaxException If the json array is invalid
 	 */
-	private @NotNull JsonArray readJsonArray(@NotNull ScopedStringReader jsonReader) {
-		String jsonArrayScope;
-		try {
-			jsonArrayScope = jsonReader.readScope(ScopedStringReader.SQUARE_BRACKETS);
-		} catch (Exception e) {
-			throw new JsonSyntaxException("Invalid json array, missing closing bracket ']'", e);
-		}
-		if (2 > jsonArrayScope.length()) {
-			throw new JsonSyntaxException("Invalid json array, expected format: '[\"value\"]' but got: '" + jsonArrayScope + "'");
-		}
+	private @NotNull JsonArray readJsonArray() {
+		this.index++; // Skip '['
 		JsonArray jsonArray = new JsonArray();
-		if (jsonArrayScope.substring(1, jsonArrayScope.length() - 1).isBlank()) {
+		this.skipWhitespaces();
+		if (!this.canRead()) {
+			throw this.createException("Invalid json array, missing closing bracket ']'");
+		}
+		if (this.peek() == ']') {
+			this.index++;
 			return jsonArray;
 		}
-		
-		ScopedStringReader arrayReader = new ScopedStringReader(jsonArrayScope.substring(1, jsonArrayScope.length() - 1));
-		while (arrayReader.canRead()) {
-			arrayReader.skipWhitespaces();
-			String element = arrayReader.readUntilInclusive(',');
-			arrayReader.skipWhitespaces();
-			if (element.charAt(element.length() - 1) == ',') {
-				if (this.config.strict() && !arrayReader.canRead()) {
-					throw new JsonSyntaxException("Invalid json array, expected another element but got nothing");
+		while (true) {
+			jsonArray.add(this.readJsonElement());
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json array, missing closing bracket ']'");
+			}
+			char next = this.peek();
+			if (next == ']') {
+				this.index++;
+				jsonArray.pack();
+				return jsonArray;
+			}
+			if (next != ',') {
+				throw this.createException("Invalid json array, expected ',' or ']' but got: '" + next + "'");
+			}
+			this.index++;
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json array, missing closing bracket ']'");
+			}
+			if (this.peek() == ']') {
+				if (this.config.strict()) {
+					throw this.createException("Invalid json array, expected another element but got: ']'");
 				}
-				element = element.substring(0, element.length() - 1);
+				this.index++;
+				jsonArray.pack();
+				return jsonArray;
 			}
-			jsonArray.add(this.readJsonElement(new ScopedStringReader(element)));
 		}
-		return jsonArray;
 	}
 	
 	/**
-	 * Reads a json object from the given reader.<br>
+	 * Reads a json object starting at the current index.<br>
 	 * The reader expects the json object to be formatted as follows:<br>
 	 * <ul>
 	 *     <li>Empty object: {@code {}}</li>
@@ -187,56 +296,95 @@ public class JsonReader implements AutoCloseable {
 	 * <p>
 	 *     In strict mode, the reader expects the keys to be quoted and no trailing comma after the last entry.<br>
 	 * </p>
-	 * @param jsonReader The reader to read the json object from
 	 * @return The read json object
 	 * @throws JsonSyntaxException If the json object is invalid
 	 */
-	private @NotNull JsonObject readJsonObject(@NotNull ScopedStringReader jsonReader) {
-		String jsonObjectScope;
-		try {
-			jsonObjectScope = jsonReader.readScope(ScopedStringReader.CURLY_BRACKETS);
-		} catch (Exception e) {
-			throw new JsonSyntaxException("Invalid json object, missing closing bracket '}'", e);
-		}
-		if (2 > jsonObjectScope.length()) {
-			throw new JsonSyntaxException("Invalid json object, expected format: '{\"key\": \"value\"}' but got: '" + jsonObjectScope + "'");
-		}
+	private @NotNull JsonObject readJsonObject() {
+		this.index++; // Skip '{'
 		JsonObject jsonObject = new JsonObject();
-		if (jsonObjectScope.substring(1, jsonObjectScope.length() - 1).isBlank()) {
+		this.skipWhitespaces();
+		if (!this.canRead()) {
+			throw this.createException("Invalid json object, missing closing bracket '}'");
+		}
+		if (this.peek() == '}') {
+			this.index++;
 			return jsonObject;
 		}
-		
-		ScopedStringReader objectReader = new ScopedStringReader(jsonObjectScope.substring(1, jsonObjectScope.length() - 1));
-		while (objectReader.canRead()) {
-			objectReader.skipWhitespaces();
-			String key;
-			if (this.config.strict()) {
-				key = objectReader.readQuotedString();
-			} else {
-				key = objectReader.readString();
-				objectReader.skipWhitespaces();
+		while (true) {
+			String key = this.readKey();
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json object, missing closing bracket '}'");
+			}
+			if (this.peek() != ':') {
+				throw this.createException("Invalid json object, expected ':' but got: '" + this.peek() + "'");
+			}
+			this.index++;
+			jsonObject.add(key, this.readJsonElement());
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json object, missing closing bracket '}'");
+			}
+			char next = this.peek();
+			if (next == '}') {
+				this.index++;
+				jsonObject.shareKeys(this.keyCache);
+				return jsonObject;
+			}
+			if (next != ',') {
+				throw this.createException("Invalid json object, expected ',' or '}' but got: '" + next + "'");
 			}
-			if (objectReader.peek() != ':') {
-				throw new JsonSyntaxException("Invalid json object, expected ':' but got: '" + objectReader.peek() + "'");
+			this.index++;
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json object, missing closing bracket '}'");
 			}
-			objectReader.skip();
-			objectReader.skipWhitespaces();
-			
-			String value = objectReader.readUntilInclusive(',');
-			if (value.charAt(value.length() - 1) == ',') {
-				objectReader.skipWhitespaces();
-				if (this.config.strict() && !objectReader.canRead()) {
-					throw new JsonSyntaxException("Invalid json object, expected another entry but got nothing");
+			if (this.peek() == '}') {
+				if (this.config.strict()) {
+					throw this.createException("Invalid json object, expected another entry but got: '}'");
 				}
-				value = value.substring(0, value.length() - 1);
+				this.index++;
+				jsonObject.shareKeys(this.keyCache);
+				return jsonObject;
 			}
-			jsonObject.add(key, this.readJsonElement(new ScopedStringReader(value)));
 		}
-		return jsonObject;
 	}
 	
 	/**
-	 * Reads a json value from the given reader.<br>
+	 * Reads the key of a json object entry starting at the current index.<br>
+	 * <p>
+	 *     In strict mode, the key must be enclosed in double quotes.<br>
+	 *     In non-strict mode, the key can also be enclosed in single quotes or be unquoted.<br>
+	 *     An unquoted key ends at the first whitespace or ':' character.<br>
+	 * </p>
+	 * @return The read key
+	 * @throws JsonSyntaxException If the key is invalid
+	 */
+	private @NotNull String readKey() {
+		char next = this.peek();
+		if (next == '"' || (next == '\'' && !this.config.strict())) {
+			int start = this.index + 1;
+			return this.keyCache.key(this.input, start, this.skipQuotedString(next));
+		}
+		if (this.config.strict()) {
+			throw this.createException("Invalid json object, expected a quoted key but got: '" + next + "'");
+		}
+		int start = this.index;
+		while (this.canRead()) {
+			char c = this.peek();
+			if (c == ':' || Character.isWhitespace(c) || JsonHelper.isStructuralCharacter(c)) {
+				break;
+			}
+			this.index++;
+		}
+		if (start == this.index) {
+			throw this.createException("Invalid json object, expected a key but got: '" + next + "'");
+		}
+		return this.keyCache.key(this.input, start, this.index);
+	}
+	
+	/**
+	 * Reads a json value starting at the current index.<br>
 	 * A json value can be either a string, number, boolean or null.<br>
 	 * <p>
 	 *     In strict mode, the reader will throw a exception if the value is not a valid json primitive.<br>
@@ -250,44 +398,380 @@ public class JsonReader implements AutoCloseable {
 	 * <p>
 	 *     In non-strict mode, the reader will convert the value to a string if it is not a valid json primitive.<br>
 	 *     If the value is a valid json primitive, the reader will return it as a json primitive.<br>
-	 *     It also accepts the following values in addition to the strict values:<br>
+	 *     It also accepts single-quoted strings and the following values in addition to the strict values:<br>
 	 * </p>
 	 * <ul>
 	 *     <li>{@code NULL} (upper or mixed case)</li>
 	 *     <li>{@code TRUE} (upper or mixed case)</li>
 	 *     <li>{@code FALSE} (upper or mixed case)</li>
 	 * </ul>
-	 * @param reader The reader to read the json value from
 	 * @return The read json value
 	 * @throws JsonSyntaxException If the json value is invalid (depends on the configuration)
 	 */
-	private @NotNull JsonElement readJsonValue(@NotNull ScopedStringReader reader) {
-		reader.skipWhitespaces();
-		char next = reader.peek();
-		if (next == '"') {
-			return new JsonPrimitive(reader.readQuotedString());
+	private @NotNull JsonElement readJsonValue() {
+		char next = this.peek();
+		if (next == '"' || (next == '\'' && !this.config.strict())) {
+			return new JsonPrimitive(this.readQuotedString(next));
 		}
-		String value = reader.readRemaining().strip();
-		if (this.config.strict() ? "null".equals(value) : "null".equalsIgnoreCase(value)) {
+		int start = this.index;
+		int end = this.readUnquotedValue();
+		if (start == end) {
+			throw this.createException("Invalid json value, expected a value but got: '" + next + "'");
+		}
+		
+		int length = end - start;
+		boolean strict = this.config.strict();
+		if (this.matches(start, length, "null", strict)) {
 			return JsonNull.INSTANCE;
-		} else if (this.config.strict() ? "true".equals(value) : "true".equalsIgnoreCase(value)) {
+		} else if (this.matches(start, length, "true", strict)) {
 			return new JsonPrimitive(true);
-		} else if (this.config.strict() ? "false".equals(value) : "false".equalsIgnoreCase(value)) {
+		} else if (this.matches(start, length, "false", strict)) {
 			return new JsonPrimitive(false);
 		}
-		StringReader valueReader = new StringReader(value);
-		try {
-			return new JsonPrimitive(valueReader.readNumber());
-		} catch (Exception e) {
-			if (this.config.strict()) {
-				throw new JsonSyntaxException("Invalid json primitive, expected a number but got: '" + value + "'", e);
+		
+		Number number = JsonHelper.parseNumber(this.input, start, end);
+		if (number != null) {
+			return new JsonPrimitive(number);
+		}
+		if (strict) {
+			this.index = start;
+			throw this.createException("Invalid json primitive, expected a number but got: '" + this.input.substring(start, end) + "'");
+		}
+		return new JsonPrimitive(this.input.substring(start, end));
+	}
+	//endregion
+	
+	//region Parallel parsing
+	
+	/**
+	 * Reads the json element starting at the current index and parses top-level json arrays and objects in parallel.<br>
+	 * <p>
+	 *     A structural scan finds the boundaries of the elements or entries of the top-level json array or object.<br>
+	 *     The elements are split into chunks which are parsed by the tasks of the common fork join pool.<br>
+	 *     Small inputs, primitives and pools without parallelism are read sequentially.<br>
+	 * </p>
+	 * <p>
+	 *     If the scan or any of the chunks fails, the input is read again sequentially.<br>
+	 *     This way the reported error is exactly the same as the one of the sequential parser.<br>
+	 * </p>
+	 * @return The read json element
+	 * @throws JsonSyntaxException If the json is invalid (depends on the configuration)
+	 * @see #readJsonElement()
+	 */
+	private @NotNull JsonElement readJsonElementParallel() {
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		int start = this.index;
+		char open = this.peek();
+		if ((open != '[' && open != '{') || 2 > pool.getParallelism() || PARALLEL_THRESHOLD > this.end - start) {
+			return this.readJsonElement();
+		}
+		int[] boundaries = this.scanBoundaries(start);
+		if (boundaries != null) {
+			int count = boundaries.length - 1;
+			String[] keys = open == '{' ? new String[count] : null;
+			JsonElement[] elements = new JsonElement[count];
+			int chunks = Math.min(count, pool.getParallelism() * 4);
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+			for (int i = 0; i < chunks; i++) {
+				int from = (int) ((long) count * i / chunks);
+				int to = (int) ((long) count * (i + 1) / chunks);
+				tasks.add(pool.submit(() -> this.readChunk(boundaries, from, to, keys, elements)));
+			}
+			try {
+				tasks.forEach(ForkJoinTask::join);
+				this.index = boundaries[count] + 1;
+				return this.assemble(keys, elements);
+			} catch (JsonSyntaxException e) {
+				tasks.forEach(task -> task.cancel(false));
+			}
+		}
+		this.index = start;
+		return this.readJsonElement();
+	}
+	
+	/**
+	 * Scans the top-level json array or object starting at the given index for the boundaries of its elements.<br>
+	 * <p>
+	 *     The first boundary is the index of the opening bracket, followed by the indices of all top-level commas.<br>
+	 *     The last boundary is the index of the closing bracket.<br>
+	 *     Quoted strings are skipped, a quote only starts a string if it is the first character of a key or value.<br>
+	 * </p>
+	 * @param start The index of the opening bracket
+	 * @return The boundaries or null if the json array or object is not terminated correctly
+	 */
+	private int @Nullable [] scanBoundaries(int start) {
+		boolean strict = this.config.strict();
+		int[] boundaries = new int[64];
+		int count = 0;
+		int depth = 0;
+		char previous = ',';
+		for (int i = start; i < this.end; i++) {
+			char c = this.input.charAt(i);
+			if (c == '"' || (c == '\'' && !strict)) {
+				if (previous == ',' || previous == ':' || previous == '[' || previous == '{') {
+					i = this.findClosingQuote(i);
+					if (i < 0) {
+						return null;
+					}
+				}
+			} else if (c == '[' || c == '{') {
+				if (depth++ == 0) {
+					boundaries[count++] = i;
+				}
+			} else if (c == ']' || c == '}') {
+				if (--depth == 0) {
+					if ((c == ']') != (this.input.charAt(start) == '[')) {
+						return null;
+					}
+					boundaries = count == boundaries.length ? Arrays.copyOf(boundaries, count + 1) : boundaries;
+					boundaries[count++] = i;
+					return Arrays.copyOf(boundaries, count);
+				}
+			} else if (c == ',' && depth == 1) {
+				if (count == boundaries.length) {
+					boundaries = Arrays.copyOf(boundaries, count * 2);
+				}
+				boundaries[count++] = i;
+			}
+			if (!Character.isWhitespace(c)) {
+				previous = c;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Finds the closing quote of the quoted string starting at the given index.<br>
+	 * @param start The index of the opening quote
+	 * @return The index of the closing quote or -1 if the string is not terminated
+	 */
+	private int findClosingQuote(int start) {
+		char quote = this.input.charAt(start);
+		for (int i = start + 1; i < this.end; i++) {
+			char c = this.input.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (c == quote) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Reads the elements or entries in the given range of boundaries.<br>
+	 * Each element is read by a separate reader which is restricted to the region between its boundaries.<br>
+	 * <p>
+	 *     An empty region is only accepted for the last element if it is the only one (empty array or object),<br>
+	 *     or in non-strict mode (trailing comma), in this case the element is left null.<br>
+	 * </p>
+	 * @param boundaries The boundaries of the elements
+	 * @param from The index of the first element to read (inclusive)
+	 * @param to The index of the last element to read (exclusive)
+	 * @param keys The array to store the keys in or null if a json array is read
+	 * @param elements The array to store the elements in
+	 * @throws JsonSyntaxException If an element is invalid or does not span the whole region
+	 */
+	private void readChunk(int @NotNull [] boundaries, int from, int to, String @Nullable [] keys, JsonElement @NotNull [] elements) {
+		int count = boundaries.length - 1;
+		JsonKeyCache keyCache = new JsonKeyCache();
+		for (int i = from; i < to; i++) {
+			JsonReader reader = new JsonReader(this.input, boundaries[i] + 1, boundaries[i + 1], this.config, keyCache);
+			reader.skipWhitespaces();
+			if (!reader.canRead()) {
+				if (i == count - 1 && (count == 1 || !this.config.strict())) {
+					continue;
+				}
+				throw reader.createException("Invalid json, expected an element but got nothing");
+			}
+			if (keys != null) {
+				keys[i] = reader.readKey();
+				reader.skipWhitespaces();
+				if (!reader.canRead() || reader.peek() != ':') {
+					throw reader.createException("Invalid json object, expected ':'");
+				}
+				reader.index++;
+			}
+			elements[i] = reader.readJsonElement();
+			reader.skipWhitespaces();
+			if (reader.canRead()) {
+				throw reader.createException("Invalid json, expected ',' but got: '" + reader.peek() + "'");
+			}
+		}
+	}
+	
+	/**
+	 * Assembles the read elements into a json array or, if keys are present, into a json object.<br>
+	 * Elements which are null are skipped.<br>
+	 * @param keys The keys of the json object or null for a json array
+	 * @param elements The read elements
+	 * @return The assembled json array or object
+	 */
+	private @NotNull JsonElement assemble(String @Nullable [] keys, JsonElement @NotNull [] elements) {
+		if (keys == null) {
+			JsonArray jsonArray = new JsonArray();
+			for (JsonElement element : elements) {
+				if (element != null) {
+					jsonArray.add(element);
+				}
+			}
+			jsonArray.pack();
+			return jsonArray;
+		}
+		JsonObject jsonObject = new JsonObject();
+		for (int i = 0; i < elements.length; i++) {
+			if (elements[i] != null) {
+				jsonObject.add(keys[i], elements[i]);
 			}
-			return new JsonPrimitive(value);
 		}
+		return jsonObject;
 	}
+	//endregion
 	
+	//region Scanning
+	
+	/**
+	 * Reads a quoted string starting at the current index.<br>
+	 * The quotes are read but not included in the result.<br>
+	 * Escape sequences are kept as they are, the character after a backslash never terminates the string.<br>
+	 * @param quote The quote character which encloses the string
+	 * @return The content of the quoted string
+	 * @throws JsonSyntaxException If the closing quote is missing
+	 */
+	private @NotNull String readQuotedString(char quote) {
+		int start = this.index + 1;
+		return this.input.substring(start, this.skipQuotedString(quote));
+	}
+	
+	/**
+	 * Skips a quoted string starting at the current index and returns the index of its closing quote.<br>
+	 * @param quote The quote character which encloses the string
+	 * @return The index of the closing quote
+	 * @throws JsonSyntaxException If the closing quote is missing
+	 */
+	private int skipQuotedString(char quote) {
+		int close = this.findClosingQuote(this.index);
+		if (close < 0) {
+			throw this.createException("Invalid json string, missing closing quote " + quote);
+		}
+		this.index = close + 1;
+		return close;
+	}
+	
+	/**
+	 * Reads an unquoted value starting at the current index and returns its exclusive end index.<br>
+	 * <p>
+	 *     In strict mode, the value ends at the first whitespace or structural character.<br>
+	 *     In non-strict mode, the value may contain whitespaces, it ends at the first structural character or double quote.<br>
+	 *     A whitespace also ends the value if the value read so far is a literal or a number, since it can not be continued.<br>
+	 *     Trailing whitespaces are not part of the value.<br>
+	 * </p>
+	 * @return The exclusive end index of the value
+	 * @see JsonHelper#isCompleteValue(CharSequence, int, int)
+	 */
+	private int readUnquotedValue() {
+		int length = this.end;
+		int start = this.index;
+		int end = this.index;
+		boolean strict = this.config.strict();
+		while (this.index < length) {
+			char c = this.input.charAt(this.index);
+			if (JsonHelper.isStructuralCharacter(c) || (c == '"' && !strict)) {
+				break;
+			}
+			if (Character.isWhitespace(c)) {
+				if (strict || (end == this.index && JsonHelper.isCompleteValue(this.input, start, end))) {
+					break;
+				}
+			} else {
+				end = this.index + 1;
+			}
+			this.index++;
+		}
+		this.index = end;
+		return end;
+	}
+	
+	/**
+	 * Checks if the input region starting at the given index matches the given literal.<br>
+	 * @param start The start index of the region
+	 * @param length The length of the region
+	 * @param literal The literal to match
+	 * @param caseSensitive Whether the comparison is case-sensitive
+	 * @return True if the region matches the literal, otherwise false
+	 */
+	private boolean matches(int start, int length, @NotNull String literal, boolean caseSensitive) {
+		return length == literal.length() && this.input.regionMatches(!caseSensitive, start, literal, 0, length);
+	}
+	//endregion
+	
+	//region Helper methods
+	
+	/**
+	 * Checks whether there are more characters to read.<br>
+	 * @return True if there are more characters to read, otherwise false
+	 */
+	private boolean canRead() {
+		return this.index < this.end;
+	}
+	
+	/**
+	 * Returns the character at the current index without moving the index.<br>
+	 * @return The current character
+	 */
+	private char peek() {
+		return this.input.charAt(this.index);
+	}
+	
+	/**
+	 * Skips all whitespaces starting at the current index.<br>
+	 * A whitespace is a character that returns true when calling {@link Character#isWhitespace(char)}.<br>
+	 */
+	private void skipWhitespaces() {
+		int length = this.end;
+		while (this.index < length && Character.isWhitespace(this.input.charAt(this.index))) {
+			this.index++;
+		}
+	}
+	
+	/**
+	 * Creates a new json syntax exception with the given message.<br>
+	 * The line and column of the current index are appended to the message.<br>
+	 * The position is only computed in case of an error, so it does not affect the parsing performance.<br>
+	 * @param message The message of the exception
+	 * @return The created exception
+	 */
+	private @NotNull JsonSyntaxException createException(@NotNull String message) {
+		int line = 1;
+		int column = 1;
+		int position = Math.min(this.index, this.input.length());
+		for (int i = 0; i < position; i++) {
+			if (this.input.charAt(i) == '\n') {
+				line++;
+				column = 1;
+			} else {
+				column++;
+			}
+		}
+		return new JsonSyntaxException(message + " at line " + line + ", column " + column);
+	}
+	//endregion
+	
+	/**
+	 * Closes this reader and asserts that there is no remaining content after the read json element.<br>
+	 * In strict mode, remaining content is already rejected when the json element is read.<br>
+	 * If no json element has been read completely, the remaining content is not checked.<br>
+	 * @throws JsonSyntaxException If a json element has been read and the input contains further content
+	 */
 	@Override
 	public void close() throws IOException {
-		this.reader.readRemaining(); // Assert that there is no remaining content
+		if (this.utf8Reader != null) {
+			this.utf8Reader.close();
+			return;
+		}
+		this.skipWhitespaces();
+		if (this.read && this.canRead()) {
+			throw this.createException("Invalid json, expected end of input but got: '" + this.peek() + "'");
+		}
 	}
 }
@@ -0,0 +1,104 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.*;
+import java.nio.ByteBuffer;
+
+/**
+ * Helper class for building the structural index of utf-8 encoded strict json.<br>
+ * <p>
+ *     The index is built by {@link JsonVectorIndex} using the incubating vector api.<br>
+ *     The module {@code jdk.incubator.vector} is optional, it must be added at runtime with {@code --add-modules jdk.incubator.vector}.<br>
+ *     Therefore the implementation is loaded reflectively, if the module is not available, no index can be built<br>
+ *     and the readers fall back to the scalar parser.<br>
+ * </p>
+ * <p>
+ *     The resulting index contains the offsets of all structural characters outside of strings,<br>
+ *     all unescaped quotes (opening and closing) and the first byte of every unquoted value.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class JsonStructuralIndex {
+	
+	/**
+	 * The name of the optional vector api module.<br>
+	 */
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	/**
+	 * The method handle of {@link JsonVectorIndex#build(ByteBuffer, int)} or null if the vector api is not available.<br>
+	 */
+	private static final MethodHandle BUILD = loadBuild();
+	
+	/**
+	 * Private constructor to prevent instantiation.<br>
+	 * This is a static helper class.<br>
+	 */
+	private JsonStructuralIndex() {}
+	
+	/**
+	 * Loads the method handle of the vector implementation.<br>
+	 * @return The method handle or null if the vector api is not available
+	 */
+	private static @Nullable MethodHandle loadBuild() {
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+			return null;
+		}
+		try {
+			Class<?> clazz = Class.forName(JsonStructuralIndex.class.getPackageName() + ".JsonVectorIndex");
+			MethodHandle handle = MethodHandles.lookup().findStatic(clazz, "build", MethodType.methodType(int[].class, ByteBuffer.class, int.class));
+			int[] tokens = (int[]) handle.invokeExact(ByteBuffer.wrap(new byte[] { '[', '1', ']' }), 3);
+			return tokens != null && tokens.length == 3 ? handle : null;
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Checks if the structural index can be built.<br>
+	 * @return True if the vector api is available at runtime, otherwise false
+	 */
+	static boolean isAvailable() {
+		return BUILD != null;
+	}
+	
+	/**
+	 * Builds the structural index of the given utf-8 encoded input.<br>
+	 * @param buffer The buffer containing the input, starting at index 0
+	 * @param end The exclusive end index of the input
+	 * @return The offsets of all tokens in ascending order or null if the input ends inside a string
+	 * @throws IllegalStateException If the vector api is not available
+	 */
+	static int @Nullable [] build(@NotNull ByteBuffer buffer, int end) {
+		if (BUILD == null) {
+			throw new IllegalStateException("The structural index requires the module " + VECTOR_MODULE);
+		}
+		try {
+			return (int[]) BUILD.invokeExact(buffer, end);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException("Failed to build the structural index", e);
+		}
+	}
+}
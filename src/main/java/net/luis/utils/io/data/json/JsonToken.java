@@ -0,0 +1,91 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.json;
+
+/**
+ * Represents the tokens which are returned by a {@link JsonTokenReader}.<br>
+ *
+ * @author Luis-St
+ */
+public enum JsonToken {
+	
+	/**
+	 * The opening curly bracket of a json object.<br>
+	 */
+	BEGIN_OBJECT,
+	/**
+	 * The closing curly bracket of a json object.<br>
+	 */
+	END_OBJECT,
+	/**
+	 * The opening square bracket of a json array.<br>
+	 */
+	BEGIN_ARRAY,
+	/**
+	 * The closing square bracket of a json array.<br>
+	 */
+	END_ARRAY,
+	/**
+	 * The name of a json object entry.<br>
+	 */
+	NAME,
+	/**
+	 * A json string value.<br>
+	 */
+	STRING,
+	/**
+	 * A json number value.<br>
+	 */
+	NUMBER,
+	/**
+	 * A json boolean value.<br>
+	 */
+	BOOLEAN,
+	/**
+	 * A json null value.<br>
+	 */
+	NULL,
+	/**
+	 * The end of the json input.<br>
+	 */
+	END_DOCUMENT;
+	
+	/**
+	 * Checks if this token starts a json object or array.<br>
+	 * @return True if this token is {@link #BEGIN_OBJECT} or {@link #BEGIN_ARRAY}, otherwise false
+	 */
+	public boolean isBegin() {
+		return this == BEGIN_OBJECT || this == BEGIN_ARRAY;
+	}
+	
+	/**
+	 * Checks if this token ends a json object or array.<br>
+	 * @return True if this token is {@link #END_OBJECT} or {@link #END_ARRAY}, otherwise false
+	 */
+	public boolean isEnd() {
+		return this == END_OBJECT || this == END_ARRAY;
+	}
+	
+	/**
+	 * Checks if this token is a json primitive or null value.<br>
+	 * @return True if this token is a string, number, boolean or null value, otherwise false
+	 */
+	public boolean isValue() {
+		return this == STRING || this == NUMBER || this == BOOLEAN || this == NULL;
+	}
+}
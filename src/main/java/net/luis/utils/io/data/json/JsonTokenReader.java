@@ -0,0 +1,815 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A streaming json reader which returns the content of a json input token by token.<br>
+ * The reader works like a pull parser, the tokens are read on demand using {@link #peek()} and {@link #next()}.<br>
+ * <p>
+ *     The input is read through a fixed size character buffer, therefore the memory usage of the reader<br>
+ *     does not depend on the size of the input but only on the size of the largest single token.<br>
+ *     Subtrees which are not required can be skipped with {@link #skipValue()} without building them,<br>
+ *     subtrees which are required can be read as json element with {@link #readElement()}.<br>
+ * </p>
+ * <p>
+ *     The reader supports the same syntax as the {@link JsonReader} and respects the strict mode of the {@link JsonConfig}.<br>
+ *     In non-strict mode, the input may contain multiple json elements one after another.<br>
+ * </p>
+ * Example usage:<br>
+ * <pre>{@code
+ * try (JsonTokenReader reader = new JsonTokenReader(input)) {
+ *     reader.next(); // BEGIN_OBJECT
+ *     while (reader.peek() == JsonToken.NAME) {
+ *         reader.next();
+ *         if ("id".equals(reader.getName())) {
+ *             JsonElement id = reader.readElement();
+ *         } else {
+ *             reader.skipValue();
+ *         }
+ *     }
+ *     reader.next(); // END_OBJECT
+ * }
+ * }</pre>
+ *
+ * @author Luis-St
+ */
+public class JsonTokenReader implements AutoCloseable {
+	
+	/**
+	 * The default size of the character buffer.<br>
+	 */
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	/**
+	 * Scope constant for the top level of the input before the first element was read.<br>
+	 */
+	private static final int EMPTY_DOCUMENT = 0;
+	/**
+	 * Scope constant for the top level of the input after the first element was read.<br>
+	 */
+	private static final int NONEMPTY_DOCUMENT = 1;
+	/**
+	 * Scope constant for a json array without any elements read so far.<br>
+	 */
+	private static final int EMPTY_ARRAY = 2;
+	/**
+	 * Scope constant for a json array with at least one element read.<br>
+	 */
+	private static final int NONEMPTY_ARRAY = 3;
+	/**
+	 * Scope constant for a json object without any entries read so far.<br>
+	 */
+	private static final int EMPTY_OBJECT = 4;
+	/**
+	 * Scope constant for a json object whose entry name was read but not its value.<br>
+	 */
+	private static final int DANGLING_NAME = 5;
+	/**
+	 * Scope constant for a json object with at least one entry read.<br>
+	 */
+	private static final int NONEMPTY_OBJECT = 6;
+	/**
+	 * Scope constant for a closed reader.<br>
+	 */
+	private static final int CLOSED = 7;
+	
+	/**
+	 * The json config used by this reader.<br>
+	 */
+	private final JsonConfig config;
+	/**
+	 * The underlying reader to read the json content from.<br>
+	 */
+	private final Reader reader;
+	/**
+	 * The character buffer of the reader.<br>
+	 */
+	private final char[] buffer;
+	/**
+	 * The index of the next character to read in the buffer.<br>
+	 */
+	private int position;
+	/**
+	 * The number of valid characters in the buffer.<br>
+	 */
+	private int limit;
+	/**
+	 * The number of characters which were read before the current buffer content.<br>
+	 */
+	private long offset;
+	/**
+	 * The current line number (1-based).<br>
+	 */
+	private int line = 1;
+	/**
+	 * The absolute offset of the first character of the current line.<br>
+	 */
+	private long lineStart;
+	/**
+	 * The line number of the first character of the current value or name.<br>
+	 */
+	private int tokenLine = 1;
+	/**
+	 * The column number of the first character of the current value or name.<br>
+	 */
+	private long tokenColumn = 1;
+	/**
+	 * The stack of scopes, the last entry is the current scope.<br>
+	 */
+	private int[] scopes = new int[32];
+	/**
+	 * The number of scopes on the stack.<br>
+	 */
+	private int scopeSize;
+	/**
+	 * Whether the content of strings should be skipped instead of being read.<br>
+	 */
+	private boolean skipping;
+	/**
+	 * The token which was peeked but not consumed yet or null if no token was peeked.<br>
+	 */
+	private JsonToken peeked;
+	/**
+	 * The text of the peeked token.<br>
+	 */
+	private String peekedValue;
+	/**
+	 * The number of the peeked token if it is a number.<br>
+	 */
+	private Number peekedNumber;
+	/**
+	 * The last token returned by {@link #next()} or null if no token was consumed yet.<br>
+	 */
+	private JsonToken current;
+	/**
+	 * The text of the current token.<br>
+	 */
+	private String currentValue;
+	/**
+	 * The number of the current token if it is a number.<br>
+	 */
+	private Number currentNumber;
+	
+	/**
+	 * Constructs a new json token reader with the given string and the default configuration.<br>
+	 * @param string The string to read from
+	 * @throws NullPointerException If the string is null
+	 */
+	public JsonTokenReader(@NotNull String string) {
+		this(string, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new json token reader with the given string and configuration.<br>
+	 * @param string The string to read from
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the string or configuration is null
+	 */
+	public JsonTokenReader(@NotNull String string, @NotNull JsonConfig config) {
+		this(new StringReader(Objects.requireNonNull(string, "String must not be null")), config);
+	}
+	
+	/**
+	 * Constructs a new json token reader with the given input and the default configuration.<br>
+	 * @param input The input to create the reader for
+	 * @throws NullPointerException If the input is null
+	 */
+	public JsonTokenReader(@NotNull InputProvider input) {
+		this(input, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new json token reader with the given input and configuration.<br>
+	 * @param input The input to create the reader for
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the input or configuration is null
+	 */
+	public JsonTokenReader(@NotNull InputProvider input, @NotNull JsonConfig config) {
+		this(new InputStreamReader(Objects.requireNonNull(input, "Input must not be null").getStream(), Objects.requireNonNull(config, "Json config must not be null").charset()), config);
+	}
+	
+	/**
+	 * Constructs a new json token reader with the given reader and configuration.<br>
+	 * @param reader The reader to read from
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the reader or configuration is null
+	 */
+	private JsonTokenReader(@NotNull Reader reader, @NotNull JsonConfig config) {
+		this.config = Objects.requireNonNull(config, "Json config must not be null");
+		this.reader = reader;
+		this.buffer = new char[DEFAULT_BUFFER_SIZE];
+		this.scopes[this.scopeSize++] = EMPTY_DOCUMENT;
+	}
+	
+	//region Token operations
+	
+	/**
+	 * Checks whether there is another token to read.<br>
+	 * @return True if the next token is not {@link JsonToken#END_DOCUMENT}, otherwise false
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public boolean hasNext() {
+		return this.peek() != JsonToken.END_DOCUMENT;
+	}
+	
+	/**
+	 * Returns the next token without consuming it.<br>
+	 * @return The next token
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonToken peek() {
+		if (this.peeked == null) {
+			this.peeked = this.readToken();
+		}
+		return this.peeked;
+	}
+	
+	/**
+	 * Consumes and returns the next token.<br>
+	 * The value of the token can be accessed afterward using the getter methods of this reader.<br>
+	 * @return The next token
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see #getName()
+	 * @see #getString()
+	 * @see #getNumber()
+	 * @see #getBoolean()
+	 */
+	public @NotNull JsonToken next() {
+		JsonToken token = this.peek();
+		this.current = token;
+		this.currentValue = this.peekedValue;
+		this.currentNumber = this.peekedNumber;
+		this.peeked = null;
+		this.peekedValue = null;
+		this.peekedNumber = null;
+		return token;
+	}
+	
+	/**
+	 * Returns the current nesting depth of the reader.<br>
+	 * The depth is zero at the top level and increases by one for each entered json object or array.<br>
+	 * @return The current depth
+	 */
+	public int getDepth() {
+		return Math.max(0, this.scopeSize - 1);
+	}
+	
+	/**
+	 * Returns the last token consumed by {@link #next()}.<br>
+	 * @return The current token or null if no token was consumed yet
+	 */
+	public @Nullable JsonToken getCurrentToken() {
+		return this.current;
+	}
+	
+	/**
+	 * Returns the name of the current {@link JsonToken#NAME name} token.<br>
+	 * @return The name of the current json object entry
+	 * @throws IllegalStateException If the current token is not a name
+	 */
+	public @NotNull String getName() {
+		this.expectCurrent(JsonToken.NAME);
+		return this.currentValue;
+	}
+	
+	/**
+	 * Returns the text of the current token.<br>
+	 * The text is available for {@link JsonToken#NAME name}, {@link JsonToken#STRING string},<br>
+	 * {@link JsonToken#NUMBER number} and {@link JsonToken#BOOLEAN boolean} tokens.<br>
+	 * @return The text of the current token
+	 * @throws IllegalStateException If the current token has no text
+	 */
+	public @NotNull String getString() {
+		if (this.currentValue == null) {
+			throw new IllegalStateException("Expected a token with a text value but got: " + this.current);
+		}
+		return this.currentValue;
+	}
+	
+	/**
+	 * Returns the value of the current {@link JsonToken#NUMBER number} token.<br>
+	 * @return The number value of the current token
+	 * @throws IllegalStateException If the current token is not a number
+	 */
+	public @NotNull Number getNumber() {
+		this.expectCurrent(JsonToken.NUMBER);
+		return this.currentNumber;
+	}
+	
+	/**
+	 * Returns the value of the current {@link JsonToken#BOOLEAN boolean} token.<br>
+	 * @return The boolean value of the current token
+	 * @throws IllegalStateException If the current token is not a boolean
+	 */
+	public boolean getBoolean() {
+		this.expectCurrent(JsonToken.BOOLEAN);
+		return "true".equalsIgnoreCase(this.currentValue);
+	}
+	
+	/**
+	 * Skips the next value.<br>
+	 * If the next token is a name, the name and the value of the json object entry are skipped.<br>
+	 * If the next value is a json object or array, the whole subtree is skipped without building it.<br>
+	 * @throws IllegalStateException If the next token is not a name or value
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void skipValue() {
+		JsonToken token = this.peek();
+		if (token == JsonToken.NAME) {
+			this.next();
+			token = this.peek();
+		}
+		if (token.isEnd() || token == JsonToken.END_DOCUMENT) {
+			throw new IllegalStateException("Expected a json value to skip but got: " + token);
+		}
+		this.skipping = true;
+		try {
+			int depth = 0;
+			do {
+				JsonToken next = this.next();
+				if (next.isBegin()) {
+					depth++;
+				} else if (next.isEnd()) {
+					depth--;
+				}
+			} while (depth > 0);
+		} finally {
+			this.skipping = false;
+		}
+	}
+	
+	/**
+	 * Reads the next value as json element.<br>
+	 * If the next value is a json object or array, the whole subtree is read into memory.<br>
+	 * @return The next value as json element
+	 * @throws IllegalStateException If the next token is not a value
+	 * @throws JsonSyntaxException If the json is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonElement readElement() {
+		JsonToken token = this.next();
+		return switch (token) {
+			case BEGIN_OBJECT -> {
+				JsonObject object = new JsonObject();
+				while (this.peek() != JsonToken.END_OBJECT) {
+					this.next();
+					String name = this.currentValue;
+					object.add(name, this.readElement());
+				}
+				this.next();
+				yield object;
+			}
+			case BEGIN_ARRAY -> {
+				JsonArray array = new JsonArray();
+				while (this.peek() != JsonToken.END_ARRAY) {
+					array.add(this.readElement());
+				}
+				this.next();
+				array.pack();
+				yield array;
+			}
+			case STRING -> new JsonPrimitive(this.currentValue);
+			case NUMBER -> new JsonPrimitive(this.currentNumber);
+			case BOOLEAN -> new JsonPrimitive(this.getBoolean());
+			case NULL -> JsonNull.INSTANCE;
+			default -> throw new IllegalStateException("Expected a json value but got: " + token);
+		};
+	}
+	//endregion
+	
+	//region Parsing
+	
+	/**
+	 * Reads the next token depending on the current scope.<br>
+	 * @return The read token
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws JsonSyntaxException If the json is invalid
+	 */
+	private @NotNull JsonToken readToken() {
+		int scope = this.scopes[this.scopeSize - 1];
+		switch (scope) {
+			case EMPTY_DOCUMENT -> {
+				this.scopes[this.scopeSize - 1] = NONEMPTY_DOCUMENT;
+				int c = this.nextNonWhitespace();
+				if (c == -1) {
+					throw this.createException("Invalid json, expected content but got nothing");
+				}
+				return this.readValue((char) c);
+			}
+			case NONEMPTY_DOCUMENT -> {
+				int c = this.nextNonWhitespace();
+				if (c == -1) {
+					return JsonToken.END_DOCUMENT;
+				}
+				if (this.config.strict()) {
+					this.position--;
+					throw this.createException("Invalid json element, expected end of input but got: '" + (char) c + "'");
+				}
+				return this.readValue((char) c);
+			}
+			case EMPTY_ARRAY, NONEMPTY_ARRAY -> {
+				this.scopes[this.scopeSize - 1] = NONEMPTY_ARRAY;
+				int c = this.nextNonWhitespace();
+				if (c == ']') {
+					this.scopeSize--;
+					return JsonToken.END_ARRAY;
+				}
+				if (scope == NONEMPTY_ARRAY) {
+					if (c != ',') {
+						throw this.createUnexpectedException(c, "Invalid json array, expected ',' or ']'", "Invalid json array, missing closing bracket ']'");
+					}
+					c = this.nextNonWhitespace();
+					if (c == ']') {
+						if (this.config.strict()) {
+							this.position--;
+							throw this.createException("Invalid json array, expected another element but got: ']'");
+						}
+						this.scopeSize--;
+						return JsonToken.END_ARRAY;
+					}
+				}
+				if (c == -1) {
+					throw this.createException("Invalid json array, missing closing bracket ']'");
+				}
+				return this.readValue((char) c);
+			}
+			case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+				int c = this.nextNonWhitespace();
+				if (c == '}') {
+					this.scopeSize--;
+					return JsonToken.END_OBJECT;
+				}
+				if (scope == NONEMPTY_OBJECT) {
+					if (c != ',') {
+						throw this.createUnexpectedException(c, "Invalid json object, expected ',' or '}'", "Invalid json object, missing closing bracket '}'");
+					}
+					c = this.nextNonWhitespace();
+					if (c == '}') {
+						if (this.config.strict()) {
+							this.position--;
+							throw this.createException("Invalid json object, expected another entry but got: '}'");
+						}
+						this.scopeSize--;
+						return JsonToken.END_OBJECT;
+					}
+				}
+				if (c == -1) {
+					throw this.createException("Invalid json object, missing closing bracket '}'");
+				}
+				this.scopes[this.scopeSize - 1] = DANGLING_NAME;
+				this.peekedValue = this.readName((char) c);
+				return JsonToken.NAME;
+			}
+			case DANGLING_NAME -> {
+				int c = this.nextNonWhitespace();
+				if (c != ':') {
+					throw this.createUnexpectedException(c, "Invalid json object, expected ':'", "Invalid json object, missing closing bracket '}'");
+				}
+				this.scopes[this.scopeSize - 1] = NONEMPTY_OBJECT;
+				c = this.nextNonWhitespace();
+				if (c == -1) {
+					throw this.createException("Invalid json, expected a json element but got nothing");
+				}
+				return this.readValue((char) c);
+			}
+			default -> throw new IllegalStateException("Json token reader is closed");
+		}
+	}
+	
+	/**
+	 * Reads the value which starts with the given already consumed character.<br>
+	 * @param c The first character of the value
+	 * @return The token of the value
+	 * @throws JsonSyntaxException If the value is invalid (depends on the configuration)
+	 */
+	private @NotNull JsonToken readValue(char c) {
+		this.markToken();
+		if (c == '{') {
+			this.pushScope(EMPTY_OBJECT);
+			return JsonToken.BEGIN_OBJECT;
+		} else if (c == '[') {
+			this.pushScope(EMPTY_ARRAY);
+			return JsonToken.BEGIN_ARRAY;
+		} else if (c == '"' || (c == '\'' && !this.config.strict())) {
+			this.peekedValue = this.readQuotedString(c);
+			return JsonToken.STRING;
+		}
+		this.position--;
+		String value = this.readUnquotedValue();
+		if (value.isEmpty()) {
+			throw this.createException("Invalid json value, expected a value but got: '" + c + "'");
+		}
+		
+		boolean strict = this.config.strict();
+		if (strict ? "null".equals(value) : "null".equalsIgnoreCase(value)) {
+			return JsonToken.NULL;
+		} else if (strict ? "true".equals(value) || "false".equals(value) : "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+			this.peekedValue = value;
+			return JsonToken.BOOLEAN;
+		}
+		Number number = JsonHelper.parseNumber(value, 0, value.length());
+		if (number != null) {
+			this.peekedValue = value;
+			this.peekedNumber = number;
+			return JsonToken.NUMBER;
+		}
+		if (strict) {
+			throw this.createTokenException("Invalid json primitive, expected a number but got: '" + value + "'");
+		}
+		this.peekedValue = value;
+		return JsonToken.STRING;
+	}
+	
+	/**
+	 * Reads the name of a json object entry which starts with the given already consumed character.<br>
+	 * <p>
+	 *     In strict mode, the name must be enclosed in double quotes.<br>
+	 *     In non-strict mode, the name can also be enclosed in single quotes or be unquoted.<br>
+	 *     An unquoted name ends at the first whitespace or ':' character.<br>
+	 * </p>
+	 * @param c The first character of the name
+	 * @return The read name
+	 * @throws JsonSyntaxException If the name is invalid
+	 */
+	private @NotNull String readName(char c) {
+		this.markToken();
+		if (c == '"' || (c == '\'' && !this.config.strict())) {
+			String name = this.readQuotedString(c);
+			return name == null ? "" : name;
+		}
+		this.position--;
+		if (this.config.strict()) {
+			throw this.createException("Invalid json object, expected a quoted key but got: '" + c + "'");
+		}
+		StringBuilder builder = new StringBuilder();
+		while (this.ensureAvailable()) {
+			char next = this.buffer[this.position];
+			if (next == ':' || Character.isWhitespace(next) || JsonHelper.isStructuralCharacter(next)) {
+				break;
+			}
+			builder.append(next);
+			this.position++;
+		}
+		if (builder.isEmpty()) {
+			throw this.createException("Invalid json object, expected a key but got: '" + c + "'");
+		}
+		return builder.toString();
+	}
+	//endregion
+	
+	//region Scanning
+	
+	/**
+	 * Reads a quoted string whose opening quote was already consumed.<br>
+	 * The closing quote is read but not included in the result.<br>
+	 * Escape sequences are kept as they are, the character after a backslash never terminates the string.<br>
+	 * While skipping, the content of the string is not collected.<br>
+	 * @param quote The quote character which encloses the string
+	 * @return The content of the quoted string or null if the reader is skipping
+	 * @throws JsonSyntaxException If the closing quote is missing
+	 */
+	private @Nullable String readQuotedString(char quote) {
+		StringBuilder builder = null;
+		int start = this.position;
+		boolean escaped = false;
+		while (true) {
+			if (this.position >= this.limit) {
+				if (!this.skipping) {
+					builder = builder == null ? new StringBuilder() : builder;
+					builder.append(this.buffer, start, this.position - start);
+				}
+				if (!this.fill()) {
+					throw this.createTokenException("Invalid json string, missing closing quote " + quote);
+				}
+				start = this.position;
+			}
+			char c = this.buffer[this.position++];
+			if (escaped) {
+				escaped = false;
+			} else if (c == '\\') {
+				escaped = true;
+			} else if (c == quote) {
+				if (this.skipping) {
+					return null;
+				}
+				int length = this.position - 1 - start;
+				return builder == null ? new String(this.buffer, start, length) : builder.append(this.buffer, start, length).toString();
+			}
+			if (c == '\n') {
+				this.newLine();
+			}
+		}
+	}
+	
+	/**
+	 * Reads an unquoted value starting at the current position.<br>
+	 * <p>
+	 *     In strict mode, the value ends at the first whitespace or structural character.<br>
+	 *     In non-strict mode, the value may contain whitespaces, it ends at the first structural character or double quote.<br>
+	 *     A whitespace also ends the value if the value read so far is a literal or a number, since it can not be continued.<br>
+	 *     Trailing whitespaces are not part of the value.<br>
+	 * </p>
+	 * @return The read value
+	 * @see JsonHelper#isCompleteValue(CharSequence, int, int)
+	 */
+	private @NotNull String readUnquotedValue() {
+		StringBuilder builder = new StringBuilder();
+		int length = 0;
+		boolean strict = this.config.strict();
+		while (this.ensureAvailable()) {
+			char c = this.buffer[this.position];
+			if (JsonHelper.isStructuralCharacter(c) || (c == '"' && !strict)) {
+				break;
+			}
+			if (Character.isWhitespace(c)) {
+				if (strict || (length == builder.length() && JsonHelper.isCompleteValue(builder, 0, length))) {
+					break;
+				}
+				if (c == '\n') {
+					this.position++;
+					this.newLine();
+					builder.append(c);
+					continue;
+				}
+			} else {
+				length = builder.length() + 1;
+			}
+			builder.append(c);
+			this.position++;
+		}
+		builder.setLength(length);
+		return builder.toString();
+	}
+	
+	/**
+	 * Skips all whitespaces and returns the next character.<br>
+	 * A whitespace is a character that returns true when calling {@link Character#isWhitespace(char)}.<br>
+	 * @return The next non-whitespace character or -1 if the end of the input was reached
+	 */
+	private int nextNonWhitespace() {
+		while (this.ensureAvailable()) {
+			char c = this.buffer[this.position++];
+			if (c == '\n') {
+				this.newLine();
+			} else if (!Character.isWhitespace(c)) {
+				return c;
+			}
+		}
+		return -1;
+	}
+	//endregion
+	
+	//region Helper methods
+	
+	/**
+	 * Ensures that at least one character is available in the buffer.<br>
+	 * @return True if a character is available, false if the end of the input was reached
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private boolean ensureAvailable() {
+		return this.position < this.limit || this.fill();
+	}
+	
+	/**
+	 * Refills the buffer from the underlying reader.<br>
+	 * Must only be called if all characters in the buffer were consumed.<br>
+	 * The last character of the previous buffer content is kept, so that it can be unread.<br>
+	 * @return True if new characters were read, false if the end of the input was reached
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private boolean fill() {
+		int keep = Math.min(this.limit, 1);
+		if (keep > 0) {
+			this.buffer[0] = this.buffer[this.limit - 1];
+		}
+		this.offset += this.limit - keep;
+		this.position = keep;
+		this.limit = keep;
+		try {
+			int read;
+			do {
+				read = this.reader.read(this.buffer, keep, this.buffer.length - keep);
+			} while (read == 0);
+			if (read == -1) {
+				return false;
+			}
+			this.limit += read;
+			return true;
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while reading the json content", e);
+		}
+	}
+	
+	/**
+	 * Records a line break at the position before the current position.<br>
+	 */
+	private void newLine() {
+		this.line++;
+		this.lineStart = this.offset + this.position;
+	}
+	
+	/**
+	 * Records the position of the already consumed first character of the current value or name.<br>
+	 * The position is used for errors which refer to the whole value or name instead of the current position.<br>
+	 */
+	private void markToken() {
+		this.tokenLine = this.line;
+		this.tokenColumn = this.offset + this.position - this.lineStart;
+	}
+	
+	/**
+	 * Pushes the given scope onto the scope stack.<br>
+	 * @param scope The scope to push
+	 */
+	private void pushScope(int scope) {
+		if (this.scopeSize == this.scopes.length) {
+			this.scopes = Arrays.copyOf(this.scopes, this.scopeSize * 2);
+		}
+		this.scopes[this.scopeSize++] = scope;
+	}
+	
+	/**
+	 * Ensures that the current token is the given token.<br>
+	 * @param token The expected token
+	 * @throws IllegalStateException If the current token is not the expected token
+	 */
+	private void expectCurrent(@NotNull JsonToken token) {
+		if (this.current != token) {
+			throw new IllegalStateException("Expected current token to be " + token + " but got: " + this.current);
+		}
+	}
+	
+	/**
+	 * Creates a new json syntax exception for an unexpected character.<br>
+	 * @param c The unexpected character or -1 if the end of the input was reached
+	 * @param message The message if an unexpected character was found
+	 * @param endMessage The message if the end of the input was reached
+	 * @return The created exception
+	 */
+	private @NotNull JsonSyntaxException createUnexpectedException(int c, @NotNull String message, @NotNull String endMessage) {
+		if (c == -1) {
+			return this.createException(endMessage);
+		}
+		this.position--;
+		return this.createException(message + " but got: '" + (char) c + "'");
+	}
+	
+	/**
+	 * Creates a new json syntax exception with the given message.<br>
+	 * The line and column of the current position are appended to the message.<br>
+	 * @param message The message of the exception
+	 * @return The created exception
+	 */
+	private @NotNull JsonSyntaxException createException(@NotNull String message) {
+		long column = this.offset + this.position - this.lineStart + 1;
+		return new JsonSyntaxException(message + " at line " + this.line + ", column " + column);
+	}
+	
+	/**
+	 * Creates a new json syntax exception with the given message.<br>
+	 * The line and column of the first character of the current value or name are appended to the message.<br>
+	 * @param message The message of the exception
+	 * @return The created exception
+	 */
+	private @NotNull JsonSyntaxException createTokenException(@NotNull String message) {
+		return new JsonSyntaxException(message + " at line " + this.tokenLine + ", column " + this.tokenColumn);
+	}
+	//endregion
+	
+	@Override
+	public void close() throws IOException {
+		this.scopeSize = 1;
+		this.scopes[0] = CLOSED;
+		this.peeked = null;
+		this.reader.close();
+	}
+}
@@ -0,0 +1,804 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A json reader for reading json elements directly from utf-8 encoded bytes.<br>
+ * <p>
+ *     The reader accepts the same syntax as the {@link JsonReader} and reports the same errors,<br>
+ *     but it never decodes the whole input into a string.<br>
+ *     Structural characters, whitespaces, literals and plain integer numbers are scanned as bytes,<br>
+ *     only keys, string values and other numbers are decoded into strings.<br>
+ * </p>
+ * <p>
+ *     The charset of the configuration is ignored, the input must always be encoded in utf-8.<br>
+ *     Malformed byte sequences are replaced in decoded strings in the same way as by {@link String#String(byte[], java.nio.charset.Charset)}.<br>
+ * </p>
+ * <p>
+ *     If vectorized parsing is enabled in the configuration, strict json is parsed in two stages.<br>
+ *     The first stage builds an index of all tokens in blocks of 64 bytes using the incubating vector api (see {@link JsonStructuralIndex}),<br>
+ *     the second stage builds the json elements by walking the index instead of scanning the input byte by byte.<br>
+ *     If the module {@code jdk.incubator.vector} is not available at runtime or the input is not valid strict json,<br>
+ *     the input is parsed by the scalar parser, so the results and the reported errors do not change.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+public class JsonUtf8Reader implements AutoCloseable {
+	
+	/**
+	 * The json config used by this reader.<br>
+	 */
+	private final JsonConfig config;
+	/**
+	 * The utf-8 encoded content to read from, starting at index 0.<br>
+	 */
+	private final ByteBuffer buffer;
+	/**
+	 * The exclusive end index of the content.<br>
+	 */
+	private final int end;
+	/**
+	 * The cache for the keys and shapes of the read json objects.<br>
+	 */
+	private final JsonKeyCache keyCache = new JsonKeyCache();
+	/**
+	 * The current byte index of the reader in the content.<br>
+	 */
+	private int index;
+	/**
+	 * Whether a json element has been read completely.<br>
+	 */
+	private boolean read;
+	/**
+	 * The token offsets of the structural index while it is walked, otherwise null.<br>
+	 */
+	private int[] tokens;
+	/**
+	 * The index of the next token in the structural index.<br>
+	 */
+	private int token;
+	
+	/**
+	 * Constructs a new utf-8 json reader with the given bytes and the default configuration.<br>
+	 * @param bytes The utf-8 encoded bytes to read from
+	 * @throws NullPointerException If the bytes are null
+	 */
+	public JsonUtf8Reader(byte @NotNull [] bytes) {
+		this(bytes, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new utf-8 json reader with the given bytes and configuration.<br>
+	 * The bytes are not copied and must not be modified while reading.<br>
+	 * @param bytes The utf-8 encoded bytes to read from
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the bytes or configuration is null
+	 */
+	public JsonUtf8Reader(byte @NotNull [] bytes, @NotNull JsonConfig config) {
+		this(ByteBuffer.wrap(Objects.requireNonNull(bytes, "Bytes must not be null")), config);
+	}
+	
+	/**
+	 * Constructs a new utf-8 json reader with the given buffer and the default configuration.<br>
+	 * @param buffer The buffer containing the utf-8 encoded bytes to read from
+	 * @throws NullPointerException If the buffer is null
+	 */
+	public JsonUtf8Reader(@NotNull ByteBuffer buffer) {
+		this(buffer, JsonConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new utf-8 json reader with the given buffer and configuration.<br>
+	 * The reader reads the remaining bytes of the buffer, the position of the buffer is not changed.<br>
+	 * @param buffer The buffer containing the utf-8 encoded bytes to read from
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the buffer or configuration is null
+	 */
+	public JsonUtf8Reader(@NotNull ByteBuffer buffer, @NotNull JsonConfig config) {
+		this.config = Objects.requireNonNull(config, "Json config must not be null");
+		this.buffer = Objects.requireNonNull(buffer, "Buffer must not be null").slice();
+		this.end = this.buffer.limit();
+	}
+	
+	/**
+	 * Reads the next json element from the input.<br>
+	 * <p>
+	 *     In strict mode, the reader only accepts one json element per input.<br>
+	 * </p>
+	 * @return The next json element
+	 * @throws JsonSyntaxException If the json is invalid (depends on the configuration)
+	 * @see #readJsonElement()
+	 */
+	public @NotNull JsonElement readJson() {
+		if (this.index == 0 && this.config.strict() && this.config.vectorized() && JsonStructuralIndex.isAvailable()) {
+			JsonElement element = this.readIndexed();
+			if (element != null) {
+				this.index = this.end;
+				this.read = true;
+				return element;
+			}
+		}
+		this.skipWhitespaces();
+		if (!this.canRead()) {
+			throw this.createException("Invalid json, expected content but got nothing");
+		}
+		JsonElement element = this.readJsonElement();
+		this.skipWhitespaces();
+		if (this.config.strict() && this.canRead()) {
+			throw this.createException("Invalid json element, expected end of input but got: '" + this.peekChar() + "'");
+		}
+		this.read = true;
+		return element;
+	}
+	
+	//region Parsing
+	
+	/**
+	 * Reads the json element starting at the current index.<br>
+	 * @return The read json element
+	 * @throws JsonSyntaxException If the json is invalid (depends on the configuration)
+	 * @see #readJsonArray()
+	 * @see #readJsonObject()
+	 * @see #readJsonValue()
+	 */
+	private @NotNull JsonElement readJsonElement() {
+		this.skipWhitespaces();
+		if (!this.canRead()) {
+			throw this.createException("Invalid json, expected a json element but got nothing");
+		}
+		byte next = this.peek();
+		if (next == '{') {
+			return this.readJsonObject();
+		} else if (next == '[') {
+			return this.readJsonArray();
+		}
+		return this.readJsonValue();
+	}
+	
+	/**
+	 * Reads a json array starting at the current index.<br>
+	 * In strict mode, the reader expects no trailing comma after the last element.<br>
+	 * Arrays which only contain integral or only floating point numbers are packed.<br>
+	 * @return The read json array
+	 * @throws JsonSyntaxException If the json array is invalid
+	 */
+	private @NotNull JsonArray readJsonArray() {
+		this.index++; // Skip '['
+		JsonArray jsonArray = new JsonArray();
+		this.skipWhitespaces();
+		if (!this.canRead()) {
+			throw this.createException("Invalid json array, missing closing bracket ']'");
+		}
+		if (this.peek() == ']') {
+			this.index++;
+			return jsonArray;
+		}
+		while (true) {
+			jsonArray.add(this.readJsonElement());
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json array, missing closing bracket ']'");
+			}
+			byte next = this.peek();
+			if (next == ']') {
+				this.index++;
+				jsonArray.pack();
+				return jsonArray;
+			}
+			if (next != ',') {
+				throw this.createException("Invalid json array, expected ',' or ']' but got: '" + this.peekChar() + "'");
+			}
+			this.index++;
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json array, missing closing bracket ']'");
+			}
+			if (this.peek() == ']') {
+				if (this.config.strict()) {
+					throw this.createException("Invalid json array, expected another element but got: ']'");
+				}
+				this.index++;
+				jsonArray.pack();
+				return jsonArray;
+			}
+		}
+	}
+	
+	/**
+	 * Reads a json object starting at the current index.<br>
+	 * In strict mode, the reader expects the keys to be quoted and no trailing comma after the last entry.<br>
+	 * @return The read json object
+	 * @throws JsonSyntaxException If the json object is invalid
+	 */
+	private @NotNull JsonObject readJsonObject() {
+		this.index++; // Skip '{'
+		JsonObject jsonObject = new JsonObject();
+		this.skipWhitespaces();
+		if (!this.canRead()) {
+			throw this.createException("Invalid json object, missing closing bracket '}'");
+		}
+		if (this.peek() == '}') {
+			this.index++;
+			return jsonObject;
+		}
+		while (true) {
+			String key = this.readKey();
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json object, missing closing bracket '}'");
+			}
+			if (this.peek() != ':') {
+				throw this.createException("Invalid json object, expected ':' but got: '" + this.peekChar() + "'");
+			}
+			this.index++;
+			jsonObject.add(key, this.readJsonElement());
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json object, missing closing bracket '}'");
+			}
+			byte next = this.peek();
+			if (next == '}') {
+				this.index++;
+				jsonObject.shareKeys(this.keyCache);
+				return jsonObject;
+			}
+			if (next != ',') {
+				throw this.createException("Invalid json object, expected ',' or '}' but got: '" + this.peekChar() + "'");
+			}
+			this.index++;
+			this.skipWhitespaces();
+			if (!this.canRead()) {
+				throw this.createException("Invalid json object, missing closing bracket '}'");
+			}
+			if (this.peek() == '}') {
+				if (this.config.strict()) {
+					throw this.createException("Invalid json object, expected another entry but got: '}'");
+				}
+				this.index++;
+				jsonObject.shareKeys(this.keyCache);
+				return jsonObject;
+			}
+		}
+	}
+	
+	/**
+	 * Reads the key of a json object entry starting at the current index.<br>
+	 * In non-strict mode, the key can also be enclosed in single quotes or be unquoted.<br>
+	 * @return The read key
+	 * @throws JsonSyntaxException If the key is invalid
+	 */
+	private @NotNull String readKey() {
+		byte next = this.peek();
+		if (next == '"' || (next == '\'' && !this.config.strict())) {
+			int start = this.index + 1;
+			return this.keyCache.key(this.buffer, start, this.skipQuotedString(next));
+		}
+		if (this.config.strict()) {
+			throw this.createException("Invalid json object, expected a quoted key but got: '" + this.peekChar() + "'");
+		}
+		int start = this.index;
+		while (this.canRead()) {
+			byte b = this.peek();
+			if (b == ':' || isStructuralCharacter(b) || this.whitespaceLength(this.index) > 0) {
+				break;
+			}
+			this.index++;
+		}
+		if (start == this.index) {
+			throw this.createException("Invalid json object, expected a key but got: '" + this.charAt(start) + "'");
+		}
+		return this.keyCache.key(this.buffer, start, this.index);
+	}
+	
+	/**
+	 * Reads a json value starting at the current index.<br>
+	 * A json value can be either a string, number, boolean or null.<br>
+	 * @return The read json value
+	 * @throws JsonSyntaxException If the json value is invalid (depends on the configuration)
+	 */
+	private @NotNull JsonElement readJsonValue() {
+		byte next = this.peek();
+		if (next == '"' || (next == '\'' && !this.config.strict())) {
+			return new JsonPrimitive(this.readQuotedString(next));
+		}
+		int start = this.index;
+		int end = this.readUnquotedValue();
+		if (start == end) {
+			throw this.createException("Invalid json value, expected a value but got: '" + this.charAt(start) + "'");
+		}
+		
+		boolean strict = this.config.strict();
+		if (this.matches(start, end, "null", strict)) {
+			return JsonNull.INSTANCE;
+		} else if (this.matches(start, end, "true", strict)) {
+			return new JsonPrimitive(true);
+		} else if (this.matches(start, end, "false", strict)) {
+			return new JsonPrimitive(false);
+		}
+		
+		Number number = this.readNumber(start, end);
+		if (number != null) {
+			return new JsonPrimitive(number);
+		}
+		if (strict) {
+			this.index = start;
+			throw this.createException("Invalid json primitive, expected a number but got: '" + this.decode(start, end) + "'");
+		}
+		return new JsonPrimitive(this.decode(start, end));
+	}
+	//endregion
+	
+	//region Structural index
+	
+	/**
+	 * Reads the json element of the input by walking its structural index.<br>
+	 * Only valid strict json which spans the whole input is read, all other input is left to the scalar parser.<br>
+	 * @return The read json element or null if the input must be read by the scalar parser
+	 */
+	private @Nullable JsonElement readIndexed() {
+		int[] tokens = JsonStructuralIndex.build(this.buffer, this.end);
+		if (tokens == null || tokens.length == 0) {
+			return null;
+		}
+		this.tokens = tokens;
+		this.token = 0;
+		try {
+			JsonElement element = this.readIndexedElement();
+			return this.token == tokens.length ? element : null;
+		} finally {
+			this.tokens = null;
+		}
+	}
+	
+	/**
+	 * Reads the json element starting at the next token of the structural index.<br>
+	 * @return The read json element or null if the json element is not valid strict json
+	 */
+	private @Nullable JsonElement readIndexedElement() {
+		if (this.token >= this.tokens.length) {
+			return null;
+		}
+		int offset = this.tokens[this.token++];
+		byte next = this.buffer.get(offset);
+		if (next == '{') {
+			return this.readIndexedObject();
+		} else if (next == '[') {
+			return this.readIndexedArray();
+		} else if (next == '"') {
+			if (this.token >= this.tokens.length) {
+				return null;
+			}
+			return new JsonPrimitive(this.decode(offset + 1, this.tokens[this.token++]));
+		} else if (isTokenBoundary(next) || next <= ' ') {
+			return null;
+		}
+		
+		int end = offset + 1;
+		while (end < this.end) {
+			byte b = this.buffer.get(end);
+			if (isTokenBoundary(b)) {
+				break;
+			}
+			if (b <= ' ') {
+				return null; // Control characters and non-ascii whitespaces are left to the scalar parser
+			}
+			end++;
+		}
+		if (this.matches(offset, end, "null", true)) {
+			return JsonNull.INSTANCE;
+		} else if (this.matches(offset, end, "true", true)) {
+			return new JsonPrimitive(true);
+		} else if (this.matches(offset, end, "false", true)) {
+			return new JsonPrimitive(false);
+		}
+		Number number = this.readNumber(offset, end);
+		return number == null ? null : new JsonPrimitive(number);
+	}
+	
+	/**
+	 * Reads a json array whose opening bracket is the previous token of the structural index.<br>
+	 * @return The read json array or null if the json array is not valid strict json
+	 */
+	private @Nullable JsonArray readIndexedArray() {
+		JsonArray jsonArray = new JsonArray();
+		if (this.peekToken() == ']') {
+			this.token++;
+			return jsonArray;
+		}
+		while (true) {
+			JsonElement element = this.readIndexedElement();
+			if (element == null) {
+				return null;
+			}
+			jsonArray.add(element);
+			byte separator = this.nextToken();
+			if (separator == ']') {
+				jsonArray.pack();
+				return jsonArray;
+			}
+			if (separator != ',') {
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * Reads a json object whose opening bracket is the previous token of the structural index.<br>
+	 * @return The read json object or null if the json object is not valid strict json
+	 */
+	private @Nullable JsonObject readIndexedObject() {
+		JsonObject jsonObject = new JsonObject();
+		if (this.peekToken() == '}') {
+			this.token++;
+			return jsonObject;
+		}
+		while (true) {
+			if (this.peekToken() != '"' || this.token + 1 >= this.tokens.length) {
+				return null;
+			}
+			int start = this.tokens[this.token++] + 1;
+			String key = this.keyCache.key(this.buffer, start, this.tokens[this.token++]);
+			if (this.nextToken() != ':') {
+				return null;
+			}
+			JsonElement element = this.readIndexedElement();
+			if (element == null) {
+				return null;
+			}
+			jsonObject.add(key, element);
+			byte separator = this.nextToken();
+			if (separator == '}') {
+				jsonObject.shareKeys(this.keyCache);
+				return jsonObject;
+			}
+			if (separator != ',') {
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the byte of the next token and moves to the token after it.<br>
+	 * @return The byte of the next token or 0 if there are no more tokens
+	 */
+	private byte nextToken() {
+		return this.token < this.tokens.length ? this.buffer.get(this.tokens[this.token++]) : 0;
+	}
+	
+	/**
+	 * Returns the byte of the next token without moving to the token after it.<br>
+	 * @return The byte of the next token or 0 if there are no more tokens
+	 */
+	private byte peekToken() {
+		return this.token < this.tokens.length ? this.buffer.get(this.tokens[this.token]) : 0;
+	}
+	//endregion
+	
+	//region Scanning
+	
+	/**
+	 * Reads a quoted string starting at the current index.<br>
+	 * The quotes are read but not included in the result.<br>
+	 * Escape sequences are kept as they are, the character after a backslash never terminates the string.<br>
+	 * @param quote The quote character which encloses the string
+	 * @return The decoded content of the quoted string
+	 * @throws JsonSyntaxException If the closing quote is missing
+	 */
+	private @NotNull String readQuotedString(byte quote) {
+		int start = this.index + 1;
+		return this.decode(start, this.skipQuotedString(quote));
+	}
+	
+	/**
+	 * Skips a quoted string starting at the current index and returns the index of its closing quote.<br>
+	 * @param quote The quote character which encloses the string
+	 * @return The index of the closing quote
+	 * @throws JsonSyntaxException If the closing quote is missing
+	 */
+	private int skipQuotedString(byte quote) {
+		for (int i = this.index + 1; i < this.end; i++) {
+			byte b = this.buffer.get(i);
+			if (b == '\\') {
+				i++;
+			} else if (b == quote) {
+				this.index = i + 1;
+				return i;
+			}
+		}
+		throw this.createException("Invalid json string, missing closing quote " + (char) quote);
+	}
+	
+	/**
+	 * Reads an unquoted value starting at the current index and returns its exclusive end index.<br>
+	 * <p>
+	 *     In strict mode, the value ends at the first whitespace or structural character.<br>
+	 *     In non-strict mode, the value may contain whitespaces, it ends at the first structural character or double quote.<br>
+	 *     A whitespace also ends the value if the value read so far is a literal or a number, since it can not be continued.<br>
+	 *     Trailing whitespaces are not part of the value.<br>
+	 * </p>
+	 * @return The exclusive end index of the value
+	 */
+	private int readUnquotedValue() {
+		int start = this.index;
+		int end = this.index;
+		boolean strict = this.config.strict();
+		while (this.index < this.end) {
+			byte b = this.buffer.get(this.index);
+			if (isStructuralCharacter(b) || (b == '"' && !strict)) {
+				break;
+			}
+			int whitespace = this.whitespaceLength(this.index);
+			if (whitespace > 0) {
+				if (strict || (end == this.index && this.isCompleteValue(start, end))) {
+					break;
+				}
+				this.index += whitespace;
+			} else {
+				end = ++this.index;
+			}
+		}
+		this.index = end;
+		return end;
+	}
+	
+	/**
+	 * Checks if the input region between the given indices matches the given literal.<br>
+	 * Regions which are not ascii are decoded and compared as strings.<br>
+	 * @param start The start index of the region (inclusive)
+	 * @param end The end index of the region (exclusive)
+	 * @param literal The ascii literal to match
+	 * @param caseSensitive Whether the comparison is case-sensitive
+	 * @return True if the region matches the literal, otherwise false
+	 */
+	private boolean matches(int start, int end, @NotNull String literal, boolean caseSensitive) {
+		int length = end - start;
+		if (length == literal.length()) {
+			for (int i = 0; i < length; i++) {
+				byte b = this.buffer.get(start + i);
+				char c = literal.charAt(i);
+				if (b != c && (caseSensitive || b < 0 || Character.toLowerCase((char) b) != c)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (caseSensitive || length < literal.length() || !this.containsNonAscii(start, end)) {
+			return false;
+		}
+		return this.decode(start, end).equalsIgnoreCase(literal);
+	}
+	
+	/**
+	 * Checks if the region between the given indices is a literal or a number which can not be continued.<br>
+	 * @param start The start index of the region (inclusive)
+	 * @param end The end index of the region (exclusive)
+	 * @return True if the region is a json literal or number, otherwise false
+	 * @see JsonHelper#isCompleteValue(CharSequence, int, int)
+	 */
+	private boolean isCompleteValue(int start, int end) {
+		return this.matches(start, end, "null", false) || this.matches(start, end, "true", false) || this.matches(start, end, "false", false) || this.readNumber(start, end) != null;
+	}
+	
+	/**
+	 * Parses the number between the given indices.<br>
+	 * Plain integer numbers which fit into a long are parsed from the bytes,<br>
+	 * all other numbers are decoded and parsed by {@link JsonHelper#parseNumber(CharSequence, int, int)}.<br>
+	 * @param start The start index of the number (inclusive)
+	 * @param end The end index of the number (exclusive)
+	 * @return The parsed number or null if the region is not a valid number
+	 */
+	private Number readNumber(int start, int end) {
+		int i = start;
+		boolean negative = this.buffer.get(i) == '-';
+		if (negative) {
+			i++;
+		}
+		int digits = end - i;
+		if (0 < digits && digits <= 18 && (digits == 1 || this.buffer.get(i) != '0')) {
+			long value = 0;
+			for (; i < end; i++) {
+				int digit = this.buffer.get(i) - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				value = value * 10 + digit;
+			}
+			if (i == end) {
+				return negative ? -value : value;
+			}
+		}
+		String value = this.decode(start, end);
+		return JsonHelper.parseNumber(value, 0, value.length());
+	}
+	//endregion
+	
+	//region Helper methods
+	
+	/**
+	 * Checks if the given byte is a structural json character which terminates unquoted values.<br>
+	 * @param b The byte to check
+	 * @return True if the byte is a structural character, otherwise false
+	 */
+	private static boolean isStructuralCharacter(byte b) {
+		return b >= 0 && JsonHelper.isStructuralCharacter((char) b);
+	}
+	
+	/**
+	 * Checks if the given byte terminates an unquoted value in the structural index.<br>
+	 * @param b The byte to check
+	 * @return True if the byte is an ascii whitespace, a structural character, a colon or a quote, otherwise false
+	 */
+	private static boolean isTokenBoundary(byte b) {
+		return b == ' ' || b == '\n' || b == '\t' || b == '\r' || b == ':' || b == '"' || isStructuralCharacter(b);
+	}
+	
+	/**
+	 * Returns the length in bytes of the whitespace character at the given index.<br>
+	 * A whitespace is a character that returns true when calling {@link Character#isWhitespace(char)},<br>
+	 * all non-ascii whitespaces are encoded in three bytes.<br>
+	 * @param i The index of the character
+	 * @return The length of the whitespace or 0 if the character is not a whitespace
+	 */
+	private int whitespaceLength(int i) {
+		byte b = this.buffer.get(i);
+		if (b >= 0) {
+			return Character.isWhitespace((char) b) ? 1 : 0;
+		}
+		if ((b & 0xF0) != 0xE0 || i + 2 >= this.end) {
+			return 0;
+		}
+		byte second = this.buffer.get(i + 1);
+		byte third = this.buffer.get(i + 2);
+		if ((second & 0xC0) != 0x80 || (third & 0xC0) != 0x80) {
+			return 0;
+		}
+		char c = (char) (((b & 0x0F) << 12) | ((second & 0x3F) << 6) | (third & 0x3F));
+		return Character.isWhitespace(c) ? 3 : 0;
+	}
+	
+	/**
+	 * Checks if the region between the given indices contains any non-ascii byte.<br>
+	 * @param start The start index of the region (inclusive)
+	 * @param end The end index of the region (exclusive)
+	 * @return True if the region contains a non-ascii byte, otherwise false
+	 */
+	private boolean containsNonAscii(int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (this.buffer.get(i) < 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks whether there are more bytes to read.<br>
+	 * @return True if there are more bytes to read, otherwise false
+	 */
+	private boolean canRead() {
+		return this.index < this.end;
+	}
+	
+	/**
+	 * Returns the byte at the current index without moving the index.<br>
+	 * @return The current byte
+	 */
+	private byte peek() {
+		return this.buffer.get(this.index);
+	}
+	
+	/**
+	 * Returns the character at the current index, used for error messages.<br>
+	 * @return The current character
+	 */
+	private char peekChar() {
+		return this.charAt(this.index);
+	}
+	
+	/**
+	 * Decodes the character at the given index, used for error messages.<br>
+	 * For supplementary characters, the high surrogate is returned.<br>
+	 * @param i The index of the character
+	 * @return The decoded character
+	 */
+	private char charAt(int i) {
+		byte b = this.buffer.get(i);
+		return b >= 0 ? (char) b : this.decode(i, Math.min(i + 4, this.end)).charAt(0);
+	}
+	
+	/**
+	 * Skips all whitespaces starting at the current index.<br>
+	 */
+	private void skipWhitespaces() {
+		while (this.index < this.end) {
+			byte b = this.buffer.get(this.index);
+			if (b == ' ' || b == '\n' || b == '\t' || b == '\r') {
+				this.index++;
+			} else {
+				int whitespace = this.whitespaceLength(this.index);
+				if (whitespace == 0) {
+					return;
+				}
+				this.index += whitespace;
+			}
+		}
+	}
+	
+	/**
+	 * Decodes the bytes between the given indices as utf-8.<br>
+	 * @param start The start index (inclusive)
+	 * @param end The end index (exclusive)
+	 * @return The decoded string
+	 */
+	private @NotNull String decode(int start, int end) {
+		if (this.buffer.hasArray()) {
+			return new String(this.buffer.array(), this.buffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+		}
+		byte[] bytes = new byte[end - start];
+		this.buffer.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Creates a new json syntax exception with the given message.<br>
+	 * The line and column of the current index are appended to the message.<br>
+	 * The column is counted in characters, multibyte sequences are counted once and supplementary characters twice.<br>
+	 * @param message The message of the exception
+	 * @return The created exception
+	 */
+	private @NotNull JsonSyntaxException createException(@NotNull String message) {
+		int line = 1;
+		int column = 1;
+		int position = Math.min(this.index, this.end);
+		for (int i = 0; i < position; i++) {
+			byte b = this.buffer.get(i);
+			if (b == '\n') {
+				line++;
+				column = 1;
+			} else if ((b & 0xC0) != 0x80) {
+				column += (b & 0xF8) == 0xF0 ? 2 : 1;
+			}
+		}
+		return new JsonSyntaxException(message + " at line " + line + ", column " + column);
+	}
+	//endregion
+	
+	/**
+	 * Closes this reader and asserts that there is no remaining content after the read json element.<br>
+	 * In strict mode, remaining content is already rejected when the json element is read.<br>
+	 * If no json element has been read completely, the remaining content is not checked.<br>
+	 * @throws JsonSyntaxException If a json element has been read and the input contains further content
+	 */
+	@Override
+	public void close() {
+		this.skipWhitespaces();
+		if (this.read && this.canRead()) {
+			throw this.createException("Invalid json, expected end of input but got: '" + this.peekChar() + "'");
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import jdk.incubator.vector.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Stage one of the structural index, implemented with the incubating vector api.<br>
+ * <p>
+ *     This class must only be loaded through {@link JsonStructuralIndex},<br>
+ *     which checks that the module {@code jdk.incubator.vector} is available before.<br>
+ * </p>
+ * <p>
+ *     The input is processed in blocks of 64 bytes, each block is loaded into vectors of the preferred species.<br>
+ *     For each block, bit masks of quotes, backslashes, structural characters and whitespaces are computed by lane-wise comparisons.<br>
+ *     From these masks the escaped characters and the string regions are derived without branching on the content,<br>
+ *     the carries between blocks are kept in a few words of state.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class JsonVectorIndex {
+	
+	/**
+	 * The species used to load the input, its length is a divisor of the block size.<br>
+	 */
+	private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() <= 64 ? ByteVector.SPECIES_PREFERRED : ByteVector.SPECIES_512;
+	/**
+	 * Mask of all odd bits, used to resolve backslash sequences.<br>
+	 */
+	private static final long ODD_BITS = 0xAAAAAAAAAAAAAAAAL;
+	
+	/**
+	 * Private constructor to prevent instantiation.<br>
+	 * This is a static helper class.<br>
+	 */
+	private JsonVectorIndex() {}
+	
+	/**
+	 * Builds the structural index of the given utf-8 encoded input.<br>
+	 * @param buffer The buffer containing the input, starting at index 0
+	 * @param end The exclusive end index of the input
+	 * @return The offsets of all tokens in ascending order or null if the input ends inside a string
+	 * @see JsonStructuralIndex#build(ByteBuffer, int)
+	 */
+	static int @Nullable [] build(@NotNull ByteBuffer buffer, int end) {
+		byte[] array = buffer.hasArray() ? buffer.array() : null;
+		int arrayOffset = buffer.hasArray() ? buffer.arrayOffset() : 0;
+		byte[] block = new byte[64];
+		int[] tokens = new int[Math.max(16, end >>> 3)];
+		int count = 0;
+		long nextEscaped = 0;
+		long previousInString = 0;
+		long previousScalar = 0;
+		for (int base = 0; base < end; base += 64) {
+			byte[] source = array;
+			int offset = arrayOffset + base;
+			if (array == null || base + 64 > end) {
+				int length = Math.min(64, end - base);
+				buffer.get(base, block, 0, length);
+				Arrays.fill(block, length, 64, (byte) ' ');
+				source = block;
+				offset = 0;
+			}
+			
+			long quotes = 0;
+			long backslashes = 0;
+			long structurals = 0;
+			long whitespaces = 0;
+			for (int lane = 0; lane < 64; lane += SPECIES.length()) {
+				ByteVector vector = ByteVector.fromArray(SPECIES, source, offset + lane);
+				ByteVector folded = vector.or((byte) 0x20);
+				quotes |= vector.eq((byte) '"').toLong() << lane;
+				backslashes |= vector.eq((byte) '\\').toLong() << lane;
+				structurals |= folded.eq((byte) '{').or(folded.eq((byte) '}')).or(vector.eq((byte) ',')).or(vector.eq((byte) ':')).toLong() << lane;
+				whitespaces |= vector.eq((byte) ' ').or(vector.eq((byte) '\n')).or(vector.eq((byte) '\t')).or(vector.eq((byte) '\r')).toLong() << lane;
+			}
+			
+			long escaped;
+			if (backslashes == 0) {
+				escaped = nextEscaped;
+				nextEscaped = 0;
+			} else {
+				long potentialEscapes = backslashes & ~nextEscaped;
+				long codes = (((potentialEscapes << 1) | ODD_BITS) - potentialEscapes) ^ ODD_BITS;
+				escaped = codes ^ (backslashes | nextEscaped);
+				nextEscaped = (codes & backslashes) >>> 63;
+			}
+			quotes &= ~escaped;
+			long inString = prefixXor(quotes) ^ previousInString;
+			previousInString = inString >> 63;
+			
+			long outside = ~(inString | quotes);
+			long scalars = outside & ~(structurals | whitespaces);
+			long scalarStarts = scalars & ~((scalars << 1) | previousScalar);
+			previousScalar = scalars >>> 63;
+			
+			long mask = (structurals & outside) | quotes | scalarStarts;
+			if (count + Long.bitCount(mask) > tokens.length) {
+				tokens = Arrays.copyOf(tokens, Math.max(tokens.length * 2, count + 64));
+			}
+			while (mask != 0) {
+				tokens[count++] = base + Long.numberOfTrailingZeros(mask);
+				mask &= mask - 1;
+			}
+		}
+		return previousInString != 0 ? null : Arrays.copyOf(tokens, count);
+	}
+	
+	/**
+	 * Computes the prefix xor of the given mask.<br>
+	 * Bit i of the result is set if an odd number of bits at or below i are set in the mask.<br>
+	 * @param mask The mask
+	 * @return The prefix xor
+	 */
+	private static long prefixXor(long mask) {
+		mask ^= mask << 1;
+		mask ^= mask << 2;
+		mask ^= mask << 4;
+		mask ^= mask << 8;
+		mask ^= mask << 16;
+		mask ^= mask << 32;
+		return mask;
+	}
+}
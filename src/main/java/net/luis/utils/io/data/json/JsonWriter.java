@@ -15,24 +15,73 @@
  * You should have received a copy of the GNU General Public License
  * along with this program. If not, see <https://www.gnu.org/licenses/>.
  */
-
 package net.luis.utils.io.data.json;
 
 import net.luis.utils.io.data.OutputProvider;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * A json writer for writing json elements to an output.<br>
- * The writer can be used to write json arrays, objects, values and null values.<br>
- * The writer expects only one json element per output.<br>
+ * A json writer for writing json elements to an {@link OutputProvider output provider}.<br>
+ * <p>
+ *     The json elements are serialized directly into the output without building intermediate strings.<br>
+ *     The indentation is tracked by the nesting depth, therefore the serialization is linear in the size of the json element.<br>
+ * </p>
+ * <p>
+ *     In addition to writing complete json elements, the writer can be used to write json incrementally<br>
+ *     using {@link #beginObject()}, {@link #name(String)}, {@link #value(String)}, {@link #endObject()} and so on.<br>
+ *     Json objects and arrays which are written incrementally are never simplified, since their size is not known in advance.<br>
+ *     The incremental writing only accepts a single top-level value, all json objects and arrays must be ended before the writer is closed.<br>
+ * </p>
+ * Example usage:<br>
+ * <pre>{@code
+ * try (JsonWriter writer = new JsonWriter(output)) {
+ *     writer.beginObject().name("id").value(42).name("tags").beginArray().value("a").value("b").endArray().endObject();
+ * }
+ * }</pre>
  *
  * @author Luis-St
  */
 public class JsonWriter implements AutoCloseable {
 	
+	/**
+	 * Scope constant for the top level of the output before a value was written.<br>
+	 */
+	private static final int DOCUMENT = 0;
+	/**
+	 * Scope constant for a json array without any elements written so far.<br>
+	 */
+	private static final int EMPTY_ARRAY = 1;
+	/**
+	 * Scope constant for a json array with at least one element written.<br>
+	 */
+	private static final int NONEMPTY_ARRAY = 2;
+	/**
+	 * Scope constant for a json object without any entries written so far.<br>
+	 */
+	private static final int EMPTY_OBJECT = 3;
+	/**
+	 * Scope constant for a json object whose entry name was written but not its value.<br>
+	 */
+	private static final int DANGLING_NAME = 4;
+	/**
+	 * Scope constant for a json object with at least one entry written.<br>
+	 */
+	private static final int NONEMPTY_OBJECT = 5;
+	/**
+	 * Scope constant for the top level of the output after a value was written.<br>
+	 */
+	private static final int NONEMPTY_DOCUMENT = 6;
+	
 	/**
 	 * The json config used by the writer.<br>
 	 */
@@ -40,7 +89,15 @@ public class JsonWriter implements AutoCloseable {
 	/**
 	 * The internal writer used to write the json elements.<br>
 	 */
-	private final BufferedWriter writer;
+	private final Writer writer;
+	/**
+	 * The stack of scopes of the incremental writing, the last entry is the current scope.<br>
+	 */
+	private int[] scopes = new int[32];
+	/**
+	 * The number of scopes on the stack.<br>
+	 */
+	private int scopeSize;
 	
 	/**
 	 * Constructs a new json writer with the default configuration.<br>
@@ -58,13 +115,59 @@ public class JsonWriter implements AutoCloseable {
 	 * @throws NullPointerException If the output or the configuration is null
 	 */
 	public JsonWriter(@NotNull OutputProvider output, @NotNull JsonConfig config) {
+		this(new BufferedWriter(new OutputStreamWriter(Objects.requireNonNull(output, "Output must not be null").getStream(), Objects.requireNonNull(config, "Json config must not be null").charset())), config);
+	}
+	
+	/**
+	 * Constructs a new json writer for the given writer and configuration.<br>
+	 * The writer is used as it is without additional buffering.<br>
+	 * @param writer The writer to write to
+	 * @param config The configuration to use for the writer
+	 * @throws NullPointerException If the writer or the configuration is null
+	 */
+	private JsonWriter(@NotNull Writer writer, @NotNull JsonConfig config) {
 		this.config = Objects.requireNonNull(config, "Json config must not be null");
-		this.writer = new BufferedWriter(new OutputStreamWriter(Objects.requireNonNull(output, "Output must not be null").getStream(), config.charset()));
+		this.writer = Objects.requireNonNull(writer, "Writer must not be null");
+		this.scopes[this.scopeSize++] = DOCUMENT;
+	}
+	
+	/**
+	 * Serializes the given json element into a string using the given configuration.<br>
+	 * @param json The json element to serialize
+	 * @param config The configuration to use
+	 * @return The serialized json element
+	 * @throws NullPointerException If the json element or the configuration is null
+	 */
+	static @NotNull String writeToString(@NotNull JsonElement json, @NotNull JsonConfig config) {
+		StringWriter writer = new StringWriter();
+		new JsonWriter(writer, config).writeJson(json);
+		return writer.toString();
+	}
+	
+	/**
+	 * Converts the given number into a json number literal.<br>
+	 * @param value The number to convert
+	 * @return The json number literal
+	 * @throws IllegalArgumentException If the number is not finite or its string representation is not a valid json number
+	 */
+	private static @NotNull String toNumberLiteral(@NotNull Number value) {
+		if (value instanceof Double || value instanceof Float) {
+			if (!Double.isFinite(value.doubleValue())) {
+				throw new IllegalArgumentException("Unable to write number '" + value + "', json numbers must be finite");
+			}
+			return value.toString();
+		}
+		String literal = value.toString();
+		boolean known = value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof BigInteger || value instanceof BigDecimal || value instanceof AtomicInteger || value instanceof AtomicLong;
+		if (!known && !JsonHelper.isNumberLiteral(literal)) {
+			throw new IllegalArgumentException("Unable to write number '" + literal + "' of type " + value.getClass().getName() + ", it is not a valid json number");
+		}
+		return literal;
 	}
 	
 	/**
 	 * Writes the given json element to the output.<br>
-	 * The json element is written as a string with the configuration of the writer.<br>
+	 * The json element is serialized with the configuration of the writer.<br>
 	 * @param json The json element to write
 	 * @throws NullPointerException If the json element is null
 	 * @throws UncheckedIOException If an I/O error occurs
@@ -72,15 +175,399 @@ public class JsonWriter implements AutoCloseable {
 	public void writeJson(@NotNull JsonElement json) {
 		Objects.requireNonNull(json, "Json element must not be null");
 		try {
-			this.writer.write(json.toString(this.config));
+			this.writeElement(json, 0);
 			this.writer.flush();
 		} catch (IOException e) {
 			throw new UncheckedIOException("An I/O error occurred while writing the json element", e);
 		}
 	}
 	
+	//region Tree serialization
+	
+	/**
+	 * Writes the given json element at the given depth.<br>
+	 * @param json The json element to write
+	 * @param depth The indentation depth of the json element
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void writeElement(@NotNull JsonElement json, int depth) throws IOException {
+		if (json instanceof JsonObject object) {
+			this.writeObject(object, depth);
+		} else if (json instanceof JsonArray array) {
+			this.writeArray(array, depth);
+		} else if (json instanceof JsonPrimitive primitive && primitive.isQuoted()) {
+			this.writer.write('"');
+			this.writer.write(primitive.getAsString());
+			this.writer.write('"');
+		} else if (json instanceof JsonPrimitive primitive) {
+			this.writer.write(primitive.getAsString());
+		} else {
+			this.writer.write(json.toString(this.config));
+		}
+	}
+	
+	/**
+	 * Writes the given json array at the given depth.<br>
+	 * If the array is simplified, it is written in a single line, otherwise each element is written in its own line if pretty print is enabled.<br>
+	 * @param array The json array to write
+	 * @param depth The indentation depth of the json array
+	 * @throws IOException If an I/O error occurs
+	 */
+	@SuppressWarnings("DuplicatedCode")
+	private void writeArray(@NotNull JsonArray array, int depth) throws IOException {
+		this.writer.write('[');
+		int size = array.size();
+		boolean shouldSimplify = this.config.simplifyArrays() && this.config.maxArraySimplificationSize() >= size;
+		boolean expand = this.config.prettyPrint() && !shouldSimplify;
+		int index = 0;
+		for (JsonElement element : array) {
+			if (expand) {
+				this.writeLineBreak(depth + 1);
+			}
+			this.writeElement(element, expand ? depth + 1 : depth);
+			if (++index < size) {
+				this.writer.write(shouldSimplify ? ", " : ",");
+			} else if (expand) {
+				this.writeLineBreak(depth);
+			}
+		}
+		this.writer.write(']');
+	}
+	
+	/**
+	 * Writes the given json object at the given depth.<br>
+	 * If the object is simplified, it is written in a single line, otherwise each entry is written in its own line if pretty print is enabled.<br>
+	 * @param object The json object to write
+	 * @param depth The indentation depth of the json object
+	 * @throws IOException If an I/O error occurs
+	 */
+	@SuppressWarnings("DuplicatedCode")
+	private void writeObject(@NotNull JsonObject object, int depth) throws IOException {
+		this.writer.write('{');
+		int size = object.size();
+		if (size > 0) {
+			boolean shouldSimplify = this.config.simplifyObjects() && this.config.maxObjectSimplificationSize() >= size;
+			boolean expand = this.config.prettyPrint() && !shouldSimplify;
+			if (shouldSimplify) {
+				this.writer.write(' ');
+			}
+			int index = 0;
+			for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+				if (expand) {
+					this.writeLineBreak(depth + 1);
+				}
+				this.writeName(entry.getKey());
+				this.writeElement(entry.getValue(), expand ? depth + 1 : depth);
+				if (++index < size) {
+					this.writer.write(shouldSimplify ? ", " : ",");
+				} else if (expand) {
+					this.writeLineBreak(depth);
+				}
+			}
+			if (shouldSimplify) {
+				this.writer.write(' ');
+			}
+		}
+		this.writer.write('}');
+	}
+	
+	/**
+	 * Writes the given name of a json object entry followed by the name separator.<br>
+	 * @param name The name to write
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void writeName(@NotNull String name) throws IOException {
+		this.writer.write('"');
+		this.writer.write(name);
+		this.writer.write("\": ");
+	}
+	
+	/**
+	 * Writes a line break followed by the indent of the given depth.<br>
+	 * @param depth The indentation depth of the new line
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void writeLineBreak(int depth) throws IOException {
+		this.writer.write(System.lineSeparator());
+		for (int i = 0; i < depth; i++) {
+			this.writer.write(this.config.indent());
+		}
+	}
+	//endregion
+	
+	//region Incremental writing
+	
+	/**
+	 * Begins a new json object.<br>
+	 * The json object must be ended with {@link #endObject()}.<br>
+	 * @return This writer
+	 * @throws IllegalStateException If a value is not allowed at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter beginObject() {
+		return this.begin(EMPTY_OBJECT, '{');
+	}
+	
+	/**
+	 * Ends the current json object.<br>
+	 * @return This writer
+	 * @throws IllegalStateException If there is no open json object or the value of the last entry is missing
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter endObject() {
+		return this.end(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+	}
+	
+	/**
+	 * Begins a new json array.<br>
+	 * The json array must be ended with {@link #endArray()}.<br>
+	 * @return This writer
+	 * @throws IllegalStateException If a value is not allowed at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter beginArray() {
+		return this.begin(EMPTY_ARRAY, '[');
+	}
+	
+	/**
+	 * Ends the current json array.<br>
+	 * @return This writer
+	 * @throws IllegalStateException If there is no open json array
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter endArray() {
+		return this.end(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+	}
+	
+	/**
+	 * Writes the name of the next entry of the current json object.<br>
+	 * The name must be followed by a value.<br>
+	 * @param name The name to write
+	 * @return This writer
+	 * @throws NullPointerException If the name is null
+	 * @throws IllegalStateException If the writer is not inside a json object or the value of the last entry is missing
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter name(@NotNull String name) {
+		Objects.requireNonNull(name, "Name must not be null");
+		int scope = this.scopes[this.scopeSize - 1];
+		if (scope != EMPTY_OBJECT && scope != NONEMPTY_OBJECT) {
+			throw new IllegalStateException("Unable to write name '" + name + "', expected to be inside a json object before a value");
+		}
+		try {
+			if (scope == NONEMPTY_OBJECT) {
+				this.writer.write(',');
+			}
+			if (this.config.prettyPrint()) {
+				this.writeLineBreak(this.scopeSize - 1);
+			}
+			this.writeName(name);
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the json name", e);
+		}
+		this.scopes[this.scopeSize - 1] = DANGLING_NAME;
+		return this;
+	}
+	
+	/**
+	 * Writes the given string value.<br>
+	 * The string is enclosed in double quotes and written as it is, like the value of a json primitive.<br>
+	 * If the string is null, a json null value is written.<br>
+	 * @param value The string to write
+	 * @return This writer
+	 * @throws IllegalStateException If a value is not allowed at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter value(@Nullable String value) {
+		return value == null ? this.nullValue() : this.writeRaw("\"" + value + "\"");
+	}
+	
+	/**
+	 * Writes the given boolean value.<br>
+	 * @param value The boolean to write
+	 * @return This writer
+	 * @throws IllegalStateException If a value is not allowed at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter value(boolean value) {
+		return this.writeRaw(value ? "true" : "false");
+	}
+	
+	/**
+	 * Writes the given number value.<br>
+	 * If the number is null, a json null value is written.<br>
+	 * @param value The number to write
+	 * @return This writer
+	 * @throws IllegalArgumentException If the number is not finite or not a valid json number
+	 * @throws IllegalStateException If a value is not allowed at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter value(@Nullable Number value) {
+		return value == null ? this.nullValue() : this.writeRaw(toNumberLiteral(value));
+	}
+	
+	/**
+	 * Writes the given json element as value.<br>
+	 * The json element is serialized like in {@link #writeJson(JsonElement)} and indented by the current depth.<br>
+	 * If the json element is null, a json null value is written.<br>
+	 * @param json The json element to write
+	 * @return This writer
+	 * @throws IllegalStateException If a value is not allowed at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter value(@Nullable JsonElement json) {
+		if (json == null) {
+			return this.nullValue();
+		}
+		try {
+			this.beforeValue();
+			this.writeElement(json, this.scopeSize - 1);
+			this.afterValue();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the json element", e);
+		}
+		return this;
+	}
+	
+	/**
+	 * Writes a json null value.<br>
+	 * @return This writer
+	 * @throws IllegalStateException If a value is not allowed at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull JsonWriter nullValue() {
+		return this.writeRaw("null");
+	}
+	
+	/**
+	 * Flushes the underlying output.<br>
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void flush() {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while flushing the json writer", e);
+		}
+	}
+	//endregion
+	
+	//region Incremental helper methods
+	
+	/**
+	 * Begins a new json object or array with the given scope and opening bracket.<br>
+	 * @param scope The scope of the json object or array
+	 * @param bracket The opening bracket
+	 * @return This writer
+	 * @throws IllegalStateException If a value is not allowed at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private @NotNull JsonWriter begin(int scope, char bracket) {
+		try {
+			this.beforeValue();
+			this.writer.write(bracket);
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the json content", e);
+		}
+		if (this.scopeSize == this.scopes.length) {
+			this.scopes = Arrays.copyOf(this.scopes, this.scopeSize * 2);
+		}
+		this.scopes[this.scopeSize++] = scope;
+		return this;
+	}
+	
+	/**
+	 * Ends the current json object or array.<br>
+	 * @param emptyScope The scope of the empty json object or array
+	 * @param nonemptyScope The scope of the non-empty json object or array
+	 * @param bracket The closing bracket
+	 * @return This writer
+	 * @throws IllegalStateException If the current scope does not match the given scopes
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private @NotNull JsonWriter end(int emptyScope, int nonemptyScope, char bracket) {
+		int scope = this.scopes[this.scopeSize - 1];
+		if (scope != emptyScope && scope != nonemptyScope) {
+			throw new IllegalStateException("Unable to write '" + bracket + "', the current json scope does not match or the value of the last entry is missing");
+		}
+		this.scopeSize--;
+		try {
+			if (scope == nonemptyScope && this.config.prettyPrint()) {
+				this.writeLineBreak(this.scopeSize - 1);
+			}
+			this.writer.write(bracket);
+			this.afterValue();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the json content", e);
+		}
+		return this;
+	}
+	
+	/**
+	 * Writes the given raw value at the current position.<br>
+	 * @param value The raw value to write
+	 * @return This writer
+	 * @throws IllegalStateException If a value is not allowed at the current position
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private @NotNull JsonWriter writeRaw(@NotNull String value) {
+		try {
+			this.beforeValue();
+			this.writer.write(value);
+			this.afterValue();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the json value", e);
+		}
+		return this;
+	}
+	
+	/**
+	 * Prepares the output for the next value depending on the current scope.<br>
+	 * @throws IllegalStateException If a value is not allowed at the current position or a top-level value was already written
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void beforeValue() throws IOException {
+		int scope = this.scopes[this.scopeSize - 1];
+		switch (scope) {
+			case EMPTY_ARRAY, NONEMPTY_ARRAY -> {
+				if (scope == NONEMPTY_ARRAY) {
+					this.writer.write(',');
+				}
+				if (this.config.prettyPrint()) {
+					this.writeLineBreak(this.scopeSize - 1);
+				}
+				this.scopes[this.scopeSize - 1] = NONEMPTY_ARRAY;
+			}
+			case DANGLING_NAME -> this.scopes[this.scopeSize - 1] = NONEMPTY_OBJECT;
+			case EMPTY_OBJECT, NONEMPTY_OBJECT -> throw new IllegalStateException("Unable to write value, expected a name inside of a json object");
+			case NONEMPTY_DOCUMENT -> throw new IllegalStateException("Unable to write value, the json document already contains a top-level value");
+			default -> this.scopes[this.scopeSize - 1] = NONEMPTY_DOCUMENT;
+		}
+	}
+	
+	/**
+	 * Flushes the output if a top-level value was completed.<br>
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void afterValue() throws IOException {
+		if (this.scopeSize == 1) {
+			this.writer.flush();
+		}
+	}
+	//endregion
+	
+	/**
+	 * Closes the underlying output.<br>
+	 * @throws IOException If an I/O error occurs
+	 * @throws IllegalStateException If a json object or array which was begun incrementally has not been ended
+	 */
 	@Override
 	public void close() throws IOException {
 		this.writer.close();
+		int unclosed = this.scopeSize - 1;
+		if (unclosed > 0) {
+			this.scopeSize = 1;
+			throw new IllegalStateException("Json writer was closed with " + unclosed + " unclosed json object(s) or array(s)");
+		}
 	}
 }
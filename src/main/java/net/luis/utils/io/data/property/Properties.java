@@ -18,7 +18,6 @@
 
 package net.luis.utils.io.data.property;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.*;
@@ -28,6 +27,10 @@ import java.util.*;
 /**
  * Represents a collection of properties.<br>
  * This class is immutable and is used for reading properties only.<br>
+ * <p>
+ *     Subgroups are resolved using an index of the dot-separated key parts, which is created once on the first subgroup query.<br>
+ *     The properties of a subgroup are views of the properties of this instance, their keys are only shortened when they are requested.<br>
+ * </p>
  *
  * @author Luis-St
  */
@@ -36,8 +39,14 @@ public class Properties {
 	/**
 	 * The internal map of properties.<br>
 	 * For performance reasons, the properties are stored with their keys as the map key.<br>
+	 * If this instance is a subgroup of other properties, the map is null and the properties are provided by the group.<br>
 	 */
-	private final Map<String, Property> properties = Maps.newLinkedHashMap();
+	private final Map<String, Property> properties;
+	/**
+	 * The group index of the properties.<br>
+	 * If this instance is a subgroup of other properties, the index is the group itself.<br>
+	 */
+	private volatile Group index;
 	
 	/**
 	 * Constructs a new properties instance from a list of properties.<br>
@@ -46,7 +55,9 @@ public class Properties {
 	 */
 	public Properties(@NotNull List<Property> properties) {
 		Objects.requireNonNull(properties, "Properties must not be null");
-		properties.forEach(property -> this.properties.put(property.getKey(), property));
+		Map<String, Property> map = Maps.newLinkedHashMap();
+		properties.forEach(property -> map.put(property.getKey(), property));
+		this.properties = map;
 	}
 	
 	/**
@@ -56,40 +67,24 @@ public class Properties {
 	 */
 	public Properties(@NotNull Map<String, Property> properties) {
 		Objects.requireNonNull(properties, "Properties must not be null");
-		this.properties.putAll(properties);
+		this.properties = Maps.newLinkedHashMap(properties);
 	}
 	
-	//region Static helper methods
-	
 	/**
-	 * Copies a property and removes the specified subgroup from the key.<br>
-	 * If the subgroup is null or empty, the property is copied without any changes.<br>
-	 * @param property The property to copy
-	 * @param subgroup The subgroup to remove from the key
-	 * @return The copied property with the subgroup removed from the key
-	 * @throws IllegalArgumentException If the property is not part of the specified subgroup
+	 * Constructs a new properties instance which represents the given group of other properties.<br>
+	 * @param group The group to construct the instance from
 	 */
-	private static @NotNull Property copyPropertyAndRemoveGroup(@NotNull Property property, @Nullable String subgroup) {
-		if (!property.isPartOfGroup(subgroup)) {
-			throw new IllegalArgumentException("Property '" + property.getKey() + "' is not part of subgroup '" + subgroup + "'");
-		}
-		if (StringUtils.isEmpty(subgroup)) {
-			return Property.of(property.getKey(), property.getRawValue());
-		}
-		String key = property.getKey();
-		if (key.startsWith(subgroup.endsWith(".") ? subgroup : subgroup + ".")) {
-			key = key.substring(subgroup.length() + 1);
-		}
-		return Property.of(key, property.getRawValue());
+	private Properties(@NotNull Group group) {
+		this.properties = null;
+		this.index = group;
 	}
-	//endregion
 	
 	/**
 	 * Returns the number of properties in this instance.<br>
 	 * @return The number of properties
 	 */
 	public int size() {
-		return this.properties.size();
+		return this.properties == null ? this.index.size : this.properties.size();
 	}
 	
 	/**
@@ -97,6 +92,9 @@ public class Properties {
 	 * @return A collection of all properties
 	 */
 	public @NotNull @Unmodifiable Collection<Property> getProperties() {
+		if (this.properties == null) {
+			return this.index.getViews();
+		}
 		return Collections.unmodifiableCollection(this.properties.values());
 	}
 	
@@ -108,7 +106,7 @@ public class Properties {
 	 */
 	public boolean hasProperty(@NotNull String key) {
 		Objects.requireNonNull(key, "Key must not be null");
-		return this.properties.containsKey(key);
+		return this.getPropertyMap().containsKey(key);
 	}
 	
 	/**
@@ -119,24 +117,49 @@ public class Properties {
 	 */
 	public @Nullable Property getProperty(@NotNull String key) {
 		Objects.requireNonNull(key, "Key must not be null");
-		return this.properties.get(key);
+		return this.getPropertyMap().get(key);
 	}
 	
 	/**
 	 * Returns all properties that are part of the specified subgroup.<br>
 	 * If the subgroup is null or empty, all properties are returned.<br>
-	 * The properties are copied and the subgroup is removed from the key.<br>
+	 * The subgroup is removed from the keys of the returned properties.<br>
+	 * <p>
+	 *     The lookup only depends on the number of parts of the subgroup, the returned instance shares the properties of this instance.<br>
+	 *     Subgroups of the returned instance are resolved using the same index.<br>
+	 * </p>
 	 * @param subgroup The subgroup to get the properties for
-	 * @return A new properties instance containing all properties that are part of the specified subgroup
+	 * @return A properties instance containing all properties that are part of the specified subgroup
+	 * @throws IllegalArgumentException If this instance is not empty and the subgroup is blank or starts with a dot
+	 * @see Property#isPartOfGroup(String)
 	 */
 	public @NotNull Properties getPropertiesOfSubgroup(@Nullable String subgroup) {
-		List<Property> properties = Lists.newArrayList();
-		this.properties.values().forEach(property -> {
-			if (property.isPartOfGroup(subgroup)) {
-				properties.add(copyPropertyAndRemoveGroup(property, subgroup));
+		if (StringUtils.isEmpty(subgroup) || this.size() == 0) {
+			return this;
+		}
+		if (subgroup.isBlank()) {
+			throw new IllegalArgumentException("Group must not be blank");
+		}
+		if (subgroup.startsWith(".")) {
+			throw new IllegalArgumentException("Group must not start with a dot");
+		}
+		int end = subgroup.endsWith(".") ? subgroup.length() - 1 : subgroup.length();
+		Group group = this.getIndex();
+		int start = 0;
+		while (true) {
+			int dot = subgroup.indexOf('.', start);
+			if (dot == -1 || dot > end) {
+				dot = end;
 			}
-		});
-		return new Properties(properties);
+			group = group.children.get(subgroup.substring(start, dot));
+			if (group == null) {
+				return new Properties(Map.of());
+			}
+			if (dot == end) {
+				return new Properties(group);
+			}
+			start = dot + 1;
+		}
 	}
 	
 	/**
@@ -147,7 +170,7 @@ public class Properties {
 	@SuppressWarnings("unchecked")
 	public @NotNull Map<String, Object> getGroupedMap() {
 		Map<String, Object> map = Maps.newLinkedHashMap();
-		this.properties.forEach((key, property) -> {
+		this.getPropertyMap().forEach((key, property) -> {
 			String[] keyParts = key.split("\\.");
 			Map<String, Object> currentMap = map;
 			for (int i = 0; i < keyParts.length - 1; i++) {
@@ -158,23 +181,192 @@ public class Properties {
 		return map;
 	}
 	
+	//region Helper methods
+	
+	/**
+	 * Returns the internal map of properties.<br>
+	 * If this instance is a subgroup, the map of the group is returned.<br>
+	 * @return The map of properties
+	 * @see Group#getPropertyMap()
+	 */
+	private @NotNull Map<String, Property> getPropertyMap() {
+		return this.properties == null ? this.index.getPropertyMap() : this.properties;
+	}
+	
+	/**
+	 * Returns the group index of the properties.<br>
+	 * The index is created on the first call if this instance is not a subgroup.<br>
+	 * @return The group index
+	 */
+	private @NotNull Group getIndex() {
+		Group index = this.index;
+		if (index == null) {
+			index = new Group(0);
+			for (Property property : this.properties.values()) {
+				String key = property.getKey();
+				Group group = index;
+				int dot;
+				int start = 0;
+				while ((dot = key.indexOf('.', start)) != -1) {
+					int offset = dot + 1;
+					group = group.children.computeIfAbsent(key.substring(start, dot), k -> new Group(offset));
+					group.add(property);
+					start = offset;
+				}
+			}
+			this.index = index;
+		}
+		return index;
+	}
+	//endregion
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object object) {
 		if (this == object) return true;
 		if (!(object instanceof Properties that)) return false;
 		
-		return this.properties.equals(that.properties);
+		return this.getPropertyMap().equals(that.getPropertyMap());
 	}
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.properties);
+		return Objects.hash(this.getPropertyMap());
 	}
 	
 	@Override
 	public String toString() {
-		return this.properties.toString();
+		return this.getPropertyMap().toString();
+	}
+	//endregion
+	
+	//region Internal classes
+	
+	/**
+	 * A node of the group index.<br>
+	 * A group contains all properties whose keys start with the parts of the group in the order they were added.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private static final class Group {
+		
+		/**
+		 * The nested groups mapped by their key part.<br>
+		 */
+		private final Map<String, Group> children = Maps.newHashMap();
+		/**
+		 * The length of the key prefix of this group including the trailing dot.<br>
+		 */
+		private final int offset;
+		/**
+		 * The properties which are part of this group.<br>
+		 */
+		private Property[] properties = new Property[2];
+		/**
+		 * The number of properties which are part of this group.<br>
+		 */
+		private int size;
+		/**
+		 * The views of the properties of this group, null if the views have not been created yet.<br>
+		 */
+		private volatile List<Property> views;
+		/**
+		 * The views of the properties of this group mapped by their shortened keys, null if the map has not been created yet.<br>
+		 */
+		private volatile Map<String, Property> propertyMap;
+		
+		/**
+		 * Constructs a new group with the given key prefix length.<br>
+		 * @param offset The length of the key prefix of the group
+		 */
+		private Group(int offset) {
+			this.offset = offset;
+		}
+		
+		/**
+		 * Adds the given property to this group.<br>
+		 * @param property The property to add
+		 */
+		private void add(@NotNull Property property) {
+			if (this.size == this.properties.length) {
+				this.properties = Arrays.copyOf(this.properties, this.size * 2);
+			}
+			this.properties[this.size++] = property;
+		}
+		
+		/**
+		 * Returns the views of the properties of this group.<br>
+		 * The views are created once on the first call and shared by all instances which represent this group.<br>
+		 * @return An unmodifiable list of the property views
+		 * @see GroupProperty
+		 */
+		private @NotNull @Unmodifiable List<Property> getViews() {
+			List<Property> views = this.views;
+			if (views == null) {
+				Property[] array = new Property[this.size];
+				for (int i = 0; i < this.size; i++) {
+					array[i] = new GroupProperty(this.properties[i], this.offset);
+				}
+				views = Collections.unmodifiableList(Arrays.asList(array));
+				this.views = views;
+			}
+			return views;
+		}
+		
+		/**
+		 * Returns the views of the properties of this group mapped by their shortened keys.<br>
+		 * The map is created once on the first call and shared by all instances which represent this group.<br>
+		 * @return The map of the property views
+		 */
+		private @NotNull Map<String, Property> getPropertyMap() {
+			Map<String, Property> propertyMap = this.propertyMap;
+			if (propertyMap == null) {
+				propertyMap = Maps.newLinkedHashMapWithExpectedSize(this.size);
+				for (Property property : this.getViews()) {
+					propertyMap.put(property.getKey(), property);
+				}
+				this.propertyMap = propertyMap;
+			}
+			return propertyMap;
+		}
+	}
+	
+	/**
+	 * A view of a property of a group whose key does not contain the key prefix of the group.<br>
+	 * The view shares the key and the value of the viewed property, the shortened key is only created when it is first requested.<br>
+	 *
+	 * @author Luis-St
+	 */
+	private static final class GroupProperty extends Property {
+		
+		/**
+		 * The length of the key prefix which is removed from the key of the viewed property.<br>
+		 */
+		private final int offset;
+		/**
+		 * The shortened key, null if it has not been requested yet.<br>
+		 */
+		private String key;
+		
+		/**
+		 * Constructs a new view of the given property without the given key prefix length.<br>
+		 * @param property The viewed property
+		 * @param offset The length of the key prefix to remove
+		 */
+		private GroupProperty(@NotNull Property property, int offset) {
+			super(property.getKey(), property.getRawValue());
+			this.offset = offset;
+		}
+		
+		@Override
+		public @NotNull String getKey() {
+			String key = this.key;
+			if (key == null) {
+				key = super.getKey().substring(this.offset);
+				this.key = key;
+			}
+			return key;
+		}
 	}
 	//endregion
 }
@@ -125,7 +125,7 @@ public class Property implements DefaultValueGetter {
 		if (!group.endsWith(".")) {
 			group += ".";
 		}
-		return this.key.startsWith(group);
+		return this.getKey().startsWith(group);
 	}
 	
 	//region Object overrides
@@ -134,18 +134,18 @@ public class Property implements DefaultValueGetter {
 		if (this == object) return true;
 		if (!(object instanceof Property property)) return false;
 		
-		if (!this.key.equals(property.key)) return false;
+		if (!this.getKey().equals(property.getKey())) return false;
 		return this.value.equals(property.value);
 	}
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.key, this.value);
+		return Objects.hash(this.getKey(), this.value);
 	}
 	
 	@Override
 	public String toString() {
-		return this.key + "=" + this.value;
+		return this.getKey() + "=" + this.value;
 	}
 	
 	/**
@@ -157,7 +157,7 @@ public class Property implements DefaultValueGetter {
 	public @NotNull String toString(@NotNull PropertyConfig config) {
 		Objects.requireNonNull(config, "Property config must not be null");
 		String alignment = " ".repeat(config.alignment());
-		return this.key + alignment + config.separator() + alignment + this.value;
+		return this.getKey() + alignment + config.separator() + alignment + this.value;
 	}
 	//endregion
 }
@@ -29,7 +29,10 @@ import org.jetbrains.annotations.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.apache.commons.lang3.StringUtils.*;
 
@@ -86,6 +89,7 @@ public class PropertyReader implements AutoCloseable {
 	
 	/**
 	 * A cache for all properties that have been read.<br>
+	 * The cache is only filled if advanced parsing is enabled, since it is only used to resolve variable keys.<br>
 	 */
 	private final Map<String, String> properties = Maps.newLinkedHashMap();
 	/**
@@ -140,6 +144,73 @@ public class PropertyReader implements AutoCloseable {
 	 */
 	public @NotNull Properties readProperties() {
 		List<Property> properties = Lists.newArrayList();
+		this.forEach(properties::add);
+		return new Properties(properties);
+	}
+	
+	//region Streaming
+	
+	/**
+	 * Reads the remaining input line by line and passes each property to the given action.<br>
+	 * The properties are passed in the order in which they have been read without collecting them.<br>
+	 * @param action The action to perform for each property
+	 * @throws NullPointerException If the action is null
+	 * @throws PropertySyntaxException If an error occurs while reading the properties
+	 */
+	public void forEach(@NotNull Consumer<? super Property> action) {
+		Objects.requireNonNull(action, "Action must not be null");
+		List<Property> properties;
+		while ((properties = this.readNextProperties()) != null) {
+			properties.forEach(action);
+		}
+	}
+	
+	/**
+	 * Returns a sequential stream of the remaining properties of the input.<br>
+	 * The input is read lazily line by line, closing the stream closes this reader.<br>
+	 * @return The stream of properties
+	 */
+	public @NotNull Stream<Property> stream() {
+		Iterator<Property> iterator = new Iterator<>() {
+			private Iterator<Property> current = Collections.emptyIterator();
+			
+			@Override
+			public boolean hasNext() {
+				while (!this.current.hasNext()) {
+					List<Property> properties = PropertyReader.this.readNextProperties();
+					if (properties == null) {
+						return false;
+					}
+					this.current = properties.iterator();
+				}
+				return true;
+			}
+			
+			@Override
+			public @NotNull Property next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return this.current.next();
+			}
+		};
+		Spliterator<Property> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+		return StreamSupport.stream(spliterator, false).onClose(() -> {
+			try {
+				this.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException("Failed to close property input", e);
+			}
+		});
+	}
+	
+	/**
+	 * Reads the next line of the input which is neither empty nor a comment and returns the properties of it.<br>
+	 * If advanced parsing is enabled, the properties will be cached to resolve variable keys of later lines.<br>
+	 * @return The properties of the next line or null if the end of the input has been reached
+	 * @throws PropertySyntaxException If an error occurs while reading the properties
+	 */
+	private @Nullable @Unmodifiable List<Property> readNextProperties() {
 		while (true) {
 			String line;
 			try {
@@ -148,17 +219,19 @@ public class PropertyReader implements AutoCloseable {
 				throw new PropertySyntaxException("Unable to read line from input", e);
 			}
 			if (line == null) {
-				break;
+				return null;
 			}
-			List<Property> parsedProperties = this.parseLine(line);
-			if (parsedProperties.isEmpty()) {
+			List<Property> properties = this.parseLine(line);
+			if (properties.isEmpty()) {
 				continue;
 			}
-			properties.addAll(parsedProperties);
-			properties.forEach(property -> this.properties.put(property.getKey(), property.getRawValue()));
+			if (this.config.advancedParsing()) {
+				properties.forEach(property -> this.properties.put(property.getKey(), property.getRawValue()));
+			}
+			return properties;
 		}
-		return new Properties(properties);
 	}
+	//endregion
 	
 	/**
 	 * Parses the given line and returns the properties that have been read.<br>
@@ -28,15 +28,49 @@ import java.util.*;
 /**
  * Represents a collection of xml attributes.<br>
  * The class provides methods to query, add, remove, replace, and get attributes.<br>
+ * <p>
+ *     The attributes are stored in insertion order in a flat array.<br>
+ *     Attributes are looked up linearly, an index of the names is only created for large collections when it is first needed.<br>
+ * </p>
  *
  * @author Luis-St
  */
 public class XmlAttributes {
 	
 	/**
-	 * The map of attributes.<br>
+	 * The shared empty attributes which are used by elements without attributes.<br>
+	 * The collection is unmodifiable, elements replace it with a new collection before it is exposed.<br>
 	 */
-	private final Map<String, XmlAttribute> attributes = Maps.newLinkedHashMap();
+	static final XmlAttributes EMPTY = new XmlAttributes();
+	/**
+	 * The maximum number of attributes which are looked up without an index.<br>
+	 */
+	private static final int MAX_LINEAR_SIZE = 8;
+	/**
+	 * The shared empty names array.<br>
+	 */
+	private static final String[] EMPTY_NAMES = new String[0];
+	/**
+	 * The shared empty attributes array.<br>
+	 */
+	private static final XmlAttribute[] EMPTY_ATTRIBUTES = new XmlAttribute[0];
+	
+	/**
+	 * The names of the attributes, the index matches the index of the attribute.<br>
+	 */
+	private String[] names = EMPTY_NAMES;
+	/**
+	 * The attributes in insertion order.<br>
+	 */
+	private XmlAttribute[] attributes = EMPTY_ATTRIBUTES;
+	/**
+	 * The number of attributes.<br>
+	 */
+	private int size;
+	/**
+	 * The index of the attribute names, null if the index has not been created yet.<br>
+	 */
+	private volatile Map<String, Integer> index;
 	
 	/**
 	 * Constructs a new empty xml attributes collection.<br>
@@ -50,7 +84,7 @@ public class XmlAttributes {
 	 * @throws NullPointerException If the given attributes are null
 	 */
 	public XmlAttributes(@NotNull Map<String, XmlAttribute> attributes) {
-		this.attributes.putAll(Objects.requireNonNull(attributes, "Attributes must not be null"));
+		Objects.requireNonNull(attributes, "Attributes must not be null").forEach(this::put);
 	}
 	
 	//region Query operations
@@ -60,7 +94,7 @@ public class XmlAttributes {
 	 * @return The size of this collection
 	 */
 	public int size() {
-		return this.attributes.size();
+		return this.size;
 	}
 	
 	/**
@@ -68,7 +102,7 @@ public class XmlAttributes {
 	 * @return True if this collection contains no attributes, otherwise false
 	 */
 	public boolean isEmpty() {
-		return this.attributes.isEmpty();
+		return this.size == 0;
 	}
 	
 	/**
@@ -77,7 +111,7 @@ public class XmlAttributes {
 	 * @return True if this collection contains an attribute with the given name, otherwise false
 	 */
 	public boolean containsName(@Nullable String name) {
-		return this.attributes.containsKey(name);
+		return this.indexOf(name) >= 0;
 	}
 	
 	/**
@@ -86,7 +120,14 @@ public class XmlAttributes {
 	 * @return True if this collection contains the given attribute, otherwise false
 	 */
 	public boolean containsValue(@Nullable XmlAttribute attribute) {
-		return this.attributes.containsValue(attribute);
+		if (attribute != null) {
+			for (int i = 0; i < this.size; i++) {
+				if (attribute.equals(this.attributes[i])) {
+					return true;
+				}
+			}
+		}
+		return false;
 	}
 	
 	/**
@@ -94,7 +135,7 @@ public class XmlAttributes {
 	 * @return The set of attribute names
 	 */
 	public @NotNull @Unmodifiable Set<String> nameSet() {
-		return Set.copyOf(this.attributes.keySet());
+		return Set.copyOf(Arrays.asList(this.names).subList(0, this.size));
 	}
 	
 	/**
@@ -102,7 +143,7 @@ public class XmlAttributes {
 	 * @return The collection of attributes
 	 */
 	public @NotNull @Unmodifiable Collection<XmlAttribute> attributes() {
-		return Collections.unmodifiableCollection(this.attributes.values());
+		return List.of(Arrays.copyOf(this.attributes, this.size));
 	}
 	//endregion
 	
@@ -116,7 +157,7 @@ public class XmlAttributes {
 	 */
 	public @Nullable XmlAttribute add(@NotNull XmlAttribute attribute) {
 		Objects.requireNonNull(attribute, "Attribute must not be null");
-		return this.attributes.put(attribute.getName(), attribute);
+		return this.put(attribute.getName(), attribute);
 	}
 	
 	/**
@@ -245,7 +286,19 @@ public class XmlAttributes {
 	 * @return The removed attribute, or null if there was none
 	 */
 	public @Nullable XmlAttribute remove(@Nullable String name) {
-		return this.attributes.remove(name);
+		int position = this.indexOf(name);
+		if (position < 0) {
+			return null;
+		}
+		XmlAttribute attribute = this.attributes[position];
+		int moved = this.size - position - 1;
+		System.arraycopy(this.names, position + 1, this.names, position, moved);
+		System.arraycopy(this.attributes, position + 1, this.attributes, position, moved);
+		this.size--;
+		this.names[this.size] = null;
+		this.attributes[this.size] = null;
+		this.index = null;
+		return attribute;
 	}
 	
 	/**
@@ -264,7 +317,10 @@ public class XmlAttributes {
 	 * Removes all attributes from this collection.<br>
 	 */
 	public void clear() {
-		this.attributes.clear();
+		Arrays.fill(this.names, 0, this.size, null);
+		Arrays.fill(this.attributes, 0, this.size, null);
+		this.size = 0;
+		this.index = null;
 	}
 	//endregion
 	
@@ -280,7 +336,13 @@ public class XmlAttributes {
 	public @Nullable XmlAttribute replace(@NotNull String name, @NotNull XmlAttribute newAttribute) {
 		Objects.requireNonNull(name, "Name must not be null");
 		Objects.requireNonNull(newAttribute, "New attribute must not be null");
-		return this.attributes.replace(name, newAttribute);
+		int position = this.indexOf(name);
+		if (position < 0) {
+			return null;
+		}
+		XmlAttribute attribute = this.attributes[position];
+		this.attributes[position] = newAttribute;
+		return attribute;
 	}
 	
 	/**
@@ -295,7 +357,12 @@ public class XmlAttributes {
 	public boolean replace(@NotNull String name, @Nullable XmlAttribute currentAttribute, @NotNull XmlAttribute newAttribute) {
 		Objects.requireNonNull(name, "Name must not be null");
 		Objects.requireNonNull(newAttribute, "New attribute must not be null");
-		return this.attributes.replace(name, currentAttribute, newAttribute);
+		int position = this.indexOf(name);
+		if (position < 0 || !this.attributes[position].equals(currentAttribute)) {
+			return false;
+		}
+		this.attributes[position] = newAttribute;
+		return true;
 	}
 	//endregion
 	
@@ -309,7 +376,8 @@ public class XmlAttributes {
 	 */
 	public @Nullable XmlAttribute get(@NotNull String name) {
 		Objects.requireNonNull(name, "Name must not be null");
-		return this.attributes.get(name);
+		int position = this.indexOf(name);
+		return position < 0 ? null : this.attributes[position];
 	}
 	
 	/**
@@ -466,18 +534,110 @@ public class XmlAttributes {
 	}
 	//endregion
 	
+	//region Helper methods
+	
+	/**
+	 * Creates a copy of this collection which can be modified independently of this collection.<br>
+	 * The attributes themselves are immutable and therefore not copied.<br>
+	 * If this collection is empty, the shared empty collection is returned.<br>
+	 * @return The copy of this collection
+	 */
+	@NotNull XmlAttributes copy() {
+		if (this.size == 0) {
+			return EMPTY;
+		}
+		XmlAttributes copy = new XmlAttributes();
+		copy.names = Arrays.copyOf(this.names, this.size);
+		copy.attributes = Arrays.copyOf(this.attributes, this.size);
+		copy.size = this.size;
+		return copy;
+	}
+	
+	/**
+	 * Returns the index of the attribute with the given name.<br>
+	 * If the collection is large, the index of the names is used and created if necessary.<br>
+	 * @param name The name of the attribute
+	 * @return The index of the attribute or -1 if there is no attribute with the given name
+	 */
+	private int indexOf(@Nullable String name) {
+		if (name == null) {
+			return -1;
+		}
+		if (this.size > MAX_LINEAR_SIZE) {
+			Map<String, Integer> index = this.index;
+			if (index == null) {
+				index = Maps.newHashMapWithExpectedSize(this.size);
+				for (int i = 0; i < this.size; i++) {
+					index.put(this.names[i], i);
+				}
+				this.index = index;
+			}
+			Integer i = index.get(name);
+			return i == null ? -1 : i;
+		}
+		for (int i = 0; i < this.size; i++) {
+			if (name.equals(this.names[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Associates the given attribute with the given name.<br>
+	 * An existing attribute with the same name is replaced and keeps its position.<br>
+	 * @param name The name of the attribute
+	 * @param attribute The attribute
+	 * @return The previous attribute with the given name, or null if there was none
+	 * @throws UnsupportedOperationException If this collection is the shared empty collection
+	 */
+	private @Nullable XmlAttribute put(@NotNull String name, @NotNull XmlAttribute attribute) {
+		if (this == EMPTY) {
+			throw new UnsupportedOperationException("The shared empty xml attributes are unmodifiable");
+		}
+		int position = this.indexOf(name);
+		if (position >= 0) {
+			XmlAttribute previous = this.attributes[position];
+			this.attributes[position] = attribute;
+			return previous;
+		}
+		if (this.size == this.names.length) {
+			int capacity = Math.max(4, this.size + (this.size >> 1));
+			this.names = Arrays.copyOf(this.names, capacity);
+			this.attributes = Arrays.copyOf(this.attributes, capacity);
+		}
+		this.names[this.size] = name;
+		this.attributes[this.size] = attribute;
+		Map<String, Integer> index = this.index;
+		if (index != null) {
+			index.put(name, this.size);
+		}
+		this.size++;
+		return null;
+	}
+	//endregion
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
 		if (!(o instanceof XmlAttributes that)) return false;
 		
-		return this.attributes.equals(that.attributes);
+		if (this.size != that.size) return false;
+		for (int i = 0; i < this.size; i++) {
+			int position = that.indexOf(this.names[i]);
+			if (position < 0 || !this.attributes[i].equals(that.attributes[position])) return false;
+		}
+		return true;
 	}
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.attributes);
+		int hash = 0;
+		for (int i = 0; i < this.size; i++) {
+			hash += this.names[i].hashCode() ^ this.attributes[i].hashCode();
+		}
+		return 31 + hash;
 	}
 	
 	@Override
@@ -492,7 +652,9 @@ public class XmlAttributes {
 	 */
 	public @NotNull String toString(@Nullable XmlConfig config) {
 		StringBuilder builder = new StringBuilder();
-		this.attributes.forEach((name, value) -> builder.append(value.toString(config)).append(" "));
+		for (int i = 0; i < this.size; i++) {
+			builder.append(this.attributes[i].toString(config)).append(" ");
+		}
 		return builder.toString().strip();
 	}
 	//endregion
@@ -18,6 +18,7 @@
 
 package net.luis.utils.io.data.xml;
 
+import net.luis.utils.io.data.config.ReadOnly;
 import net.luis.utils.io.data.config.WriteOnly;
 import org.jetbrains.annotations.NotNull;
 
@@ -36,6 +37,7 @@ import java.util.Objects;
  * @param allowAttributes Whether to allow attributes in xml elements
  * @param simplifyValues Whether to simplify xml values (write-only)
  * @param charset The charset to use for reading and writing
+ * @param parallel Whether to parse the child elements of large xml root elements in parallel (read-only)
  */
 public record XmlConfig(
 	boolean strict,
@@ -43,7 +45,8 @@ public record XmlConfig(
 	@WriteOnly("prettyPrint") @NotNull String indent,
 	boolean allowAttributes,
 	@WriteOnly boolean simplifyValues,
-	@NotNull Charset charset
+	@NotNull Charset charset,
+	@ReadOnly boolean parallel
 ) {
 	
 	/**
@@ -54,8 +57,23 @@ public record XmlConfig(
 	 * Allow attributes: true<br>
 	 * Simplify values: true<br>
 	 * Charset: UTF-8<br>
+	 * Parallel: false<br>
 	 */
-	public static final XmlConfig DEFAULT = new XmlConfig(true, true, "\t", true, true, StandardCharsets.UTF_8);
+	public static final XmlConfig DEFAULT = new XmlConfig(true, true, "\t", true, true, StandardCharsets.UTF_8, false);
+	
+	/**
+	 * Constructs a new xml configuration with parallel parsing disabled.<br>
+	 * @param strict Whether to use strict xml parsing when reading
+	 * @param prettyPrint Whether to pretty print the xml (write-only)
+	 * @param indent The string to use for indentation (write-only)
+	 * @param allowAttributes Whether to allow attributes in xml elements
+	 * @param simplifyValues Whether to simplify xml values (write-only)
+	 * @param charset The charset to use for reading and writing
+	 * @throws NullPointerException If the indent or charset is null
+	 */
+	public XmlConfig(boolean strict, boolean prettyPrint, @NotNull String indent, boolean allowAttributes, boolean simplifyValues, @NotNull Charset charset) {
+		this(strict, prettyPrint, indent, allowAttributes, simplifyValues, charset, false);
+	}
 	
 	/**
 	 * Constructs a new xml configuration.<br>
@@ -65,6 +83,7 @@ public record XmlConfig(
 	 * @param allowAttributes Whether to allow attributes in xml elements
 	 * @param simplifyValues Whether to simplify xml values (write-only)
 	 * @param charset The charset to use for reading and writing
+	 * @param parallel Whether to parse the child elements of large xml root elements in parallel (read-only)
 	 * @throws NullPointerException If the indent or charset is null
 	 */
 	public XmlConfig {
@@ -53,7 +53,7 @@ public final class XmlContainer extends XmlElement {
 	 * @throws NullPointerException If the name or elements are null
 	 */
 	public XmlContainer(@NotNull String name, @NotNull XmlElements elements) {
-		this(name, new XmlAttributes(), elements);
+		this(name, XmlAttributes.EMPTY, elements);
 	}
 	
 	/**
@@ -91,6 +91,20 @@ public final class XmlContainer extends XmlElement {
 		return false;
 	}
 	
+	/**
+	 * Returns a copy of this xml container with the given name.<br>
+	 * The attributes and the collection of elements are copied, so the returned container can be modified independently of this container.<br>
+	 * The contained elements themselves are not copied, both containers reference the same element instances.<br>
+	 * @param name The name of the returned xml container
+	 * @return A new xml container with the given name, the attributes and the elements of this container
+	 * @throws NullPointerException If the name is null
+	 * @throws IllegalArgumentException If the name is invalid
+	 */
+	@Override
+	public @NotNull XmlContainer withName(@NotNull String name) {
+		return new XmlContainer(name, this.getAttributes().copy(), this.elements.copy());
+	}
+	
 	//region Query operations
 	
 	/**
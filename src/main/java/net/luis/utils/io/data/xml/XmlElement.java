@@ -58,8 +58,9 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	private final String name;
 	/**
 	 * The attributes of the xml element.<br>
+	 * Elements without attributes share the unmodifiable empty attributes until an attribute is added.<br>
 	 */
-	private final XmlAttributes attributes;
+	private XmlAttributes attributes;
 	
 	/**
 	 * Constructs a new xml element with the specified name and no attributes.<br>
@@ -68,7 +69,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @throws IllegalArgumentException If the name is invalid
 	 */
 	public XmlElement(@NotNull String name) {
-		this(name, new XmlAttributes());
+		this(name, XmlAttributes.EMPTY);
 	}
 	
 	/**
@@ -150,12 +151,38 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	
 	/**
 	 * Returns the attributes of the xml element.<br>
-	 * @return The element attributes (modifiable)
+	 * If the element has no attributes, the shared empty attributes are returned which can not be modified.<br>
+	 * Attributes should therefore be added through the element, for example with {@link #addAttribute(XmlAttribute)}.<br>
+	 * @return The element attributes (modifiable, unless the element has no attributes)
 	 */
 	public @NotNull XmlAttributes getAttributes() {
 		return this.attributes;
 	}
 	
+	/**
+	 * Returns the attributes of the xml element for modification.<br>
+	 * The shared empty attributes are replaced by a new collection the first time this method is called.<br>
+	 * @return The modifiable element attributes
+	 */
+	private @NotNull XmlAttributes getModifiableAttributes() {
+		if (this.attributes == XmlAttributes.EMPTY) {
+			this.attributes = new XmlAttributes();
+		}
+		return this.attributes;
+	}
+	
+	/**
+	 * Returns a copy of this xml element with the given name.<br>
+	 * The attributes are copied, so the returned element can be modified independently of this element.<br>
+	 * @param name The name of the returned xml element
+	 * @return A new xml element with the given name and the attributes of this element
+	 * @throws NullPointerException If the name is null
+	 * @throws IllegalArgumentException If the name is invalid
+	 */
+	public @NotNull XmlElement withName(@NotNull String name) {
+		return new XmlElement(name, this.attributes.copy());
+	}
+	
 	//region Add attribute
 	
 	/**
@@ -165,7 +192,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(XmlAttribute)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull XmlAttribute attribute) {
-		return this.attributes.add(attribute);
+		return this.getModifiableAttributes().add(attribute);
 	}
 	
 	/**
@@ -176,7 +203,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(String, String)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull String key, @Nullable String value) {
-		return this.attributes.add(key, value);
+		return this.getModifiableAttributes().add(key, value);
 	}
 	
 	/**
@@ -187,7 +214,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(String, boolean)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull String key, boolean value) {
-		return this.attributes.add(key, value);
+		return this.getModifiableAttributes().add(key, value);
 	}
 	
 	/**
@@ -198,7 +225,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(String, Number)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull String key, @Nullable Number value) {
-		return this.attributes.add(key, value);
+		return this.getModifiableAttributes().add(key, value);
 	}
 	
 	/**
@@ -209,7 +236,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(String, byte)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull String key, byte value) {
-		return this.attributes.add(key, value);
+		return this.getModifiableAttributes().add(key, value);
 	}
 	
 	/**
@@ -220,7 +247,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(String, short)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull String key, short value) {
-		return this.attributes.add(key, value);
+		return this.getModifiableAttributes().add(key, value);
 	}
 	
 	/**
@@ -231,7 +258,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(String, int)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull String key, int value) {
-		return this.attributes.add(key, value);
+		return this.getModifiableAttributes().add(key, value);
 	}
 	
 	/**
@@ -242,7 +269,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(String, long)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull String key, long value) {
-		return this.attributes.add(key, value);
+		return this.getModifiableAttributes().add(key, value);
 	}
 	
 	/**
@@ -253,7 +280,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(String, float)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull String key, float value) {
-		return this.attributes.add(key, value);
+		return this.getModifiableAttributes().add(key, value);
 	}
 	
 	/**
@@ -264,7 +291,7 @@ public sealed class XmlElement permits XmlContainer, XmlValue {
 	 * @see XmlAttributes#add(String, double)
 	 */
 	public @Nullable XmlAttribute addAttribute(@NotNull String key, double value) {
-		return this.attributes.add(key, value);
+		return this.getModifiableAttributes().add(key, value);
 	}
 	//endregion
 	
@@ -18,13 +18,13 @@
 
 package net.luis.utils.io.data.xml;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import net.luis.utils.io.data.xml.exception.NoSuchXmlElementException;
 import net.luis.utils.io.data.xml.exception.XmlTypeException;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * Represents a collection of xml elements.<br>
@@ -42,15 +42,37 @@ import java.util.*;
  *     In the case this is an array collection, the keys of the elements must be the same.<br>
  *     If an element with a key that is different from the existing elements is added, an exception will be thrown.<br>
  * </p>
+ * <p>
+ *     The elements are stored in insertion order in a single flat array.<br>
+ *     Elements of large objects are looked up by an index of the names, which is only created when it is first needed.<br>
+ * </p>
  *
  * @author Luis-St
  */
 public class XmlElements {
 	
 	/**
-	 * The elements of the collection.<br>
+	 * The maximum number of elements which are looked up without an index.<br>
+	 */
+	private static final int MAX_LINEAR_SIZE = 8;
+	/**
+	 * The shared empty elements array.<br>
+	 */
+	private static final XmlElement[] EMPTY_ELEMENTS = new XmlElement[0];
+	
+	/**
+	 * The elements of the collection in insertion order.<br>
+	 */
+	private XmlElement[] elements = EMPTY_ELEMENTS;
+	/**
+	 * The number of elements in the collection.<br>
+	 */
+	private int size;
+	/**
+	 * The index of the element names, null if the index has not been created yet.<br>
+	 * The index is only used if the collection is an object.<br>
 	 */
-	private final SequencedMap<String, List<XmlElement>> elements = Maps.newLinkedHashMap();
+	private volatile Map<String, Integer> index;
 	
 	/**
 	 * Constructs a new, empty xml elements collection.<br>
@@ -95,7 +117,7 @@ public class XmlElements {
 	 * @return True if the collection is an array, false otherwise
 	 */
 	public boolean isArray() {
-		return this.elements.size() == 1 && this.elements.firstEntry().getValue().size() > 1;
+		return this.size > 1 && this.elements[0].getName().equals(this.elements[1].getName());
 	}
 	
 	/**
@@ -105,7 +127,7 @@ public class XmlElements {
 	 * @return True if the collection is an object, false otherwise
 	 */
 	public boolean isObject() {
-		return this.elements.size() > 1;
+		return this.size > 1 && !this.elements[0].getName().equals(this.elements[1].getName());
 	}
 	
 	/**
@@ -113,10 +135,7 @@ public class XmlElements {
 	 * @return The size of the collection
 	 */
 	public int size() {
-		if (this.isArray()) {
-			return this.elements.firstEntry().getValue().size();
-		}
-		return this.elements.size();
+		return this.size;
 	}
 	
 	/**
@@ -124,7 +143,7 @@ public class XmlElements {
 	 * @return True if the collection is empty, false otherwise
 	 */
 	public boolean isEmpty() {
-		return this.elements.isEmpty();
+		return this.size == 0;
 	}
 	
 	/**
@@ -133,7 +152,7 @@ public class XmlElements {
 	 * @return True if the collection contains an element with the given name, false otherwise
 	 */
 	public boolean containsName(@Nullable String name) {
-		return this.elements.containsKey(name);
+		return this.indexOf(name) >= 0;
 	}
 	
 	/**
@@ -142,10 +161,14 @@ public class XmlElements {
 	 * @return True if the collection contains the given element, false otherwise
 	 */
 	public boolean containsElement(@Nullable XmlElement element) {
-		if (this.isArray()) {
-			return this.elements.firstEntry().getValue().contains(element);
+		if (element != null) {
+			for (int i = 0; i < this.size; i++) {
+				if (element.equals(this.elements[i])) {
+					return true;
+				}
+			}
 		}
-		return this.elements.containsValue(Lists.newArrayList(element));
+		return false;
 	}
 	
 	/**
@@ -153,7 +176,14 @@ public class XmlElements {
 	 * @return The set of element names
 	 */
 	public @NotNull @Unmodifiable Set<String> nameSet() {
-		return Set.copyOf(this.elements.keySet());
+		if (this.isArray()) {
+			return Set.of(this.elements[0].getName());
+		}
+		Set<String> names = new HashSet<>(this.size);
+		for (int i = 0; i < this.size; i++) {
+			names.add(this.elements[i].getName());
+		}
+		return Set.copyOf(names);
 	}
 	
 	/**
@@ -163,10 +193,40 @@ public class XmlElements {
 	public @NotNull @Unmodifiable Collection<XmlElement> elements() {
 		if (this.isEmpty()) {
 			return Collections.emptyList();
-		} else if (this.isArray()) {
-			return Collections.unmodifiableCollection(this.elements.firstEntry().getValue());
 		}
-		return this.elements.values().stream().flatMap(List::stream).toList();
+		return List.of(Arrays.copyOf(this.elements, this.size));
+	}
+	
+	/**
+	 * Returns the elements with the given name in the order they were added.<br>
+	 * The returned list is backed by this collection and must not be modified.<br>
+	 * @param name The name of the elements
+	 * @return The elements with the given name or an empty list if there are none
+	 */
+	@NotNull @UnmodifiableView List<XmlElement> getElementsView(@NotNull String name) {
+		if (this.isObject()) {
+			int position = this.indexOf(name);
+			return position < 0 ? Collections.emptyList() : Collections.singletonList(this.elements[position]);
+		}
+		if (this.isEmpty() || !this.elements[0].getName().equals(name)) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(Arrays.asList(this.elements).subList(0, this.size));
+	}
+	
+	/**
+	 * Performs the given action for each element in the order they were added until the action returns false.<br>
+	 * The elements are iterated without copying them.<br>
+	 * @param action The action to perform, returns false to stop the iteration
+	 * @return True if all elements were processed, false if the iteration was stopped
+	 */
+	boolean forEachElement(@NotNull Predicate<XmlElement> action) {
+		for (int i = 0; i < this.size; i++) {
+			if (!action.test(this.elements[i])) {
+				return false;
+			}
+		}
+		return true;
 	}
 	//endregion
 	
@@ -181,29 +241,23 @@ public class XmlElements {
 	public void add(@NotNull XmlElement element) {
 		Objects.requireNonNull(element, "Element must not be null");
 		String name = element.getName();
-		if (this.elements.isEmpty() || this.isUndefined()) {
-			if (this.elements.size() == 1) {
-				if (this.elements.firstEntry().getKey().equals(name)) {
-					this.elements.get(name).add(element);
-				} else {
-					this.elements.put(name, Lists.newArrayList(element));
-				}
-			} else {
-				this.elements.put(name, Lists.newArrayList(element));
-			}
-		} else if (this.isArray()) {
-			if (this.elements.containsKey(name)) {
-				this.elements.get(name).add(element);
-			} else {
-				throw new XmlTypeException("Unable to add element with name '" + name + "', expected array name: " + this.elements.firstEntry().getKey());
+		if (this.isArray()) {
+			if (!this.elements[0].getName().equals(name)) {
+				throw new XmlTypeException("Unable to add element with name '" + name + "', expected array name: " + this.elements[0].getName());
 			}
 		} else if (this.isObject()) {
-			if (this.elements.containsKey(name)) {
+			if (this.indexOf(name) >= 0) {
 				throw new XmlTypeException("Unable to add element with name '" + name + "', an element with this name already exists");
-			} else {
-				this.elements.put(name, Lists.newArrayList(element));
 			}
 		}
+		if (this.size == this.elements.length) {
+			this.elements = Arrays.copyOf(this.elements, Math.max(4, this.size + (this.size >> 1)));
+		}
+		this.elements[this.size++] = element;
+		Map<String, Integer> index = this.index;
+		if (index != null) {
+			index.put(name, this.size - 1);
+		}
 	}
 	
 	/**
@@ -239,14 +293,13 @@ public class XmlElements {
 	 */
 	public boolean remove(@NotNull XmlElement element) {
 		Objects.requireNonNull(element, "Element must not be null");
-		if (!this.elements.containsKey(element.getName())) {
-			return false;
-		}
-		boolean result = this.elements.get(element.getName()).remove(element);
-		if (this.elements.get(element.getName()).isEmpty()) {
-			this.elements.remove(element.getName());
+		for (int i = 0; i < this.size; i++) {
+			if (element.equals(this.elements[i])) {
+				this.removeAt(i);
+				return true;
+			}
 		}
-		return result;
+		return false;
 	}
 	
 	/**
@@ -260,7 +313,12 @@ public class XmlElements {
 		if (this.isArray()) {
 			throw new XmlTypeException("Cannot remove element by name from xml array");
 		}
-		return this.elements.remove(name) != null;
+		int position = this.indexOf(name);
+		if (position < 0) {
+			return false;
+		}
+		this.removeAt(position);
+		return true;
 	}
 	
 	/**
@@ -274,23 +332,20 @@ public class XmlElements {
 		if (this.isObject()) {
 			throw new XmlTypeException("Cannot remove element by index from xml object");
 		}
-		try {
-			String name = this.elements.firstEntry().getKey();
-			this.elements.get(name).remove(index);
-			if (this.elements.get(name).isEmpty()) {
-				this.elements.remove(name);
-			}
-			return true;
-		} catch (Exception e) {
+		if (index < 0 || index >= this.size) {
 			return false;
 		}
+		this.removeAt(index);
+		return true;
 	}
 	
 	/**
 	 * Removes all elements from the collection.<br>
 	 */
 	public void clear() {
-		this.elements.clear();
+		Arrays.fill(this.elements, 0, this.size, null);
+		this.size = 0;
+		this.index = null;
 	}
 	//endregion
 	
@@ -308,10 +363,8 @@ public class XmlElements {
 		if (this.isArray()) {
 			throw new XmlTypeException("Unable to get a single element from an xml array");
 		}
-		if (!this.elements.containsKey(name)) {
-			return null;
-		}
-		return this.elements.get(name).getFirst();
+		int position = this.indexOf(name);
+		return position < 0 ? null : this.elements[position];
 	}
 	
 	/**
@@ -359,11 +412,10 @@ public class XmlElements {
 		if (this.isObject()) {
 			throw new XmlTypeException("Unable to get an element by index from an xml object");
 		}
-		try {
-			return this.elements.firstEntry().getValue().get(index);
-		} catch (Exception e) {
+		if (index < 0 || index >= this.size) {
 			return null;
 		}
+		return this.elements[index];
 	}
 	
 	/**
@@ -410,7 +462,7 @@ public class XmlElements {
 		if (!this.isArray()) {
 			throw new XmlTypeException("Unable to get an xml array from an xml object");
 		}
-		return List.copyOf(this.elements.firstEntry().getValue());
+		return List.of(Arrays.copyOf(this.elements, this.size));
 	}
 	
 	/**
@@ -424,23 +476,102 @@ public class XmlElements {
 			throw new XmlTypeException("Unable to get an xml object from an xml array");
 		}
 		Map<String, XmlElement> elements = Maps.newLinkedHashMap();
-		this.elements.forEach((name, list) -> elements.put(name, list.getFirst()));
+		for (int i = 0; i < this.size; i++) {
+			elements.put(this.elements[i].getName(), this.elements[i]);
+		}
 		return Collections.unmodifiableMap(elements);
 	}
 	//endregion
 	
+	//region Helper methods
+	
+	/**
+	 * Creates a copy of this collection which can be modified independently of this collection.<br>
+	 * The elements are not copied, the copy contains the same element instances as this collection.<br>
+	 * @return The copy of this collection
+	 */
+	@NotNull XmlElements copy() {
+		XmlElements copy = new XmlElements();
+		if (this.size > 0) {
+			copy.elements = Arrays.copyOf(this.elements, this.size);
+			copy.size = this.size;
+		}
+		return copy;
+	}
+	
+	/**
+	 * Returns the index of the element with the given name.<br>
+	 * If the collection is a large object, the index of the names is used and created if necessary.<br>
+	 * @param name The name of the element
+	 * @return The index of the first element with the given name or -1 if there is no element with the given name
+	 */
+	private int indexOf(@Nullable String name) {
+		if (name == null || this.isEmpty()) {
+			return -1;
+		}
+		if (this.size > MAX_LINEAR_SIZE && this.isObject()) {
+			Map<String, Integer> index = this.index;
+			if (index == null) {
+				index = Maps.newHashMapWithExpectedSize(this.size);
+				for (int i = 0; i < this.size; i++) {
+					index.put(this.elements[i].getName(), i);
+				}
+				this.index = index;
+			}
+			Integer i = index.get(name);
+			return i == null ? -1 : i;
+		}
+		int size = this.isArray() ? 1 : this.size;
+		for (int i = 0; i < size; i++) {
+			if (name.equals(this.elements[i].getName())) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Removes the element at the given index and shifts the following elements.<br>
+	 * @param index The index of the element to remove
+	 */
+	private void removeAt(int index) {
+		System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
+		this.elements[--this.size] = null;
+		this.index = null;
+	}
+	//endregion
+	
 	//region Object overrides
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
 		if (!(o instanceof XmlElements that)) return false;
 		
-		return this.elements.equals(that.elements);
+		if (this.size != that.size || this.isArray() != that.isArray()) return false;
+		if (this.isArray()) {
+			return Arrays.equals(this.elements, 0, this.size, that.elements, 0, that.size);
+		}
+		for (int i = 0; i < this.size; i++) {
+			if (!this.elements[i].equals(that.get(this.elements[i].getName()))) return false;
+		}
+		return true;
 	}
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.elements);
+		int hash = 0;
+		if (this.isArray()) {
+			int elementsHash = 1;
+			for (int i = 0; i < this.size; i++) {
+				elementsHash = 31 * elementsHash + this.elements[i].hashCode();
+			}
+			hash = this.elements[0].getName().hashCode() ^ elementsHash;
+		} else {
+			for (int i = 0; i < this.size; i++) {
+				hash += this.elements[i].getName().hashCode() ^ (31 + this.elements[i].hashCode());
+			}
+		}
+		return 31 + hash;
 	}
 	
 	@Override
@@ -459,24 +590,15 @@ public class XmlElements {
 		StringBuilder builder = new StringBuilder();
 		if (this.isUndefined()) {
 			if (this.size() == 1) {
-				return this.elements.firstEntry().getValue().getFirst().toString(config);
+				return this.elements[0].toString(config);
 			} else {
 				return "";
 			}
 		}
-		if (this.isArray()) {
-			for (XmlElement element : this.getAsArray()) {
-				builder.append(element.toString(config));
-				if (config.prettyPrint()) {
-					builder.append(System.lineSeparator());
-				}
-			}
-		} else if (this.isObject()) {
-			for (XmlElement element : this.getAsObject().values()) {
-				builder.append(element.toString(config));
-				if (config.prettyPrint()) {
-					builder.append(System.lineSeparator());
-				}
+		for (int i = 0; i < this.size; i++) {
+			builder.append(this.elements[i].toString(config));
+			if (config.prettyPrint()) {
+				builder.append(System.lineSeparator());
 			}
 		}
 		return builder.toString().strip();
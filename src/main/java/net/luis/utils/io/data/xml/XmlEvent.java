@@ -0,0 +1,50 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.xml;
+
+/**
+ * Represents the events which are returned by a {@link XmlEventReader}.<br>
+ *
+ * @author Luis-St
+ */
+public enum XmlEvent {
+	
+	/**
+	 * The xml declaration at the beginning of the xml content.<br>
+	 */
+	DECLARATION,
+	/**
+	 * The start of a xml element with its name and attributes.<br>
+	 * Self-closing elements are returned as start element followed by an end element.<br>
+	 */
+	START_ELEMENT,
+	/**
+	 * The text content of a xml element.<br>
+	 * Text which consists only of whitespaces is not returned.<br>
+	 */
+	TEXT,
+	/**
+	 * The end of a xml element.<br>
+	 */
+	END_ELEMENT,
+	/**
+	 * The end of the xml content.<br>
+	 */
+	END_DOCUMENT
+}
@@ -0,0 +1,876 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.xml;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.xml.exception.XmlSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A streaming reader which returns the content of a xml document as a sequence of {@link XmlEvent events}.<br>
+ * <p>
+ *     Unlike the {@link XmlReader}, the reader does not build the whole xml tree in memory.<br>
+ *     The content is read through a bounded buffer, only the current event is kept in memory.<br>
+ *     Elements which are not required can be skipped with {@link #skipElement()} without building them,<br>
+ *     elements which are required can be read as xml element with {@link #readElement()}.<br>
+ * </p>
+ * <p>
+ *     The reader supports the same syntax as the {@link XmlReader} and respects the strict mode of the {@link XmlConfig}.<br>
+ *     In strict mode, the content must start with a xml declaration and must contain exactly one root element.<br>
+ *     In non-strict mode, the declaration is optional and the content may contain multiple root elements.<br>
+ *     Xml comments are skipped, text and attribute values are returned as they appear in the xml content.<br>
+ * </p>
+ * Example usage:<br>
+ * <pre>{@code
+ * try (XmlEventReader reader = new XmlEventReader(input)) {
+ *     while (reader.hasNext()) {
+ *         if (reader.next() == XmlEvent.START_ELEMENT && "record".equals(reader.getName())) {
+ *             XmlElement record = reader.readElement();
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Luis-St
+ */
+public class XmlEventReader implements AutoCloseable {
+	
+	/**
+	 * The default size of the character buffer.<br>
+	 */
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	/**
+	 * State constant for the beginning of the content before the declaration.<br>
+	 */
+	private static final int BEFORE_DECLARATION = 0;
+	/**
+	 * State constant for the top level of the content before the root element.<br>
+	 */
+	private static final int BEFORE_ROOT = 1;
+	/**
+	 * State constant for the top level of the content after a root element.<br>
+	 */
+	private static final int AFTER_ROOT = 2;
+	/**
+	 * State constant for the content of a xml element.<br>
+	 */
+	private static final int IN_ELEMENT = 3;
+	/**
+	 * State constant for a self-closing xml element whose end element has not been returned yet.<br>
+	 */
+	private static final int SELF_CLOSING = 4;
+	/**
+	 * State constant for a closed reader.<br>
+	 */
+	private static final int CLOSED = 5;
+	
+	/**
+	 * The xml config used by this reader.<br>
+	 */
+	private final XmlConfig config;
+	/**
+	 * The underlying reader to read the xml content from.<br>
+	 */
+	private final Reader reader;
+	/**
+	 * The character buffer of the reader.<br>
+	 */
+	private final char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+	/**
+	 * The builder which is used to read text.<br>
+	 */
+	private final StringBuilder builder = new StringBuilder();
+	/**
+	 * The cache which is used to share the names of xml elements and attributes.<br>
+	 */
+	private final XmlNameCache nameCache = new XmlNameCache();
+	/**
+	 * The index of the next character to read in the buffer.<br>
+	 */
+	private int position;
+	/**
+	 * The number of valid characters in the buffer.<br>
+	 */
+	private int limit;
+	/**
+	 * The current line number (1-based).<br>
+	 */
+	private int line = 1;
+	/**
+	 * The number of characters read in the current line.<br>
+	 */
+	private int column;
+	/**
+	 * The current state of the reader.<br>
+	 */
+	private int state = BEFORE_DECLARATION;
+	/**
+	 * The names of the open xml elements, the last entry is the innermost element.<br>
+	 */
+	private String[] names = new String[32];
+	/**
+	 * The number of open xml elements.<br>
+	 */
+	private int depth;
+	/**
+	 * Whether text and attribute values should be skipped instead of being read.<br>
+	 */
+	private boolean skipping;
+	/**
+	 * The event which was peeked but not consumed yet or null if no event was peeked.<br>
+	 */
+	private XmlEvent peeked;
+	/**
+	 * The name or text of the peeked event.<br>
+	 */
+	private String peekedValue;
+	/**
+	 * The attributes of the peeked start element.<br>
+	 */
+	private XmlAttributes peekedAttributes;
+	/**
+	 * The declaration of the peeked declaration event.<br>
+	 */
+	private XmlDeclaration peekedDeclaration;
+	/**
+	 * The last event returned by {@link #next()} or null if no event was consumed yet.<br>
+	 */
+	private XmlEvent current;
+	/**
+	 * The name or text of the current event.<br>
+	 */
+	private String currentValue;
+	/**
+	 * The attributes of the current start element.<br>
+	 */
+	private XmlAttributes currentAttributes;
+	/**
+	 * The declaration of the current declaration event.<br>
+	 */
+	private XmlDeclaration currentDeclaration;
+	
+	/**
+	 * Constructs a new xml event reader with the given string and the default configuration.<br>
+	 * @param string The string to read from
+	 * @throws NullPointerException If the string is null
+	 */
+	public XmlEventReader(@NotNull String string) {
+		this(string, XmlConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new xml event reader with the given string and configuration.<br>
+	 * @param string The string to read from
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the string or configuration is null
+	 */
+	public XmlEventReader(@NotNull String string, @NotNull XmlConfig config) {
+		this(new StringReader(Objects.requireNonNull(string, "String must not be null")), config);
+	}
+	
+	/**
+	 * Constructs a new xml event reader with the given input and the default configuration.<br>
+	 * @param input The input to create the reader for
+	 * @throws NullPointerException If the input is null
+	 */
+	public XmlEventReader(@NotNull InputProvider input) {
+		this(input, XmlConfig.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new xml event reader with the given input and configuration.<br>
+	 * @param input The input to create the reader for
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the input or configuration is null
+	 */
+	public XmlEventReader(@NotNull InputProvider input, @NotNull XmlConfig config) {
+		this(new InputStreamReader(Objects.requireNonNull(input, "Input must not be null").getStream(), Objects.requireNonNull(config, "Xml config must not be null").charset()), config);
+	}
+	
+	/**
+	 * Constructs a new xml event reader with the given reader and configuration.<br>
+	 * @param reader The reader to read from
+	 * @param config The configuration to use
+	 * @throws NullPointerException If the reader or configuration is null
+	 */
+	private XmlEventReader(@NotNull Reader reader, @NotNull XmlConfig config) {
+		this.config = Objects.requireNonNull(config, "Xml config must not be null");
+		this.reader = reader;
+	}
+	
+	//region Event operations
+	
+	/**
+	 * Checks whether there is another event to read.<br>
+	 * @return True if the next event is not {@link XmlEvent#END_DOCUMENT}, otherwise false
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public boolean hasNext() {
+		return this.peek() != XmlEvent.END_DOCUMENT;
+	}
+	
+	/**
+	 * Returns the next event without consuming it.<br>
+	 * @return The next event
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull XmlEvent peek() {
+		if (this.peeked == null) {
+			this.peeked = this.readEvent();
+		}
+		return this.peeked;
+	}
+	
+	/**
+	 * Consumes and returns the next event.<br>
+	 * The value of the event can be accessed afterward using the getter methods of this reader.<br>
+	 * @return The next event
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see #getDeclaration()
+	 * @see #getName()
+	 * @see #getAttributes()
+	 * @see #getText()
+	 */
+	public @NotNull XmlEvent next() {
+		XmlEvent event = this.peek();
+		this.current = event;
+		this.currentValue = this.peekedValue;
+		this.currentAttributes = this.peekedAttributes;
+		this.currentDeclaration = this.peekedDeclaration;
+		this.peeked = null;
+		this.peekedValue = null;
+		this.peekedAttributes = null;
+		this.peekedDeclaration = null;
+		return event;
+	}
+	
+	/**
+	 * Returns the current nesting depth of the reader.<br>
+	 * The depth is zero at the top level and increases by one for each started xml element.<br>
+	 * @return The current depth
+	 */
+	public int getDepth() {
+		return this.depth;
+	}
+	
+	/**
+	 * Returns the last event consumed by {@link #next()}.<br>
+	 * @return The current event or null if no event was consumed yet
+	 */
+	public @Nullable XmlEvent getCurrentEvent() {
+		return this.current;
+	}
+	
+	/**
+	 * Returns the xml declaration of the current {@link XmlEvent#DECLARATION declaration} event.<br>
+	 * @return The xml declaration
+	 * @throws IllegalStateException If the current event is not a declaration
+	 */
+	public @NotNull XmlDeclaration getDeclaration() {
+		this.expectCurrent(XmlEvent.DECLARATION);
+		return this.currentDeclaration;
+	}
+	
+	/**
+	 * Returns the name of the current {@link XmlEvent#START_ELEMENT start} or {@link XmlEvent#END_ELEMENT end} element event.<br>
+	 * @return The name of the xml element
+	 * @throws IllegalStateException If the current event is not a start or end element
+	 */
+	public @NotNull String getName() {
+		if (this.current != XmlEvent.START_ELEMENT && this.current != XmlEvent.END_ELEMENT) {
+			throw new IllegalStateException("Expected current event to be " + XmlEvent.START_ELEMENT + " or " + XmlEvent.END_ELEMENT + " but got: " + this.current);
+		}
+		return this.currentValue;
+	}
+	
+	/**
+	 * Returns the attributes of the current {@link XmlEvent#START_ELEMENT start element} event.<br>
+	 * If the element has no attributes, a shared unmodifiable empty collection is returned.<br>
+	 * @return The attributes of the xml element
+	 * @throws IllegalStateException If the current event is not a start element
+	 */
+	public @NotNull XmlAttributes getAttributes() {
+		this.expectCurrent(XmlEvent.START_ELEMENT);
+		return this.currentAttributes;
+	}
+	
+	/**
+	 * Returns the text of the current {@link XmlEvent#TEXT text} event.<br>
+	 * The text is returned as it appears in the xml content without comments.<br>
+	 * @return The text
+	 * @throws IllegalStateException If the current event is not a text
+	 */
+	public @NotNull String getText() {
+		this.expectCurrent(XmlEvent.TEXT);
+		return this.currentValue;
+	}
+	
+	/**
+	 * Skips the rest of the xml element whose start element is the current event.<br>
+	 * The content of the element is read without building text, attributes or xml elements.<br>
+	 * Afterward, the current event is the end element of the skipped element.<br>
+	 * @throws IllegalStateException If the current event is not a start element or its content has already been read
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void skipElement() {
+		int target = this.expectStartElement();
+		this.skipping = true;
+		try {
+			while (this.depth >= target) {
+				this.next();
+			}
+		} finally {
+			this.skipping = false;
+		}
+	}
+	
+	/**
+	 * Reads the xml element whose start element is the current event.<br>
+	 * Only the subtree of the element is built, the xml element is read like by the {@link XmlReader}.<br>
+	 * Afterward, the current event is the end element of the read element.<br>
+	 * @return The xml element
+	 * @throws IllegalStateException If the current event is not a start element or its content has already been read
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull XmlElement readElement() {
+		this.expectStartElement();
+		String name = this.currentValue;
+		XmlAttributes attributes = this.currentAttributes;
+		if (this.state == SELF_CLOSING) {
+			this.next();
+			return new XmlElement(name, attributes);
+		}
+		XmlElements elements = null;
+		String text = null;
+		while (true) {
+			XmlEvent event = this.next();
+			if (event == XmlEvent.END_ELEMENT) {
+				break;
+			} else if (event == XmlEvent.TEXT) {
+				if (elements != null) {
+					throw this.createMixedContentException(this.currentValue);
+				}
+				text = this.currentValue;
+			} else {
+				if (text != null) {
+					throw this.createMixedContentException(text);
+				}
+				if (elements == null) {
+					elements = new XmlElements();
+				}
+				elements.add(this.readElement());
+			}
+		}
+		if (elements != null) {
+			return new XmlContainer(name, attributes, elements);
+		}
+		return new XmlValue(name, attributes, text == null ? "" : text.stripIndent().strip());
+	}
+	//endregion
+	
+	//region Parsing
+	
+	/**
+	 * Reads the next event depending on the current state.<br>
+	 * @return The read event
+	 * @throws IllegalStateException If the reader is closed
+	 * @throws XmlSyntaxException If the xml is invalid
+	 */
+	private @NotNull XmlEvent readEvent() {
+		switch (this.state) {
+			case BEFORE_DECLARATION -> {
+				this.state = BEFORE_ROOT;
+				this.skipWhitespacesAndComments();
+				if (this.startsWith("<?")) {
+					this.peekedDeclaration = this.readDeclaration();
+					return XmlEvent.DECLARATION;
+				}
+				if (this.config.strict()) {
+					throw this.createException("Expected xml declaration at the beginning of the xml content");
+				}
+				return this.readEvent();
+			}
+			case BEFORE_ROOT, AFTER_ROOT -> {
+				this.skipWhitespacesAndComments();
+				int c = this.peekChar();
+				if (c == -1) {
+					if (this.state == BEFORE_ROOT) {
+						throw this.createException("Expected xml root element, but found nothing");
+					}
+					return XmlEvent.END_DOCUMENT;
+				}
+				if (c != '<') {
+					throw this.createException("Expected '<' at the start of a xml element, but found: '" + (char) c + "'");
+				}
+				if (this.state == AFTER_ROOT && this.config.strict()) {
+					throw this.createException("Unexpected content after the xml root element");
+				}
+				return this.readStartElement();
+			}
+			case SELF_CLOSING -> {
+				this.state = IN_ELEMENT;
+				return this.popElement();
+			}
+			case IN_ELEMENT -> {
+				if (this.readText()) {
+					return XmlEvent.TEXT;
+				}
+				if (this.startsWith("</")) {
+					this.readClosingElement();
+					return this.popElement();
+				}
+				return this.readStartElement();
+			}
+			default -> throw new IllegalStateException("Xml event reader is closed");
+		}
+	}
+	
+	/**
+	 * Reads the xml declaration at the current position.<br>
+	 * The declaration is parsed like by {@link XmlReader#readDeclaration()}.<br>
+	 * @return The xml declaration
+	 * @throws XmlSyntaxException If the declaration is invalid
+	 */
+	private @NotNull XmlDeclaration readDeclaration() {
+		StringBuilder declaration = new StringBuilder();
+		char quote = 0;
+		int c;
+		while ((c = this.readChar()) != -1) {
+			declaration.append((char) c);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = (char) c;
+			} else if (c == '>') {
+				return new XmlReader(declaration.toString(), this.config).readDeclaration();
+			}
+		}
+		throw this.createException("Expected '?>' at the end of the xml declaration, but found nothing");
+	}
+	
+	/**
+	 * Reads the start element at the current position.<br>
+	 * @return The start element event
+	 * @throws XmlSyntaxException If the start element is invalid
+	 */
+	private @NotNull XmlEvent readStartElement() {
+		this.readChar();
+		if (!this.config.strict()) {
+			this.skipWhitespaces();
+		}
+		String name = this.readName(false);
+		if (name.isEmpty()) {
+			throw this.createException("Expected element name, but found none");
+		}
+		this.skipWhitespaces();
+		XmlAttributes attributes = this.readAttributes();
+		int c = this.readChar();
+		if (c == '/') {
+			this.skipWhitespacesConfigBased();
+			c = this.readChar();
+			if (c != '>') {
+				throw this.createUnexpectedException(c, "Expected '>' after self-closing element");
+			}
+			this.state = SELF_CLOSING;
+		} else if (c == '>') {
+			this.state = IN_ELEMENT;
+		} else {
+			throw this.createUnexpectedException(c, "Expected closing '>' after xml attributes");
+		}
+		if (this.depth == this.names.length) {
+			this.names = Arrays.copyOf(this.names, this.depth * 2);
+		}
+		this.names[this.depth++] = name;
+		this.peekedValue = name;
+		this.peekedAttributes = attributes;
+		return XmlEvent.START_ELEMENT;
+	}
+	
+	/**
+	 * Reads the attributes of the start element at the current position.<br>
+	 * If the reader is skipping, the attributes are validated but not built.<br>
+	 * @return The attributes read
+	 * @throws XmlSyntaxException If the attributes are invalid
+	 */
+	private @Nullable XmlAttributes readAttributes() {
+		XmlAttributes attributes = this.skipping ? null : XmlAttributes.EMPTY;
+		boolean found = false;
+		int c;
+		while ((c = this.peekChar()) != '>' && c != '/' && c != -1) {
+			String name = this.readName(true);
+			if (this.config.strict()) {
+				c = this.readChar();
+				if (c != '=') {
+					throw this.createUnexpectedException(c, "Expected '=' after attribute name '" + name + "'");
+				}
+				if (name.length() != name.strip().length()) {
+					throw this.createException("Unexpected whitespace in attribute name '" + name + "'");
+				}
+			} else {
+				this.skipWhitespaces();
+				if (this.peekChar() == '=') {
+					this.readChar();
+				}
+				this.skipWhitespaces();
+			}
+			String value = this.readQuotedString();
+			this.skipWhitespaces();
+			found = true;
+			if (attributes != null) {
+				if (attributes == XmlAttributes.EMPTY) {
+					attributes = new XmlAttributes();
+				}
+				attributes.add(name.strip(), value);
+			}
+		}
+		if (found && !this.config.allowAttributes()) {
+			throw this.createException("Attributes are not allowed in xml elements according to the xml config");
+		}
+		return attributes;
+	}
+	
+	/**
+	 * Reads the name of a xml element or attribute at the current position.<br>
+	 * @param attribute Whether the name of an attribute is read
+	 * @return The name read
+	 */
+	private @NotNull String readName(boolean attribute) {
+		this.builder.setLength(0);
+		int c;
+		while ((c = this.peekChar()) != -1) {
+			boolean terminator = attribute ? c == '=' || c == '>' || c == '<' || (!this.config.strict() && Character.isWhitespace(c)) : c == '>' || c == '/' || c == '<' || Character.isWhitespace(c);
+			if (terminator) {
+				break;
+			}
+			this.builder.append((char) this.readChar());
+		}
+		return this.nameCache.name(this.builder, 0, this.builder.length());
+	}
+	
+	/**
+	 * Reads a quoted attribute value at the current position.<br>
+	 * The quotes are read but not included in the result, escaped characters are kept as they are.<br>
+	 * @return The attribute value or an empty string if the reader is skipping
+	 * @throws XmlSyntaxException If the value is not quoted or the closing quote is missing
+	 */
+	private @NotNull String readQuotedString() {
+		int quote = this.readChar();
+		if (quote != '"' && quote != '\'') {
+			throw this.createUnexpectedException(quote, "Expected a single or double quote");
+		}
+		this.builder.setLength(0);
+		int c;
+		while ((c = this.readChar()) != -1) {
+			if (c == quote) {
+				return this.skipping ? "" : this.builder.toString();
+			}
+			if (!this.skipping) {
+				this.builder.append((char) c);
+			}
+			if (c == '\\') {
+				c = this.readChar();
+				if (c != -1 && !this.skipping) {
+					this.builder.append((char) c);
+				}
+			}
+		}
+		throw this.createException("Expected closing quote " + (char) quote + " of attribute value, but found nothing");
+	}
+	
+	/**
+	 * Reads the text up to the next xml element or closing element.<br>
+	 * Comments are removed from the text, text which consists only of whitespaces is ignored.<br>
+	 * If the reader is skipping, the text is not built.<br>
+	 * @return True if a text event has been read, otherwise false
+	 * @throws XmlSyntaxException If the end of the content is reached or a comment is not closed
+	 */
+	private boolean readText() {
+		this.builder.setLength(0);
+		boolean text = false;
+		while (true) {
+			if (this.position == this.limit && !this.fill(1)) {
+				throw this.createException("Expected closing element for '" + this.names[this.depth - 1] + "', but found none");
+			}
+			char c = this.buffer[this.position];
+			if (c == '<') {
+				if (!this.startsWith("<!--")) {
+					break;
+				}
+				this.skipComment();
+				continue;
+			}
+			this.readChar();
+			if (!this.skipping) {
+				this.builder.append(c);
+			}
+			text |= !Character.isWhitespace(c);
+		}
+		if (text) {
+			this.peekedValue = this.skipping ? "" : this.builder.toString();
+		}
+		return text;
+	}
+	
+	/**
+	 * Reads the closing element of the innermost open xml element at the current position.<br>
+	 * The name of the closing element is compared case-insensitive.<br>
+	 * @throws XmlSyntaxException If the closing element is invalid or does not match the name of the open xml element
+	 */
+	private void readClosingElement() {
+		String name = this.names[this.depth - 1];
+		this.readChar();
+		this.readChar();
+		this.skipWhitespacesConfigBased();
+		if (this.config.strict() && Character.isWhitespace(this.peekChar())) {
+			throw this.createException("Expected element name, but found too many whitespaces after '/'");
+		}
+		String closingName = this.readName(false);
+		if (closingName.isEmpty()) {
+			throw this.createException("Expected closing element for '" + name + "', but found none");
+		}
+		if (!closingName.equalsIgnoreCase(name)) {
+			throw this.createException("Unexpected closing element for '" + closingName + "', expected closing element for '" + name + "'");
+		}
+		this.skipWhitespacesConfigBased();
+		int c = this.readChar();
+		if (c != '>') {
+			throw this.createUnexpectedException(c, "Expected closing '>' after element name");
+		}
+	}
+	
+	/**
+	 * Closes the innermost open xml element and returns the end element event.<br>
+	 * @return The end element event
+	 */
+	private @NotNull XmlEvent popElement() {
+		this.peekedValue = this.names[--this.depth];
+		this.names[this.depth] = null;
+		if (this.depth == 0) {
+			this.state = AFTER_ROOT;
+		}
+		return XmlEvent.END_ELEMENT;
+	}
+	//endregion
+	
+	//region Helper methods
+	
+	/**
+	 * Returns the next character without consuming it.<br>
+	 * @return The next character or -1 if the end of the input was reached
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private int peekChar() {
+		return this.position < this.limit || this.fill(1) ? this.buffer[this.position] : -1;
+	}
+	
+	/**
+	 * Consumes and returns the next character.<br>
+	 * @return The next character or -1 if the end of the input was reached
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private int readChar() {
+		if (this.position == this.limit && !this.fill(1)) {
+			return -1;
+		}
+		char c = this.buffer[this.position++];
+		if (c == '\n') {
+			this.line++;
+			this.column = 0;
+		} else {
+			this.column++;
+		}
+		return c;
+	}
+	
+	/**
+	 * Checks if the content at the current position starts with the given prefix.<br>
+	 * @param prefix The prefix
+	 * @return True if the content starts with the prefix, otherwise false
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private boolean startsWith(@NotNull String prefix) {
+		if (this.limit - this.position < prefix.length() && !this.fill(prefix.length())) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length(); i++) {
+			if (this.buffer[this.position + i] != prefix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Skips all whitespaces at the current position.<br>
+	 */
+	private void skipWhitespaces() {
+		int c;
+		while ((c = this.peekChar()) != -1 && Character.isWhitespace(c)) {
+			this.readChar();
+		}
+	}
+	
+	/**
+	 * Skips the next whitespace character based on the xml config.<br>
+	 * In strict mode, only the next whitespace character is skipped; otherwise all whitespaces are skipped.<br>
+	 */
+	private void skipWhitespacesConfigBased() {
+		if (this.config.strict()) {
+			int c = this.peekChar();
+			if (c != -1 && Character.isWhitespace(c)) {
+				this.readChar();
+			}
+		} else {
+			this.skipWhitespaces();
+		}
+	}
+	
+	/**
+	 * Skips all whitespaces and xml comments at the current position.<br>
+	 * @throws XmlSyntaxException If a xml comment is not closed
+	 */
+	private void skipWhitespacesAndComments() {
+		this.skipWhitespaces();
+		while (this.startsWith("<!--")) {
+			this.skipComment();
+			this.skipWhitespaces();
+		}
+	}
+	
+	/**
+	 * Skips the xml comment at the current position.<br>
+	 * @throws XmlSyntaxException If the xml comment is not closed
+	 */
+	private void skipComment() {
+		for (int i = 0; i < 4; i++) {
+			this.readChar();
+		}
+		int dashes = 0;
+		int c;
+		while ((c = this.readChar()) != -1) {
+			if (c == '>' && dashes >= 2) {
+				return;
+			}
+			dashes = c == '-' ? dashes + 1 : 0;
+		}
+		throw this.createException("Expected '-->' at the end of the xml comment");
+	}
+	
+	/**
+	 * Ensures that at least the given number of characters are available in the buffer.<br>
+	 * The remaining characters are moved to the beginning of the buffer before it is refilled.<br>
+	 * @param required The number of required characters
+	 * @return True if the characters are available, false if the end of the input was reached before
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private boolean fill(int required) {
+		int remaining = this.limit - this.position;
+		System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+		this.position = 0;
+		this.limit = remaining;
+		try {
+			while (this.limit < required) {
+				int read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+				if (read == -1) {
+					return false;
+				}
+				this.limit += read;
+			}
+			return true;
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while reading the xml content", e);
+		}
+	}
+	
+	/**
+	 * Ensures that the current event is a start element whose content has not been read yet.<br>
+	 * @return The depth of the xml element
+	 * @throws IllegalStateException If the current event is not a start element or its content has already been read
+	 */
+	private int expectStartElement() {
+		this.expectCurrent(XmlEvent.START_ELEMENT);
+		if (this.peeked != null || (this.state != IN_ELEMENT && this.state != SELF_CLOSING)) {
+			throw new IllegalStateException("The content of the current xml element has already been read");
+		}
+		return this.depth;
+	}
+	
+	/**
+	 * Ensures that the current event is the given event.<br>
+	 * @param event The expected event
+	 * @throws IllegalStateException If the current event is not the expected event
+	 */
+	private void expectCurrent(@NotNull XmlEvent event) {
+		if (this.current != event) {
+			throw new IllegalStateException("Expected current event to be " + event + " but got: " + this.current);
+		}
+	}
+	
+	/**
+	 * Creates a new xml syntax exception for text which is mixed with xml elements.<br>
+	 * @param text The text
+	 * @return The created exception
+	 */
+	private @NotNull XmlSyntaxException createMixedContentException(@NotNull String text) {
+		return this.createException("Expected '<' the start of new element, but found: '" + text.strip().charAt(0) + "'");
+	}
+	
+	/**
+	 * Creates a new xml syntax exception for an unexpected character.<br>
+	 * @param c The unexpected character or -1 if the end of the input was reached
+	 * @param message The message of the exception
+	 * @return The created exception
+	 */
+	private @NotNull XmlSyntaxException createUnexpectedException(int c, @NotNull String message) {
+		return this.createException(message + ", but found: " + (c == -1 ? "nothing" : "'" + (char) c + "'"));
+	}
+	
+	/**
+	 * Creates a new xml syntax exception with the given message.<br>
+	 * The line and column of the current position are appended to the message.<br>
+	 * @param message The message of the exception
+	 * @return The created exception
+	 */
+	private @NotNull XmlSyntaxException createException(@NotNull String message) {
+		return new XmlSyntaxException(message + " at line " + this.line + ", column " + (this.column + 1));
+	}
+	//endregion
+	
+	@Override
+	public void close() throws IOException {
+		this.state = CLOSED;
+		this.peeked = null;
+		this.reader.close();
+	}
+}
@@ -0,0 +1,300 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.xml;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.xml.exception.XmlSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A reader which streams a xml document and only reads the xml elements matching one of the given {@link XmlPath xml paths}.<br>
+ * <p>
+ *     The document is read through a {@link XmlEventReader}, subtrees which can not contain a match are skipped<br>
+ *     without building their text, attributes or xml elements.<br>
+ *     Only the matching xml elements are built, therefore the memory usage does not depend on the size of the document.<br>
+ * </p>
+ * <p>
+ *     The matching xml elements are returned in document order.<br>
+ *     If a matching xml element contains further matching elements, they are returned after the containing element.<br>
+ *     The input can only be consumed once, either by {@link #iterator()}, {@link #stream()} or {@link #forEach(Consumer)}.<br>
+ * </p>
+ * Example usage:<br>
+ * <pre>{@code
+ * try (XmlFilterReader reader = new XmlFilterReader(input, List.of(XmlPath.compile("/feed/records/record")))) {
+ *     reader.forEach(record -> ...);
+ * }
+ * }</pre>
+ *
+ * @author Luis-St
+ */
+public class XmlFilterReader implements AutoCloseable {
+	
+	/**
+	 * The event reader to read the xml document from.<br>
+	 */
+	private final XmlEventReader reader;
+	/**
+	 * The xml paths to match the xml elements against.<br>
+	 */
+	private final XmlPath[] paths;
+	/**
+	 * The matching xml elements which were found inside another matching element but not returned yet.<br>
+	 */
+	private final Deque<XmlElement> pending = new ArrayDeque<>();
+	/**
+	 * The matching states of the open xml elements, one state per xml path and depth.<br>
+	 * The states at depth zero are the states of the document.<br>
+	 */
+	private long[] masks;
+	/**
+	 * The sibling counters of the open xml elements for the positional predicates, one array per xml path.<br>
+	 * The counters of each xml path are stored per depth, the counters at depth zero are the counters of the document.<br>
+	 */
+	private final int[][] counters;
+	/**
+	 * Whether the input has already been consumed.<br>
+	 */
+	private boolean consumed;
+	
+	/**
+	 * Constructs a new xml filter reader with the given input, xml paths and the default configuration.<br>
+	 * @param input The input to create the reader for
+	 * @param paths The xml paths of the elements to read
+	 * @throws NullPointerException If the input or the xml paths are null
+	 * @throws IllegalArgumentException If no xml path is given
+	 */
+	public XmlFilterReader(@NotNull InputProvider input, @NotNull Collection<XmlPath> paths) {
+		this(input, XmlConfig.DEFAULT, paths);
+	}
+	
+	/**
+	 * Constructs a new xml filter reader with the given input, configuration and xml paths.<br>
+	 * @param input The input to create the reader for
+	 * @param config The configuration to use
+	 * @param paths The xml paths of the elements to read
+	 * @throws NullPointerException If the input, configuration or the xml paths are null
+	 * @throws IllegalArgumentException If no xml path is given
+	 */
+	public XmlFilterReader(@NotNull InputProvider input, @NotNull XmlConfig config, @NotNull Collection<XmlPath> paths) {
+		this(new XmlEventReader(input, config), paths);
+	}
+	
+	/**
+	 * Constructs a new xml filter reader which reads the remaining events of the given event reader.<br>
+	 * The event reader must be positioned at the top level of the xml document.<br>
+	 * @param reader The event reader to read from
+	 * @param paths The xml paths of the elements to read
+	 * @throws NullPointerException If the reader or the xml paths are null
+	 * @throws IllegalArgumentException If no xml path is given
+	 */
+	public XmlFilterReader(@NotNull XmlEventReader reader, @NotNull Collection<XmlPath> paths) {
+		this.reader = Objects.requireNonNull(reader, "Xml event reader must not be null");
+		Objects.requireNonNull(paths, "Xml paths must not be null");
+		if (paths.isEmpty()) {
+			throw new IllegalArgumentException("At least one xml path must be given");
+		}
+		this.paths = paths.toArray(XmlPath[]::new);
+		this.masks = new long[this.paths.length * 16];
+		this.counters = new int[this.paths.length][];
+		for (int i = 0; i < this.paths.length; i++) {
+			this.masks[i] = Objects.requireNonNull(this.paths[i], "Xml path must not be null").start();
+			this.counters[i] = new int[this.paths[i].getCounterCount() * 16];
+		}
+	}
+	
+	//region Reading
+	
+	/**
+	 * Returns an iterator which reads the matching xml elements of the input one by one.<br>
+	 * @return The iterator over the matching xml elements
+	 * @throws IllegalStateException If the input has already been consumed
+	 */
+	public @NotNull Iterator<XmlElement> iterator() {
+		this.consume();
+		return new Iterator<>() {
+			private XmlElement next;
+			
+			@Override
+			public boolean hasNext() {
+				if (this.next == null) {
+					this.next = XmlFilterReader.this.readNext();
+				}
+				return this.next != null;
+			}
+			
+			@Override
+			public @NotNull XmlElement next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				XmlElement next = this.next;
+				this.next = null;
+				return next;
+			}
+		};
+	}
+	
+	/**
+	 * Returns a sequential stream of the matching xml elements of the input.<br>
+	 * The input is read lazily, closing the stream closes this reader.<br>
+	 * @return The stream of matching xml elements
+	 * @throws IllegalStateException If the input has already been consumed
+	 */
+	public @NotNull Stream<XmlElement> stream() {
+		Spliterator<XmlElement> spliterator = Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+		return StreamSupport.stream(spliterator, false).onClose(() -> {
+			try {
+				this.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException("Failed to close xml input", e);
+			}
+		});
+	}
+	
+	/**
+	 * Reads the whole input and passes each matching xml element to the given action.<br>
+	 * @param action The action to perform for each matching xml element
+	 * @throws NullPointerException If the action is null
+	 * @throws IllegalStateException If the input has already been consumed
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void forEach(@NotNull Consumer<? super XmlElement> action) {
+		Objects.requireNonNull(action, "Action must not be null");
+		this.consume();
+		XmlElement element;
+		while ((element = this.readNext()) != null) {
+			action.accept(element);
+		}
+	}
+	//endregion
+	
+	//region Helper methods
+	
+	/**
+	 * Marks the input as consumed.<br>
+	 * @throws IllegalStateException If the input has already been consumed
+	 */
+	private void consume() {
+		if (this.consumed) {
+			throw new IllegalStateException("Xml input has already been consumed");
+		}
+		this.consumed = true;
+	}
+	
+	/**
+	 * Reads events until the next matching xml element has been read.<br>
+	 * @return The next matching xml element or null if the end of the document has been reached
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	private @Nullable XmlElement readNext() {
+		if (!this.pending.isEmpty()) {
+			return this.pending.poll();
+		}
+		int count = this.paths.length;
+		while (true) {
+			XmlEvent event = this.reader.next();
+			if (event == XmlEvent.END_DOCUMENT) {
+				return null;
+			}
+			if (event != XmlEvent.START_ELEMENT) {
+				continue;
+			}
+			int depth = this.reader.getDepth();
+			int offset = depth * count;
+			if (offset + count > this.masks.length) {
+				this.masks = Arrays.copyOf(this.masks, this.masks.length * 2);
+			}
+			String name = this.reader.getName();
+			XmlAttributes attributes = this.reader.getAttributes();
+			boolean candidate = false;
+			boolean match = false;
+			for (int i = 0; i < count; i++) {
+				int counterCount = this.paths[i].getCounterCount();
+				if ((depth + 1) * counterCount > this.counters[i].length) {
+					this.counters[i] = Arrays.copyOf(this.counters[i], this.counters[i].length * 2);
+				}
+				long mask = this.paths[i].next(this.masks[offset - count + i], name, attributes, this.counters[i], (depth - 1) * counterCount);
+				Arrays.fill(this.counters[i], depth * counterCount, (depth + 1) * counterCount, 0);
+				this.masks[offset + i] = mask;
+				candidate |= mask != 0;
+				match |= this.paths[i].isMatch(mask);
+			}
+			if (match) {
+				XmlElement element = this.reader.readElement();
+				this.collectNested(element, offset);
+				return element;
+			}
+			if (!candidate) {
+				this.reader.skipElement();
+			}
+		}
+	}
+	
+	/**
+	 * Adds all matching descendants of the given xml element to the pending elements.<br>
+	 * @param element The matching xml element
+	 * @param offset The offset of the matching states of the element
+	 */
+	private void collectNested(@NotNull XmlElement element, int offset) {
+		if (!(element instanceof XmlContainer container)) {
+			return;
+		}
+		int count = this.paths.length;
+		int childOffset = offset + count;
+		if (childOffset + count > this.masks.length) {
+			this.masks = Arrays.copyOf(this.masks, this.masks.length * 2);
+		}
+		int[][] counters = new int[count][];
+		for (int i = 0; i < count; i++) {
+			counters[i] = new int[this.paths[i].getCounterCount()];
+		}
+		for (XmlElement child : container.elements()) {
+			boolean candidate = false;
+			boolean match = false;
+			for (int i = 0; i < count; i++) {
+				long mask = this.paths[i].next(this.masks[offset + i], child.getName(), child.getAttributes(), counters[i], 0);
+				this.masks[childOffset + i] = mask;
+				candidate |= mask != 0;
+				match |= this.paths[i].isMatch(mask);
+			}
+			if (match) {
+				this.pending.add(child);
+			}
+			if (candidate) {
+				this.collectNested(child, childOffset);
+			}
+		}
+	}
+	//endregion
+	
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+}
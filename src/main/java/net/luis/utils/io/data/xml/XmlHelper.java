@@ -19,7 +19,10 @@
 package net.luis.utils.io.data.xml;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -110,7 +113,64 @@ final class XmlHelper {
 	 */
 	static @NotNull String escapeXml(@NotNull String value) {
 		Objects.requireNonNull(value, "Value must not be null");
-		return value.replace("&", "&amp;").replace("\"", "&quot;").replace("'", "&apos;").replace("<", "&lt;").replace(">", "&gt;");
+		int length = value.length();
+		int index = 0;
+		while (index < length && getEscapeSequence(value.charAt(index)) == null) {
+			index++;
+		}
+		if (index == length) {
+			return value;
+		}
+		StringBuilder builder = new StringBuilder(length + 16).append(value, 0, index);
+		for (; index < length; index++) {
+			char c = value.charAt(index);
+			String sequence = getEscapeSequence(c);
+			if (sequence == null) {
+				builder.append(c);
+			} else {
+				builder.append(sequence);
+			}
+		}
+		return builder.toString();
+	}
+	
+	/**
+	 * Escapes the given value for xml and writes it to the given writer in a single pass.<br>
+	 * The characters are replaced like in {@link #escapeXml(String)}, unescaped parts are written as they are.<br>
+	 * @param value The value to escape
+	 * @param writer The writer to write the escaped value to
+	 * @throws NullPointerException If the value or the writer is null
+	 * @throws IOException If an I/O error occurs
+	 */
+	static void escapeXml(@NotNull String value, @NotNull Writer writer) throws IOException {
+		Objects.requireNonNull(value, "Value must not be null");
+		Objects.requireNonNull(writer, "Writer must not be null");
+		int start = 0;
+		for (int i = 0; i < value.length(); i++) {
+			String sequence = getEscapeSequence(value.charAt(i));
+			if (sequence != null) {
+				writer.write(value, start, i - start);
+				writer.write(sequence);
+				start = i + 1;
+			}
+		}
+		writer.write(value, start, value.length() - start);
+	}
+	
+	/**
+	 * Returns the xml escape sequence of the given character.<br>
+	 * @param c The character
+	 * @return The escape sequence or null if the character does not need to be escaped
+	 */
+	private static @Nullable String getEscapeSequence(char c) {
+		return switch (c) {
+			case '&' -> "&amp;";
+			case '"' -> "&quot;";
+			case '\'' -> "&apos;";
+			case '<' -> "&lt;";
+			case '>' -> "&gt;";
+			default -> null;
+		};
 	}
 	
 	/**
@@ -0,0 +1,138 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.xml;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A cache which is used by the xml readers to share the names of xml elements and attributes.<br>
+ * <p>
+ *     Names are looked up directly in the input, so no string is created for a name which is already cached.<br>
+ *     Since documents usually repeat a small set of names, all elements and attributes with the same name share a single string.<br>
+ * </p>
+ * <p>
+ *     The number of cached names is bounded, so documents with many distinct names do not grow the cache without limit.<br>
+ *     A cache is not thread-safe.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+final class XmlNameCache {
+	
+	/**
+	 * The maximum length of a cached name.<br>
+	 */
+	private static final int MAX_NAME_LENGTH = 64;
+	/**
+	 * The maximum number of cached names.<br>
+	 */
+	private static final int MAX_NAMES = 4096;
+	
+	/**
+	 * The hash table of the cached names.<br>
+	 */
+	private String[] names = new String[64];
+	/**
+	 * The number of cached names.<br>
+	 */
+	private int count;
+	
+	/**
+	 * Returns the name for the given region of the input.<br>
+	 * @param input The input
+	 * @param start The start index of the name (inclusive)
+	 * @param end The end index of the name (exclusive)
+	 * @return The cached name or a new string if the name is not cached
+	 */
+	@NotNull String name(@NotNull CharSequence input, int start, int end) {
+		int length = end - start;
+		if (length > MAX_NAME_LENGTH) {
+			return input.subSequence(start, end).toString();
+		}
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + input.charAt(i);
+		}
+		int mask = this.names.length - 1;
+		int slot = spread(hash) & mask;
+		String name;
+		while ((name = this.names[slot]) != null) {
+			if (name.hashCode() == hash && name.length() == length && regionMatches(input, start, name)) {
+				return name;
+			}
+			slot = (slot + 1) & mask;
+		}
+		name = input.subSequence(start, end).toString();
+		if (this.count < MAX_NAMES) {
+			this.names[slot] = name;
+			this.count++;
+			this.resize();
+		}
+		return name;
+	}
+	
+	//region Helper methods
+	
+	/**
+	 * Spreads the bits of the given hash to reduce collisions in tables with a power of two size.<br>
+	 * @param hash The hash
+	 * @return The spread hash
+	 */
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * Checks if the region of the input starting at the given index matches the given name.<br>
+	 * @param input The input
+	 * @param start The start index of the region
+	 * @param name The name with the length of the region
+	 * @return True if the region matches the name, otherwise false
+	 */
+	private static boolean regionMatches(@NotNull CharSequence input, int start, @NotNull String name) {
+		for (int i = 0; i < name.length(); i++) {
+			if (input.charAt(start + i) != name.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Doubles the size of the hash table if it is more than half full.<br>
+	 */
+	private void resize() {
+		if (this.count * 2 <= this.names.length) {
+			return;
+		}
+		String[] names = new String[this.names.length * 2];
+		int mask = names.length - 1;
+		for (String name : this.names) {
+			if (name != null) {
+				int slot = spread(name.hashCode()) & mask;
+				while (names[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				names[slot] = name;
+			}
+		}
+		this.names = names;
+	}
+	//endregion
+}
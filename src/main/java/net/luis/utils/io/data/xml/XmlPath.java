@@ -0,0 +1,638 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.xml;
+
+import com.google.common.collect.Lists;
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.xml.exception.XmlSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+import static net.luis.utils.io.data.xml.XmlHelper.*;
+
+/**
+ * A compiled xml path expression which selects xml elements by their position in a xml document.<br>
+ * The expression is compiled once and can be applied to any number of xml elements or xml documents.<br>
+ * Compiled xml paths are immutable, therefore they can be cached and shared between threads.<br>
+ * <p>
+ *     The following syntax is supported:
+ * </p>
+ * <ul>
+ *     <li>{@code /name}: The child elements with the given name, the first step selects the root element</li>
+ *     <li>{@code //name}: All descendant elements with the given name</li>
+ *     <li>{@code *}: Any element name, e.g. {@code /feed/*} or {@code //*}</li>
+ *     <li>{@code [@id]}: Only elements which have the given attribute</li>
+ *     <li>{@code [@id='1']} or {@code [@id="1"]}: Only elements whose attribute has the given value</li>
+ *     <li>{@code [2]}: Only the element at the given position (1-based) among its siblings which match the step so far</li>
+ * </ul>
+ * <p>
+ *     Multiple predicates can be combined and are applied from left to right,<br>
+ *     e.g. {@code /feed/record[@type='a'][2]} selects the second record with the type {@code a}.<br>
+ *     Element and attribute names are compared case-sensitive, attribute values are compared unescaped.<br>
+ * </p>
+ * <p>
+ *     When the path is applied to a xml element, the element is treated as root element of a xml document.<br>
+ *     The tree is walked without copying the child elements, child elements are looked up by name if possible.<br>
+ *     When the path is applied to xml input, the input is streamed and only the selected subtrees are built.<br>
+ * </p>
+ *
+ * @author Luis-St
+ */
+public final class XmlPath {
+	
+	/**
+	 * The maximum number of steps of a xml path.<br>
+	 * The matching state of a xml path is stored as bit mask with one bit per step and one bit for a match.<br>
+	 */
+	private static final int MAX_STEPS = 63;
+	
+	/**
+	 * The expression of this xml path.<br>
+	 */
+	private final String expression;
+	/**
+	 * The compiled steps of this xml path.<br>
+	 */
+	private final Step[] steps;
+	/**
+	 * The number of sibling counters which are required by the positional predicates of this xml path.<br>
+	 */
+	private final int counterCount;
+	
+	/**
+	 * Constructs a new xml path with the given expression and steps.<br>
+	 * @param expression The expression of the xml path
+	 * @param steps The compiled steps of the xml path
+	 * @param counterCount The number of sibling counters required by the positional predicates
+	 */
+	private XmlPath(@NotNull String expression, Step @NotNull [] steps, int counterCount) {
+		this.expression = expression;
+		this.steps = steps;
+		this.counterCount = counterCount;
+	}
+	
+	/**
+	 * Compiles the given xml path expression.<br>
+	 * @param expression The expression to compile
+	 * @return The compiled xml path
+	 * @throws NullPointerException If the expression is null
+	 * @throws IllegalArgumentException If the expression is invalid
+	 */
+	public static @NotNull XmlPath compile(@NotNull String expression) {
+		Objects.requireNonNull(expression, "Xml path expression must not be null");
+		Parser parser = new Parser(expression);
+		Step[] steps = parser.parse();
+		return new XmlPath(expression, steps, parser.counterCount);
+	}
+	
+	/**
+	 * Returns the expression of this xml path.<br>
+	 * @return The expression
+	 */
+	public @NotNull String getExpression() {
+		return this.expression;
+	}
+	
+	//region Tree selection
+	
+	/**
+	 * Selects all xml elements which match this xml path from the given xml element.<br>
+	 * @param element The root xml element
+	 * @return The matching xml elements in document order
+	 * @throws NullPointerException If the xml element is null
+	 */
+	public @NotNull List<XmlElement> select(@NotNull XmlElement element) {
+		Objects.requireNonNull(element, "Xml element must not be null");
+		List<XmlElement> results = Lists.newArrayList();
+		this.walk(element, this.next(this.start(), element.getName(), element.getAttributes(), this.createCounters(), 0), results, Integer.MAX_VALUE);
+		return results;
+	}
+	
+	/**
+	 * Selects the first xml element which matches this xml path from the given xml element.<br>
+	 * The selection stops at the first match.<br>
+	 * @param element The root xml element
+	 * @return The first matching xml element in document order or an empty optional if no element matches
+	 * @throws NullPointerException If the xml element is null
+	 */
+	public @NotNull Optional<XmlElement> selectFirst(@NotNull XmlElement element) {
+		Objects.requireNonNull(element, "Xml element must not be null");
+		List<XmlElement> results = Lists.newArrayListWithCapacity(1);
+		this.walk(element, this.next(this.start(), element.getName(), element.getAttributes(), this.createCounters(), 0), results, 1);
+		return results.isEmpty() ? Optional.empty() : Optional.of(results.getFirst());
+	}
+	//endregion
+	
+	//region Streaming selection
+	
+	/**
+	 * Selects all xml elements which match this xml path from the given input using the default configuration.<br>
+	 * @param input The input to read from
+	 * @return The matching xml elements in document order
+	 * @throws NullPointerException If the input is null
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see XmlFilterReader
+	 */
+	public @NotNull List<XmlElement> select(@NotNull InputProvider input) {
+		return this.select(input, XmlConfig.DEFAULT);
+	}
+	
+	/**
+	 * Selects all xml elements which match this xml path from the given input using the given configuration.<br>
+	 * @param input The input to read from
+	 * @param config The configuration to use
+	 * @return The matching xml elements in document order
+	 * @throws NullPointerException If the input or configuration is null
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see XmlFilterReader
+	 */
+	public @NotNull List<XmlElement> select(@NotNull InputProvider input, @NotNull XmlConfig config) {
+		try (XmlFilterReader reader = new XmlFilterReader(input, config, List.of(this))) {
+			List<XmlElement> results = Lists.newArrayList();
+			reader.forEach(results::add);
+			return results;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to close xml input", e);
+		}
+	}
+	
+	/**
+	 * Selects the first xml element which matches this xml path from the given input using the default configuration.<br>
+	 * @param input The input to read from
+	 * @return The first matching xml element in document order or an empty optional if no element matches
+	 * @throws NullPointerException If the input is null
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see XmlFilterReader
+	 */
+	public @NotNull Optional<XmlElement> selectFirst(@NotNull InputProvider input) {
+		return this.selectFirst(input, XmlConfig.DEFAULT);
+	}
+	
+	/**
+	 * Selects the first xml element which matches this xml path from the given input using the given configuration.<br>
+	 * The input is only read until the first match is found.<br>
+	 * @param input The input to read from
+	 * @param config The configuration to use
+	 * @return The first matching xml element in document order or an empty optional if no element matches
+	 * @throws NullPointerException If the input or configuration is null
+	 * @throws XmlSyntaxException If the xml is invalid
+	 * @throws UncheckedIOException If an I/O error occurs
+	 * @see XmlFilterReader
+	 */
+	public @NotNull Optional<XmlElement> selectFirst(@NotNull InputProvider input, @NotNull XmlConfig config) {
+		try (XmlFilterReader reader = new XmlFilterReader(input, config, List.of(this))) {
+			Iterator<XmlElement> iterator = reader.iterator();
+			return iterator.hasNext() ? Optional.of(iterator.next()) : Optional.empty();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to close xml input", e);
+		}
+	}
+	//endregion
+	
+	//region Matching
+	
+	/**
+	 * Walks the given xml element and adds all matching elements to the given list.<br>
+	 * If all active steps select children by the same name, the children are looked up by name instead of being iterated.<br>
+	 * @param element The xml element to walk
+	 * @param mask The matching state of the xml element
+	 * @param results The list to add the matching elements to
+	 * @param limit The maximum number of matching elements
+	 * @return True if the limit has been reached, otherwise false
+	 */
+	private boolean walk(@NotNull XmlElement element, long mask, @NotNull List<XmlElement> results, int limit) {
+		if (this.isMatch(mask)) {
+			results.add(element);
+			if (results.size() >= limit) {
+				return true;
+			}
+			mask &= ~(1L << this.steps.length);
+		}
+		if (mask == 0 || !(element instanceof XmlContainer container)) {
+			return false;
+		}
+		int[] counters = this.createCounters();
+		String name = this.getLookupName(mask);
+		if (name != null) {
+			for (XmlElement child : container.getElements().getElementsView(name)) {
+				long childMask = this.next(mask, child.getName(), child.getAttributes(), counters, 0);
+				if (childMask != 0 && this.walk(child, childMask, results, limit)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		long parentMask = mask;
+		return !container.getElements().forEachElement(child -> {
+			long childMask = this.next(parentMask, child.getName(), child.getAttributes(), counters, 0);
+			return childMask == 0 || !this.walk(child, childMask, results, limit);
+		});
+	}
+	
+	/**
+	 * Returns the name of the child elements which can match the given matching state.<br>
+	 * @param mask The matching state of the parent without the match bit
+	 * @return The name or null if children with different or any names can match
+	 */
+	private @Nullable String getLookupName(long mask) {
+		String name = null;
+		for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+			Step step = this.steps[Long.numberOfTrailingZeros(remaining)];
+			if (step.descendant() || step.name() == null || (name != null && !name.equals(step.name()))) {
+				return null;
+			}
+			name = step.name();
+		}
+		return name;
+	}
+	
+	/**
+	 * Returns the number of sibling counters which are required by the positional predicates of this xml path.<br>
+	 * @return The number of counters
+	 */
+	int getCounterCount() {
+		return this.counterCount;
+	}
+	
+	/**
+	 * Creates the sibling counters for the children of a single parent.<br>
+	 * @return The counters or null if this xml path does not contain positional predicates
+	 */
+	private int @Nullable [] createCounters() {
+		return this.counterCount == 0 ? null : new int[this.counterCount];
+	}
+	
+	/**
+	 * Returns the matching state of the document before the root element.<br>
+	 * @return The initial matching state
+	 */
+	long start() {
+		return 1L;
+	}
+	
+	/**
+	 * Computes the matching state of a xml element from the matching state of its parent.<br>
+	 * The sibling counters must be shared by all children of the parent and are updated by positional predicates.<br>
+	 * @param mask The matching state of the parent
+	 * @param name The name of the xml element
+	 * @param attributes The attributes of the xml element
+	 * @param counters The sibling counters of the parent or null if this xml path does not contain positional predicates
+	 * @param offset The offset of the sibling counters in the array
+	 * @return The matching state of the xml element, zero if neither the element nor one of its descendants can match
+	 */
+	long next(long mask, @NotNull String name, @NotNull XmlAttributes attributes, int @Nullable [] counters, int offset) {
+		long result = 0;
+		for (long remaining = mask & ~(1L << this.steps.length); remaining != 0; remaining &= remaining - 1) {
+			int i = Long.numberOfTrailingZeros(remaining);
+			Step step = this.steps[i];
+			if (step.descendant()) {
+				result |= 1L << i;
+			}
+			if (step.matches(name, attributes, counters, offset)) {
+				result |= 1L << (i + 1);
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Checks if the given matching state is a match of this xml path.<br>
+	 * @param mask The matching state
+	 * @return True if the state is a match, otherwise false
+	 */
+	boolean isMatch(long mask) {
+		return (mask & (1L << this.steps.length)) != 0;
+	}
+	//endregion
+	
+	//region Object overrides
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof XmlPath path)) return false;
+		
+		return this.expression.equals(path.expression);
+	}
+	
+	@Override
+	public int hashCode() {
+		return this.expression.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+	//endregion
+	
+	//region Internal
+	
+	/**
+	 * A step of a xml path.<br>
+	 *
+	 * @param descendant True if the step is applied to all descendants, otherwise it is only applied to the children
+	 * @param name The name of the matching elements or null if the step matches any name
+	 * @param predicates The predicates which must all be true for a matching element, applied from left to right
+	 */
+	private record Step(boolean descendant, @Nullable String name, Predicate @NotNull [] predicates) {
+		
+		/**
+		 * Checks if the xml element with the given name and attributes matches this step.<br>
+		 * @param name The name of the xml element
+		 * @param attributes The attributes of the xml element
+		 * @param counters The sibling counters of the parent or null if there are no positional predicates
+		 * @param offset The offset of the sibling counters in the array
+		 * @return True if the element matches, otherwise false
+		 */
+		private boolean matches(@NotNull String name, @NotNull XmlAttributes attributes, int @Nullable [] counters, int offset) {
+			if (this.name != null && !this.name.equals(name)) {
+				return false;
+			}
+			for (Predicate predicate : this.predicates) {
+				if (!predicate.test(attributes, counters, offset)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+	
+	/**
+	 * A predicate which decides whether a xml element matches a step.<br>
+	 */
+	private sealed interface Predicate {
+		
+		/**
+		 * Checks if the xml element with the given attributes fulfills this predicate.<br>
+		 * @param attributes The attributes of the xml element
+		 * @param counters The sibling counters of the parent or null if there are no positional predicates
+		 * @param offset The offset of the sibling counters in the array
+		 * @return True if the predicate is fulfilled, otherwise false
+		 */
+		boolean test(@NotNull XmlAttributes attributes, int @Nullable [] counters, int offset);
+	}
+	
+	/**
+	 * A predicate on an attribute of a xml element.<br>
+	 *
+	 * @param name The name of the attribute
+	 * @param value The required unescaped value of the attribute or null if the attribute must only exist
+	 */
+	private record AttributePredicate(@NotNull String name, @Nullable String value) implements Predicate {
+		
+		@Override
+		public boolean test(@NotNull XmlAttributes attributes, int @Nullable [] counters, int offset) {
+			XmlAttribute attribute = attributes.get(this.name);
+			return attribute != null && (this.value == null || this.value.equals(attribute.getUnescapedValue()));
+		}
+	}
+	
+	/**
+	 * A predicate on the position of a xml element among its siblings which reached the predicate.<br>
+	 *
+	 * @param position The required position (1-based)
+	 * @param counter The index of the sibling counter of this predicate
+	 */
+	private record IndexPredicate(int position, int counter) implements Predicate {
+		
+		@Override
+		public boolean test(@NotNull XmlAttributes attributes, int @Nullable [] counters, int offset) {
+			return ++Objects.requireNonNull(counters, "Counters must not be null")[offset + this.counter] == this.position;
+		}
+	}
+	
+	/**
+	 * A parser for xml path expressions.<br>
+	 */
+	private static final class Parser {
+		
+		/**
+		 * The expression to parse.<br>
+		 */
+		private final String expression;
+		/**
+		 * The current index in the expression.<br>
+		 */
+		private int index;
+		/**
+		 * The number of positional predicates parsed so far.<br>
+		 */
+		private int counterCount;
+		
+		/**
+		 * Constructs a new parser for the given expression.<br>
+		 * @param expression The expression to parse
+		 */
+		private Parser(@NotNull String expression) {
+			this.expression = expression.strip();
+		}
+		
+		/**
+		 * Parses the steps of the expression.<br>
+		 * @return The steps
+		 * @throws IllegalArgumentException If the expression is invalid
+		 */
+		private Step @NotNull [] parse() {
+			List<Step> steps = Lists.newArrayList();
+			do {
+				this.expect('/');
+				boolean descendant = this.canRead() && this.peek() == '/';
+				if (descendant) {
+					this.index++;
+				}
+				steps.add(this.parseStep(descendant));
+				if (steps.size() > MAX_STEPS) {
+					throw this.createException("Xml path must not contain more than " + MAX_STEPS + " steps");
+				}
+			} while (this.canRead());
+			return steps.toArray(Step[]::new);
+		}
+		
+		/**
+		 * Parses a step after a slash.<br>
+		 * @param descendant Whether the step is applied to all descendants
+		 * @return The step
+		 */
+		private @NotNull Step parseStep(boolean descendant) {
+			String name = null;
+			if (this.canRead() && this.peek() == '*') {
+				this.index++;
+			} else {
+				name = this.parseName("element", '/', '[');
+				try {
+					validateElementName(name);
+				} catch (IllegalArgumentException e) {
+					throw this.createException("Invalid element name '" + name + "'");
+				}
+			}
+			List<Predicate> predicates = Lists.newArrayList();
+			while (this.canRead() && this.peek() == '[') {
+				predicates.add(this.parsePredicate());
+			}
+			return new Step(descendant, name, predicates.toArray(Predicate[]::new));
+		}
+		
+		/**
+		 * Parses an attribute or positional predicate in square brackets.<br>
+		 * @return The predicate
+		 */
+		private @NotNull Predicate parsePredicate() {
+			this.expect('[');
+			this.skipWhitespaces();
+			if (this.canRead() && Character.isDigit(this.peek())) {
+				return this.parseIndexPredicate();
+			}
+			this.expect('@');
+			String name = this.parseName("attribute", '=', ']').strip();
+			try {
+				validateAttributeKey(name);
+			} catch (IllegalArgumentException e) {
+				throw this.createException("Invalid attribute name '" + name + "'");
+			}
+			String value = null;
+			if (this.canRead() && this.peek() == '=') {
+				this.index++;
+				this.skipWhitespaces();
+				value = this.parseQuotedString();
+				this.skipWhitespaces();
+			}
+			this.expect(']');
+			return new AttributePredicate(name, value);
+		}
+		
+		/**
+		 * Parses a positional predicate after the opening square bracket.<br>
+		 * @return The positional predicate
+		 */
+		private @NotNull IndexPredicate parseIndexPredicate() {
+			int start = this.index;
+			while (this.canRead() && Character.isDigit(this.peek())) {
+				this.index++;
+			}
+			int position;
+			try {
+				position = Integer.parseInt(this.expression.substring(start, this.index));
+			} catch (NumberFormatException e) {
+				throw this.createException("Invalid position '" + this.expression.substring(start, this.index) + "'");
+			}
+			if (position < 1) {
+				throw this.createException("Position must be greater than zero");
+			}
+			this.skipWhitespaces();
+			this.expect(']');
+			return new IndexPredicate(position, this.counterCount++);
+		}
+		
+		/**
+		 * Parses a name up to one of the given terminators or the end of the expression.<br>
+		 * @param type The type of the name used in the exception message
+		 * @param terminators The characters which terminate the name
+		 * @return The name
+		 */
+		private @NotNull String parseName(@NotNull String type, char @NotNull ... terminators) {
+			int start = this.index;
+			outer:
+			while (this.canRead()) {
+				char c = this.peek();
+				for (char terminator : terminators) {
+					if (c == terminator) {
+						break outer;
+					}
+				}
+				this.index++;
+			}
+			if (start == this.index) {
+				throw this.createException("Expected an " + type + " name");
+			}
+			return this.expression.substring(start, this.index);
+		}
+		
+		/**
+		 * Parses a single or double quoted string.<br>
+		 * @return The string without quotes
+		 */
+		private @NotNull String parseQuotedString() {
+			if (!this.canRead() || (this.peek() != '\'' && this.peek() != '"')) {
+				throw this.createException("Expected a quoted string");
+			}
+			char quote = this.expression.charAt(this.index++);
+			int end = this.expression.indexOf(quote, this.index);
+			if (end == -1) {
+				throw this.createException("Expected closing quote " + quote);
+			}
+			String value = this.expression.substring(this.index, end);
+			this.index = end + 1;
+			return value;
+		}
+		
+		/**
+		 * Checks if there are characters left to read.<br>
+		 * @return True if there are characters left, otherwise false
+		 */
+		private boolean canRead() {
+			return this.index < this.expression.length();
+		}
+		
+		/**
+		 * Returns the current character.<br>
+		 * @return The current character
+		 */
+		private char peek() {
+			return this.expression.charAt(this.index);
+		}
+		
+		/**
+		 * Skips all whitespaces at the current position.<br>
+		 */
+		private void skipWhitespaces() {
+			while (this.canRead() && Character.isWhitespace(this.peek())) {
+				this.index++;
+			}
+		}
+		
+		/**
+		 * Consumes the expected character.<br>
+		 * @param expected The expected character
+		 * @throws IllegalArgumentException If the current character is not the expected one
+		 */
+		private void expect(char expected) {
+			if (!this.canRead() || this.peek() != expected) {
+				throw this.createException("Expected '" + expected + "'");
+			}
+			this.index++;
+		}
+		
+		/**
+		 * Creates a new exception with the given message and the current index.<br>
+		 * @param message The message of the exception
+		 * @return The created exception
+		 */
+		private @NotNull IllegalArgumentException createException(@NotNull String message) {
+			return new IllegalArgumentException("Invalid xml path '" + this.expression + "', " + message + " at index " + this.index);
+		}
+	}
+	//endregion
+}
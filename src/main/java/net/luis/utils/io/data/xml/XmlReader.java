@@ -23,42 +23,70 @@ import net.luis.utils.exception.InvalidStringException;
 import net.luis.utils.io.FileUtils;
 import net.luis.utils.io.data.InputProvider;
 import net.luis.utils.io.data.xml.exception.XmlSyntaxException;
-import net.luis.utils.io.reader.ScopedStringReader;
+import net.luis.utils.io.data.xml.exception.XmlTypeException;
 import net.luis.utils.io.reader.StringReader;
 import net.luis.utils.util.Version;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * A xml reader that reads xml content from a {@link String string} or {@link InputProvider input provider}.<br>
  * The reader expects a xml declaration at the beginning of the content, which can be read with {@link #readDeclaration()}.<br>
  * After reading the declaration, the xml root element can be read with {@link #readXmlElement()}.<br>
+ * <p>
+ *     The content is parsed in a single pass with one cursor, every character is visited a constant number of times.<br>
+ *     Xml comments are skipped while parsing, they are allowed between elements and inside of values.<br>
+ * </p>
+ * <p>
+ *     If parallel parsing is enabled in the configuration, the child elements of large root elements are parsed concurrently,<br>
+ *     and assembled in the order of the content.<br>
+ *     The result and the reported errors are the same as for sequential parsing.<br>
+ * </p>
  *
  * @author Luis-St
  */
 public class XmlReader implements AutoCloseable {
 	
+	/**
+	 * The minimum length of the content for which the child elements of the root element are parsed in parallel.<br>
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 18;
 	/**
 	 * The possible attributes of a xml declaration.<br>
 	 */
 	private static final List<String> DECLARATION_ATTRIBUTES = List.of("version", "encoding", "standalone");
 	/**
-	 * The pattern to match comments in xml content.<br>
+	 * The start of a xml comment.<br>
 	 */
-	private static final String COMMENT_PATTERN = "<!--.*?-->";
+	private static final String COMMENT_START = "<!--";
+	/**
+	 * The end of a xml comment.<br>
+	 */
+	private static final String COMMENT_END = "-->";
 	
 	/**
 	 * The xml config of this reader.<br>
 	 */
 	private final XmlConfig config;
 	/**
-	 * The internal reader used to read the xml content.<br>
+	 * The xml content to read.<br>
+	 */
+	private final String input;
+	/**
+	 * The cache which is used to share the names of xml elements and attributes.<br>
+	 */
+	private final XmlNameCache nameCache = new XmlNameCache();
+	/**
+	 * The current position in the xml content.<br>
 	 */
-	private final ScopedStringReader reader;
+	private int index;
 	/**
 	 * A flag to indicate if the xml declaration has been read.<br>
 	 */
@@ -81,7 +109,7 @@ public class XmlReader implements AutoCloseable {
 	 */
 	public XmlReader(@NotNull String string, @NotNull XmlConfig config) {
 		this.config = Objects.requireNonNull(config, "Xml config must not be null");
-		this.reader = new ScopedStringReader(deleteComments(string));
+		this.input = Objects.requireNonNull(string, "String must not be null");
 	}
 	
 	/**
@@ -103,24 +131,12 @@ public class XmlReader implements AutoCloseable {
 		Objects.requireNonNull(input, "Input must not be null");
 		this.config = Objects.requireNonNull(config, "Xml config must not be null");
 		try {
-			String content = FileUtils.readString(input, config.charset());
-			this.reader = new ScopedStringReader(deleteComments(content));
+			this.input = FileUtils.readString(input, config.charset());
 		} catch (IOException e) {
 			throw new UncheckedIOException("Failed to read string from reader", e);
 		}
 	}
 	
-	/**
-	 * Deletes all xml comments from the given string.<br>
-	 * @param string The string to delete the comments from
-	 * @return The string without any xml comments
-	 * @throws NullPointerException If the string is null
-	 */
-	private static @NotNull String deleteComments(@NotNull String string) {
-		Objects.requireNonNull(string, "String must not be null");
-		return string.replaceAll(COMMENT_PATTERN, "");
-	}
-	
 	/**
 	 * Reads the xml declaration from the xml content.<br>
 	 * @return The xml declaration of the xml content
@@ -135,8 +151,10 @@ public class XmlReader implements AutoCloseable {
 				}
 				return new XmlDeclaration(Version.of(1, 0));
 			}
-			this.reader.skipWhitespaces();
-			StringReader declarationReader = new StringReader(this.reader.readScope(ScopedStringReader.ANGLE_BRACKETS));
+			this.skipWhitespacesAndComments();
+			int start = this.index;
+			this.index = this.findDeclarationEnd();
+			StringReader declarationReader = new StringReader(this.input.substring(start, this.index));
 			String type = declarationReader.readUntil(' ');
 			if (!"<?xml".equalsIgnoreCase(type)) {
 				throw new XmlSyntaxException("Expected xml declaration, but found: '" + declarationReader.getString() + "'");
@@ -189,6 +207,37 @@ public class XmlReader implements AutoCloseable {
 		}
 	}
 	
+	/**
+	 * Finds the end of the xml declaration which starts at the current position.<br>
+	 * The declaration ends at the first '>' which is not quoted and closes the opening '<'.<br>
+	 * @return The index after the end of the xml declaration
+	 * @throws XmlSyntaxException If the xml declaration is not closed
+	 */
+	private int findDeclarationEnd() {
+		int depth = 0;
+		char quote = 0;
+		for (int i = this.index; i < this.input.length(); i++) {
+			char c = this.input.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+			} else if (c == '<') {
+				depth++;
+			} else if (c == '>' && --depth <= 0) {
+				return i + 1;
+			}
+		}
+		if (depth > 0 || quote != 0) {
+			throw new XmlSyntaxException("Error while parsing xml declaration, expected '>' at the end of the xml declaration");
+		}
+		return this.input.length();
+	}
+	
 	/**
 	 * Reads the xml root element from the xml content.<br>
 	 * @return The xml root element read
@@ -203,116 +252,187 @@ public class XmlReader implements AutoCloseable {
 				this.readDeclaration();
 			}
 		}
-		XmlElement element = this.readXmlElement(this.reader);
-		this.reader.skipWhitespaces();
+		this.skipWhitespacesAndComments();
+		XmlElement element = this.readElement(this.config.parallel());
+		this.skipWhitespacesAndComments();
 		return element;
 	}
 	
+	//region Element parsing
+	
 	/**
-	 * Reads a xml element from the given xml reader.<br>
-	 * @param xmlReader The xml reader to read the xml element from
+	 * Reads the xml element which starts at the current position.<br>
+	 * The content of the element is parsed in the same pass, child elements are read recursively.<br>
 	 * @return The xml element read
 	 * @throws XmlSyntaxException If the xml element is invalid
 	 */
-	private @NotNull XmlElement readXmlElement(@NotNull ScopedStringReader xmlReader) {
-		try {
-			xmlReader.skipWhitespaces();
-			StringReader elementReader = new StringReader(xmlReader.readScope(ScopedStringReader.ANGLE_BRACKETS));
-			elementReader.skip();
-			if (!this.config.strict()) {
-				elementReader.skipWhitespaces();
+	private @NotNull XmlElement readElement() {
+		return this.readElement(false);
+	}
+	
+	/**
+	 * Reads the xml element which starts at the current position.<br>
+	 * The content of the element is parsed in the same pass, child elements are read recursively.<br>
+	 * @param parallel Whether the child elements of the xml element should be read in parallel
+	 * @return The xml element read
+	 * @throws XmlSyntaxException If the xml element is invalid
+	 * @see #readContentParallel(String, XmlAttributes)
+	 */
+	private @NotNull XmlElement readElement(boolean parallel) {
+		if (!this.canRead() || this.input.charAt(this.index) != '<') {
+			throw new XmlSyntaxException("Expected '<' at the start of a xml element, but found: '" + (this.canRead() ? this.input.charAt(this.index) : "") + "'");
+		}
+		this.index++;
+		if (!this.config.strict()) {
+			this.skipWhitespaces();
+		}
+		int nameStart = this.index;
+		while (this.canRead() && !isNameTerminator(this.input.charAt(this.index))) {
+			this.index++;
+		}
+		String name = this.nameCache.name(this.input, nameStart, this.index);
+		if (name.isEmpty()) {
+			throw new XmlSyntaxException("Expected element name, but found none");
+		}
+		this.skipWhitespaces();
+		XmlAttributes attributes = XmlAttributes.EMPTY;
+		if (this.canRead() && this.peek() != '/' && this.peek() != '>') {
+			attributes = this.readXmlAttributes();
+		}
+		char next = this.read();
+		if (next == '/') {
+			this.skipWhitespacesConfigBased();
+			next = this.read();
+			if (next != '>') {
+				throw new XmlSyntaxException("Expected '>' after self-closing element, but found: '" + next + "'");
 			}
-			
-			String name = elementReader.readUntil(' ');
-			if (name.isBlank()) {
-				throw new XmlSyntaxException("Expected element name, but found none");
+			return new XmlElement(name, attributes);
+		} else if (next != '>') {
+			throw new XmlSyntaxException("Expected closing '>' after xml attributes, but found: '" + next + "'");
+		}
+		if (parallel) {
+			XmlContainer container = this.readContentParallel(name, attributes);
+			if (container != null) {
+				return container;
 			}
-			if (!this.config.strict()) {
-				elementReader.skipWhitespaces();
-			}
-			XmlAttributes attributes = new XmlAttributes();
-			if (elementReader.canRead() && elementReader.peek() != '/' && elementReader.peek() != '>') {
-				attributes = this.readXmlAttributes(elementReader);
-				if (elementReader.peek() == '/') {
-					elementReader.skip();
-					this.skipWhitespacesConfigBased(elementReader);
-					char next = elementReader.read();
-					if (next != '>') {
-						throw new XmlSyntaxException("Expected '>' after self-closing element, but found: '" + next + "'");
-					}
-					return new XmlElement(name, attributes);
-				} else if (elementReader.peek() != '>') {
-					throw new XmlSyntaxException("Expected closing '>' after xml attributes, but found: '" + elementReader.peek() + "'");
-				}
-				elementReader.skip();
-			} else {
-				name += elementReader.readRemaining();
-				if (name.charAt(name.length() - 1) != '>') {
-					throw new XmlSyntaxException("Expected closing '>' after element name, but found: '" + name + "'");
-				}
-				name = name.substring(0, name.length() - 1).stripTrailing();
-				if (name.isEmpty()) {
-					throw new XmlSyntaxException("Expected element name, but found empty element");
-				}
-				if (name.charAt(name.length() - 1) == '/') {
-					return new XmlElement(name.substring(0, name.length() - 1).stripTrailing());
+		}
+		return this.readContent(name, attributes);
+	}
+	
+	/**
+	 * Reads the content and the closing element of the xml element with the given name and attributes.<br>
+	 * If the content contains child elements, a xml container is returned, otherwise a xml value.<br>
+	 * Text is only allowed if there are no child elements, comments are removed from the text.<br>
+	 * @param name The name of the xml element
+	 * @param attributes The attributes of the xml element
+	 * @return The xml container or value read
+	 * @throws XmlSyntaxException If the content or closing element is invalid
+	 */
+	private @NotNull XmlElement readContent(@NotNull String name, @NotNull XmlAttributes attributes) {
+		XmlElements elements = null;
+		StringBuilder text = null;
+		int textStart = this.index;
+		while (true) {
+			int next = this.input.indexOf('<', this.index);
+			if (next < 0) {
+				throw new XmlSyntaxException("Expected closing element for '" + name + "', but found none");
+			}
+			if (this.input.startsWith(COMMENT_START, next)) {
+				if (elements == null) {
+					text = (text == null ? new StringBuilder() : text).append(this.input, textStart, next);
 				}
+				this.index = next;
+				this.skipComment();
+				textStart = this.index;
+				continue;
 			}
-			int closingIndex = this.getClosingElement(xmlReader, name);
-			String content = closingIndex > 0 ? xmlReader.read(closingIndex).stripIndent() : "";
-			String next = xmlReader.read(2);
-			if (!"</".equals(next)) {
-				throw new XmlSyntaxException("Expected closing element for '" + name + "', but found: '" + next + "'");
+			boolean closing = this.input.startsWith("</", next);
+			if (elements != null) {
+				this.checkNoText(this.input, textStart, next);
+			} else if (!closing) {
+				this.checkNoText(this.input, textStart, next);
+				if (text != null) {
+					this.checkNoText(text, 0, text.length());
+				}
 			}
-			this.skipWhitespacesConfigBased(xmlReader);
-			xmlReader.readExpected(name, false);
-			this.skipWhitespacesConfigBased(xmlReader);
-			if (xmlReader.peek() != '>') {
-				throw new XmlSyntaxException("Expected closing '>' after element name, but found: '" + xmlReader.peek() + "'");
+			this.index = next;
+			if (closing) {
+				break;
 			}
-			xmlReader.skip();
-			if (content.contains("<")) {
-				return new XmlContainer(name, attributes, this.readeXmlElements(new ScopedStringReader(content)));
+			if (elements == null) {
+				elements = new XmlElements();
 			}
-			return new XmlValue(name, attributes, content.strip());
-		} catch (InvalidStringException e) {
-			throw new XmlSyntaxException("Error while parsing xml element", e);
+			elements.add(this.readElement());
+			textStart = this.index;
+		}
+		int contentEnd = this.index;
+		this.readClosingElement(name);
+		if (elements != null) {
+			return new XmlContainer(name, attributes, elements);
 		}
+		String content = text == null ? this.input.substring(textStart, contentEnd) : text.append(this.input, textStart, contentEnd).toString();
+		return new XmlValue(name, attributes, content.stripIndent().strip());
 	}
 	
 	/**
-	 * Reads the xml attributes from the given attribute reader.<br>
-	 * @param attributeReader The attribute reader to read the xml attributes from
+	 * Reads the closing element of the xml element with the given name.<br>
+	 * The name of the closing element is compared case-insensitive.<br>
+	 * @param name The name of the xml element
+	 * @throws XmlSyntaxException If the closing element is invalid or does not match the given name
+	 */
+	private void readClosingElement(@NotNull String name) {
+		this.index += 2;
+		this.skipWhitespacesConfigBased();
+		if (this.config.strict() && this.canRead() && Character.isWhitespace(this.input.charAt(this.index))) {
+			throw new XmlSyntaxException("Expected element name, but found too many whitespaces after '/'");
+		}
+		int nameStart = this.index;
+		while (this.canRead() && !Character.isWhitespace(this.input.charAt(this.index)) && this.input.charAt(this.index) != '>') {
+			this.index++;
+		}
+		String closingName = this.input.substring(nameStart, this.index);
+		if (closingName.isEmpty()) {
+			throw new XmlSyntaxException("Expected closing element for '" + name + "', but found none");
+		}
+		if (!closingName.equalsIgnoreCase(name)) {
+			throw new XmlSyntaxException("Unexpected closing element for '" + closingName + "', expected closing element for '" + name + "'");
+		}
+		this.skipWhitespacesConfigBased();
+		char next = this.read();
+		if (next != '>') {
+			throw new XmlSyntaxException("Expected closing '>' after element name, but found: '" + next + "'");
+		}
+	}
+	
+	/**
+	 * Reads the xml attributes of the xml element at the current position.<br>
 	 * @return The xml attributes read
 	 * @throws XmlSyntaxException If the xml attributes are invalid
 	 */
-	private @NotNull XmlAttributes readXmlAttributes(@NotNull StringReader attributeReader) {
+	private @NotNull XmlAttributes readXmlAttributes() {
 		XmlAttributes attributes = new XmlAttributes();
-		attributeReader.skipWhitespaces();
-		while (attributeReader.peek() != '>' && attributeReader.peek() != '/') {
-			char[] terminators = { '=', ' ' };
-			if (this.config.strict()) {
-				terminators = new char[] { '=' };
+		while (this.peek() != '>' && this.peek() != '/') {
+			int nameStart = this.index;
+			while (this.canRead() && !isAttributeNameTerminator(this.input.charAt(this.index), this.config.strict())) {
+				this.index++;
 			}
-			String name = attributeReader.readUntilInclusive(terminators);
+			String name = this.nameCache.name(this.input, nameStart, this.index);
 			if (this.config.strict()) {
-				name = name.substring(0, name.length() - 1);
+				if (this.read() != '=') {
+					throw new XmlSyntaxException("Expected '=' after attribute name '" + name + "'");
+				}
 				if (name.length() != name.strip().length()) {
 					throw new XmlSyntaxException("Unexpected whitespace in attribute name '" + name + "'");
 				}
 			} else {
-				attributeReader.skipWhitespaces();
-				if (attributeReader.peek() == '=') {
-					attributeReader.skip();
-				} else {
-					name = name.substring(0, name.length() - 1);
+				this.skipWhitespaces();
+				if (this.peek() == '=') {
+					this.index++;
 				}
+				this.skipWhitespaces();
 			}
-			if (!this.config.strict()) {
-				attributeReader.skipWhitespaces();
-			}
-			String value = attributeReader.readQuotedString();
-			attributeReader.skipWhitespaces();
+			String value = this.readQuotedString();
+			this.skipWhitespaces();
 			attributes.add(name.strip(), value);
 		}
 		if (!attributes.isEmpty() && !this.config.allowAttributes()) {
@@ -322,109 +442,329 @@ public class XmlReader implements AutoCloseable {
 	}
 	
 	/**
-	 * Gets the number of characters until the closing element of the given element name.<br>
-	 * @param xmlReader The xml reader to read the closing element from
-	 * @param name The name of the element to get the closing element for
-	 * @return The number of characters
-	 * @throws XmlSyntaxException If any syntax error occurs while reading the closing element
-	 */
-	private int getClosingElement(@NotNull ScopedStringReader xmlReader, @NotNull String name) {
-		String remaining = xmlReader.getString().substring(xmlReader.getIndex());
-		StringReader reader = new StringReader(remaining);
-		Deque<String> scope = new ArrayDeque<>();
-		while (reader.canRead()) {
-			reader.skipWhitespaces();
-			if (reader.peek() == '\'' || reader.peek() == '"') {
-				reader.readQuotedString();
-			} else if (reader.peek() == '<') {
-				int resultIndex = reader.getIndex();
-				reader.skip();
-				if (reader.peek() == '/') {
-					reader.skip();
-					this.skipWhitespacesConfigBased(reader);
-					if (this.config.strict() && reader.peek() == ' ') {
-						throw new XmlSyntaxException("Expected element name, but found too many whitespaces after '/'");
-					}
-					String elementName = reader.readUntil('>').strip();
-					if (elementName.isEmpty()) {
-						throw new XmlSyntaxException("Expected closing element for '" + name + "', but found none");
-					}
-					if (scope.isEmpty() && elementName.equalsIgnoreCase(name)) {
-						return resultIndex;
-					} else if (!scope.isEmpty() && scope.peek().equalsIgnoreCase(elementName)) {
-						scope.pop();
-						continue;
-					}
-					throw new XmlSyntaxException("Unexpected closing element for '" + elementName + "', expected closing element for '" + (scope.isEmpty() ? name : scope.peek()) + "'");
-				} else {
-					reader.skipWhitespaces();
-					String elementName = reader.readUntilInclusive(' ', '>');
-					if (elementName.isBlank()) {
-						throw new XmlSyntaxException("Expected element name, but found none");
-					}
-					if (elementName.charAt(elementName.length() - 1) == ' ') {
-						String remainingElement = reader.readUntil('>').stripTrailing();
-						if (remainingElement.charAt(remainingElement.length() - 1) == '/') {
-							continue;
-						}
-						scope.push(elementName.strip());
-					} else if (elementName.charAt(elementName.length() - 1) == '>') {
-						elementName = elementName.substring(0, elementName.length() - 1).stripTrailing();
-						if (elementName.isEmpty()) {
-							throw new XmlSyntaxException("Expected element name, but found empty element");
-						} else if (elementName.charAt(elementName.length() - 1) == '/') {
-							continue;
-						}
-						scope.push(elementName.strip());
-					} else {
-						throw new XmlSyntaxException("Expected closing element for '" + name + "', but found none");
+	 * Reads a quoted attribute value at the current position.<br>
+	 * The quotes are read but not included in the result, escaped characters are kept as they are.<br>
+	 * @return The attribute value
+	 * @throws XmlSyntaxException If the value is not quoted or the closing quote is missing
+	 */
+	private @NotNull String readQuotedString() {
+		char quote = this.read();
+		if (quote != '"' && quote != '\'') {
+			throw new XmlSyntaxException("Error while parsing xml element, expected a single or double quote, but found: '" + quote + "'");
+		}
+		int start = this.index;
+		while (this.canRead()) {
+			char c = this.input.charAt(this.index++);
+			if (c == '\\') {
+				this.index++;
+			} else if (c == quote) {
+				return this.input.substring(start, this.index - 1);
+			}
+		}
+		throw new XmlSyntaxException("Error while parsing xml element, expected closing quote " + quote + " of attribute value");
+	}
+	
+	/**
+	 * Checks if the given character terminates the name of a xml element.<br>
+	 * @param c The character to check
+	 * @return True if the character terminates the name, otherwise false
+	 */
+	private static boolean isNameTerminator(char c) {
+		return c == '>' || c == '/' || c == '<' || Character.isWhitespace(c);
+	}
+	
+	/**
+	 * Checks if the given character terminates the name of a xml attribute.<br>
+	 * In strict mode, whitespaces are part of the name and rejected afterward.<br>
+	 * @param c The character to check
+	 * @param strict Whether strict parsing is used
+	 * @return True if the character terminates the name, otherwise false
+	 */
+	private static boolean isAttributeNameTerminator(char c, boolean strict) {
+		return c == '=' || c == '>' || c == '<' || (!strict && Character.isWhitespace(c));
+	}
+	//endregion
+	
+	//region Parallel parsing
+	
+	/**
+	 * Reads the content and the closing element of the xml element with the given name and attributes and parses the child elements in parallel.<br>
+	 * <p>
+	 *     A structural scan finds the start of the direct child elements.<br>
+	 *     The child elements are split into chunks which are parsed by the tasks of the common fork join pool.<br>
+	 *     Small contents, values and pools without parallelism are not read by this method.<br>
+	 * </p>
+	 * <p>
+	 *     If the scan or any of the chunks fails, null is returned and the content is read again sequentially.<br>
+	 *     This way the reported error is exactly the same as the one of the sequential parser.<br>
+	 * </p>
+	 * @param name The name of the xml element
+	 * @param attributes The attributes of the xml element
+	 * @return The xml container read or null if the content must be read sequentially
+	 * @throws XmlSyntaxException If the closing element is invalid or does not match the given name
+	 * @see #readContent(String, XmlAttributes)
+	 */
+	private @Nullable XmlContainer readContentParallel(@NotNull String name, @NotNull XmlAttributes attributes) {
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		int start = this.index;
+		if (2 > pool.getParallelism() || PARALLEL_THRESHOLD > this.input.length() - start) {
+			return null;
+		}
+		int[] boundaries = this.scanChildBoundaries(start);
+		if (boundaries == null) {
+			return null;
+		}
+		int count = boundaries.length - 1;
+		XmlElement[] elements = new XmlElement[count];
+		int chunks = Math.min(count, pool.getParallelism() * 4);
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+		for (int i = 0; i < chunks; i++) {
+			int from = (int) ((long) count * i / chunks);
+			int to = (int) ((long) count * (i + 1) / chunks);
+			tasks.add(pool.submit(() -> this.readChunk(boundaries, from, to, elements)));
+		}
+		XmlElements children = new XmlElements();
+		try {
+			tasks.forEach(ForkJoinTask::join);
+			for (XmlElement element : elements) {
+				children.add(element);
+			}
+		} catch (XmlSyntaxException | XmlTypeException | IllegalArgumentException e) {
+			tasks.forEach(task -> task.cancel(false));
+			return null;
+		}
+		this.index = boundaries[count];
+		this.readClosingElement(name);
+		return new XmlContainer(name, attributes, children);
+	}
+	
+	/**
+	 * Scans the content of a xml element starting at the given index for the start of its direct child elements.<br>
+	 * <p>
+	 *     The boundaries are the indices of the opening '<' of all direct child elements.<br>
+	 *     The last boundary is the index of the closing element of the scanned xml element.<br>
+	 *     Comments are skipped, quoted attribute values are skipped while searching for the end of a tag.<br>
+	 * </p>
+	 * @param start The index after the start element
+	 * @return The boundaries or null if the content contains text, has less than two child elements or is not terminated correctly
+	 */
+	private int @Nullable [] scanChildBoundaries(int start) {
+		int[] boundaries = new int[64];
+		int count = 0;
+		int depth = 0;
+		int i = start;
+		while (true) {
+			int next = this.input.indexOf('<', i);
+			if (next < 0) {
+				return null;
+			}
+			if (depth == 0) {
+				for (int j = i; j < next; j++) {
+					if (!Character.isWhitespace(this.input.charAt(j))) {
+						return null;
 					}
 				}
-			} else {
-				reader.skip();
 			}
+			if (this.input.startsWith(COMMENT_START, next)) {
+				int end = this.input.indexOf(COMMENT_END, next + COMMENT_START.length());
+				if (end < 0) {
+					return null;
+				}
+				i = end + COMMENT_END.length();
+				continue;
+			}
+			if (count == boundaries.length) {
+				boundaries = Arrays.copyOf(boundaries, count * 2);
+			}
+			if (this.input.startsWith("</", next)) {
+				if (depth == 0) {
+					boundaries[count++] = next;
+					return count > 2 ? Arrays.copyOf(boundaries, count) : null;
+				}
+				int end = this.input.indexOf('>', next);
+				if (end < 0) {
+					return null;
+				}
+				depth--;
+				i = end + 1;
+				continue;
+			}
+			int end = this.findTagEnd(next);
+			if (end < 0) {
+				return null;
+			}
+			if (depth == 0) {
+				boundaries[count++] = next;
+			}
+			if (!this.isSelfClosingTag(next, end)) {
+				depth++;
+			}
+			i = end + 1;
 		}
-		throw new XmlSyntaxException("Expected closing element for '" + name + "', but found none");
 	}
 	
 	/**
-	 * Reads the xml elements from the given xml reader.<br>
-	 * @param xmlReader The xml reader to read the xml elements from
-	 * @return The xml elements read
-	 * @throws XmlSyntaxException If the xml elements are invalid
+	 * Finds the closing '>' of the tag starting at the given index.<br>
+	 * Quoted attribute values are skipped, the character after a backslash never terminates a quoted value.<br>
+	 * @param start The index of the opening '<'
+	 * @return The index of the closing '>' or -1 if the tag is not terminated
 	 */
-	private @NotNull XmlElements readeXmlElements(@NotNull ScopedStringReader xmlReader) {
-		xmlReader.skipWhitespaces();
-		XmlElements elements = new XmlElements();
-		while (xmlReader.canRead()) {
-			if (xmlReader.peek() == '<') {
-				elements.add(this.readXmlElement(xmlReader));
-			} else {
-				throw new XmlSyntaxException("Expected '<' the start of new element, but found: '" + xmlReader.peek() + "'");
+	private int findTagEnd(int start) {
+		char quote = 0;
+		for (int i = start + 1; i < this.input.length(); i++) {
+			char c = this.input.charAt(i);
+			if (quote != 0) {
+				if (c == '\\') {
+					i++;
+				} else if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+			} else if (c == '>') {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Checks if the tag between the given indices is self-closing.<br>
+	 * @param start The index of the opening '<'
+	 * @param end The index of the closing '>'
+	 * @return True if the last non-whitespace character before the closing '>' is a '/', otherwise false
+	 */
+	private boolean isSelfClosingTag(int start, int end) {
+		for (int i = end - 1; i > start; i--) {
+			char c = this.input.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				return c == '/';
 			}
-			xmlReader.skipWhitespaces();
 		}
-		return elements;
+		return false;
+	}
+	
+	/**
+	 * Reads the child elements in the given range of boundaries.<br>
+	 * The child elements are read by a separate reader, each of them must span the whole region up to the next boundary.<br>
+	 * Whitespaces and comments after a child element are part of its region.<br>
+	 * @param boundaries The boundaries of the child elements
+	 * @param from The index of the first child element to read (inclusive)
+	 * @param to The index of the last child element to read (exclusive)
+	 * @param elements The array to store the child elements in
+	 * @throws XmlSyntaxException If a child element is invalid or does not span the whole region
+	 */
+	private void readChunk(int @NotNull [] boundaries, int from, int to, XmlElement @NotNull [] elements) {
+		XmlReader reader = new XmlReader(this.input, this.config);
+		for (int i = from; i < to; i++) {
+			reader.index = boundaries[i];
+			elements[i] = reader.readElement();
+			reader.skipWhitespacesAndComments();
+			if (reader.index != boundaries[i + 1]) {
+				throw new XmlSyntaxException("Expected '<' the start of new element, but found: '" + reader.input.charAt(reader.index) + "'");
+			}
+		}
+	}
+	//endregion
+	
+	//region Cursor operations
+	
+	/**
+	 * Checks if there are characters left to read.<br>
+	 * @return True if there are characters left, otherwise false
+	 */
+	private boolean canRead() {
+		return this.index < this.input.length();
+	}
+	
+	/**
+	 * Returns the character at the current position without consuming it.<br>
+	 * @return The next character
+	 * @throws XmlSyntaxException If the end of the xml content has been reached
+	 */
+	private char peek() {
+		if (!this.canRead()) {
+			throw new XmlSyntaxException("Unexpected end of xml content");
+		}
+		return this.input.charAt(this.index);
+	}
+	
+	/**
+	 * Consumes and returns the character at the current position.<br>
+	 * @return The next character
+	 * @throws XmlSyntaxException If the end of the xml content has been reached
+	 */
+	private char read() {
+		char c = this.peek();
+		this.index++;
+		return c;
+	}
+	
+	/**
+	 * Skips all whitespaces at the current position.<br>
+	 */
+	private void skipWhitespaces() {
+		while (this.canRead() && Character.isWhitespace(this.input.charAt(this.index))) {
+			this.index++;
+		}
 	}
 	
 	/**
 	 * Skips the next whitespace character based on the xml config.<br>
 	 * In strict mode, only the next whitespace character is skipped; otherwise all whitespaces are skipped.<br>
-	 * @param reader The reader to skip the whitespace character from
 	 */
-	private void skipWhitespacesConfigBased(@NotNull StringReader reader) {
+	private void skipWhitespacesConfigBased() {
 		if (this.config.strict()) {
-			char next = reader.peek();
-			if (Character.isWhitespace(next)) {
-				reader.skip();
+			if (this.canRead() && Character.isWhitespace(this.input.charAt(this.index))) {
+				this.index++;
 			}
 		} else {
-			reader.skipWhitespaces();
+			this.skipWhitespaces();
+		}
+	}
+	
+	/**
+	 * Skips all whitespaces and xml comments at the current position.<br>
+	 * @throws XmlSyntaxException If a xml comment is not closed
+	 */
+	private void skipWhitespacesAndComments() {
+		this.skipWhitespaces();
+		while (this.input.startsWith(COMMENT_START, this.index)) {
+			this.skipComment();
+			this.skipWhitespaces();
+		}
+	}
+	
+	/**
+	 * Skips the xml comment at the current position.<br>
+	 * @throws XmlSyntaxException If the xml comment is not closed
+	 */
+	private void skipComment() {
+		int end = this.input.indexOf(COMMENT_END, this.index + COMMENT_START.length());
+		if (end < 0) {
+			throw new XmlSyntaxException("Expected '" + COMMENT_END + "' at the end of the xml comment");
+		}
+		this.index = end + COMMENT_END.length();
+	}
+	
+	/**
+	 * Checks that the given sequence contains only whitespaces between the given indices.<br>
+	 * @param sequence The sequence to check
+	 * @param start The start index (inclusive)
+	 * @param end The end index (exclusive)
+	 * @throws XmlSyntaxException If a non-whitespace character is found
+	 */
+	private void checkNoText(@NotNull CharSequence sequence, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (!Character.isWhitespace(sequence.charAt(i))) {
+				throw new XmlSyntaxException("Expected '<' the start of new element, but found: '" + sequence.charAt(i) + "'");
+			}
 		}
 	}
+	//endregion
 	
 	@Override
 	public void close() throws Exception {
-		this.reader.readRemaining(); // Assert that there is no remaining content
+		this.index = this.input.length();
 	}
 }
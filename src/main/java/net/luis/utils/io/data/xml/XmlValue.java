@@ -104,6 +104,17 @@ public final class XmlValue extends XmlElement implements DefaultValueGetter {
 		this.value = escapeXml(String.valueOf(value));
 	}
 	
+	/**
+	 * Constructs a new xml value with the given name, attributes and already escaped value.<br>
+	 * @param name The name of the xml element
+	 * @param attributes The attributes of the xml element
+	 * @param value The escaped value of the xml element
+	 */
+	private XmlValue(@NotNull String name, @NotNull XmlAttributes attributes, @NotNull XmlValue value) {
+		super(name, attributes);
+		this.value = value.value;
+	}
+	
 	@Override
 	protected @NotNull String getElementType() {
 		return "xml value";
@@ -117,6 +128,20 @@ public final class XmlValue extends XmlElement implements DefaultValueGetter {
 		return false;
 	}
 	
+	/**
+	 * Returns a copy of this xml value with the given name.<br>
+	 * The attributes are copied, so the returned value can be modified independently of this value.<br>
+	 * The value is not escaped again.<br>
+	 * @param name The name of the returned xml value
+	 * @return A new xml value with the given name, the attributes and the value of this value
+	 * @throws NullPointerException If the name is null
+	 * @throws IllegalArgumentException If the name is invalid
+	 */
+	@Override
+	public @NotNull XmlValue withName(@NotNull String name) {
+		return new XmlValue(name, this.getAttributes().copy(), this);
+	}
+	
 	/**
 	 * Returns the raw unescaped value of the element.<br>
 	 * @return The raw value
@@ -21,18 +21,49 @@ package net.luis.utils.io.data.xml;
 import net.luis.utils.io.data.OutputProvider;
 import net.luis.utils.util.Version;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.util.Arrays;
 import java.util.Objects;
 
+import static net.luis.utils.io.data.xml.XmlHelper.*;
+
 /**
  * A xml writer for writing xml elements to an output.<br>
  * The writer expects only one xml element per output.<br>
+ * <p>
+ *     In addition to writing complete xml elements, the writer can be used to write xml incrementally<br>
+ *     using {@link #startElement(String)}, {@link #attribute(String, String)}, {@link #text(String)} and {@link #endElement()}.<br>
+ *     Incrementally written content is escaped and written directly into the buffered output,<br>
+ *     the indentation is tracked by the nesting depth, therefore the memory usage does not depend on the size of the output.<br>
+ *     The output is formatted like the output of complete xml elements, line breaks inside of text are written as they are.<br>
+ * </p>
+ * Example usage:<br>
+ * <pre>{@code
+ * try (XmlWriter writer = new XmlWriter(output)) {
+ *     writer.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+ *     writer.startElement("feed").startElement("record").attribute("id", 1).text("value").endElement().endElement();
+ * }
+ * }</pre>
  *
  * @author Luis-St
  */
 public class XmlWriter implements AutoCloseable {
 	
+	/**
+	 * Content constant for a xml element without any content written so far.<br>
+	 */
+	private static final int EMPTY = 0;
+	/**
+	 * Content constant for a xml element with text written.<br>
+	 */
+	private static final int TEXT = 1;
+	/**
+	 * Content constant for a xml element with child elements written.<br>
+	 */
+	private static final int ELEMENTS = 2;
+	
 	/**
 	 * The xml config used by the writer.<br>
 	 */
@@ -45,6 +76,26 @@ public class XmlWriter implements AutoCloseable {
 	 * A flag indicating whether the xml declaration was already written.<br>
 	 */
 	private boolean wroteDeclaration;
+	/**
+	 * A flag indicating whether a root element was already written incrementally.<br>
+	 */
+	private boolean wroteRoot;
+	/**
+	 * The names of the open xml elements of the incremental writing, the last entry is the innermost element.<br>
+	 */
+	private String[] names = new String[32];
+	/**
+	 * The content types of the open xml elements of the incremental writing.<br>
+	 */
+	private int[] contents = new int[32];
+	/**
+	 * The number of open xml elements.<br>
+	 */
+	private int depth;
+	/**
+	 * A flag indicating whether the start tag of the innermost element is not closed yet, so attributes can be written.<br>
+	 */
+	private boolean startTagOpen;
 	
 	/**
 	 * Constructs a new xml writer with the default configuration.<br>
@@ -93,13 +144,222 @@ public class XmlWriter implements AutoCloseable {
 	
 	/**
 	 * Writes the given xml element to the output.<br>
+	 * If xml elements are written incrementally, the xml element is written as child of the current element.<br>
 	 * @param element The xml element to write
 	 * @throws NullPointerException If the xml element is null
-	 * @throws IllegalStateException If the xml declaration was not written before the xml element (strict mode)
+	 * @throws IllegalStateException If the xml declaration was not written before the xml element (strict mode), the current element contains text or a root element was already written (strict mode)
 	 * @throws UncheckedIOException If an I/O error occurs
 	 */
 	public void writeXml(@NotNull XmlElement element) {
 		Objects.requireNonNull(element, "Xml element must not be null");
+		this.ensureDeclaration();
+		try {
+			if (this.depth == 0) {
+				this.beforeRoot(element.getName());
+				this.writer.write(element.toString(this.config));
+				this.writer.flush();
+			} else {
+				this.beforeElement();
+				String string = element.toString(this.config);
+				if (this.config.prettyPrint()) {
+					string = string.replace(System.lineSeparator(), System.lineSeparator() + this.config.indent().repeat(this.depth));
+				}
+				this.writer.write(string);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the xml element", e);
+		}
+	}
+	
+	//region Incremental writing
+	
+	/**
+	 * Starts a new xml element with the given name.<br>
+	 * Attributes of the element can be written until content is written, the element must be ended with {@link #endElement()}.<br>
+	 * @param name The name of the xml element
+	 * @return This writer
+	 * @throws NullPointerException If the name is null
+	 * @throws IllegalArgumentException If the name is invalid
+	 * @throws IllegalStateException If the xml declaration was not written before (strict mode), the current element contains text or a root element was already written (strict mode)
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull XmlWriter startElement(@NotNull String name) {
+		validateElementName(name);
+		this.ensureDeclaration();
+		try {
+			if (this.depth == 0) {
+				this.beforeRoot(name);
+			} else {
+				this.beforeElement();
+			}
+			this.writer.write('<');
+			this.writer.write(name);
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the xml element", e);
+		}
+		if (this.depth == this.names.length) {
+			this.names = Arrays.copyOf(this.names, this.depth * 2);
+			this.contents = Arrays.copyOf(this.contents, this.depth * 2);
+		}
+		this.names[this.depth] = name;
+		this.contents[this.depth++] = EMPTY;
+		this.startTagOpen = true;
+		return this;
+	}
+	
+	/**
+	 * Writes an attribute with the given name and value to the current xml element.<br>
+	 * The value is escaped like the value of a {@link XmlAttribute}.<br>
+	 * @param name The name of the attribute
+	 * @param value The value of the attribute
+	 * @return This writer
+	 * @throws NullPointerException If the name is null
+	 * @throws IllegalArgumentException If the name is invalid
+	 * @throws IllegalStateException If attributes are not allowed or the start tag of the current element was already closed
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull XmlWriter attribute(@NotNull String name, @Nullable String value) {
+		validateAttributeKey(name);
+		if (!this.startTagOpen) {
+			throw new IllegalStateException("Unable to write attribute '" + name + "', expected to be inside a start tag");
+		}
+		if (!this.config.allowAttributes()) {
+			throw new IllegalStateException("Attributes are not allowed in xml elements according to the xml config");
+		}
+		try {
+			this.writer.write(' ');
+			this.writer.write(name);
+			this.writer.write("=\"");
+			escapeXml(String.valueOf(value), this.writer);
+			this.writer.write('"');
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the xml attribute", e);
+		}
+		return this;
+	}
+	
+	/**
+	 * Writes an attribute with the given name and boolean value to the current xml element.<br>
+	 * @param name The name of the attribute
+	 * @param value The value of the attribute
+	 * @return This writer
+	 * @throws NullPointerException If the name is null
+	 * @throws IllegalArgumentException If the name is invalid
+	 * @throws IllegalStateException If attributes are not allowed or the start tag of the current element was already closed
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull XmlWriter attribute(@NotNull String name, boolean value) {
+		return this.attribute(name, String.valueOf(value));
+	}
+	
+	/**
+	 * Writes an attribute with the given name and number value to the current xml element.<br>
+	 * @param name The name of the attribute
+	 * @param value The value of the attribute
+	 * @return This writer
+	 * @throws NullPointerException If the name is null
+	 * @throws IllegalArgumentException If the name is invalid
+	 * @throws IllegalStateException If attributes are not allowed or the start tag of the current element was already closed
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull XmlWriter attribute(@NotNull String name, @Nullable Number value) {
+		return this.attribute(name, String.valueOf(value));
+	}
+	
+	/**
+	 * Writes the given text as content of the current xml element.<br>
+	 * The text is escaped like the value of a {@link XmlValue}, multiple texts are written one after another.<br>
+	 * @param text The text to write
+	 * @return This writer
+	 * @throws NullPointerException If the text is null
+	 * @throws IllegalStateException If there is no open xml element or the current element contains child elements
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull XmlWriter text(@NotNull String text) {
+		Objects.requireNonNull(text, "Text must not be null");
+		if (this.depth == 0) {
+			throw new IllegalStateException("Unable to write text, expected to be inside a xml element");
+		}
+		if (this.contents[this.depth - 1] == ELEMENTS) {
+			throw new IllegalStateException("Unable to write text, the current xml element '" + this.names[this.depth - 1] + "' already contains child elements");
+		}
+		try {
+			this.closeStartTag();
+			if (this.contents[this.depth - 1] == EMPTY && this.config.prettyPrint() && !this.config.simplifyValues()) {
+				this.writeLineBreak(this.depth);
+			}
+			this.contents[this.depth - 1] = TEXT;
+			escapeXml(text, this.writer);
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the xml text", e);
+		}
+		return this;
+	}
+	
+	/**
+	 * Ends the current xml element.<br>
+	 * An element without content is written as self-closing element.<br>
+	 * @return This writer
+	 * @throws IllegalStateException If there is no open xml element
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public @NotNull XmlWriter endElement() {
+		if (this.depth == 0) {
+			throw new IllegalStateException("Unable to end element, there is no open xml element");
+		}
+		String name = this.names[--this.depth];
+		int content = this.contents[this.depth];
+		this.names[this.depth] = null;
+		try {
+			if (content == EMPTY) {
+				this.writer.write("/>");
+				this.startTagOpen = false;
+			} else {
+				if (this.config.prettyPrint() && (content == ELEMENTS || !this.config.simplifyValues())) {
+					this.writeLineBreak(this.depth);
+				}
+				this.writer.write("</");
+				this.writer.write(name);
+				this.writer.write('>');
+			}
+			if (this.depth == 0) {
+				this.writer.flush();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while writing the xml element", e);
+		}
+		return this;
+	}
+	
+	/**
+	 * Returns the number of open xml elements of the incremental writing.<br>
+	 * @return The current depth
+	 */
+	public int getDepth() {
+		return this.depth;
+	}
+	
+	/**
+	 * Flushes the underlying output.<br>
+	 * @throws UncheckedIOException If an I/O error occurs
+	 */
+	public void flush() {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("An I/O error occurred while flushing the xml writer", e);
+		}
+	}
+	//endregion
+	
+	//region Helper methods
+	
+	/**
+	 * Ensures that the xml declaration was written before a xml element.<br>
+	 * In non-strict mode, a default declaration is written if necessary.<br>
+	 * @throws IllegalStateException If the xml declaration was not written before (strict mode)
+	 */
+	private void ensureDeclaration() {
 		if (!this.wroteDeclaration) {
 			if (this.config.strict()) {
 				throw new IllegalStateException("The xml declaration must be written before the xml element");
@@ -107,16 +367,77 @@ public class XmlWriter implements AutoCloseable {
 				this.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
 			}
 		}
-		try {
-			this.writer.write(element.toString(this.config));
-			this.writer.flush();
-		} catch (IOException e) {
-			throw new UncheckedIOException("An I/O error occurred while writing the xml element", e);
+	}
+	
+	/**
+	 * Prepares the output for a root element.<br>
+	 * In non-strict mode, multiple root elements are allowed and separated by a line break if pretty printing is enabled.<br>
+	 * @param name The name of the root element, used for error messages
+	 * @throws IllegalStateException If a root element was already written (strict mode)
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void beforeRoot(@NotNull String name) throws IOException {
+		if (this.wroteRoot && this.config.strict()) {
+			throw new IllegalStateException("Unable to write element '" + name + "', the root element was already written");
 		}
+		if (this.wroteRoot && this.config.prettyPrint()) {
+			this.writer.newLine();
+		}
+		this.wroteRoot = true;
 	}
 	
+	/**
+	 * Prepares the output for a child element of the current xml element.<br>
+	 * @throws IllegalStateException If the current element contains text
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void beforeElement() throws IOException {
+		if (this.contents[this.depth - 1] == TEXT) {
+			throw new IllegalStateException("Unable to write child element, the current xml element '" + this.names[this.depth - 1] + "' already contains text");
+		}
+		this.closeStartTag();
+		if (this.config.prettyPrint()) {
+			this.writeLineBreak(this.depth);
+		}
+		this.contents[this.depth - 1] = ELEMENTS;
+	}
+	
+	/**
+	 * Closes the start tag of the current xml element if it is still open.<br>
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void closeStartTag() throws IOException {
+		if (this.startTagOpen) {
+			this.writer.write('>');
+			this.startTagOpen = false;
+		}
+	}
+	
+	/**
+	 * Writes a line break followed by the indent of the given depth.<br>
+	 * @param depth The indentation depth of the new line
+	 * @throws IOException If an I/O error occurs
+	 */
+	private void writeLineBreak(int depth) throws IOException {
+		this.writer.write(System.lineSeparator());
+		for (int i = 0; i < depth; i++) {
+			this.writer.write(this.config.indent());
+		}
+	}
+	//endregion
+	
+	/**
+	 * Closes the underlying output.<br>
+	 * @throws IOException If an I/O error occurs
+	 * @throws IllegalStateException If there are still open xml elements of the incremental writing
+	 */
 	@Override
 	public void close() throws IOException {
 		this.writer.close();
+		int unclosed = this.depth;
+		if (unclosed > 0) {
+			this.depth = 0;
+			throw new IllegalStateException("Xml writer was closed with " + unclosed + " unclosed xml element(s)");
+		}
 	}
 }
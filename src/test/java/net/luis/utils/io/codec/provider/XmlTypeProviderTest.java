@@ -425,6 +425,15 @@ class XmlTypeProviderTest {
 		Result<XmlElement> foundResult = XmlTypeProvider.INSTANCE.get(map, "test");
 		assertTrue(foundResult.isSuccess());
 		assertEquals(new XmlValue("test", 42), foundResult.orThrow());
+		
+		XmlContainer attributeMap = new XmlContainer("test");
+		XmlValue attributeValue = new XmlValue("test", 42);
+		attributeValue.addAttribute("key", "value");
+		attributeMap.add(attributeValue);
+		XmlElement copied = XmlTypeProvider.INSTANCE.get(attributeMap, "test").orThrow();
+		assertNotSame(attributeValue, copied);
+		assertEquals(new XmlValue("test", 42), copied);
+		assertEquals(1, attributeValue.getAttributes().size());
 	}
 	
 	@Test
@@ -461,6 +470,17 @@ class XmlTypeProviderTest {
 		assertTrue(successResult.isSuccess());
 		assertSame(map, result.orThrow());
 		assertEquals(new XmlValue("test2", 42), map.get("test2"));
+		
+		XmlContainer value = new XmlContainer("test3");
+		value.addAttribute("key", "value");
+		value.add(new XmlValue("test", 42));
+		assertTrue(XmlTypeProvider.INSTANCE.set(map, "test3", value).isSuccess());
+		XmlContainer stored = map.getAsContainer("test3");
+		assertNotSame(value, stored);
+		assertTrue(stored.getAttributes().isEmpty());
+		assertEquals(1, value.getAttributes().size());
+		stored.add(new XmlValue("other", 42));
+		assertEquals(1, value.size());
 	}
 	
 	@Test
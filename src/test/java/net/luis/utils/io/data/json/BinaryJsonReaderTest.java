@@ -0,0 +1,189 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.OutputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinaryJsonReader}.<br>
+ *
+ * @author Luis-St
+ */
+class BinaryJsonReaderTest {
+	
+	private static JsonObject object() {
+		JsonObject object = new JsonObject();
+		object.add("a", new JsonArray(List.of(new JsonPrimitive(1), new JsonPrimitive("b"), new JsonPrimitive(true), JsonNull.INSTANCE)));
+		object.add("c", new JsonObject());
+		return object;
+	}
+	
+	private static byte[] write(JsonElement... elements) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (BinaryJsonWriter writer = new BinaryJsonWriter(new OutputProvider(stream))) {
+			for (JsonElement element : elements) {
+				writer.writeJson(element);
+			}
+		}
+		return stream.toByteArray();
+	}
+	
+	private static BinaryJsonReader reader(byte[] bytes) {
+		return new BinaryJsonReader(new InputProvider(new ByteArrayInputStream(bytes)));
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new BinaryJsonReader(null));
+		assertDoesNotThrow(() -> new BinaryJsonReader(new InputProvider(InputStream.nullInputStream())));
+	}
+	
+	@Test
+	void next() throws IOException {
+		try (BinaryJsonReader reader = reader(write(object()))) {
+			assertNull(reader.getCurrentToken());
+			assertEquals(JsonToken.BEGIN_OBJECT, reader.next());
+			assertEquals(JsonToken.NAME, reader.next());
+			assertEquals("a", reader.getName());
+			assertEquals(JsonToken.BEGIN_ARRAY, reader.next());
+			assertEquals(JsonToken.NUMBER, reader.next());
+			assertEquals(1L, reader.getNumber());
+			assertEquals("1", reader.getString());
+			assertEquals(JsonToken.STRING, reader.next());
+			assertEquals("b", reader.getString());
+			assertThrows(IllegalStateException.class, reader::getNumber);
+			assertEquals(JsonToken.BOOLEAN, reader.next());
+			assertTrue(reader.getBoolean());
+			assertEquals(JsonToken.NULL, reader.next());
+			assertEquals(JsonToken.END_ARRAY, reader.next());
+			assertEquals(JsonToken.NAME, reader.next());
+			assertEquals("c", reader.getName());
+			assertEquals(JsonToken.BEGIN_OBJECT, reader.next());
+			assertEquals(2, reader.getDepth());
+			assertEquals(JsonToken.END_OBJECT, reader.next());
+			assertEquals(JsonToken.END_OBJECT, reader.next());
+			assertEquals(0, reader.getDepth());
+			assertFalse(reader.hasNext());
+			assertEquals(JsonToken.END_DOCUMENT, reader.next());
+		}
+	}
+	
+	@Test
+	void nextPacked() throws IOException {
+		try (BinaryJsonReader reader = reader(write(JsonArray.of(1L, -2L), JsonArray.of(0.5)))) {
+			assertEquals(JsonToken.BEGIN_ARRAY, reader.next());
+			assertEquals(JsonToken.NUMBER, reader.next());
+			assertEquals(1L, reader.getNumber());
+			assertEquals(JsonToken.NUMBER, reader.next());
+			assertEquals(-2L, reader.getNumber());
+			assertEquals(JsonToken.END_ARRAY, reader.next());
+			assertEquals(JsonToken.BEGIN_ARRAY, reader.next());
+			assertEquals(JsonToken.NUMBER, reader.next());
+			assertEquals(0.5, reader.getNumber());
+			assertEquals(JsonToken.END_ARRAY, reader.next());
+			assertFalse(reader.hasNext());
+		}
+	}
+	
+	@Test
+	void skipValue() throws IOException {
+		JsonObject object = new JsonObject();
+		JsonArray large = new JsonArray();
+		for (int i = 0; i < 5000; i++) {
+			large.add("element " + i);
+		}
+		object.add("skipped", large);
+		object.add("nested", object());
+		object.add("value", 10);
+		try (BinaryJsonReader reader = reader(write(object, new JsonPrimitive("next")))) {
+			assertEquals(JsonToken.BEGIN_OBJECT, reader.next());
+			reader.skipValue();
+			assertEquals(JsonToken.NAME, reader.next());
+			assertEquals("nested", reader.getName());
+			reader.skipValue();
+			assertEquals(JsonToken.END_OBJECT, reader.getCurrentToken());
+			assertEquals(JsonToken.NAME, reader.next());
+			assertEquals("value", reader.getName());
+			assertEquals(new JsonPrimitive(10), reader.readElement());
+			assertThrows(IllegalStateException.class, reader::skipValue);
+			assertEquals(JsonToken.END_OBJECT, reader.next());
+			reader.skipValue();
+			assertFalse(reader.hasNext());
+		}
+	}
+	
+	@Test
+	void readElement() throws IOException {
+		try (BinaryJsonReader reader = reader(write(object()))) {
+			assertEquals(JsonToken.BEGIN_OBJECT, reader.next());
+			assertEquals(JsonToken.NAME, reader.next());
+			assertThrows(IllegalStateException.class, reader::readJson);
+			assertEquals(object().getAsJsonArray("a"), reader.readElement());
+			assertEquals(JsonToken.NAME, reader.next());
+			assertEquals(new JsonObject(), reader.readElement());
+			assertThrows(IllegalStateException.class, reader::readElement);
+			assertEquals(JsonToken.END_OBJECT, reader.next());
+			assertThrows(IllegalStateException.class, reader::readElement);
+		}
+	}
+	
+	@Test
+	void readJson() throws IOException {
+		JsonArray packed = JsonArray.of(1L, 2L, 3L);
+		try (BinaryJsonReader reader = reader(write(object(), new JsonPrimitive("text"), packed))) {
+			assertEquals(object(), reader.readJson());
+			assertEquals(new JsonPrimitive("text"), reader.readJson());
+			JsonElement element = reader.readJson();
+			assertEquals(packed, element);
+			assertTrue(element.getAsJsonArray().isPacked());
+			assertFalse(reader.hasNext());
+			assertThrows(IllegalStateException.class, reader::readJson);
+		}
+	}
+	
+	@Test
+	void readJsonInvalid() throws IOException {
+		assertThrows(JsonSyntaxException.class, () -> reader(new byte[] { 'X', 'J', 'B', 1 }).readJson());
+		assertThrows(JsonSyntaxException.class, () -> reader(new byte[] { 'L', 'J', 'B', 2 }).readJson());
+		assertThrows(JsonSyntaxException.class, () -> reader(new byte[] { 'L', 'J', 'B', 1, 0, 99 }).readJson());
+		assertThrows(JsonSyntaxException.class, () -> reader(new byte[] { 'L', 'J', 'B', 1, 0, 8, 0 }).readJson());
+		
+		byte[] bytes = write(object());
+		for (int i = 5; i < bytes.length; i++) {
+			byte[] truncated = Arrays.copyOf(bytes, i);
+			assertThrows(JsonSyntaxException.class, () -> reader(truncated).readJson());
+		}
+	}
+	
+	@Test
+	void close() throws IOException {
+		BinaryJsonReader reader = reader(write(object()));
+		reader.close();
+		assertThrows(IllegalStateException.class, reader::peek);
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.OutputProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BinaryJsonWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class BinaryJsonWriterTest {
+	
+	private static byte[] write(JsonElement... elements) throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (BinaryJsonWriter writer = new BinaryJsonWriter(new OutputProvider(stream))) {
+			for (JsonElement element : elements) {
+				writer.writeJson(element);
+			}
+		}
+		return stream.toByteArray();
+	}
+	
+	private static JsonElement read(byte[] bytes) throws IOException {
+		try (BinaryJsonReader reader = new BinaryJsonReader(new InputProvider(new ByteArrayInputStream(bytes)))) {
+			return reader.readJson();
+		}
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new BinaryJsonWriter(null));
+		assertDoesNotThrow(() -> new BinaryJsonWriter(new OutputProvider(new ByteArrayOutputStream())));
+	}
+	
+	@Test
+	void writeJson() throws IOException {
+		try (BinaryJsonWriter writer = new BinaryJsonWriter(new OutputProvider(new ByteArrayOutputStream()))) {
+			assertThrows(NullPointerException.class, () -> writer.writeJson(null));
+		}
+		assertArrayEquals(new byte[] { 'L', 'J', 'B', 1, 0, 0 }, write(JsonNull.INSTANCE));
+		assertArrayEquals(new byte[] { 'L', 'J', 'B', 1, 0, 3, 3 }, write(new JsonPrimitive(-2)));
+		assertArrayEquals(new byte[] { 'L', 'J', 'B', 1, 0, 7, 1, 'a' }, write(new JsonPrimitive("a")));
+		assertArrayEquals(new byte[] { 'L', 'J', 'B', 1, 0, 2, 0, 1 }, write(new JsonPrimitive(true), new JsonPrimitive(false)));
+	}
+	
+	@Test
+	void writeJsonDictionary() throws IOException {
+		JsonObject object = new JsonObject();
+		object.add("key", "value");
+		object.add("other", "value");
+		byte[] bytes = write(object);
+		String content = new String(bytes, StandardCharsets.UTF_8);
+		assertEquals(content.indexOf("value"), content.lastIndexOf("value"));
+		assertEquals(object, read(bytes));
+	}
+	
+	@Test
+	void writeJsonPrimitives() throws IOException {
+		List<JsonPrimitive> primitives = List.of(
+			new JsonPrimitive(Long.MIN_VALUE), new JsonPrimitive(Long.MAX_VALUE), new JsonPrimitive(0.1), new JsonPrimitive(Double.NaN),
+			new JsonPrimitive(new BigInteger("123456789012345678901234567890")), new JsonPrimitive(new BigDecimal("-1.2345678901234567890E-300")),
+			new JsonPrimitive(""), new JsonPrimitive("äöü é 😀 \"quoted\" \\n")
+		);
+		for (JsonPrimitive primitive : primitives) {
+			JsonElement read = read(write(primitive));
+			if (primitive.isNumber()) {
+				assertEquals(primitive.getAsNumber().getClass(), ((JsonPrimitive) read).getAsNumber().getClass(), primitive::toString);
+			}
+			assertEquals(primitive, read);
+		}
+	}
+	
+	@Test
+	void writeJsonContainers() throws IOException {
+		JsonObject inner = new JsonObject();
+		inner.add("longs", JsonArray.of(1L, -2L, 300L));
+		inner.add("doubles", JsonArray.of(0.5, -1.5));
+		inner.add("mixed", new JsonArray(List.of(new JsonPrimitive(1), new JsonPrimitive("a"), JsonNull.INSTANCE, new JsonArray())));
+		JsonArray large = new JsonArray();
+		for (int i = 0; i < 200; i++) {
+			large.add("element " + i);
+		}
+		inner.add("large", large);
+		JsonObject object = new JsonObject();
+		object.add("inner", inner);
+		object.add("empty", new JsonObject());
+		assertEquals(object, read(write(object)));
+	}
+	
+	@Test
+	void writeJsonCustomNumber() throws IOException {
+		assertEquals(new JsonPrimitive(0.0), read(write(new JsonPrimitive(new InvalidNumber()))));
+		assertEquals(new JsonPrimitive(new BigDecimal("1.50")), read(write(new JsonPrimitive(new DecimalNumber()))));
+	}
+	
+	private static final class InvalidNumber extends Number {
+		
+		@Serial
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		public int intValue() {
+			return 0;
+		}
+		
+		@Override
+		public long longValue() {
+			return 0;
+		}
+		
+		@Override
+		public float floatValue() {
+			return 0;
+		}
+		
+		@Override
+		public double doubleValue() {
+			return 0;
+		}
+		
+		@Override
+		public String toString() {
+			return "invalid";
+		}
+	}
+	
+	private static final class DecimalNumber extends Number {
+		
+		@Serial
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		public int intValue() {
+			return 1;
+		}
+		
+		@Override
+		public long longValue() {
+			return 1;
+		}
+		
+		@Override
+		public float floatValue() {
+			return 1.5F;
+		}
+		
+		@Override
+		public double doubleValue() {
+			return 1.5;
+		}
+		
+		@Override
+		public String toString() {
+			return "1.50";
+		}
+	}
+}
@@ -23,7 +23,7 @@ import net.luis.utils.io.data.json.exception.JsonTypeException;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -108,11 +108,127 @@ class JsonArrayTest {
 		assertFalse(array.contains(JsonNull.INSTANCE));
 	}
 	
+	@Test
+	void of() {
+		assertThrows(NullPointerException.class, () -> JsonArray.of((long[]) null));
+		assertThrows(NullPointerException.class, () -> JsonArray.of((double[]) null));
+		assertTrue(JsonArray.of(1L, 2L).isPacked());
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(1L), new JsonPrimitive(2L))), JsonArray.of(1L, 2L));
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(1.5), new JsonPrimitive(2.5))), JsonArray.of(1.5, 2.5));
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(1L))).hashCode(), JsonArray.of(1L).hashCode());
+	}
+	
+	@Test
+	void packedModification() {
+		JsonArray array = JsonArray.of(1L, 2L, 3L);
+		array.add(4);
+		assertEquals(new JsonPrimitive(1L), array.set(0, 9L));
+		assertEquals(new JsonPrimitive(2L), array.remove(1));
+		assertTrue(array.remove(new JsonPrimitive(3L)));
+		assertTrue(array.isPacked());
+		assertEquals(JsonArray.of(9L, 4L), array);
+		assertEquals(9, array.getAsInteger(0));
+		assertEquals(4.0, array.getAsDouble(1));
+		assertThrows(JsonArrayIndexOutOfBoundsException.class, () -> array.getAsLong(2));
+		
+		array.add("test");
+		assertFalse(array.isPacked());
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(9L), new JsonPrimitive(4L), new JsonPrimitive("test"))), array);
+		
+		JsonArray doubles = JsonArray.of(1.5);
+		doubles.add(2);
+		assertFalse(doubles.isPacked());
+		assertEquals("[1.5, 2]", doubles.toString());
+		assertThrows(IllegalArgumentException.class, () -> JsonArray.of(1.5).getAsLong(0));
+	}
+	
+	@Test
+	void packedEqualsAndHashCode() {
+		JsonArray longs = JsonArray.of(0L, -7L, 42L, Long.MIN_VALUE, Long.MAX_VALUE);
+		JsonArray unpackedLongs = new JsonArray(List.of(new JsonPrimitive(0L), new JsonPrimitive("-7"), new JsonPrimitive(42L), new JsonPrimitive(Long.MIN_VALUE), new JsonPrimitive(Long.MAX_VALUE)));
+		assertEquals(longs, unpackedLongs);
+		assertEquals(unpackedLongs, longs);
+		assertEquals(unpackedLongs.hashCode(), longs.hashCode());
+		
+		JsonArray doubles = JsonArray.of(1.5, -0.0, Double.NaN);
+		JsonArray unpackedDoubles = new JsonArray(List.of(new JsonPrimitive(1.5), new JsonPrimitive(-0.0), new JsonPrimitive(Double.NaN)));
+		assertEquals(doubles, unpackedDoubles);
+		assertEquals(unpackedDoubles, doubles);
+		assertEquals(unpackedDoubles.hashCode(), doubles.hashCode());
+		assertEquals(JsonArray.of(1.5, -0.0, Double.NaN), doubles);
+		assertNotEquals(JsonArray.of(1.5, 0.0, Double.NaN), doubles);
+		
+		assertNotEquals(JsonArray.of(1L), JsonArray.of(1.0));
+		assertNotEquals(JsonArray.of(1L), new JsonArray(List.of(new JsonPrimitive(1.0))));
+		assertNotEquals(JsonArray.of(1L, 2L), new JsonArray(List.of(new JsonPrimitive(1L), new JsonArray())));
+		JsonArray emptyLongs = JsonArray.of(1L);
+		emptyLongs.remove(0);
+		JsonArray emptyDoubles = JsonArray.of(1.0);
+		emptyDoubles.remove(0);
+		assertEquals(emptyLongs, emptyDoubles);
+		assertEquals(new JsonArray(), emptyLongs);
+		
+		int hash = longs.hashCode();
+		longs.set(0, 1L);
+		assertNotEquals(hash, longs.hashCode());
+		assertEquals(JsonArray.of(1L, -7L, 42L, Long.MIN_VALUE, Long.MAX_VALUE).hashCode(), longs.hashCode());
+	}
+	
+	@Test
+	void getPacked() {
+		JsonArray array = JsonArray.of(1L, 2L, 3L);
+		JsonElement first = array.get(0);
+		assertSame(first, array.get(0));
+		assertSame(first, array.iterator().next());
+		
+		JsonPrimitive inserted = new JsonPrimitive(0L);
+		array.add(0, inserted);
+		assertSame(inserted, array.get(0));
+		assertSame(first, array.get(1));
+		array.remove(0);
+		assertSame(first, array.get(0));
+		array.set(0, 5L);
+		assertEquals(new JsonPrimitive(5L), array.get(0));
+		assertEquals(JsonArray.of(5L, 2L, 3L), array);
+	}
+	
 	@Test
 	void iterator() {
 		assertEquals(JsonNull.INSTANCE, new JsonArray(List.of(JsonNull.INSTANCE)).iterator().next());
 	}
 	
+	@Test
+	void iteratorPacked() {
+		JsonArray array = JsonArray.of(1L, 2L, 3L);
+		Iterator<JsonElement> iterator = array.iterator();
+		assertEquals(new JsonPrimitive(1L), iterator.next());
+		iterator.remove();
+		assertEquals(new JsonPrimitive(2L), iterator.next());
+		assertEquals(new JsonPrimitive(3L), iterator.next());
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+		assertEquals(JsonArray.of(2L, 3L), array);
+	}
+	
+	@Test
+	void longIterator() {
+		PrimitiveIterator.OfLong iterator = JsonArray.of(1L, 2L).longIterator();
+		assertEquals(1L, iterator.nextLong());
+		assertEquals(2L, iterator.nextLong());
+		assertFalse(iterator.hasNext());
+		assertEquals(5L, new JsonArray(List.of(new JsonPrimitive(5))).longIterator().nextLong());
+		assertThrows(JsonTypeException.class, () -> new JsonArray(List.of(JsonNull.INSTANCE)).longIterator().nextLong());
+	}
+	
+	@Test
+	void doubleIterator() {
+		PrimitiveIterator.OfDouble iterator = JsonArray.of(1.5, 2.5).doubleIterator();
+		assertEquals(1.5, iterator.nextDouble());
+		assertEquals(2.5, iterator.nextDouble());
+		assertFalse(iterator.hasNext());
+		assertEquals(1.0, JsonArray.of(1L).doubleIterator().nextDouble());
+	}
+	
 	@Test
 	void elements() {
 		JsonArray array = new JsonArray();
@@ -152,6 +268,27 @@ class JsonArrayTest {
 		assertEquals(JsonNull.INSTANCE, array.get(0));
 	}
 	
+	@Test
+	void addAtIndex() {
+		JsonArray array = new JsonArray(List.of(new JsonPrimitive("a"), new JsonPrimitive("c")));
+		assertThrows(JsonArrayIndexOutOfBoundsException.class, () -> array.add(-1, JsonNull.INSTANCE));
+		assertThrows(JsonArrayIndexOutOfBoundsException.class, () -> array.add(3, JsonNull.INSTANCE));
+		array.add(1, new JsonPrimitive("b"));
+		array.add(3, null);
+		assertEquals(List.of(new JsonPrimitive("a"), new JsonPrimitive("b"), new JsonPrimitive("c"), JsonNull.INSTANCE), array.getElements());
+		
+		JsonArray packed = JsonArray.of(1L, 3L);
+		packed.add(1, new JsonPrimitive(2L));
+		packed.add(0, new JsonPrimitive(0L));
+		assertTrue(packed.isPacked());
+		assertEquals(JsonArray.of(0L, 1L, 2L, 3L), packed);
+		packed.add(2, new JsonPrimitive("text"));
+		assertFalse(packed.isPacked());
+		assertEquals(new JsonPrimitive("text"), packed.get(2));
+		assertEquals(5, packed.size());
+		assertThrows(UnsupportedOperationException.class, () -> packed.freeze().add(0, JsonNull.INSTANCE));
+	}
+	
 	@Test
 	void addAll() {
 		JsonArray main = new JsonArray();
@@ -354,6 +491,53 @@ class JsonArrayTest {
 		assertEquals(10.0, assertDoesNotThrow(() -> array.getAsDouble(0)));
 	}
 	
+	@Test
+	void freeze() {
+		JsonArray array = new JsonArray();
+		array.add(new JsonObject(Map.of("key", new JsonPrimitive(1))));
+		array.add(new JsonObject(Map.of("key", new JsonPrimitive(1))));
+		array.add(JsonArray.of(1L, 2L));
+		assertFalse(array.isFrozen());
+		
+		JsonArray frozen = array.freeze();
+		assertTrue(frozen.isFrozen());
+		assertSame(frozen, frozen.freeze());
+		assertEquals(array, frozen);
+		assertEquals(array.hashCode(), frozen.hashCode());
+		assertSame(frozen.get(0), frozen.get(1));
+		assertTrue(frozen.get(2).isFrozen());
+		assertThrows(UnsupportedOperationException.class, () -> frozen.add(1));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.set(0, JsonNull.INSTANCE));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.remove(0));
+		assertThrows(UnsupportedOperationException.class, frozen::clear);
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getAsJsonObject(0).add("other", 2));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getAsJsonArray(2).add(3));
+		Iterator<JsonElement> iterator = frozen.iterator();
+		iterator.next();
+		assertThrows(UnsupportedOperationException.class, iterator::remove);
+		
+		array.add(4);
+		assertEquals(3, frozen.size());
+		assertNotEquals(array, frozen);
+	}
+	
+	@Test
+	void with() {
+		JsonArray array = JsonArray.of(1L, 2L, 3L).freeze();
+		assertThrows(JsonArrayIndexOutOfBoundsException.class, () -> array.with(3, JsonNull.INSTANCE));
+		JsonArray changed = array.with(1, new JsonPrimitive("value"));
+		assertTrue(changed.isFrozen());
+		assertEquals(JsonArray.of(1L, 2L, 3L), array);
+		assertEquals(new JsonPrimitive("value"), changed.get(1));
+		assertEquals(JsonNull.INSTANCE, changed.with(0, null).get(0));
+		
+		JsonArray nested = new JsonArray(List.of(new JsonObject(), new JsonArray()));
+		JsonArray frozen = nested.freeze();
+		JsonArray updated = frozen.with(0, new JsonPrimitive(1));
+		assertSame(frozen.get(1), updated.get(1));
+		assertFalse(nested.isFrozen());
+	}
+	
 	@Test
 	void toStringDefaultConfig() {
 		JsonArray array = new JsonArray();
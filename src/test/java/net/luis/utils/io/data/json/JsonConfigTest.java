@@ -32,13 +32,14 @@ import static org.junit.jupiter.api.Assertions.*;
 class JsonConfigTest {
 	
 	private static final JsonConfig DEFAULT_CONFIG = JsonConfig.DEFAULT;
-	private static final JsonConfig CUSTOM_CONFIG = new JsonConfig(false, false, "  ", false, 1, false, 10, StandardCharsets.UTF_16);
+	private static final JsonConfig CUSTOM_CONFIG = new JsonConfig(false, false, "  ", false, 1, false, 10, StandardCharsets.UTF_16, true, true);
 	
 	@Test
 	void constructor() {
 		assertThrows(NullPointerException.class, () -> new JsonConfig(true, true, "\t", true, 10, true, 1, null));
 		assertThrows(IllegalArgumentException.class, () -> new JsonConfig(true, true, "\t", true, 0, true, 1, StandardCharsets.UTF_8));
 		assertThrows(IllegalArgumentException.class, () -> new JsonConfig(true, true, "\t", true, 10, true, 0, StandardCharsets.UTF_8));
+		assertEquals(DEFAULT_CONFIG, new JsonConfig(true, true, "\t", true, 10, true, 1, StandardCharsets.UTF_8));
 	}
 	
 	@Test
@@ -88,4 +89,16 @@ class JsonConfigTest {
 		assertEquals(StandardCharsets.UTF_8, DEFAULT_CONFIG.charset());
 		assertEquals(StandardCharsets.UTF_16, CUSTOM_CONFIG.charset());
 	}
+	
+	@Test
+	void parallel() {
+		assertFalse(DEFAULT_CONFIG.parallel());
+		assertTrue(CUSTOM_CONFIG.parallel());
+	}
+	
+	@Test
+	void vectorized() {
+		assertFalse(DEFAULT_CONFIG.vectorized());
+		assertTrue(CUSTOM_CONFIG.vectorized());
+	}
 }
@@ -0,0 +1,106 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonHelper}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonHelperTest {
+	
+	@Test
+	void isStructuralCharacter() {
+		assertTrue(JsonHelper.isStructuralCharacter(','));
+		assertTrue(JsonHelper.isStructuralCharacter('['));
+		assertTrue(JsonHelper.isStructuralCharacter(']'));
+		assertTrue(JsonHelper.isStructuralCharacter('{'));
+		assertTrue(JsonHelper.isStructuralCharacter('}'));
+		assertFalse(JsonHelper.isStructuralCharacter(':'));
+		assertFalse(JsonHelper.isStructuralCharacter('"'));
+		assertFalse(JsonHelper.isStructuralCharacter('a'));
+	}
+	
+	@Test
+	void isNumberLiteral() {
+		assertTrue(JsonHelper.isNumberLiteral("0"));
+		assertTrue(JsonHelper.isNumberLiteral("-42"));
+		assertTrue(JsonHelper.isNumberLiteral("1.5"));
+		assertTrue(JsonHelper.isNumberLiteral("1E+400"));
+		assertTrue(JsonHelper.isNumberLiteral("-1.5e-3"));
+		assertFalse(JsonHelper.isNumberLiteral(""));
+		assertFalse(JsonHelper.isNumberLiteral("-"));
+		assertFalse(JsonHelper.isNumberLiteral("01"));
+		assertFalse(JsonHelper.isNumberLiteral("1."));
+		assertFalse(JsonHelper.isNumberLiteral(".5"));
+		assertFalse(JsonHelper.isNumberLiteral("1e"));
+		assertFalse(JsonHelper.isNumberLiteral("NaN"));
+		assertFalse(JsonHelper.isNumberLiteral("Infinity"));
+		assertFalse(JsonHelper.isNumberLiteral("0xFF"));
+	}
+	
+	@Test
+	void parseNumber() {
+		assertThrows(NullPointerException.class, () -> JsonHelper.parseNumber(null, 0, 1));
+		assertNull(JsonHelper.parseNumber("", 0, 0));
+		assertNull(JsonHelper.parseNumber("-", 0, 1));
+		assertNull(JsonHelper.parseNumber("test", 0, 4));
+		assertNull(JsonHelper.parseNumber("1abc", 0, 4));
+		assertEquals(0L, JsonHelper.parseNumber("0", 0, 1));
+		assertEquals(42L, JsonHelper.parseNumber("42", 0, 2));
+		assertEquals(-42L, JsonHelper.parseNumber("-42", 0, 3));
+		assertEquals(2L, JsonHelper.parseNumber("[1, 2, 3]", 4, 5));
+		assertEquals(Long.MAX_VALUE, JsonHelper.parseNumber("9223372036854775807", 0, 19));
+		assertEquals(new BigInteger("9223372036854775808"), JsonHelper.parseNumber("9223372036854775808", 0, 19));
+		assertEquals(1.5, JsonHelper.parseNumber("1.5", 0, 3));
+		assertEquals(-1.5E-3, JsonHelper.parseNumber("-1.5e-3", 0, 7));
+		assertEquals(100.0, JsonHelper.parseNumber("1E2", 0, 3));
+		assertEquals(0.0, JsonHelper.parseNumber("0.0", 0, 3));
+		assertEquals(0.30000000000000004, JsonHelper.parseNumber("0.30000000000000004", 0, 19));
+		assertEquals(new BigDecimal("1e400"), JsonHelper.parseNumber("1e400", 0, 5));
+		assertEquals(new BigDecimal("-1e400"), JsonHelper.parseNumber("-1e400", 0, 6));
+		assertEquals(new BigDecimal("1e-400"), JsonHelper.parseNumber("1e-400", 0, 6));
+		assertEquals(new BigDecimal("0.12345678901234567890123"), JsonHelper.parseNumber("0.12345678901234567890123", 0, 25));
+		assertEquals(255L, JsonHelper.parseNumber("0xFF", 0, 4));
+		assertEquals((short) 1, JsonHelper.parseNumber("1s", 0, 2));
+		assertEquals(1.0F, JsonHelper.parseNumber("1.0f", 0, 4));
+	}
+	
+	@Test
+	void copy() {
+		JsonObject object = new JsonObject();
+		object.add("array", new JsonArray(List.of(new JsonPrimitive(1), new JsonObject())));
+		object.add("packed", JsonArray.of(1L, 2L));
+		JsonElement copy = JsonHelper.copy(object.freeze());
+		assertEquals(object, copy);
+		assertFalse(copy.isFrozen());
+		assertNotSame(object.getAsJsonArray("array"), copy.getAsJsonObject().getAsJsonArray("array"));
+		copy.getAsJsonObject().getAsJsonArray("packed").add(3L);
+		assertEquals(2, object.getAsJsonArray("packed").size());
+		JsonPrimitive primitive = new JsonPrimitive("value");
+		assertSame(primitive, JsonHelper.copy(primitive));
+	}
+}
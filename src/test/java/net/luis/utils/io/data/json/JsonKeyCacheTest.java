@@ -0,0 +1,69 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonKeyCache}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonKeyCacheTest {
+	
+	@Test
+	void key() {
+		JsonKeyCache cache = new JsonKeyCache();
+		String input = "{\"name\": 1, \"name\": 2, \"other\": 3}";
+		String first = cache.key(input, 2, 6);
+		assertEquals("name", first);
+		assertSame(first, cache.key(input, 13, 17));
+		assertEquals("other", cache.key(input, 24, 29));
+		assertEquals("", cache.key(input, 0, 0));
+		for (int i = 0; i < 10000; i++) {
+			assertEquals("key" + i, cache.key("key" + i, 0, 3 + String.valueOf(i).length()));
+		}
+		assertSame(first, cache.key(input, 2, 6));
+	}
+	
+	@Test
+	void keyBytes() {
+		JsonKeyCache cache = new JsonKeyCache();
+		ByteBuffer input = ByteBuffer.wrap("{\"näme\": 1, \"näme\": 2}".getBytes(StandardCharsets.UTF_8));
+		String first = cache.key(input, 2, 7);
+		assertEquals("näme", first);
+		assertSame(first, cache.key(input, 14, 19));
+		String longKey = "k".repeat(100);
+		assertEquals(longKey, cache.key(ByteBuffer.wrap(longKey.getBytes(StandardCharsets.UTF_8)), 0, 100));
+	}
+	
+	@Test
+	void shape() {
+		JsonKeyCache cache = new JsonKeyCache();
+		String[] shape = cache.shape(new String[] { "a", "b", null }, 2);
+		assertArrayEquals(new String[] { "a", "b" }, shape);
+		assertSame(shape, cache.shape(new String[] { "a", "b", "c" }, 2));
+		assertNotSame(shape, cache.shape(new String[] { "a", "b", "c" }, 3));
+	}
+}
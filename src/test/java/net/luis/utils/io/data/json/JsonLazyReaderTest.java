@@ -0,0 +1,148 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.junit.jupiter.api.*;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonLazyReader}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonLazyReaderTest {
+	
+	private static final JsonConfig CUSTOM_CONFIG = new JsonConfig(false, false, "", false, 0, false, 0, StandardCharsets.UTF_8);
+	private static final String CONTENT = "{\"a\": [1, {\"b\": [true, null]}, 2.5], \"c\": {\"d\": \"e, f\", \"g\": \"[{\\\"\"}, \"h\": [1.5, 2.5], \"i\": \"äöü\"}";
+	
+	//region Setup
+	@BeforeAll
+	static void setUpBefore() throws Exception {
+		Files.createDirectory(Path.of("JsonLazyReader/"));
+		Files.writeString(Path.of("JsonLazyReader/valid.json"), CONTENT, StandardCharsets.UTF_8);
+		Files.writeString(Path.of("JsonLazyReader/empty.json"), " ", StandardCharsets.UTF_8);
+		Files.writeString(Path.of("JsonLazyReader/primitive.json"), " 10 ", StandardCharsets.UTF_8);
+		Files.writeString(Path.of("JsonLazyReader/lenient.json"), "{key: value with spaces, 'other': [TRUE, 1,],}", StandardCharsets.UTF_8);
+		Files.writeString(Path.of("JsonLazyReader/invalid.json"), "{\"a\": [1, 2}, \"b\": 1}", StandardCharsets.UTF_8);
+		Files.writeString(Path.of("JsonLazyReader/invalid-nested.json"), "{\"a\": {\"b\" 1}, \"c\": [1, 2]}", StandardCharsets.UTF_8);
+		Files.writeString(Path.of("JsonLazyReader/unterminated.json"), "[\"a]", StandardCharsets.UTF_8);
+		Files.writeString(Path.of("JsonLazyReader/invalid-multiline.json"), "{\n  \"a\": {\"b\" 1}\n}", StandardCharsets.UTF_8);
+		Files.writeString(Path.of("JsonLazyReader/single-quotes.json"), "{\"a\": 'x{'}", StandardCharsets.UTF_8);
+	}
+	//endregion
+	
+	//region Cleanup
+	@AfterAll
+	static void cleanUpAfter() throws Exception {
+		for (String file : List.of("valid", "empty", "primitive", "lenient", "invalid", "invalid-nested", "unterminated", "invalid-multiline", "single-quotes")) {
+			Files.deleteIfExists(Path.of("JsonLazyReader/" + file + ".json"));
+		}
+		Files.deleteIfExists(Path.of("JsonLazyReader/"));
+	}
+	//endregion
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new JsonLazyReader(null));
+		assertThrows(NullPointerException.class, () -> new JsonLazyReader(Path.of("JsonLazyReader/valid.json"), null));
+		assertThrows(UncheckedIOException.class, () -> new JsonLazyReader(Path.of("JsonLazyReader/missing.json")));
+		assertDoesNotThrow(() -> new JsonLazyReader(Path.of("JsonLazyReader/valid.json")));
+	}
+	
+	@Test
+	void readJson() {
+		JsonElement element = new JsonLazyReader(Path.of("JsonLazyReader/valid.json")).readJson();
+		assertEquals(new JsonReader(CONTENT).readJson(), element);
+		assertEquals(element, new JsonReader(CONTENT).readJson());
+		assertEquals(new JsonReader(CONTENT).readJson().hashCode(), element.hashCode());
+		assertEquals(new JsonReader(CONTENT).readJson().toString(), element.toString());
+		
+		JsonObject object = element.getAsJsonObject();
+		assertEquals(3, object.getAsJsonArray("a").size());
+		assertEquals(1, object.getAsJsonArray("a").getAsInteger(0));
+		assertEquals("e, f", object.getAsJsonObject("c").getAsString("d"));
+		assertEquals("[{\\\"", object.getAsJsonObject("c").getAsString("g"));
+		assertEquals(2.5, object.getAsJsonArray("h").getAsDouble(1));
+		assertEquals("äöü", object.getAsString("i"));
+		
+		assertThrows(JsonSyntaxException.class, () -> new JsonLazyReader(Path.of("JsonLazyReader/empty.json")).readJson());
+		assertEquals(new JsonPrimitive(10L), new JsonLazyReader(Path.of("JsonLazyReader/primitive.json")).readJson());
+	}
+	
+	@Test
+	void readJsonCustomConfig() {
+		assertThrows(JsonSyntaxException.class, () -> new JsonLazyReader(Path.of("JsonLazyReader/lenient.json")).readJson().getAsJsonObject().size());
+		JsonObject object = new JsonLazyReader(Path.of("JsonLazyReader/lenient.json"), CUSTOM_CONFIG).readJson().getAsJsonObject();
+		assertEquals("value with spaces", object.getAsString("key"));
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(true), new JsonPrimitive(1L))), object.getAsJsonArray("other"));
+	}
+	
+	@Test
+	void readJsonInvalid() {
+		assertThrows(JsonSyntaxException.class, () -> new JsonLazyReader(Path.of("JsonLazyReader/invalid.json")).readJson());
+		assertThrows(JsonSyntaxException.class, () -> new JsonLazyReader(Path.of("JsonLazyReader/unterminated.json")).readJson());
+		
+		JsonObject object = assertDoesNotThrow(() -> new JsonLazyReader(Path.of("JsonLazyReader/invalid-nested.json")).readJson().getAsJsonObject());
+		assertEquals(2, object.getAsJsonArray("c").size());
+		JsonSyntaxException exception = assertThrows(JsonSyntaxException.class, () -> object.getAsJsonObject("a").size());
+		assertTrue(exception.getMessage().endsWith("at line 1, column 12"));
+		
+		JsonObject multiline = new JsonLazyReader(Path.of("JsonLazyReader/invalid-multiline.json")).readJson().getAsJsonObject();
+		exception = assertThrows(JsonSyntaxException.class, () -> multiline.getAsJsonObject("a").size());
+		assertTrue(exception.getMessage().endsWith("at line 2, column 13"));
+	}
+	
+	@Test
+	void readJsonSingleQuotes() {
+		assertThrows(JsonSyntaxException.class, () -> new JsonLazyReader(Path.of("JsonLazyReader/single-quotes.json")).readJson());
+		JsonObject object = new JsonLazyReader(Path.of("JsonLazyReader/single-quotes.json"), CUSTOM_CONFIG).readJson().getAsJsonObject();
+		assertEquals("x{", object.getAsString("a"));
+	}
+	
+	@Test
+	void close() {
+		JsonLazyReader reader = new JsonLazyReader(Path.of("JsonLazyReader/valid.json"));
+		JsonObject object = reader.readJson().getAsJsonObject();
+		JsonArray array = object.getAsJsonArray("a");
+		assertEquals(3, array.size());
+		JsonObject nested = object.getAsJsonObject("c");
+		reader.close();
+		assertThrows(IllegalStateException.class, reader::readJson);
+		assertEquals(3, array.size());
+		assertThrows(IllegalStateException.class, nested::size);
+		assertDoesNotThrow(reader::close);
+	}
+	
+	@Test
+	void readJsonModify() {
+		JsonObject object = new JsonLazyReader(Path.of("JsonLazyReader/valid.json")).readJson().getAsJsonObject();
+		object.getAsJsonArray("a").add("test");
+		object.getAsJsonObject("c").clear();
+		assertEquals(4, object.getAsJsonArray("a").size());
+		assertTrue(object.getAsJsonObject("c").isEmpty());
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonLinesReader}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonLinesReaderTest {
+	
+	private static final JsonConfig CUSTOM_CONFIG = new JsonConfig(false, false, "", false, 0, false, 0, StandardCharsets.UTF_8);
+	private static final String CONTENT = "{\"a\": 1, \"b\": [1, 2]}\n\n[true, \"äöü\"]\r\n  \n10\n\"value\"\n";
+	
+	private static InputProvider input(String content) {
+		return new InputProvider(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+	}
+	
+	private static List<JsonElement> expected() {
+		return List.of(new JsonReader("{\"a\": 1, \"b\": [1, 2]}").readJson(), new JsonReader("[true, \"äöü\"]").readJson(), new JsonPrimitive(10), new JsonPrimitive("value"));
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new JsonLinesReader(null));
+		assertThrows(NullPointerException.class, () -> new JsonLinesReader(input(CONTENT), null));
+		assertDoesNotThrow(() -> new JsonLinesReader(input(CONTENT)));
+		assertDoesNotThrow(() -> new JsonLinesReader(input(CONTENT), CUSTOM_CONFIG));
+	}
+	
+	@Test
+	void iterator() {
+		Iterator<JsonElement> iterator = new JsonLinesReader(input(CONTENT)).iterator();
+		List<JsonElement> elements = new ArrayList<>();
+		iterator.forEachRemaining(elements::add);
+		assertEquals(expected(), elements);
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+		
+		assertFalse(new JsonLinesReader(input("")).iterator().hasNext());
+		assertFalse(new JsonLinesReader(input("\n \n")).iterator().hasNext());
+	}
+	
+	@Test
+	void stream() {
+		assertEquals(expected(), new JsonLinesReader(input(CONTENT)).stream().toList());
+		assertEquals(2, new JsonLinesReader(input("{key: value}\n[1, 2,]\n"), CUSTOM_CONFIG).stream().count());
+		
+		JsonLinesReader reader = new JsonLinesReader(input(CONTENT));
+		reader.stream();
+		assertThrows(IllegalStateException.class, reader::stream);
+		assertThrows(IllegalStateException.class, reader::iterator);
+		assertThrows(IllegalStateException.class, reader::parallelStream);
+	}
+	
+	@Test
+	void streamInvalid() {
+		JsonSyntaxException exception = assertThrows(JsonSyntaxException.class, () -> new JsonLinesReader(input("1\n\n{key: value}\n")).stream().toList());
+		assertTrue(exception.getMessage().contains("line 3"));
+		assertThrows(JsonSyntaxException.class, () -> new JsonLinesReader(input("[1, 2\n")).stream().toList());
+	}
+	
+	@Test
+	void parallelStream() {
+		assertEquals(expected(), new JsonLinesReader(input(CONTENT)).parallelStream().toList());
+		assertThrows(NullPointerException.class, () -> new JsonLinesReader(input(CONTENT)).parallelStream(null, 1));
+		assertThrows(IllegalArgumentException.class, () -> new JsonLinesReader(input(CONTENT)).parallelStream(ForkJoinPool.commonPool(), 0));
+		
+		String content = IntStream.range(0, 5000).mapToObj(i -> "{\"index\": " + i + ", \"values\": [" + i + ", \"" + i + "\"]}").collect(Collectors.joining("\n"));
+		List<JsonElement> sequential = new JsonLinesReader(input(content)).stream().toList();
+		assertEquals(5000, sequential.size());
+		assertEquals(sequential, new JsonLinesReader(input(content)).parallelStream().toList());
+		assertEquals(sequential, new JsonLinesReader(input(content)).parallelStream(ForkJoinPool.commonPool(), 7).toList());
+		assertEquals(4999, new JsonLinesReader(input(content)).parallelStream(ForkJoinPool.commonPool(), 3).toList().getLast().getAsJsonObject().getAsInteger("index"));
+	}
+	
+	@Test
+	void parallelStreamInvalid() {
+		String content = IntStream.range(0, 100).mapToObj(i -> i == 42 ? "[1," : String.valueOf(i)).collect(Collectors.joining("\n"));
+		JsonSyntaxException exception = assertThrows(JsonSyntaxException.class, () -> new JsonLinesReader(input(content)).parallelStream(ForkJoinPool.commonPool(), 8).toList());
+		assertTrue(exception.getMessage().contains("line 43"));
+		
+		JsonSyntaxException sequential = assertThrows(JsonSyntaxException.class, () -> new JsonLinesReader(input(content)).stream().toList());
+		assertEquals(sequential.getMessage(), exception.getMessage());
+		assertTrue(exception.getMessage().startsWith("Invalid json in line 43: "));
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.OutputProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonLinesWriter}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonLinesWriterTest {
+	
+	private static final JsonConfig CUSTOM_CONFIG = new JsonConfig(false, true, "  ", false, 0, false, 0, StandardCharsets.UTF_8);
+	
+	private static JsonObject object() {
+		JsonObject object = new JsonObject();
+		object.add("a", 1);
+		object.add("b", new JsonArray(List.of(new JsonPrimitive(true), new JsonPrimitive("äöü"))));
+		return object;
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new JsonLinesWriter(null));
+		assertThrows(NullPointerException.class, () -> new JsonLinesWriter(new OutputProvider(new ByteArrayOutputStream()), null));
+		assertThrows(IllegalArgumentException.class, () -> new JsonLinesWriter(new OutputProvider(new ByteArrayOutputStream()), JsonConfig.DEFAULT, 0));
+		assertDoesNotThrow(() -> new JsonLinesWriter(new OutputProvider(new ByteArrayOutputStream())));
+	}
+	
+	@Test
+	void writeJson() throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (JsonLinesWriter writer = new JsonLinesWriter(new OutputProvider(stream), CUSTOM_CONFIG)) {
+			assertThrows(NullPointerException.class, () -> writer.writeJson(null));
+			writer.writeJson(object());
+			writer.writeJson(new JsonPrimitive(10));
+			writer.writeJson(JsonNull.INSTANCE);
+		}
+		assertEquals("{\"a\": 1,\"b\": [true,\"äöü\"]}\n10\nnull\n", stream.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	void writeAll() throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		List<JsonElement> elements = List.of(object(), new JsonArray(), new JsonPrimitive("value"));
+		try (JsonLinesWriter writer = new JsonLinesWriter(new OutputProvider(stream))) {
+			assertThrows(NullPointerException.class, () -> writer.writeAll(null));
+			writer.writeAll(elements);
+		}
+		String content = stream.toString(StandardCharsets.UTF_8);
+		assertEquals(3, content.lines().count());
+		assertEquals(elements, new JsonLinesReader(new InputProvider(new ByteArrayInputStream(stream.toByteArray()))).stream().toList());
+	}
+	
+	@Test
+	void writeJsonLineBreaks() throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		JsonObject object = new JsonObject();
+		object.add("key\r\n", "value");
+		try (JsonLinesWriter writer = new JsonLinesWriter(new OutputProvider(stream))) {
+			writer.writeJson(new JsonPrimitive("line1\nline2"));
+			writer.writeJson(object);
+		}
+		String content = stream.toString(StandardCharsets.UTF_8);
+		assertEquals("\"line1\\nline2\"\n{ \"key\\r\\n\": \"value\" }\n", content);
+		
+		List<JsonElement> elements = new JsonLinesReader(new InputProvider(new ByteArrayInputStream(stream.toByteArray()))).stream().toList();
+		assertEquals(2, elements.size());
+		assertEquals(new JsonPrimitive("line1\\nline2"), elements.getFirst());
+		assertEquals("value", elements.getLast().getAsJsonObject().getAsString("key\\r\\n"));
+	}
+	
+	@Test
+	void flush() throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (JsonLinesWriter writer = new JsonLinesWriter(new OutputProvider(stream), JsonConfig.DEFAULT, 2)) {
+			writer.writeJson(new JsonPrimitive(1));
+			assertEquals(0, stream.size());
+			writer.writeJson(new JsonPrimitive(2));
+			assertEquals("1\n2\n", stream.toString(StandardCharsets.UTF_8));
+			writer.writeJson(new JsonPrimitive(3));
+			assertEquals("1\n2\n", stream.toString(StandardCharsets.UTF_8));
+			writer.flush();
+			assertEquals("1\n2\n3\n", stream.toString(StandardCharsets.UTF_8));
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonMergePatch}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonMergePatchTest {
+	
+	private static JsonElement json(String json) {
+		return new JsonReader(json).readJson();
+	}
+	
+	@Test
+	void diff() {
+		assertThrows(NullPointerException.class, () -> JsonMergePatch.diff(null, new JsonObject()));
+		assertThrows(NullPointerException.class, () -> JsonMergePatch.diff(new JsonObject(), null));
+		
+		JsonElement source = json("{\"a\": \"b\", \"c\": {\"d\": \"e\", \"f\": \"g\"}, \"h\": [1, 2]}");
+		JsonElement target = json("{\"a\": \"z\", \"c\": {\"d\": \"e\"}, \"h\": [1, 2], \"i\": {\"j\": 1}}");
+		JsonElement patch = JsonMergePatch.diff(source, target);
+		assertEquals(json("{\"a\": \"z\", \"c\": {\"f\": null}, \"i\": {\"j\": 1}}"), patch);
+		assertEquals(target, JsonMergePatch.apply(source, patch));
+		
+		assertEquals(new JsonObject(), JsonMergePatch.diff(target, json(target.toString())));
+		assertEquals(new JsonObject(), JsonMergePatch.diff(target.freeze(), json(target.toString()).freeze()));
+		assertEquals(new JsonPrimitive(1), JsonMergePatch.diff(new JsonObject(), new JsonPrimitive(1)));
+	}
+	
+	@Test
+	void apply() {
+		assertThrows(NullPointerException.class, () -> JsonMergePatch.apply(null, new JsonObject()));
+		assertThrows(NullPointerException.class, () -> JsonMergePatch.apply(new JsonObject(), null));
+		
+		JsonElement json = json("{\"title\": \"Goodbye!\", \"author\": {\"givenName\": \"John\", \"familyName\": \"Doe\"}, \"tags\": [\"example\", \"sample\"], \"content\": \"This will be unchanged\"}");
+		JsonElement patch = json("{\"title\": \"Hello!\", \"phoneNumber\": \"+01-123-456-7890\", \"author\": {\"familyName\": null}, \"tags\": [\"example\"]}");
+		JsonElement result = JsonMergePatch.apply(json, patch);
+		assertSame(json, result);
+		assertEquals(json("{\"title\": \"Hello!\", \"author\": {\"givenName\": \"John\"}, \"tags\": [\"example\"], \"content\": \"This will be unchanged\", \"phoneNumber\": \"+01-123-456-7890\"}"), result);
+		assertNotSame(patch.getAsJsonObject().getAsJsonArray("tags"), result.getAsJsonObject().getAsJsonArray("tags"));
+		
+		assertEquals(json("{\"a\": {\"b\": \"c\"}}"), JsonMergePatch.apply(json("{\"a\": [1]}"), json("{\"a\": {\"b\": \"c\", \"d\": null}}")));
+		assertEquals(json("[\"c\"]"), JsonMergePatch.apply(json("{\"a\": \"b\"}"), json("[\"c\"]")));
+		assertEquals(json("{\"a\": 1}"), JsonMergePatch.apply(new JsonPrimitive(1), json("{\"a\": 1}")));
+		assertThrows(UnsupportedOperationException.class, () -> JsonMergePatch.apply(json("{}").freeze(), json("{\"a\": 1}")));
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonObjectMap}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonObjectMapTest {
+	
+	@Test
+	void put() {
+		JsonObjectMap map = new JsonObjectMap();
+		assertNull(map.put("a", new JsonPrimitive(1)));
+		assertNull(map.put("b", new JsonPrimitive(2)));
+		assertEquals(new JsonPrimitive(1), map.put("a", new JsonPrimitive(3)));
+		assertEquals(2, map.size());
+		assertEquals(new JsonPrimitive(3), map.get("a"));
+		assertEquals(List.of("a", "b"), List.copyOf(map.keySet()));
+		assertNull(map.get("c"));
+		assertTrue(map.containsKey("b"));
+		assertTrue(map.containsValue(new JsonPrimitive(2)));
+		assertFalse(map.containsValue(new JsonPrimitive(1)));
+	}
+	
+	@Test
+	void putLarge() {
+		JsonObjectMap map = new JsonObjectMap();
+		Map<String, JsonElement> expected = new LinkedHashMap<>();
+		for (int i = 0; i < 40; i++) {
+			map.put("key" + i, new JsonPrimitive(i));
+			expected.put("key" + i, new JsonPrimitive(i));
+		}
+		assertEquals(expected, map);
+		assertEquals(List.copyOf(expected.keySet()), List.copyOf(map.keySet()));
+		assertEquals(new JsonPrimitive(20), map.remove("key20"));
+		assertEquals(39, map.size());
+		assertFalse(map.containsKey("key20"));
+	}
+	
+	@Test
+	void remove() {
+		JsonObjectMap map = new JsonObjectMap();
+		map.put("a", new JsonPrimitive(1));
+		map.put("b", new JsonPrimitive(2));
+		map.put("c", new JsonPrimitive(3));
+		assertEquals(new JsonPrimitive(2), map.remove("b"));
+		assertNull(map.remove("b"));
+		assertEquals(List.of("a", "c"), List.copyOf(map.keySet()));
+		map.clear();
+		assertTrue(map.isEmpty());
+	}
+	
+	@Test
+	void entrySet() {
+		JsonObjectMap map = new JsonObjectMap();
+		map.put("a", new JsonPrimitive(1));
+		map.put("b", new JsonPrimitive(2));
+		map.put("c", new JsonPrimitive(3));
+		Iterator<Map.Entry<String, JsonElement>> iterator = map.entrySet().iterator();
+		iterator.next().setValue(new JsonPrimitive(4));
+		iterator.next();
+		iterator.remove();
+		assertEquals(Map.of("a", new JsonPrimitive(4), "c", new JsonPrimitive(3)), map);
+		assertThrows(IllegalStateException.class, iterator::remove);
+		
+		Iterator<String> keys = map.keySet().iterator();
+		keys.next();
+		map.put("d", new JsonPrimitive(5));
+		assertThrows(ConcurrentModificationException.class, keys::next);
+	}
+	
+	@Test
+	void shareKeys() {
+		JsonKeyCache cache = new JsonKeyCache();
+		JsonObjectMap first = new JsonObjectMap();
+		JsonObjectMap second = new JsonObjectMap();
+		for (JsonObjectMap map : List.of(first, second)) {
+			map.put("a", new JsonPrimitive(1));
+			map.put("b", new JsonPrimitive(2));
+			map.shareKeys(cache);
+		}
+		second.put("c", new JsonPrimitive(3));
+		second.remove("a");
+		assertEquals(List.of("a", "b"), List.copyOf(first.keySet()));
+		assertEquals(List.of("b", "c"), List.copyOf(second.keySet()));
+		first.entrySet().iterator().next().setValue(new JsonPrimitive(5));
+		assertEquals(new JsonPrimitive(5), first.get("a"));
+		assertEquals(new JsonPrimitive(2), second.get("b"));
+	}
+	
+	@Test
+	void copy() {
+		JsonObjectMap map = new JsonObjectMap();
+		map.put("a", new JsonPrimitive(1));
+		map.put("b", new JsonPrimitive(2));
+		JsonObjectMap copy = map.copy();
+		copy.put("c", new JsonPrimitive(3));
+		copy.put("a", new JsonPrimitive(4));
+		assertEquals(Map.of("a", new JsonPrimitive(1), "b", new JsonPrimitive(2)), map);
+		assertEquals(List.of("a", "b", "c"), List.copyOf(copy.keySet()));
+	}
+	
+	@Test
+	void freeze() {
+		JsonObjectMap map = new JsonObjectMap();
+		map.put("a", new JsonPrimitive(1));
+		map.freeze();
+		assertTrue(map.isFrozen());
+		assertThrows(UnsupportedOperationException.class, () -> map.put("b", JsonNull.INSTANCE));
+		assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+		assertThrows(UnsupportedOperationException.class, map::clear);
+		assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(JsonNull.INSTANCE));
+		JsonObjectMap copy = map.copy();
+		assertFalse(copy.isFrozen());
+		copy.remove("a");
+		assertEquals(1, map.size());
+	}
+}
@@ -181,6 +181,22 @@ class JsonObjectTest {
 		assertEquals(4, main.size());
 	}
 	
+	@Test
+	void addMany() {
+		JsonObject object = new JsonObject();
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			object.add("key" + i, i);
+			keys.add("key" + i);
+		}
+		assertEquals(32, object.size());
+		assertEquals(keys, List.copyOf(object.keySet()));
+		assertEquals(20, object.getAsInteger("key20"));
+		object.entrySet().removeIf(entry -> entry.getKey().endsWith("0"));
+		assertEquals(28, object.size());
+		assertFalse(object.containsKey("key10"));
+	}
+	
 	@Test
 	void remove() {
 		JsonObject object = new JsonObject();
@@ -356,6 +372,79 @@ class JsonObjectTest {
 		assertEquals(10.0, assertDoesNotThrow(() -> object.getAsDouble("key1")));
 	}
 	
+	@Test
+	void freeze() {
+		JsonObject object = new JsonObject();
+		object.add("first", new JsonObject(Map.of("key", new JsonPrimitive(1))));
+		object.add("second", new JsonObject(Map.of("key", new JsonPrimitive(1))));
+		object.add("array", new JsonArray(List.of(new JsonPrimitive("value"))));
+		assertFalse(object.isFrozen());
+		
+		JsonObject frozen = object.freeze();
+		assertTrue(frozen.isFrozen());
+		assertSame(frozen, frozen.freeze());
+		assertEquals(object, frozen);
+		assertEquals(frozen, object);
+		assertEquals(object.hashCode(), frozen.hashCode());
+		assertSame(frozen.get("first"), frozen.get("second"));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.add("key", 1));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.remove("first"));
+		assertThrows(UnsupportedOperationException.class, frozen::clear);
+		assertThrows(UnsupportedOperationException.class, () -> frozen.entrySet().iterator().next().setValue(JsonNull.INSTANCE));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.keySet().remove("first"));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getAsJsonObject("first").add("other", 2));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getAsJsonArray("array").add(2));
+		
+		object.add("other", 2);
+		assertEquals(3, frozen.size());
+		assertNotEquals(object, frozen);
+		
+		JsonObject large = new JsonObject();
+		for (int i = 0; i < 32; i++) {
+			large.add("key" + i, i);
+		}
+		JsonObject frozenLarge = large.freeze();
+		assertEquals(large, frozenLarge);
+		assertThrows(UnsupportedOperationException.class, () -> frozenLarge.add("key", 1));
+		assertThrows(UnsupportedOperationException.class, () -> frozenLarge.entrySet().clear());
+	}
+	
+	@Test
+	void with() {
+		JsonObject object = new JsonObject();
+		object.add("nested", new JsonObject(Map.of("key", new JsonPrimitive(1))));
+		object.add("value", 1);
+		JsonObject frozen = object.freeze();
+		assertThrows(NullPointerException.class, () -> frozen.with(null, JsonNull.INSTANCE));
+		
+		JsonObject changed = frozen.with("value", new JsonPrimitive(2));
+		assertTrue(changed.isFrozen());
+		assertEquals(1, frozen.getAsInteger("value"));
+		assertEquals(2, changed.getAsInteger("value"));
+		assertSame(frozen.get("nested"), changed.get("nested"));
+		assertEquals(JsonNull.INSTANCE, changed.with("other", null).get("other"));
+		
+		JsonObject nested = frozen.with("nested", frozen.getAsJsonObject("nested").with("key", new JsonPrimitive(3)));
+		assertEquals(3, nested.getAsJsonObject("nested").getAsInteger("key"));
+		assertEquals(1, frozen.getAsJsonObject("nested").getAsInteger("key"));
+		
+		JsonObject mutable = new JsonObject();
+		mutable.add("key", new JsonArray());
+		assertTrue(mutable.with("other", mutable.get("key")).get("other").isFrozen());
+		assertFalse(mutable.isFrozen());
+	}
+	
+	@Test
+	void without() {
+		JsonObject frozen = new JsonObject(Map.of("first", new JsonPrimitive(1), "second", new JsonPrimitive(2))).freeze();
+		JsonObject removed = frozen.without("first");
+		assertTrue(removed.isFrozen());
+		assertFalse(removed.containsKey("first"));
+		assertTrue(frozen.containsKey("first"));
+		assertSame(frozen, frozen.without("missing"));
+		assertTrue(new JsonObject().without("key").isFrozen());
+	}
+	
 	@Test
 	void toStringDefaultConfig() {
 		JsonObject object = new JsonObject();
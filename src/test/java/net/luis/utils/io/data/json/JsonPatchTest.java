@@ -0,0 +1,199 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.json.exception.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonPatch}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonPatchTest {
+	
+	private static JsonElement json(String json) {
+		return new JsonReader(json).readJson();
+	}
+	
+	private static JsonElement random(Random random, int depth) {
+		int type = random.nextInt(depth > 3 ? 3 : 5);
+		return switch (type) {
+			case 0 -> new JsonPrimitive(random.nextInt(5));
+			case 1 -> new JsonPrimitive("s" + random.nextInt(5));
+			case 2 -> JsonNull.INSTANCE;
+			case 3 -> {
+				JsonArray array = new JsonArray();
+				for (int i = random.nextInt(6); i > 0; i--) {
+					array.add(random(random, depth + 1));
+				}
+				yield array;
+			}
+			default -> {
+				JsonObject object = new JsonObject();
+				for (int i = random.nextInt(5); i > 0; i--) {
+					object.add("k" + random.nextInt(6), random(random, depth + 1));
+				}
+				yield object;
+			}
+		};
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new JsonPatch(null));
+		assertThrows(NullPointerException.class, () -> new JsonPatch(Arrays.asList((JsonPatch.Operation) null)));
+		assertTrue(new JsonPatch(List.of()).isEmpty());
+	}
+	
+	@Test
+	void operation() {
+		assertThrows(NullPointerException.class, () -> new JsonPatch.Operation(null, "", null, null));
+		assertThrows(NullPointerException.class, () -> new JsonPatch.Operation(JsonPatch.OperationType.REMOVE, null, null, null));
+		assertThrows(NullPointerException.class, () -> new JsonPatch.Operation(JsonPatch.OperationType.ADD, "/a", null, null));
+		assertThrows(NullPointerException.class, () -> new JsonPatch.Operation(JsonPatch.OperationType.MOVE, "/a", null, null));
+		assertThrows(IllegalArgumentException.class, () -> new JsonPatch.Operation(JsonPatch.OperationType.REMOVE, "a", null, null));
+		assertThrows(IllegalArgumentException.class, () -> new JsonPatch.Operation(JsonPatch.OperationType.REMOVE, "/a~2", null, null));
+		
+		JsonObject value = new JsonObject();
+		JsonPatch.Operation operation = new JsonPatch.Operation(JsonPatch.OperationType.ADD, "/a", "/ignored", value);
+		assertNull(operation.from());
+		assertTrue(operation.value().isFrozen());
+		assertEquals(value, operation.value());
+	}
+	
+	@Test
+	void operationType() {
+		assertEquals(JsonPatch.OperationType.MOVE, JsonPatch.OperationType.fromName("move"));
+		assertThrows(IllegalArgumentException.class, () -> JsonPatch.OperationType.fromName("unknown"));
+		assertThrows(IllegalArgumentException.class, () -> JsonPatch.OperationType.fromName(null));
+	}
+	
+	@Test
+	void fromJson() {
+		assertThrows(NullPointerException.class, () -> JsonPatch.fromJson(null));
+		assertThrows(JsonTypeException.class, () -> JsonPatch.fromJson(new JsonObject()));
+		assertThrows(NoSuchJsonElementException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"add\", \"path\": \"/a\"}]")));
+		assertThrows(IllegalArgumentException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"unknown\", \"path\": \"/a\"}]")));
+		
+		JsonElement json = json("[{\"op\": \"test\", \"path\": \"/a/b/c\", \"value\": \"foo\"}, {\"op\": \"remove\", \"path\": \"/a/b/c\"}, {\"op\": \"move\", \"from\": \"/a/b/d\", \"path\": \"/a/b/e\"}]");
+		JsonPatch patch = JsonPatch.fromJson(json);
+		assertEquals(3, patch.getOperations().size());
+		assertEquals(JsonPatch.OperationType.MOVE, patch.getOperations().get(2).type());
+		assertEquals("/a/b/d", patch.getOperations().get(2).from());
+		assertEquals(json, patch.toJson());
+		assertEquals(patch, JsonPatch.fromJson(patch.toJson()));
+	}
+	
+	@Test
+	void apply() {
+		assertThrows(NullPointerException.class, () -> new JsonPatch(List.of()).apply(null));
+		
+		JsonElement json = json("{\"foo\": [\"bar\", \"baz\"], \"a/b\": {\"m~n\": 1}}");
+		JsonPatch patch = JsonPatch.fromJson(json("""
+			[
+				{"op": "add", "path": "/foo/1", "value": "qux"},
+				{"op": "add", "path": "/foo/-", "value": {"x": 1}},
+				{"op": "replace", "path": "/a~1b/m~0n", "value": 2},
+				{"op": "copy", "from": "/foo/3", "path": "/copy"},
+				{"op": "move", "from": "/foo/0", "path": "/moved"},
+				{"op": "remove", "path": "/foo/2"},
+				{"op": "test", "path": "/copy/x", "value": 1}
+			]
+			"""));
+		JsonElement result = patch.apply(json);
+		assertSame(json, result);
+		assertEquals(json("{\"foo\": [\"qux\", \"baz\"], \"a/b\": {\"m~n\": 2}, \"copy\": {\"x\": 1}, \"moved\": \"bar\"}"), result);
+		assertFalse(result.getAsJsonObject().getAsJsonObject("copy").isFrozen());
+		
+		assertEquals(new JsonPrimitive(1), JsonPatch.fromJson(json("[{\"op\": \"replace\", \"path\": \"\", \"value\": 1}]")).apply(json("{}")));
+	}
+	
+	@Test
+	void applyInvalid() {
+		assertThrows(NoSuchJsonElementException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"remove\", \"path\": \"/missing\"}]")).apply(json("{}")));
+		assertThrows(NoSuchJsonElementException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"replace\", \"path\": \"/missing\", \"value\": 1}]")).apply(json("{}")));
+		assertThrows(NoSuchJsonElementException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"add\", \"path\": \"/a/b\", \"value\": 1}]")).apply(json("{}")));
+		assertThrows(JsonArrayIndexOutOfBoundsException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"add\", \"path\": \"/2\", \"value\": 1}]")).apply(json("[0]")));
+		assertThrows(JsonArrayIndexOutOfBoundsException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"remove\", \"path\": \"/01\"}]")).apply(json("[0, 1]")));
+		assertThrows(JsonTypeException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"add\", \"path\": \"/a/b\", \"value\": 1}]")).apply(json("{\"a\": 1}")));
+		assertThrows(IllegalArgumentException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"remove\", \"path\": \"\"}]")).apply(json("{}")));
+		assertThrows(IllegalArgumentException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"move\", \"from\": \"/a\", \"path\": \"/a/b\"}]")).apply(json("{\"a\": {}}")));
+		assertThrows(IllegalStateException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"test\", \"path\": \"/a\", \"value\": 2}]")).apply(json("{\"a\": 1}")));
+		assertThrows(UnsupportedOperationException.class, () -> JsonPatch.fromJson(json("[{\"op\": \"add\", \"path\": \"/a\", \"value\": 1}]")).apply(json("{}").freeze()));
+	}
+	
+	@Test
+	void diff() {
+		assertThrows(NullPointerException.class, () -> JsonPatch.diff(null, new JsonObject()));
+		assertThrows(NullPointerException.class, () -> JsonPatch.diff(new JsonObject(), null));
+		
+		JsonElement source = json("{\"a\": 1, \"b\": {\"c\": [1, 2, 3, 4], \"d\": \"x\"}, \"e/f\": true}");
+		JsonElement target = json("{\"a\": 1, \"b\": {\"c\": [1, 3, 4, 5], \"d\": \"y\"}, \"g\": null}");
+		JsonPatch patch = JsonPatch.diff(source, target);
+		assertEquals(json("""
+			[
+				{"op": "remove", "path": "/b/c/1"},
+				{"op": "add", "path": "/b/c/3", "value": 5},
+				{"op": "replace", "path": "/b/d", "value": "y"},
+				{"op": "remove", "path": "/e~1f"},
+				{"op": "add", "path": "/g", "value": null}
+			]
+			"""), patch.toJson());
+		assertEquals(target, patch.apply(source));
+		
+		assertTrue(JsonPatch.diff(target, target).isEmpty());
+		assertTrue(JsonPatch.diff(target.freeze(), json(target.toString()).freeze()).isEmpty());
+		assertEquals(new JsonPrimitive(1), JsonPatch.diff(new JsonArray(), new JsonPrimitive(1)).apply(new JsonArray()));
+	}
+	
+	@Test
+	void diffNested() {
+		JsonElement source = json("[{\"id\": 1, \"v\": \"a\"}, {\"id\": 2, \"v\": \"b\"}, {\"id\": 3, \"v\": \"c\"}]");
+		JsonElement target = json("[{\"id\": 1, \"v\": \"a\"}, {\"id\": 2, \"v\": \"B\"}, {\"id\": 3, \"v\": \"c\"}]");
+		assertEquals(json("[{\"op\": \"replace\", \"path\": \"/1/v\", \"value\": \"B\"}]"), JsonPatch.diff(source, target).toJson());
+		
+		JsonArray large = new JsonArray();
+		for (int i = 0; i < 50000; i++) {
+			large.add("element " + i);
+		}
+		JsonArray changed = new JsonArray();
+		changed.addAll(large);
+		changed.remove(10000);
+		changed.add(40000, new JsonPrimitive("inserted"));
+		assertEquals(json("[{\"op\": \"remove\", \"path\": \"/10000\"}, {\"op\": \"add\", \"path\": \"/40000\", \"value\": \"inserted\"}]"), JsonPatch.diff(large, changed).toJson());
+	}
+	
+	@Test
+	void diffRandom() {
+		Random random = new Random(42);
+		for (int i = 0; i < 2000; i++) {
+			JsonElement source = random(random, 0);
+			JsonElement target = random(random, 0);
+			JsonPatch patch = JsonPatch.diff(source, target);
+			JsonElement copy = JsonHelper.copy(source);
+			assertEquals(target, patch.apply(copy), () -> source + " -> " + target + " with " + patch);
+			assertEquals(target, JsonPatch.fromJson(patch.toJson()).apply(JsonHelper.copy(source)));
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonPath}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonPathTest {
+	
+	private static final String STORE = """
+		{
+			"store": {
+				"book": [
+					{"category": "reference", "author": "Nigel Rees", "title": "Sayings of the Century", "price": 8.95},
+					{"category": "fiction", "author": "Evelyn Waugh", "title": "Sword of Honour", "price": 12.99},
+					{"category": "fiction", "author": "Herman Melville", "title": "Moby Dick", "isbn": "0-553-21311-3", "price": 8.99},
+					{"category": "fiction", "author": "J. R. R. Tolkien", "title": "The Lord of the Rings", "isbn": "0-395-19395-8", "price": 22.99}
+				],
+				"bicycle": {"color": "red", "price": 19.95}
+			},
+			"expensive": 10
+		}""";
+	
+	private static List<JsonElement> select(String expression) {
+		JsonPath path = JsonPath.compile(expression);
+		List<JsonElement> tree = path.select(new JsonReader(STORE).readJson());
+		List<JsonElement> stream = path.select(new JsonTokenReader(STORE));
+		assertEquals(tree, stream, "Tree and streaming selection differ for " + expression);
+		return tree;
+	}
+	
+	private static List<JsonElement> primitives(Object... values) {
+		return Arrays.stream(values).map(value -> value instanceof String string ? new JsonPrimitive(string) : new JsonPrimitive((Number) value)).map(JsonElement.class::cast).toList();
+	}
+	
+	@Test
+	void compile() {
+		assertThrows(NullPointerException.class, () -> JsonPath.compile(null));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile(""));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("store.book"));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.store["));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.store['book]"));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.book[::0]"));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.book[?(@.price <)]"));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.book[?(10)]"));
+		assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$" + ".a".repeat(64)));
+		assertDoesNotThrow(() -> JsonPath.compile("$"));
+		assertDoesNotThrow(() -> JsonPath.compile("$..book[?(@.price < 10 && !(@.isbn || @['category'] == 'reference'))].title"));
+	}
+	
+	@Test
+	void getExpression() {
+		assertEquals("$.store.book[*]", JsonPath.compile("$.store.book[*]").getExpression());
+		assertEquals(JsonPath.compile("$.a"), JsonPath.compile("$.a"));
+		assertEquals("$.a", JsonPath.compile("$.a").toString());
+	}
+	
+	@Test
+	void selectChild() {
+		assertEquals(List.of(new JsonReader(STORE).readJson()), select("$"));
+		assertEquals(primitives(10L), select("$.expensive"));
+		assertEquals(primitives("red"), select("$['store']['bicycle'][\"color\"]"));
+		assertEquals(List.of(), select("$.missing.child"));
+		assertEquals(primitives("Nigel Rees", "Evelyn Waugh", "Herman Melville", "J. R. R. Tolkien"), select("$.store.book[*].author"));
+	}
+	
+	@Test
+	void selectWildcard() {
+		assertEquals(2, select("$.store.*").size());
+		assertEquals(primitives(8.95, 12.99, 8.99, 22.99), select("$.store.*[*].price"));
+		assertEquals(List.of(), select("$.expensive.*"));
+	}
+	
+	@Test
+	void selectRecursiveDescent() {
+		assertEquals(primitives(8.95, 12.99, 8.99, 22.99, 19.95), select("$..price"));
+		assertEquals(primitives("0-553-21311-3", "0-395-19395-8"), select("$..isbn"));
+		assertEquals(primitives("The Lord of the Rings"), select("$..book[-1].title"));
+		assertEquals(primitives("Sayings of the Century", "Sword of Honour"), select("$..[0:2].title"));
+		assertEquals(28, select("$..*").size());
+	}
+	
+	@Test
+	void selectIndexAndSlice() {
+		assertEquals(primitives("Sword of Honour"), select("$.store.book[1].title"));
+		assertEquals(primitives("Moby Dick"), select("$.store.book[-2].title"));
+		assertEquals(List.of(), select("$.store.book[4].title"));
+		assertEquals(primitives("Sayings of the Century", "Moby Dick"), select("$.store.book[0, 2].title"));
+		assertEquals(primitives("Sword of Honour", "Moby Dick", "The Lord of the Rings"), select("$.store.book[1:].title"));
+		assertEquals(primitives("Sayings of the Century", "Moby Dick"), select("$.store.book[::2].title"));
+		assertEquals(primitives("Moby Dick", "The Lord of the Rings"), select("$.store.book[-2:].title"));
+		assertEquals(primitives("Sayings of the Century", "Sword of Honour", "Moby Dick", "The Lord of the Rings"), select("$.store.book[::-1].title"));
+		assertEquals(primitives("Sayings of the Century", "Sword of Honour"), select("$.store.book[:-2].title"));
+	}
+	
+	@Test
+	void selectFilter() {
+		assertEquals(primitives("Sayings of the Century", "Moby Dick"), select("$.store.book[?(@.price < 10)].title"));
+		assertEquals(primitives("Moby Dick", "The Lord of the Rings"), select("$.store.book[?(@.isbn)].title"));
+		assertEquals(primitives("Sword of Honour"), select("$.store.book[?(@.category == 'fiction' && !@.isbn)].title"));
+		assertEquals(primitives("Sayings of the Century", "The Lord of the Rings"), select("$..book[?@.price > 20 || @['category'] == \"reference\"].title"));
+		assertEquals(primitives("red"), select("$..[?(@.price >= 19.95 && @.price <= 19.95)].color"));
+		assertEquals(List.of(), select("$.store.book[?(@.price == '8.95')]"));
+		assertEquals(primitives("Herman Melville"), select("$.store.book[?(@.title == 'Moby Dick')].author"));
+		assertEquals(List.of(), select("$.store.book[?(@.isbn == null)]"));
+		assertEquals(4, select("$.store.book[?(@.isbn != null)]").size());
+	}
+	
+	@Test
+	void selectFirst() {
+		JsonPath path = JsonPath.compile("$..author");
+		assertEquals(Optional.of(new JsonPrimitive("Nigel Rees")), path.selectFirst(new JsonReader(STORE).readJson()));
+		assertEquals(Optional.of(new JsonPrimitive("Nigel Rees")), path.selectFirst(new JsonTokenReader(STORE)));
+		assertEquals(Optional.empty(), JsonPath.compile("$.missing").selectFirst(new JsonReader(STORE).readJson()));
+		
+		JsonTokenReader reader = new JsonTokenReader("{\"a\": 1, \"b\": 2, \"c\": [}");
+		assertEquals(Optional.of(new JsonPrimitive(1L)), JsonPath.compile("$.a").selectFirst(reader));
+	}
+	
+	@Test
+	void selectInput() {
+		JsonPath path = JsonPath.compile("$.store.book[?(@.price < 10)].author");
+		InputProvider input = new InputProvider(new ByteArrayInputStream(STORE.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(primitives("Nigel Rees", "Herman Melville"), path.select(input));
+		InputProvider first = new InputProvider(new ByteArrayInputStream(STORE.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(Optional.of(new JsonPrimitive("Nigel Rees")), path.selectFirst(first));
+		assertThrows(NullPointerException.class, () -> path.select((InputProvider) null));
+		assertThrows(NullPointerException.class, () -> path.select((JsonElement) null));
+	}
+}
@@ -24,8 +24,11 @@ import net.luis.utils.io.reader.ScopedStringReader;
 import net.luis.utils.io.reader.StringReader;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.atomic.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -68,6 +71,30 @@ class JsonPrimitiveTest {
 		assertTrue(new JsonPrimitive(true).isJsonPrimitive());
 	}
 	
+	@Test
+	void isBoolean() {
+		assertTrue(new JsonPrimitive(true).isBoolean());
+		assertFalse(new JsonPrimitive(1).isBoolean());
+		assertFalse(new JsonPrimitive("true").isBoolean());
+	}
+	
+	@Test
+	void isNumber() {
+		assertTrue(new JsonPrimitive(1).isNumber());
+		assertTrue(new JsonPrimitive(1.0F).isNumber());
+		assertTrue(new JsonPrimitive(new BigDecimal("1.5")).isNumber());
+		assertFalse(new JsonPrimitive(true).isNumber());
+		assertFalse(new JsonPrimitive("1").isNumber());
+	}
+	
+	@Test
+	void isString() {
+		assertTrue(new JsonPrimitive("test").isString());
+		assertTrue(new JsonPrimitive("1").isString());
+		assertFalse(new JsonPrimitive(1).isString());
+		assertFalse(new JsonPrimitive(false).isString());
+	}
+	
 	@Test
 	void getAsJsonObject() {
 		assertThrows(JsonTypeException.class, () -> new JsonPrimitive(true).getAsJsonObject());
@@ -200,6 +227,44 @@ class JsonPrimitiveTest {
 		assertEquals(1.0, new JsonPrimitive("1.0d").getAsDouble());
 	}
 	
+	@Test
+	void getAsTypedNumber() {
+		assertEquals(Long.MAX_VALUE, new JsonPrimitive(Long.MAX_VALUE).getAsLong());
+		assertEquals(Long.MAX_VALUE, new JsonPrimitive(Long.MAX_VALUE).getAsNumber());
+		assertEquals(1.1F, new JsonPrimitive(1.1F).getAsFloat());
+		assertEquals("1.1", new JsonPrimitive(1.1F).getAsString());
+		assertEquals(1L, new JsonPrimitive(BigInteger.ONE).getAsNumber());
+		assertEquals(new BigInteger("123456789012345678901234567890"), new JsonPrimitive(new BigInteger("123456789012345678901234567890")).getAsNumber());
+		assertEquals(new BigDecimal("0.1000000000000000000001"), new JsonPrimitive(new BigDecimal("0.1000000000000000000001")).getAsNumber());
+		assertThrows(IllegalArgumentException.class, () -> new JsonPrimitive(300).getAsByte());
+		assertThrows(IllegalArgumentException.class, () -> new JsonPrimitive(Long.MAX_VALUE).getAsInteger());
+		assertThrows(IllegalArgumentException.class, () -> new JsonPrimitive(true).getAsLong());
+		assertThrows(IllegalArgumentException.class, () -> new JsonPrimitive(1.5).getAsLong());
+	}
+	
+	@Test
+	void equalsAndHashCode() {
+		assertEquals(new JsonPrimitive(1L), new JsonPrimitive(1));
+		assertEquals(new JsonPrimitive((short) 1), new JsonPrimitive(BigInteger.ONE));
+		assertEquals(new JsonPrimitive(1.5F), new JsonPrimitive(1.5));
+		assertEquals(new JsonPrimitive("1"), new JsonPrimitive(1));
+		assertEquals(new JsonPrimitive("1").hashCode(), new JsonPrimitive(1).hashCode());
+		assertEquals(new JsonPrimitive("true"), new JsonPrimitive(true));
+		assertEquals(new JsonPrimitive(Double.NaN), new JsonPrimitive(Double.NaN));
+		assertNotEquals(new JsonPrimitive(1), new JsonPrimitive(1.0));
+		assertNotEquals(new JsonPrimitive(0.0), new JsonPrimitive(-0.0));
+		assertNotEquals(new JsonPrimitive(true), new JsonPrimitive(1));
+		
+		for (long value : new long[] { 0L, 9L, 10L, -1L, -10L, 1234567890123L, Long.MIN_VALUE, Long.MAX_VALUE }) {
+			assertEquals(new JsonPrimitive(value).hashCode(), JsonPrimitive.hashLong(value));
+			assertTrue(new JsonPrimitive(Long.toString(value)).equalsLong(value));
+		}
+		assertEquals(new JsonPrimitive(-0.0).hashCode(), JsonPrimitive.hashDouble(-0.0));
+		assertTrue(new JsonPrimitive(new BigDecimal("1.5")).equalsDouble(1.5));
+		assertFalse(new JsonPrimitive(1.0).equalsLong(1L));
+		assertFalse(new JsonPrimitive(0.0).equalsDouble(-0.0));
+	}
+	
 	@Test
 	void getAs() {
 		ThrowableFunction<String, List<Boolean>, Exception> parser = value -> new ScopedStringReader(String.valueOf(value)).readList(StringReader::readBoolean);
@@ -216,6 +281,28 @@ class JsonPrimitiveTest {
 		assertEquals("1", new JsonPrimitive(1).toString());
 		assertEquals("1.0", new JsonPrimitive(1.0).toString());
 		assertEquals("\"test\"", new JsonPrimitive("test").toString());
+		assertEquals("1.1", new JsonPrimitive(1.1F).toString());
+		assertEquals("123456789012345678901234567890", new JsonPrimitive(new BigInteger("123456789012345678901234567890")).toString());
+		assertEquals("42", new JsonPrimitive("42").toString());
+		assertEquals("\"-\"", new JsonPrimitive("-").toString());
+		assertEquals("\"NaN\"", new JsonPrimitive(Double.NaN).toString());
+		assertEquals("\"-Infinity\"", new JsonPrimitive(Float.NEGATIVE_INFINITY).toString());
+		assertEquals("5", new JsonPrimitive(new AtomicInteger(5)).toString());
+	}
+	
+	@Test
+	void toStringRoundTrip() {
+		for (JsonPrimitive primitive : List.of(new JsonPrimitive(Double.NaN), new JsonPrimitive(Double.POSITIVE_INFINITY), new JsonPrimitive(Double.NEGATIVE_INFINITY), new JsonPrimitive(new AtomicInteger(5)), new JsonPrimitive(new BigDecimal("1E+400")))) {
+			JsonArray array = new JsonArray(List.of(primitive));
+			assertEquals(primitive, new JsonReader(primitive.toString()).readJson());
+			assertEquals(array, new JsonReader(array.toString()).readJson());
+		}
+		assertEquals(5, new JsonReader(new JsonPrimitive(new AtomicInteger(5)).toString()).readJson().getAsJsonPrimitive().getAsInteger());
+		
+		DoubleAdder adder = new DoubleAdder();
+		adder.add(Double.NaN);
+		assertEquals("\"NaN\"", new JsonPrimitive(adder).toString());
+		assertTrue(new JsonPrimitive(new AtomicLong(Long.MAX_VALUE)).isLongValue());
 	}
 	
 	@Test
@@ -22,8 +22,12 @@ import net.luis.utils.io.data.InputProvider;
 import net.luis.utils.io.data.json.exception.JsonSyntaxException;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -151,6 +155,15 @@ class JsonReaderTest {
 		assertThrows(JsonSyntaxException.class, () -> new JsonReader("test").readJson());
 	}
 	
+	@Test
+	void readJsonBigNumbers() {
+		JsonObject object = new JsonReader("{\"a\": 1e400, \"b\": 0.12345678901234567890123, \"c\": 1.5}").readJson().getAsJsonObject();
+		assertEquals(new BigDecimal("1e400"), object.getJsonPrimitive("a").getAsNumber());
+		assertEquals(new BigDecimal("0.12345678901234567890123"), object.getJsonPrimitive("b").getAsNumber());
+		assertEquals(1.5, object.getJsonPrimitive("c").getAsNumber());
+		assertEquals(object, new JsonReader(object.toString()).readJson());
+	}
+	
 	@Test
 	void readJsonArrayCustomConfig() {
 		JsonReader emptyArrayReader = new JsonReader("[]", CUSTOM_CONFIG);
@@ -242,8 +255,127 @@ class JsonReaderTest {
 		assertDoesNotThrow(() -> new JsonReader("test", CUSTOM_CONFIG).readJson());
 	}
 	
+	@Test
+	void readJsonPackedArray() {
+		JsonArray longs = new JsonReader("[1, 2, -3]").readJson().getAsJsonArray();
+		assertTrue(longs.isPacked());
+		assertEquals(JsonArray.of(1L, 2L, -3L), longs);
+		JsonArray doubles = new JsonReader("[1.5, 2e3]").readJson().getAsJsonArray();
+		assertTrue(doubles.isPacked());
+		assertEquals(JsonArray.of(1.5, 2000.0), doubles);
+		assertFalse(new JsonReader("[1, 2.5]").readJson().getAsJsonArray().isPacked());
+		assertFalse(new JsonReader("[1, \"2\"]").readJson().getAsJsonArray().isPacked());
+		assertFalse(new JsonReader("[]").readJson().getAsJsonArray().isPacked());
+	}
+	
+	@Test
+	void readJsonNested() {
+		JsonElement element = new JsonReader("{\"a\": [1, {\"b\": [true, null]}, 2.5], \"c\": {\"d\": \"e, f\"}}").readJson();
+		assertInstanceOf(JsonObject.class, element);
+		JsonObject object = (JsonObject) element;
+		JsonArray array = object.getAsJsonArray("a");
+		assertEquals(3, array.size());
+		assertEquals(new JsonPrimitive(1L), array.get(0));
+		assertEquals(new JsonPrimitive(true), array.getAsJsonObject(1).getAsJsonArray("b").get(0));
+		assertEquals(JsonNull.INSTANCE, array.getAsJsonObject(1).getAsJsonArray("b").get(1));
+		assertEquals(new JsonPrimitive(2.5), array.get(2));
+		assertEquals(new JsonPrimitive("e, f"), object.getAsJsonObject("c").get("d"));
+		
+		assertEquals(new JsonPrimitive("a\\\"b"), new JsonReader("\"a\\\"b\"").readJson());
+		assertEquals(new JsonPrimitive(new BigInteger("12345678901234567890")), new JsonReader("12345678901234567890").readJson());
+		assertEquals(new JsonPrimitive(-1.5E10), new JsonReader("-1.5e10").readJson());
+		assertThrows(JsonSyntaxException.class, () -> new JsonReader("[1 2]").readJson());
+		assertThrows(JsonSyntaxException.class, () -> new JsonReader("[1, , 2]").readJson());
+		assertThrows(JsonSyntaxException.class, () -> new JsonReader("{\"key\": \"value}").readJson());
+	}
+	
+	@Test
+	void readJsonNestedCustomConfig() {
+		JsonElement element = new JsonReader("{key: hello world, 'other': [TRUE, Null, ], }", CUSTOM_CONFIG).readJson();
+		assertInstanceOf(JsonObject.class, element);
+		JsonObject object = (JsonObject) element;
+		assertEquals(new JsonPrimitive("hello world"), object.get("key"));
+		assertEquals(new JsonPrimitive(true), object.getAsJsonArray("other").get(0));
+		assertEquals(JsonNull.INSTANCE, object.getAsJsonArray("other").get(1));
+		assertEquals(2, object.getAsJsonArray("other").size());
+	}
+	
+	@Test
+	void readJsonUnquotedValues() {
+		assertThrows(JsonSyntaxException.class, () -> new JsonReader("{\"a\":1 \"b\":2}", CUSTOM_CONFIG).readJson());
+		assertThrows(JsonSyntaxException.class, () -> new JsonReader("[1 2]", CUSTOM_CONFIG).readJson());
+		assertThrows(JsonSyntaxException.class, () -> new JsonReader("[true false]", CUSTOM_CONFIG).readJson());
+		assertThrows(JsonSyntaxException.class, () -> new JsonReader("[a\"b]", CUSTOM_CONFIG).readJson());
+		assertEquals(new JsonArray(List.of(new JsonPrimitive("a 1"), new JsonPrimitive("it's"))), new JsonReader("[a 1, it's]", CUSTOM_CONFIG).readJson());
+		
+		JsonElement element = new JsonReader("{a: hello world, b: 1.5 , c: null}", CUSTOM_CONFIG).readJson();
+		assertEquals(new JsonPrimitive("hello world"), element.getAsJsonObject().get("a"));
+		assertEquals(element, new JsonReader(element.toString()).readJson());
+	}
+	
+	@Test
+	void readJsonSharedKeys() {
+		JsonArray array = new JsonReader("[{\"key\": 1, \"other\": 2}, {\"key\": 3, \"other\": 4}]").readJson().getAsJsonArray();
+		JsonObject first = array.getAsJsonObject(0);
+		JsonObject second = array.getAsJsonObject(1);
+		assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+		second.add("third", 5);
+		second.remove("key");
+		assertEquals(List.of("key", "other"), List.copyOf(first.keySet()));
+		assertEquals(List.of("other", "third"), List.copyOf(second.keySet()));
+	}
+	
+	@Test
+	void readJsonParallel() {
+		JsonConfig strictConfig = new JsonConfig(true, false, "", false, 0, false, 0, StandardCharsets.UTF_8, true);
+		JsonConfig lenientConfig = new JsonConfig(false, false, "", false, 0, false, 0, StandardCharsets.UTF_8, true);
+		StringBuilder array = new StringBuilder("[");
+		StringBuilder object = new StringBuilder("{");
+		for (int i = 0; i < 20000; i++) {
+			String separator = i > 0 ? ",\n" : "";
+			array.append(separator).append("{\"index\": ").append(i).append(", \"value\": \"a, [b] \\\" ").append(i).append("\"}");
+			object.append(separator).append("\"key").append(i % 15000).append("\": [").append(i).append(", ").append(i * 0.5).append("]");
+		}
+		String arrayJson = array.append("]").toString();
+		String objectJson = object.append("}").toString();
+		
+		assertEquals(new JsonReader(arrayJson).readJson(), new JsonReader(arrayJson, strictConfig).readJson());
+		assertEquals(new JsonReader(objectJson).readJson(), new JsonReader(objectJson, strictConfig).readJson());
+		assertEquals(20000, new JsonReader(arrayJson, strictConfig).readJson().getAsJsonArray().size());
+		assertEquals(15000, new JsonReader(objectJson, strictConfig).readJson().getAsJsonObject().size());
+		
+		String trailingJson = arrayJson.substring(0, arrayJson.length() - 1) + ",]";
+		assertEquals(new JsonReader(trailingJson, CUSTOM_CONFIG).readJson(), new JsonReader(trailingJson, lenientConfig).readJson());
+		assertEquals(assertThrows(JsonSyntaxException.class, () -> new JsonReader(trailingJson).readJson()).getMessage(), assertThrows(JsonSyntaxException.class, () -> new JsonReader(trailingJson, strictConfig).readJson()).getMessage());
+		
+		String invalidJson = arrayJson.substring(0, 150000) + "}" + arrayJson.substring(150001);
+		assertEquals(assertThrows(JsonSyntaxException.class, () -> new JsonReader(invalidJson).readJson()).getMessage(), assertThrows(JsonSyntaxException.class, () -> new JsonReader(invalidJson, strictConfig).readJson()).getMessage());
+		String unterminatedJson = objectJson.substring(0, objectJson.length() - 1);
+		assertEquals(assertThrows(JsonSyntaxException.class, () -> new JsonReader(unterminatedJson).readJson()).getMessage(), assertThrows(JsonSyntaxException.class, () -> new JsonReader(unterminatedJson, strictConfig).readJson()).getMessage());
+	}
+	
+	@Test
+	void readJsonErrorPosition() {
+		JsonSyntaxException exception = assertThrows(JsonSyntaxException.class, () -> new JsonReader("{\n\t\"key\": [1, 2,\n\t\t3 4]\n}").readJson());
+		assertTrue(exception.getMessage().endsWith("at line 3, column 5"), exception.getMessage());
+	}
+	
 	@Test
 	void close() {
 		assertDoesNotThrow(() -> new JsonReader("test").close());
+		assertDoesNotThrow(() -> new JsonReader("[1] x", CUSTOM_CONFIG).close());
+		
+		JsonReader reader = new JsonReader("[1] \n", CUSTOM_CONFIG);
+		reader.readJson();
+		assertDoesNotThrow(reader::close);
+		
+		JsonReader remaining = new JsonReader("[1] x", CUSTOM_CONFIG);
+		assertEquals(JsonArray.of(1L), remaining.readJson());
+		JsonSyntaxException exception = assertThrows(JsonSyntaxException.class, remaining::close);
+		assertEquals("Invalid json, expected end of input but got: 'x' at line 1, column 5", exception.getMessage());
+		
+		JsonReader bytes = new JsonReader(new InputProvider(new ByteArrayInputStream("[1] x".getBytes(StandardCharsets.UTF_8))), CUSTOM_CONFIG);
+		bytes.readJson();
+		assertEquals(exception.getMessage(), assertThrows(JsonSyntaxException.class, bytes::close).getMessage());
 	}
 }
@@ -0,0 +1,55 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package net.luis.utils.io.data.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonStructuralIndex}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonStructuralIndexTest {
+	
+	private static int[] build(String json) {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		return JsonStructuralIndex.build(ByteBuffer.wrap(bytes), bytes.length);
+	}
+	
+	@Test
+	void build() {
+		if (!JsonStructuralIndex.isAvailable()) {
+			assertThrows(IllegalStateException.class, () -> build("[1]"));
+			return;
+		}
+		assertArrayEquals(new int[] { 0, 1, 3, 4, 6, 7, 8, 9 }, build("{\"a\": [1]}"));
+		assertArrayEquals(new int[] { 0, 5 }, build("\"a\\\"b\""));
+		assertArrayEquals(new int[] { 0, 1, 3, 5, 6, 10 }, build("[1 -2,true]"));
+		assertArrayEquals(new int[] { 0, 1, 102, 103, 104, 105 }, build("[\"" + "x,\\\\".repeat(25) + "\",1]"));
+		assertArrayEquals(new int[] { 0, 129 }, build("\"" + "\\\"".repeat(64) + "\""));
+		assertNull(build("[\"a"));
+		assertNull(build("\"a\\\""));
+	}
+}
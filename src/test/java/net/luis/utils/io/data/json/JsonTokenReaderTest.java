@@ -0,0 +1,208 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonTokenReader}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonTokenReaderTest {
+	
+	private static final JsonConfig CUSTOM_CONFIG = new JsonConfig(false, true, "\t", true, 10, true, 1, StandardCharsets.UTF_8);
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader((String) null));
+		assertDoesNotThrow(() -> new JsonTokenReader("test"));
+		
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader((String) null, JsonConfig.DEFAULT));
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader("test", null));
+		assertDoesNotThrow(() -> new JsonTokenReader("test", JsonConfig.DEFAULT));
+		
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader((InputProvider) null));
+		assertDoesNotThrow(() -> new JsonTokenReader(new InputProvider(InputStream.nullInputStream())));
+		
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader((InputProvider) null, JsonConfig.DEFAULT));
+		assertThrows(NullPointerException.class, () -> new JsonTokenReader(new InputProvider(InputStream.nullInputStream()), null));
+	}
+	
+	@Test
+	void next() {
+		JsonTokenReader reader = new JsonTokenReader("{\"a\": [1, \"b\", true, null], \"c\": {}}");
+		assertEquals(JsonToken.BEGIN_OBJECT, reader.next());
+		assertEquals(JsonToken.NAME, reader.next());
+		assertEquals("a", reader.getName());
+		assertEquals(JsonToken.BEGIN_ARRAY, reader.next());
+		assertEquals(JsonToken.NUMBER, reader.next());
+		assertEquals(1L, reader.getNumber());
+		assertEquals("1", reader.getString());
+		assertEquals(JsonToken.STRING, reader.next());
+		assertEquals("b", reader.getString());
+		assertEquals(JsonToken.BOOLEAN, reader.next());
+		assertTrue(reader.getBoolean());
+		assertEquals(JsonToken.NULL, reader.next());
+		assertEquals(JsonToken.END_ARRAY, reader.next());
+		assertEquals(JsonToken.NAME, reader.next());
+		assertEquals("c", reader.getName());
+		assertEquals(JsonToken.BEGIN_OBJECT, reader.next());
+		assertEquals(2, reader.getDepth());
+		assertEquals(JsonToken.END_OBJECT, reader.next());
+		assertEquals(JsonToken.END_OBJECT, reader.next());
+		assertEquals(0, reader.getDepth());
+		assertFalse(reader.hasNext());
+		assertEquals(JsonToken.END_DOCUMENT, reader.next());
+	}
+	
+	@Test
+	void peek() {
+		JsonTokenReader reader = new JsonTokenReader("[1]");
+		assertTrue(reader.hasNext());
+		assertEquals(JsonToken.BEGIN_ARRAY, reader.peek());
+		assertEquals(JsonToken.BEGIN_ARRAY, reader.peek());
+		assertNull(reader.getCurrentToken());
+		assertEquals(JsonToken.BEGIN_ARRAY, reader.next());
+		assertEquals(JsonToken.BEGIN_ARRAY, reader.getCurrentToken());
+		assertEquals(JsonToken.NUMBER, reader.peek());
+		assertThrows(IllegalStateException.class, reader::getNumber);
+	}
+	
+	@Test
+	void getters() {
+		JsonTokenReader reader = new JsonTokenReader("[\"a\"]");
+		assertThrows(IllegalStateException.class, reader::getName);
+		assertThrows(IllegalStateException.class, reader::getString);
+		reader.next();
+		assertThrows(IllegalStateException.class, reader::getString);
+		reader.next();
+		assertThrows(IllegalStateException.class, reader::getName);
+		assertThrows(IllegalStateException.class, reader::getNumber);
+		assertThrows(IllegalStateException.class, reader::getBoolean);
+		assertEquals("a", reader.getString());
+	}
+	
+	@Test
+	void skipValue() {
+		JsonTokenReader reader = new JsonTokenReader("{\"skip\": {\"a\": [1, [2, {\"b\": \"c\"}]]}, \"keep\": 42, \"last\": \"value\"}");
+		assertEquals(JsonToken.BEGIN_OBJECT, reader.next());
+		reader.skipValue();
+		assertEquals(JsonToken.NAME, reader.next());
+		assertEquals("keep", reader.getName());
+		reader.skipValue();
+		assertEquals(JsonToken.NAME, reader.next());
+		assertEquals("last", reader.getName());
+		assertEquals(JsonToken.STRING, reader.next());
+		assertEquals("value", reader.getString());
+		assertThrows(IllegalStateException.class, reader::skipValue);
+		assertEquals(JsonToken.END_OBJECT, reader.next());
+		assertThrows(IllegalStateException.class, reader::skipValue);
+	}
+	
+	@Test
+	void readElement() {
+		String json = "{\"a\": [1, 2.5, \"b\"], \"c\": {\"d\": null, \"e\": false}}";
+		assertEquals(new JsonReader(json).readJson(), new JsonTokenReader(json).readElement());
+		
+		JsonTokenReader reader = new JsonTokenReader(json);
+		reader.next();
+		reader.next();
+		JsonElement array = reader.readElement();
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(1L), new JsonPrimitive(2.5), new JsonPrimitive("b"))), array);
+		assertEquals(JsonToken.NAME, reader.peek());
+		assertThrows(IllegalStateException.class, reader::readElement);
+	}
+	
+	@Test
+	void readLargeInput() {
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < 10000; i++) {
+			builder.append(i == 0 ? "" : ",\n").append("{\"id\": ").append(i).append(", \"name\": \"").append("x".repeat(i % 50)).append("\"}");
+		}
+		String json = builder.append("]").toString();
+		JsonTokenReader reader = new JsonTokenReader(new InputProvider(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+		assertEquals(new JsonReader(json).readJson(), reader.readElement());
+		assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+		
+		String longString = "\"" + "y".repeat(20000) + "\"";
+		assertEquals(new JsonPrimitive("y".repeat(20000)), new JsonTokenReader(longString).readElement());
+	}
+	
+	@Test
+	void readStrict() {
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("").next());
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("test").next());
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("[1, 2, ]").readElement());
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("{\"a\": 1, }").readElement());
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("{a: 1}").readElement());
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("{\"a\" 1}").readElement());
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("[1 2]").readElement());
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("[1").readElement());
+		assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("\"abc").readElement());
+		
+		JsonTokenReader reader = new JsonTokenReader("1 2");
+		assertEquals(JsonToken.NUMBER, reader.next());
+		JsonSyntaxException exception = assertThrows(JsonSyntaxException.class, reader::next);
+		assertTrue(exception.getMessage().endsWith("at line 1, column 3"), exception.getMessage());
+		
+		exception = assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader("[\n\t1,\n\t2 3]").readElement());
+		assertTrue(exception.getMessage().endsWith("at line 3, column 4"), exception.getMessage());
+		
+		for (String json : List.of("\"abc", "[1, \"x", "{\"key\": 12, \"v\": tru}", "[1,\n  bad]", "[1e5x]", "[\n" + " ".repeat(20000) + "\"abc")) {
+			String expected = assertThrows(JsonSyntaxException.class, () -> new JsonReader(json).readJson()).getMessage();
+			assertEquals(expected, assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader(json).readElement()).getMessage());
+		}
+	}
+	
+	@Test
+	void readNonStrict() {
+		JsonTokenReader reader = new JsonTokenReader("{key: hello world, 'other': [TRUE, Null, ], } [1] 2", CUSTOM_CONFIG);
+		JsonObject object = reader.readElement().getAsJsonObject();
+		assertEquals(new JsonPrimitive("hello world"), object.get("key"));
+		assertEquals(new JsonPrimitive(true), object.getAsJsonArray("other").get(0));
+		assertEquals(JsonNull.INSTANCE, object.getAsJsonArray("other").get(1));
+		assertEquals(2, object.getAsJsonArray("other").size());
+		assertEquals(new JsonArray(List.of(new JsonPrimitive(1L))), reader.readElement());
+		assertEquals(new JsonPrimitive(2L), reader.readElement());
+		assertFalse(reader.hasNext());
+		
+		assertEquals(new JsonArray(List.of(new JsonPrimitive("a 1"))), new JsonTokenReader("[a 1]", CUSTOM_CONFIG).readElement());
+		for (String json : List.of("{\"a\":1 \"b\":2}", "[1 2]", "[a\"b]")) {
+			JsonSyntaxException expected = assertThrows(JsonSyntaxException.class, () -> new JsonReader(json, CUSTOM_CONFIG).readJson());
+			JsonSyntaxException actual = assertThrows(JsonSyntaxException.class, () -> new JsonTokenReader(json, CUSTOM_CONFIG).readElement());
+			assertEquals(expected.getMessage(), actual.getMessage());
+		}
+	}
+	
+	@Test
+	void close() {
+		JsonTokenReader reader = new JsonTokenReader("[]");
+		assertDoesNotThrow(reader::close);
+		assertThrows(IllegalStateException.class, reader::next);
+	}
+}
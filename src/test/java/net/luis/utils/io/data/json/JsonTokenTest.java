@@ -0,0 +1,59 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.luis.utils.io.data.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonToken}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonTokenTest {
+	
+	@Test
+	void isBegin() {
+		assertTrue(JsonToken.BEGIN_OBJECT.isBegin());
+		assertTrue(JsonToken.BEGIN_ARRAY.isBegin());
+		assertFalse(JsonToken.END_OBJECT.isBegin());
+		assertFalse(JsonToken.NAME.isBegin());
+		assertFalse(JsonToken.END_DOCUMENT.isBegin());
+	}
+	
+	@Test
+	void isEnd() {
+		assertTrue(JsonToken.END_OBJECT.isEnd());
+		assertTrue(JsonToken.END_ARRAY.isEnd());
+		assertFalse(JsonToken.BEGIN_ARRAY.isEnd());
+		assertFalse(JsonToken.STRING.isEnd());
+		assertFalse(JsonToken.END_DOCUMENT.isEnd());
+	}
+	
+	@Test
+	void isValue() {
+		assertTrue(JsonToken.STRING.isValue());
+		assertTrue(JsonToken.NUMBER.isValue());
+		assertTrue(JsonToken.BOOLEAN.isValue());
+		assertTrue(JsonToken.NULL.isValue());
+		assertFalse(JsonToken.NAME.isValue());
+		assertFalse(JsonToken.BEGIN_OBJECT.isValue());
+		assertFalse(JsonToken.END_DOCUMENT.isValue());
+	}
+}
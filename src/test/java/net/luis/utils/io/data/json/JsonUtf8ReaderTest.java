@@ -0,0 +1,139 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.json;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.json.exception.JsonSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link JsonUtf8Reader}.<br>
+ *
+ * @author Luis-St
+ */
+class JsonUtf8ReaderTest {
+	
+	private static final JsonConfig CUSTOM_CONFIG = new JsonConfig(false, true, "\t", true, 10, true, 1, StandardCharsets.UTF_8);
+	private static final String CONTENT = "{\"a\": [1, -2, 3.5e2, 1234567890123456789012], \"b\": {\"c\": \"äöü \\\" 😀\", \"d\": [true, false, null]}, \"é\": 0x1F}";
+	
+	private static byte[] bytes(String string) {
+		return string.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new JsonUtf8Reader((byte[]) null));
+		assertThrows(NullPointerException.class, () -> new JsonUtf8Reader((ByteBuffer) null));
+		assertThrows(NullPointerException.class, () -> new JsonUtf8Reader(bytes(CONTENT), null));
+		assertThrows(NullPointerException.class, () -> new JsonUtf8Reader(ByteBuffer.wrap(bytes(CONTENT)), null));
+		assertDoesNotThrow(() -> new JsonUtf8Reader(bytes(CONTENT)));
+		assertDoesNotThrow(() -> new JsonUtf8Reader(ByteBuffer.wrap(bytes(CONTENT)), CUSTOM_CONFIG));
+	}
+	
+	@Test
+	void readJson() {
+		JsonElement expected = new JsonReader(CONTENT, CUSTOM_CONFIG).readJson();
+		assertEquals(expected, new JsonUtf8Reader(bytes(CONTENT), CUSTOM_CONFIG).readJson());
+		assertEquals(expected.toString(), new JsonUtf8Reader(bytes(CONTENT), CUSTOM_CONFIG).readJson().toString());
+		
+		JsonObject object = new JsonUtf8Reader(bytes(CONTENT), CUSTOM_CONFIG).readJson().getAsJsonObject();
+		assertEquals(-2, object.getAsJsonArray("a").getAsInteger(1));
+		assertEquals(350.0, object.getAsJsonArray("a").getAsDouble(2));
+		assertEquals("äöü \\\" 😀", object.getAsJsonObject("b").getAsString("c"));
+		assertEquals(31, object.getAsInteger("é"));
+		
+		assertEquals(new JsonPrimitive(10), new JsonUtf8Reader(bytes("  10　")).readJson());
+		assertEquals(JsonNull.INSTANCE, new JsonUtf8Reader(bytes("NULL"), CUSTOM_CONFIG).readJson());
+		assertEquals(new JsonPrimitive("un quoted ä"), new JsonUtf8Reader(bytes("un quoted ä "), CUSTOM_CONFIG).readJson());
+		assertEquals(2, new JsonUtf8Reader(bytes("[1, 2,]"), CUSTOM_CONFIG).readJson().getAsJsonArray().size());
+		assertEquals(new JsonArray(List.of(new JsonPrimitive("a 1"), new JsonPrimitive("ä b"))), new JsonUtf8Reader(bytes("[a 1, ä b]"), CUSTOM_CONFIG).readJson());
+		for (String json : List.of("{\"a\":1 \"b\":2}", "[1 2]", "[true\u3000false]", "[a\"b]")) {
+			JsonSyntaxException exception = assertThrows(JsonSyntaxException.class, () -> new JsonReader(json, CUSTOM_CONFIG).readJson());
+			assertEquals(exception.getMessage(), assertThrows(JsonSyntaxException.class, () -> new JsonUtf8Reader(bytes(json), CUSTOM_CONFIG).readJson()).getMessage());
+		}
+	}
+	
+	@Test
+	void readJsonByteBuffer() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes(CONTENT).length + 1).put((byte) ' ').put(bytes(CONTENT)).flip().position(1);
+		assertEquals(new JsonReader(CONTENT).readJson(), new JsonUtf8Reader(buffer).readJson());
+		assertEquals(1, buffer.position());
+	}
+	
+	@Test
+	void readJsonInvalid() {
+		for (String json : List.of("", "[1, 2", "{\"ä\" 1}", "[1, 2,]", "{a: 1}", "'a'", "äöü", "\"ä\"\n😀 x", "[1,　ü]", "nul")) {
+			JsonSyntaxException expected = assertThrows(JsonSyntaxException.class, () -> new JsonReader(json).readJson());
+			JsonSyntaxException actual = assertThrows(JsonSyntaxException.class, () -> new JsonUtf8Reader(bytes(json)).readJson());
+			assertEquals(expected.getMessage(), actual.getMessage());
+		}
+	}
+	
+	@Test
+	void readJsonMatchesJsonReader() {
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < 100; i++) {
+			builder.append(i > 0 ? ",\n" : "").append(CONTENT.replace("0x1F", String.valueOf(i)));
+		}
+		String json = builder.append("]").toString();
+		assertEquals(new JsonReader(json).readJson(), new JsonUtf8Reader(bytes(json)).readJson());
+		assertEquals(new JsonReader(" {} ").readJson(), new JsonUtf8Reader(bytes(" {} ")).readJson());
+		assertEquals(new JsonPrimitive("a\\\\"), new JsonUtf8Reader(bytes("\"a\\\\\"")).readJson());
+		assertEquals(new JsonPrimitive(1), new JsonUtf8Reader(bytes("1\f")).readJson());
+		for (String invalid : List.of("[1, 2,]", "{\"a\": 1 \"b\": 2}", "[1 2]", "\"a", "[1]]", "{\"a\" 1}", "[nul]", "[1]\f2")) {
+			JsonSyntaxException expected = assertThrows(JsonSyntaxException.class, () -> new JsonReader(invalid).readJson());
+			JsonSyntaxException actual = assertThrows(JsonSyntaxException.class, () -> new JsonUtf8Reader(bytes(invalid)).readJson());
+			assertEquals(expected.getMessage(), actual.getMessage());
+		}
+	}
+	
+	@Test
+	void readJsonVectorized() {
+		JsonConfig config = new JsonConfig(true, true, "\t", true, 10, true, 1, StandardCharsets.UTF_8, false, true);
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < 100; i++) {
+			builder.append(i > 0 ? ",\n" : "").append(CONTENT.replace("0x1F", "\"\\\\" + i + "\""));
+		}
+		String json = builder.append("]").toString();
+		assertEquals(new JsonReader(json).readJson(), new JsonUtf8Reader(bytes(json), config).readJson());
+		assertEquals(new JsonReader(" {} ").readJson(), new JsonUtf8Reader(bytes(" {} "), config).readJson());
+		assertEquals(new JsonPrimitive(-1.5), new JsonUtf8Reader(bytes("-1.5"), config).readJson());
+		assertEquals(new JsonPrimitive(1), new JsonUtf8Reader(bytes("1\f"), config).readJson());
+		for (String invalid : List.of("[1, 2,]", "{\"a\": 1 \"b\": 2}", "[1 2]", "\"a", "[1]]", "{\"a\" 1}", "[nul]", "[1]\f2", "1\u20282", "[True]", "{a: 1}")) {
+			JsonSyntaxException expected = assertThrows(JsonSyntaxException.class, () -> new JsonReader(invalid).readJson());
+			JsonSyntaxException actual = assertThrows(JsonSyntaxException.class, () -> new JsonUtf8Reader(bytes(invalid), config).readJson());
+			assertEquals(expected.getMessage(), actual.getMessage());
+		}
+	}
+	
+	@Test
+	void readJsonInputProvider() {
+		JsonReader reader = new JsonReader(new InputProvider(new ByteArrayInputStream(bytes("1 [2] {\"ä\": 3}"))), CUSTOM_CONFIG);
+		assertEquals(new JsonPrimitive(1), reader.readJson());
+		assertEquals(JsonArray.of(2L), reader.readJson());
+		assertEquals(3, reader.readJson().getAsJsonObject().getAsInteger("ä"));
+	}
+}
@@ -23,6 +23,11 @@ import net.luis.utils.io.data.OutputProvider;
 import org.junit.jupiter.api.Test;
 
 import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -104,9 +109,82 @@ class JsonWriterTest {
 		stream.reset();
 	}
 	
+	@Test
+	void writeJsonNested() {
+		StringOutputStream stream = new StringOutputStream();
+		JsonWriter writer = new JsonWriter(new OutputProvider(stream));
+		JsonObject object = new JsonObject();
+		JsonArray array = new JsonArray();
+		for (int i = 0; i < 11; i++) {
+			array.add(i);
+		}
+		object.add("array", array);
+		object.add("simple", new JsonArray(List.of(new JsonPrimitive(1), new JsonPrimitive(2))));
+		
+		writer.writeJson(object);
+		assertEquals(object.toString(), stream.toString());
+		assertTrue(stream.toString().contains("%n\t\t10%n\t]".replace("%n", System.lineSeparator())));
+		assertTrue(stream.toString().contains("\"simple\": [1, 2]"));
+	}
+	
+	@Test
+	void writeIncremental() {
+		StringOutputStream stream = new StringOutputStream();
+		JsonWriter writer = new JsonWriter(new OutputProvider(stream));
+		
+		writer.beginObject().name("key").value("value").name("number").value(42).name("array").beginArray().value(true).nullValue().value(new JsonObject()).endArray().name("empty").beginArray().endArray().endObject();
+		assertEquals("{%n\t\"key\": \"value\",%n\t\"number\": 42,%n\t\"array\": [%n\t\ttrue,%n\t\tnull,%n\t\t{}%n\t],%n\t\"empty\": []%n}".replace("%n", System.lineSeparator()), stream.toString());
+		stream.reset();
+		
+		JsonWriter compactWriter = new JsonWriter(new OutputProvider(stream), new JsonConfig(true, false, "\t", false, 10, false, 1, StandardCharsets.UTF_8));
+		compactWriter.beginArray().value(1).value((String) null).beginObject().name("a").value(false).endObject().endArray();
+		assertEquals("[1,null,{\"a\": false}]", stream.toString());
+	}
+	
+	@Test
+	void writeIncrementalInvalid() {
+		JsonWriter writer = new JsonWriter(new OutputProvider(OutputStream.nullOutputStream()));
+		assertThrows(IllegalStateException.class, writer::endObject);
+		assertThrows(IllegalStateException.class, writer::endArray);
+		assertThrows(IllegalStateException.class, () -> writer.name("key"));
+		
+		writer.beginObject();
+		assertThrows(NullPointerException.class, () -> writer.name(null));
+		assertThrows(IllegalStateException.class, () -> writer.value(1));
+		assertThrows(IllegalStateException.class, writer::endArray);
+		writer.name("key");
+		assertThrows(IllegalStateException.class, () -> writer.name("other"));
+		assertThrows(IllegalStateException.class, writer::endObject);
+		writer.value(1);
+		assertDoesNotThrow(writer::endObject);
+		assertThrows(IllegalStateException.class, () -> writer.value(2));
+		assertThrows(IllegalStateException.class, writer::beginArray);
+	}
+	
+	@Test
+	void writeIncrementalNumbers() {
+		StringOutputStream stream = new StringOutputStream();
+		JsonWriter writer = new JsonWriter(new OutputProvider(stream), new JsonConfig(true, false, "\t", false, 10, false, 1, StandardCharsets.UTF_8));
+		writer.beginArray().value(1.5).value(2.5F).value(new BigDecimal("1E+400")).value(new AtomicInteger(3)).value(new DoubleAdder());
+		assertThrows(IllegalArgumentException.class, () -> writer.value(Double.NaN));
+		assertThrows(IllegalArgumentException.class, () -> writer.value(Double.POSITIVE_INFINITY));
+		assertThrows(IllegalArgumentException.class, () -> writer.value(Float.NEGATIVE_INFINITY));
+		DoubleAdder adder = new DoubleAdder();
+		adder.add(Double.NaN);
+		assertThrows(IllegalArgumentException.class, () -> writer.value(adder));
+		writer.endArray();
+		assertEquals("[1.5,2.5,1E+400,3,0.0]", stream.toString());
+		assertEquals(5, new JsonReader(stream.toString()).readJson().getAsJsonArray().size());
+	}
+	
 	@Test
 	void close() {
 		assertDoesNotThrow(() -> new JsonWriter(new OutputProvider(OutputStream.nullOutputStream())).close());
+		
+		JsonWriter writer = new JsonWriter(new OutputProvider(OutputStream.nullOutputStream()));
+		writer.beginObject().name("array").beginArray();
+		assertThrows(IllegalStateException.class, writer::close);
+		assertDoesNotThrow(writer::close);
 	}
 	
 	//region Internal classes
@@ -92,6 +92,38 @@ class PropertiesTest {
 		assertEquals(1, properties.getPropertiesOfSubgroup("test.b").size());
 		assertEquals(1, properties.getPropertiesOfSubgroup("test.c").size());
 		assertEquals(0, properties.getPropertiesOfSubgroup("test.d").size());
+		assertEquals(0, properties.getPropertiesOfSubgroup("test.a.key").size());
+		
+		assertEquals(properties, properties.getPropertiesOfSubgroup(null));
+		assertEquals(properties, properties.getPropertiesOfSubgroup(""));
+		assertThrows(IllegalArgumentException.class, () -> properties.getPropertiesOfSubgroup(" "));
+		assertThrows(IllegalArgumentException.class, () -> properties.getPropertiesOfSubgroup(".test"));
+		assertEquals(0, new Properties(List.of()).getPropertiesOfSubgroup(" ").size());
+		assertEquals(0, new Properties(List.of()).getPropertiesOfSubgroup(".test").size());
+		
+		assertEquals(new Properties(List.of(Property.of("key", "value1"))), properties.getPropertiesOfSubgroup("test.a"));
+		assertEquals(properties.getPropertiesOfSubgroup("test.a"), properties.getPropertiesOfSubgroup("test.a."));
+		assertEquals(properties.getPropertiesOfSubgroup("test.b"), properties.getPropertiesOfSubgroup("test").getPropertiesOfSubgroup("b"));
+		assertEquals("value3", properties.getPropertiesOfSubgroup("test.").getProperty("c.key").getRawValue());
+	}
+	
+	@Test
+	void getPropertiesOfSubgroupOrder() {
+		Properties properties = new Properties(List.of(Property.of("a.x.1", "1"), Property.of("a.y.1", "2"), Property.of("b.x.1", "3"), Property.of("a.x.2", "4")));
+		Properties subgroup = properties.getPropertiesOfSubgroup("a");
+		assertEquals(3, subgroup.size());
+		assertEquals(List.of("x.1", "y.1", "x.2"), subgroup.getProperties().stream().map(Property::getKey).toList());
+		assertEquals(List.of("1", "2"), subgroup.getPropertiesOfSubgroup("x").getProperties().stream().map(Property::getKey).toList());
+		assertTrue(subgroup.hasProperty("y.1"));
+		assertFalse(subgroup.hasProperty("a.y.1"));
+		
+		Property property = subgroup.getProperty("x.2");
+		assertEquals(Property.of("x.2", "4"), property);
+		assertEquals(Property.of("x.2", "4").hashCode(), property.hashCode());
+		assertEquals("x.2=4", property.toString());
+		assertTrue(property.isPartOfGroup("x"));
+		assertSame(property, properties.getPropertiesOfSubgroup("a").getProperty("x.2"));
+		assertSame(subgroup.getProperties().iterator().next(), properties.getPropertiesOfSubgroup("a.").getProperties().iterator().next());
 	}
 	
 	@Test
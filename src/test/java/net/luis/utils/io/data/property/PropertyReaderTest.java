@@ -27,9 +27,9 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -364,6 +364,42 @@ class PropertyReaderTest {
 		assertThrows(PropertySyntaxException.class, reader::readProperties);
 	}
 	
+	@Test
+	void forEach() {
+		List<String> keys = new ArrayList<>();
+		
+		assertThrows(NullPointerException.class, () -> createReader("key = value").forEach(null));
+		
+		createReader("key = a" + System.lineSeparator() + "# comment" + System.lineSeparator() + System.lineSeparator() + "key.[b|${?key}] = value", ADVANCED_DEFAULT_CONFIG).forEach(property -> keys.add(property.getKey()));
+		assertEquals(List.of("key", "key.b", "key.a"), keys);
+		
+		assertThrows(PropertySyntaxException.class, () -> createReader("key1 = value1" + System.lineSeparator() + "key2").forEach(property -> {}));
+	}
+	
+	@Test
+	void stream() {
+		try (Stream<Property> stream = createReader("key1 = value1" + System.lineSeparator() + "key.[2|3] = value2", ADVANCED_DEFAULT_CONFIG).stream()) {
+			assertEquals(List.of("key1", "key.2", "key.3"), stream.map(Property::getKey).toList());
+		}
+		try (Stream<Property> stream = createReader("key1 = value1" + System.lineSeparator() + "key2").stream()) {
+			assertEquals("value1", stream.findFirst().orElseThrow().getAsString());
+		}
+		try (Stream<Property> stream = createReader("key1 = value1" + System.lineSeparator() + "key2").stream()) {
+			assertThrows(PropertySyntaxException.class, stream::toList);
+		}
+	}
+	
+	@Test
+	void largeInput() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			builder.append("key").append(i).append(" = value").append(i).append(System.lineSeparator());
+		}
+		Properties properties = createReader(builder.toString()).readProperties();
+		assertEquals(20000, properties.size());
+		assertEquals("value19999", properties.getProperty("key19999").getAsString());
+	}
+	
 	@Test
 	void close() {
 		assertDoesNotThrow(() -> new PropertyReader(new InputProvider(InputStream.nullInputStream())).close());
@@ -138,6 +138,28 @@ class XmlAttributesTest {
 		assertEquals(0, attributes.size());
 	}
 	
+	@Test
+	void manyAttributes() {
+		XmlAttributes attributes = new XmlAttributes();
+		XmlAttributes reversed = new XmlAttributes();
+		for (int i = 0; i < 20; i++) {
+			attributes.add("name" + i, i);
+			reversed.add("name" + (19 - i), 19 - i);
+		}
+		assertEquals(20, attributes.size());
+		assertEquals(5, attributes.getAsInteger("name5"));
+		assertEquals(attributes, reversed);
+		assertEquals(attributes.hashCode(), reversed.hashCode());
+		assertEquals(new XmlAttribute("name5", 5), attributes.remove("name5"));
+		assertFalse(attributes.containsName("name5"));
+		assertEquals(19, attributes.getAsInteger("name19"));
+		assertNotEquals(attributes, reversed);
+		attributes.add("name5", 50);
+		assertEquals(new XmlAttribute("name5", 50), List.copyOf(attributes.attributes()).getLast());
+		assertEquals(new XmlAttribute("name0", 0), attributes.add("name0", 10));
+		assertEquals(new XmlAttribute("name0", 10), List.copyOf(attributes.attributes()).getFirst());
+	}
+	
 	@Test
 	void clear() {
 		XmlAttributes attributes = new XmlAttributes();
@@ -32,12 +32,13 @@ import static org.junit.jupiter.api.Assertions.*;
 class XmlConfigTest {
 	
 	private static final XmlConfig DEFAULT_CONFIG = XmlConfig.DEFAULT;
-	private static final XmlConfig CUSTOM_CONFIG = new XmlConfig(false, false, "  ", false, false, StandardCharsets.UTF_16);
+	private static final XmlConfig CUSTOM_CONFIG = new XmlConfig(false, false, "  ", false, false, StandardCharsets.UTF_16, true);
 	
 	@Test
 	void constructor() {
 		assertThrows(NullPointerException.class, () -> new XmlConfig(true, true, null, true, true, StandardCharsets.UTF_8));
 		assertThrows(NullPointerException.class, () -> new XmlConfig(true, true, "\t", true, true, null));
+		assertEquals(DEFAULT_CONFIG, new XmlConfig(true, true, "\t", true, true, StandardCharsets.UTF_8));
 	}
 	
 	@Test
@@ -75,4 +76,10 @@ class XmlConfigTest {
 		assertEquals(StandardCharsets.UTF_8, DEFAULT_CONFIG.charset());
 		assertEquals(StandardCharsets.UTF_16, CUSTOM_CONFIG.charset());
 	}
+	
+	@Test
+	void parallel() {
+		assertFalse(DEFAULT_CONFIG.parallel());
+		assertTrue(CUSTOM_CONFIG.parallel());
+	}
 }
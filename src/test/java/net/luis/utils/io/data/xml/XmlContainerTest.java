@@ -61,6 +61,23 @@ class XmlContainerTest {
 		assertFalse(new XmlContainer("test").isSelfClosing());
 	}
 	
+	@Test
+	void withName() {
+		XmlContainer container = new XmlContainer("test");
+		container.add(new XmlValue("value", 1));
+		assertThrows(NullPointerException.class, () -> container.withName(null));
+		assertNotSame(container, container.withName("test"));
+		assertEquals(container, container.withName("test"));
+		XmlContainer renamed = container.withName("renamed");
+		assertEquals("renamed", renamed.getName());
+		assertEquals(container.getElements(), renamed.getElements());
+		assertSame(container.get(0), renamed.get(0));
+		renamed.add(new XmlValue("other", 2));
+		renamed.addAttribute("key", "value");
+		assertEquals(1, container.size());
+		assertTrue(container.getAttributes().isEmpty());
+	}
+	
 	@Test
 	void getElements() {
 		XmlContainer container = new XmlContainer("test");
@@ -87,6 +87,36 @@ class XmlElementTest {
 		assertEquals(new XmlAttributes(), element.getAttributes());
 		element.addAttribute("test", "test");
 		assertEquals(1, element.getAttributes().size());
+		
+		element.getAttributes().add("other", "other");
+		assertEquals(2, element.getAttributes().size());
+		
+		XmlElement other = new XmlElement("test");
+		assertTrue(other.getAttributes().isEmpty());
+		assertThrows(UnsupportedOperationException.class, () -> other.getAttributes().add("test", "test"));
+		assertTrue(new XmlElement("test").getAttributes().isEmpty());
+	}
+	
+	@Test
+	void withName() {
+		XmlElement element = new XmlElement("test");
+		element.addAttribute("key", "value");
+		assertThrows(NullPointerException.class, () -> element.withName(null));
+		assertThrows(IllegalArgumentException.class, () -> element.withName("1test"));
+		assertNotSame(element, element.withName("test"));
+		assertEquals(element, element.withName("test"));
+		XmlElement renamed = element.withName("renamed");
+		assertEquals("renamed", renamed.getName());
+		assertTrue(renamed.isSelfClosing());
+		assertEquals(element.getAttributes(), renamed.getAttributes());
+		renamed.addAttribute("other", "other");
+		assertEquals(1, element.getAttributes().size());
+		assertEquals(2, renamed.getAttributes().size());
+		
+		XmlElement empty = new XmlElement("test").withName("renamed");
+		assertTrue(empty.getAttributes().isEmpty());
+		empty.addAttribute("key", "value");
+		assertEquals(1, empty.getAttributes().size());
 	}
 	
 	@Test
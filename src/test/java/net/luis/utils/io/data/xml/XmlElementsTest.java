@@ -213,6 +213,38 @@ class XmlElementsTest {
 		assertEquals(1, elements.size());
 	}
 	
+	@Test
+	void manyElements() {
+		XmlElements elements = new XmlElements();
+		XmlElements reversed = new XmlElements();
+		for (int i = 0; i < 20; i++) {
+			elements.add(new XmlValue("name" + i, i));
+			reversed.add(new XmlValue("name" + (19 - i), 19 - i));
+		}
+		assertTrue(elements.isObject());
+		assertEquals(20, elements.size());
+		assertEquals(5, elements.getAsValue("name5").getAsInteger());
+		assertThrows(XmlTypeException.class, () -> elements.add(new XmlElement("name5")));
+		assertEquals(elements, reversed);
+		assertEquals(elements.hashCode(), reversed.hashCode());
+		assertTrue(elements.remove("name5"));
+		assertNull(elements.get("name5"));
+		assertEquals(19, elements.getAsValue("name19").getAsInteger());
+		elements.add(new XmlValue("name5", 50));
+		assertEquals("name5", List.copyOf(elements.elements()).getLast().getName());
+		
+		XmlElements array = new XmlElements();
+		for (int i = 0; i < 20; i++) {
+			array.add(new XmlValue("name", i));
+		}
+		assertTrue(array.isArray());
+		assertEquals(20, array.size());
+		assertEquals(5, array.getAsValue(5).getAsInteger());
+		assertThrows(XmlTypeException.class, () -> array.add(new XmlElement("other")));
+		assertTrue(array.remove(5));
+		assertEquals(6, array.getAsValue(5).getAsInteger());
+	}
+	
 	@Test
 	void clear() {
 		XmlElements elements = new XmlElements();
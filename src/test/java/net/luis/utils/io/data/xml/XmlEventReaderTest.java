@@ -0,0 +1,277 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.xml;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.xml.exception.XmlSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link XmlEventReader}.<br>
+ *
+ * @author Luis-St
+ */
+class XmlEventReaderTest {
+	
+	private static final XmlConfig CUSTOM_CONFIG = new XmlConfig(false, false, "\t", false, false, StandardCharsets.UTF_8);
+	private static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>";
+	
+	@Test
+	void constructor() {
+		assertThrows(NullPointerException.class, () -> new XmlEventReader((String) null));
+		assertDoesNotThrow(() -> new XmlEventReader("test"));
+		
+		assertThrows(NullPointerException.class, () -> new XmlEventReader((String) null, XmlConfig.DEFAULT));
+		assertThrows(NullPointerException.class, () -> new XmlEventReader("test", null));
+		assertDoesNotThrow(() -> new XmlEventReader("test", XmlConfig.DEFAULT));
+		
+		assertThrows(NullPointerException.class, () -> new XmlEventReader((InputProvider) null));
+		assertDoesNotThrow(() -> new XmlEventReader(new InputProvider(InputStream.nullInputStream())));
+		
+		assertThrows(NullPointerException.class, () -> new XmlEventReader((InputProvider) null, XmlConfig.DEFAULT));
+		assertThrows(NullPointerException.class, () -> new XmlEventReader(new InputProvider(InputStream.nullInputStream()), null));
+	}
+	
+	@Test
+	void next() {
+		XmlEventReader reader = new XmlEventReader(DECLARATION + "<root a=\"1\"><!-- comment --><value>text</value><empty/></root>");
+		assertEquals(XmlEvent.DECLARATION, reader.next());
+		assertEquals(StandardCharsets.UTF_8, reader.getDeclaration().encoding());
+		assertEquals(XmlEvent.START_ELEMENT, reader.next());
+		assertEquals("root", reader.getName());
+		assertEquals("1", reader.getAttributes().getAsString("a"));
+		assertEquals(1, reader.getDepth());
+		assertEquals(XmlEvent.START_ELEMENT, reader.next());
+		assertEquals("value", reader.getName());
+		assertEquals(XmlEvent.TEXT, reader.next());
+		assertEquals("text", reader.getText());
+		assertEquals(XmlEvent.END_ELEMENT, reader.next());
+		assertEquals("value", reader.getName());
+		assertEquals(XmlEvent.START_ELEMENT, reader.next());
+		assertEquals("empty", reader.getName());
+		assertEquals(2, reader.getDepth());
+		assertEquals(XmlEvent.END_ELEMENT, reader.next());
+		assertEquals("empty", reader.getName());
+		assertEquals(XmlEvent.END_ELEMENT, reader.next());
+		assertEquals("root", reader.getName());
+		assertEquals(0, reader.getDepth());
+		assertFalse(reader.hasNext());
+		assertEquals(XmlEvent.END_DOCUMENT, reader.next());
+		assertEquals(XmlEvent.END_DOCUMENT, reader.next());
+	}
+	
+	@Test
+	void peek() {
+		XmlEventReader reader = new XmlEventReader(DECLARATION + "<root/>");
+		assertNull(reader.getCurrentEvent());
+		assertEquals(XmlEvent.DECLARATION, reader.peek());
+		assertEquals(XmlEvent.DECLARATION, reader.peek());
+		assertNull(reader.getCurrentEvent());
+		assertEquals(XmlEvent.DECLARATION, reader.next());
+		assertEquals(XmlEvent.DECLARATION, reader.getCurrentEvent());
+		assertEquals(XmlEvent.START_ELEMENT, reader.peek());
+		assertNotNull(reader.getDeclaration());
+	}
+	
+	@Test
+	void getters() {
+		XmlEventReader reader = new XmlEventReader(DECLARATION + "<root>text</root>");
+		assertThrows(IllegalStateException.class, reader::getName);
+		assertThrows(IllegalStateException.class, reader::getDeclaration);
+		reader.next();
+		assertThrows(IllegalStateException.class, reader::getName);
+		assertThrows(IllegalStateException.class, reader::getAttributes);
+		reader.next();
+		assertThrows(IllegalStateException.class, reader::getText);
+		assertThrows(IllegalStateException.class, reader::getDeclaration);
+		reader.next();
+		assertThrows(IllegalStateException.class, reader::getAttributes);
+		assertEquals("text", reader.getText());
+	}
+	
+	@Test
+	void text() {
+		XmlEventReader reader = new XmlEventReader("<root>\n\t<a> </a>\n\t<b>x<!-- comment -->y</b>\n</root>", CUSTOM_CONFIG);
+		assertEquals(XmlEvent.START_ELEMENT, reader.next());
+		assertEquals(XmlEvent.START_ELEMENT, reader.next());
+		assertEquals(XmlEvent.END_ELEMENT, reader.next());
+		assertEquals(XmlEvent.START_ELEMENT, reader.next());
+		assertEquals(XmlEvent.TEXT, reader.next());
+		assertEquals("xy", reader.getText());
+		assertEquals(XmlEvent.END_ELEMENT, reader.next());
+		assertEquals(XmlEvent.END_ELEMENT, reader.next());
+		assertEquals(XmlEvent.END_DOCUMENT, reader.next());
+	}
+	
+	@Test
+	void nextDefaultConfig() {
+		assertThrows(XmlSyntaxException.class, () -> new XmlEventReader("<root/>").next());
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader(DECLARATION)));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader(DECLARATION + "<root/><root/>")));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader(DECLARATION + "<root>")));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader(DECLARATION + "<root></other>")));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader(DECLARATION + "< root/>")));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader(DECLARATION + "<root a = \"1\"/>")));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader(DECLARATION + "<root a=1/>")));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader(DECLARATION + "<root><!-- comment</root>")));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader(DECLARATION + "text")));
+		assertDoesNotThrow(() -> readAll(new XmlEventReader(DECLARATION + "<!-- comment --><root a=\"1\"></ROOT><!-- comment -->")));
+	}
+	
+	@Test
+	void nextCustomConfig() {
+		assertDoesNotThrow(() -> readAll(new XmlEventReader("<root/><root/>", CUSTOM_CONFIG)));
+		assertDoesNotThrow(() -> readAll(new XmlEventReader("< root ></  root  >", CUSTOM_CONFIG)));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader("<root a=\"1\"/>", CUSTOM_CONFIG)));
+		assertThrows(XmlSyntaxException.class, () -> readAll(new XmlEventReader("", CUSTOM_CONFIG)));
+	}
+	
+	@Test
+	void skipElement() {
+		XmlEventReader reader = new XmlEventReader(DECLARATION + "<root><skip a=\"1\"><b>text</b><c/></skip><d>value</d></root>");
+		assertThrows(IllegalStateException.class, reader::skipElement);
+		reader.next();
+		assertThrows(IllegalStateException.class, reader::skipElement);
+		reader.next();
+		reader.next();
+		assertEquals("skip", reader.getName());
+		reader.skipElement();
+		assertEquals(XmlEvent.END_ELEMENT, reader.getCurrentEvent());
+		assertEquals("skip", reader.getName());
+		assertEquals(1, reader.getDepth());
+		assertEquals(XmlEvent.START_ELEMENT, reader.next());
+		assertEquals("d", reader.getName());
+		reader.skipElement();
+		assertEquals(XmlEvent.END_ELEMENT, reader.next());
+		assertEquals("root", reader.getName());
+		
+		XmlEventReader selfClosing = new XmlEventReader(DECLARATION + "<root><a/><b/></root>");
+		selfClosing.next();
+		selfClosing.next();
+		selfClosing.next();
+		selfClosing.skipElement();
+		assertEquals("a", selfClosing.getName());
+		assertEquals(XmlEvent.START_ELEMENT, selfClosing.next());
+		assertEquals("b", selfClosing.getName());
+		
+		XmlEventReader peeked = new XmlEventReader(DECLARATION + "<root><a/></root>");
+		peeked.next();
+		peeked.next();
+		peeked.peek();
+		assertThrows(IllegalStateException.class, peeked::skipElement);
+		
+		XmlEventReader invalid = new XmlEventReader(DECLARATION + "<root><a></b></root>");
+		invalid.next();
+		invalid.next();
+		assertThrows(XmlSyntaxException.class, invalid::skipElement);
+	}
+	
+	@Test
+	void readElement() {
+		String xml = DECLARATION + "<root><value a=\"1\">\n\t\ttext\n\t</value><empty/><blank></blank><container><b>1</b><c><d/></c></container></root>";
+		XmlEventReader reader = new XmlEventReader(xml);
+		assertThrows(IllegalStateException.class, reader::readElement);
+		reader.next();
+		reader.next();
+		XmlReader xmlReader = new XmlReader(xml);
+		xmlReader.readDeclaration();
+		assertEquals(xmlReader.readXmlElement(), reader.readElement());
+		assertEquals(XmlEvent.END_ELEMENT, reader.getCurrentEvent());
+		assertEquals(XmlEvent.END_DOCUMENT, reader.next());
+		
+		XmlEventReader partial = new XmlEventReader(xml);
+		partial.next();
+		partial.next();
+		partial.next();
+		XmlElement value = partial.readElement();
+		assertTrue(value.isXmlValue());
+		assertEquals("text", value.getAsXmlValue().getRawValue());
+		assertEquals("1", value.getAttributeAsString("a"));
+		partial.next();
+		assertTrue(partial.readElement().isSelfClosing());
+		partial.next();
+		assertEquals("", partial.readElement().getAsXmlValue().getRawValue());
+		partial.next();
+		assertEquals(2, partial.readElement().getAsXmlContainer().getElements().size());
+		assertEquals(XmlEvent.END_ELEMENT, partial.next());
+		assertEquals("root", partial.getName());
+	}
+	
+	@Test
+	void readElementMixedContent() {
+		XmlEventReader textFirst = new XmlEventReader(DECLARATION + "<root>text<a/></root>");
+		textFirst.next();
+		textFirst.next();
+		assertThrows(XmlSyntaxException.class, textFirst::readElement);
+		
+		XmlEventReader elementFirst = new XmlEventReader(DECLARATION + "<root><a/>text</root>");
+		elementFirst.next();
+		elementFirst.next();
+		assertThrows(XmlSyntaxException.class, elementFirst::readElement);
+	}
+	
+	@Test
+	void readLargeInput() {
+		StringBuilder builder = new StringBuilder(DECLARATION).append("<root>");
+		for (int i = 0; i < 2000; i++) {
+			builder.append("<record id=\"").append(i).append("\"><!-- record ").append(i).append(" --><name>Name ").append(i).append("</name></record>");
+		}
+		builder.append("<text>").append("x".repeat(20000)).append("</text></root>");
+		byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+		
+		XmlEventReader reader = new XmlEventReader(new InputProvider(new ByteArrayInputStream(bytes)));
+		reader.next();
+		reader.next();
+		int records = 0;
+		while (reader.next() == XmlEvent.START_ELEMENT) {
+			if ("record".equals(reader.getName())) {
+				XmlElement record = reader.readElement();
+				assertEquals(records, record.getAttributeAsInteger("id"));
+				assertEquals("Name " + records, record.getAsXmlContainer().getAsValue("name").getRawValue());
+				records++;
+			} else {
+				assertEquals(XmlEvent.TEXT, reader.next());
+				assertEquals(20000, reader.getText().length());
+				assertEquals(XmlEvent.END_ELEMENT, reader.next());
+			}
+		}
+		assertEquals(2000, records);
+		assertEquals("root", reader.getName());
+		assertEquals(XmlEvent.END_DOCUMENT, reader.next());
+	}
+	
+	@Test
+	void close() throws IOException {
+		XmlEventReader reader = new XmlEventReader(DECLARATION + "<root/>");
+		reader.next();
+		reader.close();
+		assertThrows(IllegalStateException.class, reader::next);
+		assertThrows(IllegalStateException.class, reader::hasNext);
+	}
+	
+	private static void readAll(@NotNull XmlEventReader reader) {
+		while (reader.next() != XmlEvent.END_DOCUMENT);
+	}
+}
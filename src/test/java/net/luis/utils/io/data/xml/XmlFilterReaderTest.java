@@ -0,0 +1,157 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.xml;
+
+import net.luis.utils.io.data.InputProvider;
+import net.luis.utils.io.data.xml.exception.XmlSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link XmlFilterReader}.<br>
+ *
+ * @author Luis-St
+ */
+class XmlFilterReaderTest {
+	
+	private static final XmlConfig CUSTOM_CONFIG = new XmlConfig(false, false, "\t", true, false, StandardCharsets.UTF_8);
+	private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+		"<feed>" +
+		"<meta><record id=\"meta\"/></meta>" +
+		"<records>" +
+		"<record id=\"1\" type=\"a\"><name>One</name></record>" +
+		"<record id=\"2\" type=\"b\"><name>Two</name></record>" +
+		"<group><record id=\"3\" type=\"a\"><name>Three</name><record id=\"4\" type=\"a\"/></record></group>" +
+		"</records>" +
+		"</feed>";
+	
+	private static @NotNull InputProvider input(@NotNull String xml) {
+		return new InputProvider(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+	}
+	
+	private static @NotNull List<String> ids(@NotNull String xml, @NotNull String @NotNull ... paths) {
+		List<XmlPath> compiled = Arrays.stream(paths).map(XmlPath::compile).toList();
+		List<String> ids = new ArrayList<>();
+		new XmlFilterReader(input(xml), compiled).forEach(element -> ids.add(element.getAttributeAsString("id")));
+		return ids;
+	}
+	
+	@Test
+	void constructor() {
+		List<XmlPath> paths = List.of(XmlPath.compile("/feed"));
+		assertThrows(NullPointerException.class, () -> new XmlFilterReader((InputProvider) null, paths));
+		assertThrows(NullPointerException.class, () -> new XmlFilterReader(new InputProvider(InputStream.nullInputStream()), null));
+		assertThrows(IllegalArgumentException.class, () -> new XmlFilterReader(new InputProvider(InputStream.nullInputStream()), List.of()));
+		assertDoesNotThrow(() -> new XmlFilterReader(new InputProvider(InputStream.nullInputStream()), paths));
+		
+		assertThrows(NullPointerException.class, () -> new XmlFilterReader(new InputProvider(InputStream.nullInputStream()), null, paths));
+		assertDoesNotThrow(() -> new XmlFilterReader(new InputProvider(InputStream.nullInputStream()), XmlConfig.DEFAULT, paths));
+		
+		assertThrows(NullPointerException.class, () -> new XmlFilterReader((XmlEventReader) null, paths));
+		assertThrows(NullPointerException.class, () -> new XmlFilterReader(new XmlEventReader("test"), Collections.singletonList(null)));
+		assertDoesNotThrow(() -> new XmlFilterReader(new XmlEventReader("test"), paths));
+	}
+	
+	@Test
+	void forEach() {
+		assertEquals(List.of("1", "2"), ids(XML, "/feed/records/record"));
+		assertEquals(List.of("1", "2", "3", "4"), ids(XML, "/feed/records//record"));
+		assertEquals(List.of("meta", "1", "2", "3", "4"), ids(XML, "//record"));
+		assertEquals(List.of("1", "3", "4"), ids(XML, "//record[@type='a']"));
+		assertEquals(List.of("3"), ids(XML, "/feed/*/*/record[@id]"));
+		assertEquals(List.of("meta", "1", "2"), ids(XML, "/feed/meta/record", "/feed/records/record"));
+		assertEquals(List.of("1", "2", "3"), ids(XML, "/feed/records/record", "/feed/records/group/record"));
+		assertEquals(List.of(), ids(XML, "/other/records/record"));
+		assertEquals(List.of(), ids(XML, "/feed/records/record[@type='c']"));
+		assertThrows(NullPointerException.class, () -> new XmlFilterReader(input(XML), List.of(XmlPath.compile("/feed"))).forEach(null));
+	}
+	
+	@Test
+	void elements() {
+		List<XmlElement> elements = new ArrayList<>();
+		new XmlFilterReader(input(XML), List.of(XmlPath.compile("/feed/records/record[@id='1']"), XmlPath.compile("//name"))).forEach(elements::add);
+		assertEquals(4, elements.size());
+		XmlContainer record = elements.getFirst().getAsXmlContainer();
+		assertEquals("1", record.getAttributeAsString("id"));
+		assertEquals("One", record.getAsValue("name").getRawValue());
+		assertEquals("One", elements.get(1).getAsXmlValue().getRawValue());
+		assertEquals("Two", elements.get(2).getAsXmlValue().getRawValue());
+		assertEquals("Three", elements.get(3).getAsXmlValue().getRawValue());
+	}
+	
+	@Test
+	void iterator() {
+		XmlFilterReader reader = new XmlFilterReader(input(XML), List.of(XmlPath.compile("/feed/records/record")));
+		Iterator<XmlElement> iterator = reader.iterator();
+		assertTrue(iterator.hasNext());
+		assertTrue(iterator.hasNext());
+		assertEquals("1", iterator.next().getAttributeAsString("id"));
+		assertEquals("2", iterator.next().getAttributeAsString("id"));
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+		assertThrows(IllegalStateException.class, reader::iterator);
+		assertThrows(IllegalStateException.class, reader::stream);
+		assertThrows(IllegalStateException.class, () -> reader.forEach(element -> {}));
+	}
+	
+	@Test
+	void stream() {
+		try (Stream<XmlElement> stream = new XmlFilterReader(input(XML), List.of(XmlPath.compile("//record[@type='a']"))).stream()) {
+			assertEquals(List.of("1", "3", "4"), stream.map(element -> element.getAttributeAsString("id")).toList());
+		}
+		try (Stream<XmlElement> stream = new XmlFilterReader(input(XML), List.of(XmlPath.compile("//record"))).stream()) {
+			assertEquals("meta", stream.findFirst().orElseThrow().getAttributeAsString("id"));
+		}
+	}
+	
+	@Test
+	void config() {
+		String xml = "<feed><record id=\"1\"/></feed><feed><record id=\"2\"/></feed>";
+		List<String> ids = new ArrayList<>();
+		new XmlFilterReader(input(xml), CUSTOM_CONFIG, List.of(XmlPath.compile("/feed/record"))).forEach(element -> ids.add(element.getAttributeAsString("id")));
+		assertEquals(List.of("1", "2"), ids);
+		assertThrows(XmlSyntaxException.class, () -> ids(xml, "/feed/record"));
+	}
+	
+	@Test
+	void invalidSkippedContent() {
+		String xml = "<?xml version=\"1.0\"?><feed><skip><a></b></skip><record id=\"1\"/></feed>";
+		assertThrows(XmlSyntaxException.class, () -> ids(xml, "/feed/record"));
+	}
+	
+	@Test
+	void largeInput() {
+		StringBuilder builder = new StringBuilder("<?xml version=\"1.0\"?><feed><header>").append("x".repeat(50000)).append("</header><records>");
+		for (int i = 0; i < 5000; i++) {
+			builder.append("<record id=\"").append(i).append("\"><value>").append(i).append("</value></record>");
+		}
+		builder.append("</records></feed>");
+		List<String> ids = ids(builder.toString(), "/feed/records/record");
+		assertEquals(5000, ids.size());
+		assertEquals("4999", ids.getLast());
+	}
+}
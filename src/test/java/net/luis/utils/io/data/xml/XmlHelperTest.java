@@ -20,6 +20,9 @@ package net.luis.utils.io.data.xml;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -75,6 +78,20 @@ class XmlHelperTest {
 		assertEquals("&lt;&gt;&amp;&quot;&apos;", XmlHelper.escapeXml("<>&\"'"));
 	}
 	
+	@Test
+	void escapeXmlToWriter() throws IOException {
+		assertThrows(NullPointerException.class, () -> XmlHelper.escapeXml(null, new StringWriter()));
+		assertThrows(NullPointerException.class, () -> XmlHelper.escapeXml("", null));
+		
+		StringWriter writer = new StringWriter();
+		XmlHelper.escapeXml("", writer);
+		assertEquals("", writer.toString());
+		XmlHelper.escapeXml("a", writer);
+		assertEquals("a", writer.toString());
+		XmlHelper.escapeXml("<b> & \"c\" 'd'", writer);
+		assertEquals("a&lt;b&gt; &amp; &quot;c&quot; &apos;d&apos;", writer.toString());
+	}
+	
 	@Test
 	void unescapeXml() {
 		assertThrows(NullPointerException.class, () -> XmlHelper.unescapeXml(null));
@@ -0,0 +1,49 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.xml;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link XmlNameCache}.<br>
+ *
+ * @author Luis-St
+ */
+class XmlNameCacheTest {
+	
+	@Test
+	void name() {
+		XmlNameCache cache = new XmlNameCache();
+		String input = "<name><name/><other/></name>";
+		String first = cache.name(input, 1, 5);
+		assertEquals("name", first);
+		assertSame(first, cache.name(input, 7, 11));
+		assertEquals("other", cache.name(input, 14, 19));
+		assertSame(first, cache.name(new StringBuilder("name"), 0, 4));
+		assertEquals("", cache.name(input, 0, 0));
+		for (int i = 0; i < 10000; i++) {
+			assertEquals("name" + i, cache.name("name" + i, 0, 4 + String.valueOf(i).length()));
+		}
+		assertSame(first, cache.name(input, 1, 5));
+		String longName = "n".repeat(100);
+		assertEquals(longName, cache.name(longName, 0, 100));
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * LUtils
+ * Copyright (C) 2025 Luis Staudt
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.luis.utils.io.data.xml;
+
+import net.luis.utils.io.data.InputProvider;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link XmlPath}.<br>
+ *
+ * @author Luis-St
+ */
+class XmlPathTest {
+	
+	private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+		"<feed>" +
+		"<meta><record id=\"meta\" type=\"b\"/></meta>" +
+		"<records>" +
+		"<record id=\"1\" type=\"a\"><name>One</name></record>" +
+		"<record id=\"2\" type=\"b\"><name>Two</name></record>" +
+		"<record id=\"3\" type=\"a\"><name>Three</name></record>" +
+		"</records>" +
+		"<nested><record id=\"4\" type=\"a\"><record id=\"5\" type=\"b\"/></record></nested>" +
+		"</feed>";
+	
+	private static @NotNull XmlElement parse() {
+		XmlReader reader = new XmlReader(XML);
+		reader.readDeclaration();
+		return reader.readXmlElement();
+	}
+	
+	private static @NotNull List<String> ids(@NotNull List<XmlElement> elements) {
+		return elements.stream().map(element -> element.getAttributeAsString("id")).toList();
+	}
+	
+	private static @NotNull InputProvider input() {
+		return new InputProvider(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)));
+	}
+	
+	@Test
+	void compile() {
+		assertThrows(NullPointerException.class, () -> XmlPath.compile(null));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile(""));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("feed"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed/"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("///feed"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/fe ed"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed[id]"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed[@id"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed[@id=1]"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed[@id='1]"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed[@]"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed[0]"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed[1"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed[1a]"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/feed[99999999999]"));
+		assertThrows(IllegalArgumentException.class, () -> XmlPath.compile("/a".repeat(64)));
+		
+		assertDoesNotThrow(() -> XmlPath.compile("/feed"));
+		assertDoesNotThrow(() -> XmlPath.compile(" /feed/records/record "));
+		assertDoesNotThrow(() -> XmlPath.compile("//record"));
+		assertDoesNotThrow(() -> XmlPath.compile("/feed//*"));
+		assertDoesNotThrow(() -> XmlPath.compile("/feed/*/record[@id][ @type = \"a\" ][@name='x']"));
+		assertDoesNotThrow(() -> XmlPath.compile("/feed/record[1]"));
+		assertDoesNotThrow(() -> XmlPath.compile("//record[@type='a'][ 2 ]"));
+		assertDoesNotThrow(() -> XmlPath.compile("/a".repeat(63)));
+	}
+	
+	@Test
+	void getExpression() {
+		assertEquals("/feed/records/record", XmlPath.compile("/feed/records/record").getExpression());
+		assertEquals("//record[@id='1']", XmlPath.compile("//record[@id='1']").getExpression());
+	}
+	
+	@Test
+	void matches() {
+		XmlPath path = XmlPath.compile("/feed/*/record[@type='a'][@id]");
+		XmlAttributes matching = new XmlAttributes();
+		matching.add("type", "a");
+		matching.add("id", 1);
+		XmlAttributes other = new XmlAttributes();
+		other.add("type", "b");
+		other.add("id", 1);
+		
+		long feed = path.next(path.start(), "feed", new XmlAttributes(), null, 0);
+		assertNotEquals(0, feed);
+		assertEquals(0, path.next(path.start(), "other", new XmlAttributes(), null, 0));
+		long records = path.next(feed, "records", new XmlAttributes(), null, 0);
+		assertFalse(path.isMatch(records));
+		assertTrue(path.isMatch(path.next(records, "record", matching, null, 0)));
+		assertEquals(0, path.next(records, "record", other, null, 0));
+		assertEquals(0, path.next(records, "Record", matching, null, 0));
+		
+		XmlPath descendant = XmlPath.compile("//value");
+		long mask = descendant.start();
+		for (int i = 0; i < 5; i++) {
+			mask = descendant.next(mask, "container", new XmlAttributes(), null, 0);
+			assertFalse(descendant.isMatch(mask));
+		}
+		assertTrue(descendant.isMatch(descendant.next(mask, "value", new XmlAttributes(), null, 0)));
+	}
+	
+	@Test
+	void select() {
+		XmlElement root = parse();
+		assertThrows(NullPointerException.class, () -> XmlPath.compile("/feed").select((XmlElement) null));
+		assertEquals(List.of(root), XmlPath.compile("/feed").select(root));
+		assertEquals(List.of(), XmlPath.compile("/other").select(root));
+		assertEquals(List.of("1", "2", "3"), ids(XmlPath.compile("/feed/records/record").select(root)));
+		assertEquals(List.of("meta", "1", "2", "3", "4"), ids(XmlPath.compile("/feed/*/record").select(root)));
+		assertEquals(List.of("meta", "1", "2", "3", "4", "5"), ids(XmlPath.compile("//record").select(root)));
+		assertEquals(List.of("1", "3", "4"), ids(XmlPath.compile("/feed//record[@type='a']").select(root)));
+		assertEquals(List.of("5"), ids(XmlPath.compile("//record/record").select(root)));
+		assertEquals(List.of("Two"), XmlPath.compile("/feed/records/record[@id='2']/name").select(root).stream().map(element -> element.getAsXmlValue().getRawValue()).toList());
+		assertEquals(List.of("meta", "records", "nested"), XmlPath.compile("/feed/*").select(root).stream().map(XmlElement::getName).toList());
+	}
+	
+	@Test
+	void selectIndex() {
+		XmlElement root = parse();
+		assertEquals(List.of("2"), ids(XmlPath.compile("/feed/records/record[2]").select(root)));
+		assertEquals(List.of(), ids(XmlPath.compile("/feed/records/record[4]").select(root)));
+		assertEquals(List.of("3"), ids(XmlPath.compile("/feed/records/record[@type='a'][2]").select(root)));
+		assertEquals(List.of(), ids(XmlPath.compile("/feed/records/record[2][@type='a']").select(root)));
+		assertEquals(List.of("meta", "1", "4", "5"), ids(XmlPath.compile("//record[1]").select(root)));
+		assertEquals(List.of("records"), XmlPath.compile("/feed/*[2]").select(root).stream().map(XmlElement::getName).toList());
+	}
+	
+	@Test
+	void selectFirst() {
+		XmlElement root = parse();
+		assertThrows(NullPointerException.class, () -> XmlPath.compile("/feed").selectFirst((XmlElement) null));
+		assertEquals(Optional.of("meta"), XmlPath.compile("//record").selectFirst(root).map(element -> element.getAttributeAsString("id")));
+		assertEquals(Optional.of("3"), XmlPath.compile("/feed/records/record[@type='a'][2]").selectFirst(root).map(element -> element.getAttributeAsString("id")));
+		assertEquals(Optional.empty(), XmlPath.compile("//record[@type='c']").selectFirst(root));
+	}
+	
+	@Test
+	void selectInput() {
+		XmlElement root = parse();
+		for (String expression : List.of("/feed", "/feed/records/record", "//record", "/feed//record[@type='a']", "//record[1]", "/feed/records/record[@type='a'][2]", "/feed/*[2]/*", "//record/record", "//name")) {
+			XmlPath path = XmlPath.compile(expression);
+			assertEquals(path.select(root), path.select(input()), expression);
+			assertEquals(path.selectFirst(root), path.selectFirst(input()), expression);
+		}
+		assertThrows(NullPointerException.class, () -> XmlPath.compile("/feed").select((InputProvider) null));
+		assertThrows(NullPointerException.class, () -> XmlPath.compile("/feed").selectFirst(input(), null));
+	}
+}
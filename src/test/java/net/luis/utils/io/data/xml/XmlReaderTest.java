@@ -38,6 +38,12 @@ class XmlReaderTest {
 	
 	private static final XmlConfig CUSTOM_CONFIG = new XmlConfig(false, false, "\t", false, false, StandardCharsets.UTF_8);
 	
+	private static XmlElement readXml(String xml, XmlConfig config) {
+		XmlReader reader = new XmlReader(xml, config);
+		reader.readDeclaration();
+		return reader.readXmlElement();
+	}
+	
 	@Test
 	void constructor() {
 		assertThrows(NullPointerException.class, () -> new XmlReader((String) null));
@@ -271,6 +277,76 @@ class XmlReaderTest {
 		assertThrows(XmlSyntaxException.class, invalidNestedReader::readXmlElement);
 	}
 	
+	@Test
+	void readXmlElementComments() {
+		XmlReader reader = new XmlReader("<!-- header --><?xml version=\"v1.0\"?>\n<!-- before --><test><!-- first --><nested>va<!-- inner -->lue</nested>\n<!-- between --><other a=\"<!--kept-->\"/></test><!-- after -->");
+		reader.readDeclaration();
+		XmlContainer expected = new XmlContainer("test");
+		expected.addValue(new XmlValue("nested", "value"));
+		XmlElement other = new XmlElement("other");
+		other.addAttribute("a", "<!--kept-->");
+		expected.add(other);
+		assertEquals(expected, reader.readXmlElement());
+		
+		XmlReader unclosedReader = new XmlReader("<?xml version=\"v1.0\"?><test><!-- unclosed</test>");
+		unclosedReader.readDeclaration();
+		assertThrows(XmlSyntaxException.class, unclosedReader::readXmlElement);
+		
+		XmlReader textReader = new XmlReader("<?xml version=\"v1.0\"?><test><nested>it's \"quoted\"</nested><!-- c -->b</test>");
+		textReader.readDeclaration();
+		assertThrows(XmlSyntaxException.class, textReader::readXmlElement);
+	}
+	
+	@Test
+	void readXmlElementNested() {
+		StringBuilder builder = new StringBuilder("<?xml version=\"v1.0\"?>");
+		for (int i = 0; i < 500; i++) {
+			builder.append("<level index=\"").append(i).append("\">");
+		}
+		builder.append("<value>it's deep</value>");
+		for (int i = 0; i < 500; i++) {
+			builder.append(i % 2 == 0 ? "</level>" : "</LEVEL>");
+		}
+		XmlReader reader = new XmlReader(builder.toString());
+		reader.readDeclaration();
+		XmlElement element = reader.readXmlElement();
+		for (int i = 0; i < 500; i++) {
+			assertEquals("level", element.getName());
+			assertEquals(String.valueOf(i), element.getAttributeAsString("index"));
+			element = element.getAsXmlContainer().getElements().get(0);
+		}
+		assertEquals("it's deep", element.getAsXmlValue().getAsString());
+	}
+	
+	@Test
+	void readXmlElementParallel() {
+		XmlConfig strictConfig = new XmlConfig(true, false, "\t", true, false, StandardCharsets.UTF_8, true);
+		XmlConfig lenientConfig = new XmlConfig(false, false, "\t", true, false, StandardCharsets.UTF_8, true);
+		StringBuilder builder = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<feed type=\"items\">\n");
+		for (int i = 0; i < 10000; i++) {
+			builder.append("\t<item id=\"").append(i).append("\" note=\"a > b\"><name>item ").append(i).append("</name><tags><tag/><tag /></tags></item>\n");
+			if (i % 1000 == 0) {
+				builder.append("\t<!-- <item> -->\n");
+			}
+		}
+		String xml = builder.append("</feed>").toString();
+		
+		XmlElement sequential = readXml(xml, XmlConfig.DEFAULT);
+		XmlElement parallel = readXml(xml, strictConfig);
+		assertEquals(sequential, parallel);
+		assertEquals(10000, parallel.getAsXmlContainer().getElements().size());
+		assertEquals("items", parallel.getAttributeAsString("type"));
+		assertEquals("item 9999", parallel.getAsXmlContainer().getElements().getAsContainer(9999).getElements().getAsValue("name").getAsString());
+		assertEquals(readXml(xml, new XmlConfig(false, false, "\t", true, false, StandardCharsets.UTF_8)), readXml(xml, lenientConfig));
+		
+		String textXml = xml.replace("<item id=\"5000\"", "text<item id=\"5000\"");
+		assertEquals(assertThrows(XmlSyntaxException.class, () -> readXml(textXml, XmlConfig.DEFAULT)).getMessage(), assertThrows(XmlSyntaxException.class, () -> readXml(textXml, strictConfig)).getMessage());
+		String invalidXml = xml.replace("<name>item 7000</name>", "<name>item 7000</nme>");
+		assertEquals(assertThrows(XmlSyntaxException.class, () -> readXml(invalidXml, XmlConfig.DEFAULT)).getMessage(), assertThrows(XmlSyntaxException.class, () -> readXml(invalidXml, strictConfig)).getMessage());
+		String unterminatedXml = xml.substring(0, xml.length() - 7);
+		assertEquals(assertThrows(XmlSyntaxException.class, () -> readXml(unterminatedXml, XmlConfig.DEFAULT)).getMessage(), assertThrows(XmlSyntaxException.class, () -> readXml(unterminatedXml, strictConfig)).getMessage());
+	}
+	
 	@Test
 	void close() {
 		assertDoesNotThrow(() -> new XmlReader(new InputProvider(InputStream.nullInputStream())));
@@ -57,6 +57,20 @@ class XmlValueTest {
 		assertFalse(new XmlValue("test", true).isSelfClosing());
 	}
 	
+	@Test
+	void withName() {
+		XmlValue value = new XmlValue("test", "<test>");
+		assertThrows(NullPointerException.class, () -> value.withName(null));
+		assertNotSame(value, value.withName("test"));
+		assertEquals(value, value.withName("test"));
+		XmlValue renamed = value.withName("renamed");
+		assertEquals("renamed", renamed.getName());
+		assertEquals("&lt;test&gt;", renamed.getRawValue());
+		assertEquals(new XmlValue("renamed", "<test>"), renamed);
+		renamed.addAttribute("key", "value");
+		assertTrue(value.getAttributes().isEmpty());
+	}
+	
 	@Test
 	void getRawValue() {
 		assertEquals("true", new XmlValue("test", true).getRawValue());
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.io.OutputStream;
+import java.util.List;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +44,15 @@ class XmlWriterTest {
 		return lines.replaceAll("\\$", System.lineSeparator());
 	}
 	
+	private static @NotNull String writeRoot(@NotNull XmlElement element) {
+		StringOutputStream stream = new StringOutputStream();
+		XmlWriter writer = new XmlWriter(new OutputProvider(stream));
+		writer.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+		stream.reset();
+		writer.writeXml(element);
+		return stream.toString();
+	}
+	
 	@Test
 	void constructor() {
 		OutputProvider provider = new OutputProvider(OutputStream.nullOutputStream());
@@ -86,30 +96,26 @@ class XmlWriterTest {
 		XmlContainer root = new XmlContainer("root");
 		writer.writeXml(root);
 		assertEquals(DECLARATION + multiline("$<root></root>"), stream.toString());
-		stream.reset();
+		assertThrows(IllegalStateException.class, () -> writer.writeXml(root));
+		assertThrows(IllegalStateException.class, () -> writer.startElement("root"));
 		
 		XmlContainer users = new XmlContainer("users");
 		root.addContainer(users);
-		writer.writeXml(root);
-		assertEquals(multiline("<root>$\t<users></users>$</root>"), stream.toString());
-		stream.reset();
+		assertEquals(multiline("<root>$\t<users></users>$</root>"), writeRoot(root));
 		
 		XmlContainer user1 = new XmlContainer("user1");
 		user1.addAttribute("id", "1");
 		user1.addAttribute("name", "User1");
 		user1.addValue(new XmlValue("Password", "****"));
 		users.addContainer(user1);
-		writer.writeXml(root);
-		assertEquals(multiline("<root>$\t<users>$\t\t<user1 id=\"1\" name=\"User1\">$\t\t\t<Password>****</Password>$\t\t</user1>$\t</users>$</root>"), stream.toString());
-		stream.reset();
+		assertEquals(multiline("<root>$\t<users>$\t\t<user1 id=\"1\" name=\"User1\">$\t\t\t<Password>****</Password>$\t\t</user1>$\t</users>$</root>"), writeRoot(root));
 		
 		XmlContainer user2 = new XmlContainer("user2");
 		user2.addAttribute("id", "2");
 		user2.addAttribute("name", "User2");
 		user2.addValue(new XmlValue("Password", "****"));
 		users.addContainer(user2);
-		writer.writeXml(root);
-		assertEquals(multiline("<root>$\t<users>$\t\t<user1 id=\"1\" name=\"User1\">$\t\t\t<Password>****</Password>$\t\t</user1>$\t\t<user2 id=\"2\" name=\"User2\">$\t\t\t<Password>****</Password>$\t\t</user2>$\t</users>$</root>"), stream.toString());
+		assertEquals(multiline("<root>$\t<users>$\t\t<user1 id=\"1\" name=\"User1\">$\t\t\t<Password>****</Password>$\t\t</user1>$\t\t<user2 id=\"2\" name=\"User2\">$\t\t\t<Password>****</Password>$\t\t</user2>$\t</users>$</root>"), writeRoot(root));
 	}
 	
 	@Test
@@ -155,9 +161,114 @@ class XmlWriterTest {
 		assertEquals("<root><users><user1><password>****</password><id>1</id><name>user1</name></user1><user2><id>2</id><name>user2</name><password>****</password></user2></users></root>", stream.toString());
 	}
 	
+	@Test
+	void startElementDefaultConfig() {
+		StringOutputStream stream = new StringOutputStream();
+		XmlWriter writer = new XmlWriter(new OutputProvider(stream));
+		assertThrows(NullPointerException.class, () -> writer.startElement(null));
+		assertThrows(IllegalArgumentException.class, () -> writer.startElement("in valid"));
+		assertThrows(IllegalStateException.class, () -> writer.startElement("root"));
+		writer.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+		stream.reset();
+		
+		writer.startElement("root").startElement("users");
+		assertEquals(2, writer.getDepth());
+		writer.startElement("user").attribute("id", 1).attribute("name", "<User>").attribute("admin", true);
+		writer.startElement("Password").text("**").text("&*").endElement();
+		writer.startElement("empty").endElement();
+		writer.endElement().endElement();
+		writer.writeXml(new XmlValue("count", "1"));
+		writer.endElement();
+		assertEquals(0, writer.getDepth());
+		assertEquals(multiline("<root>$\t<users>$\t\t<user id=\"1\" name=\"&lt;User&gt;\" admin=\"true\">$\t\t\t<Password>**&amp;*</Password>$\t\t\t<empty/>$\t\t</user>$\t</users>$\t<count>1</count>$</root>"), stream.toString());
+		assertThrows(IllegalStateException.class, () -> writer.startElement("root"));
+		assertThrows(IllegalStateException.class, () -> writer.writeXml(new XmlElement("root")));
+	}
+	
+	@Test
+	void startElementCustomConfig() {
+		StringOutputStream stream = new StringOutputStream();
+		XmlWriter writer = new XmlWriter(new OutputProvider(stream), CUSTOM_CONFIG);
+		writer.startElement("root");
+		assertThrows(IllegalStateException.class, () -> writer.attribute("id", "1"));
+		writer.startElement("value").text("a < b").endElement();
+		writer.writeXml(new XmlContainer("container", new XmlElements(List.of(new XmlValue("inner", "1")))));
+		writer.startElement("blank").text("").endElement();
+		writer.endElement();
+		writer.startElement("second").endElement();
+		writer.writeXml(new XmlElement("third"));
+		assertEquals(DECLARATION + "<root><value>a &lt; b</value><container><inner>1</inner></container><blank></blank></root><second/><third/>", stream.toString());
+	}
+	
+	@Test
+	void incrementalErrors() {
+		XmlWriter writer = new XmlWriter(new OutputProvider(OutputStream.nullOutputStream()), CUSTOM_CONFIG);
+		assertThrows(IllegalStateException.class, writer::endElement);
+		assertThrows(IllegalStateException.class, () -> writer.text("text"));
+		assertThrows(IllegalStateException.class, () -> writer.attribute("id", "1"));
+		
+		XmlWriter textWriter = new XmlWriter(new OutputProvider(OutputStream.nullOutputStream()), XmlConfig.DEFAULT);
+		textWriter.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+		textWriter.startElement("root");
+		assertThrows(NullPointerException.class, () -> textWriter.attribute(null, "1"));
+		assertThrows(IllegalArgumentException.class, () -> textWriter.attribute("in valid", "1"));
+		assertThrows(NullPointerException.class, () -> textWriter.text(null));
+		textWriter.text("text");
+		assertThrows(IllegalStateException.class, () -> textWriter.attribute("id", "1"));
+		assertThrows(IllegalStateException.class, () -> textWriter.startElement("child"));
+		assertThrows(IllegalStateException.class, () -> textWriter.writeXml(new XmlElement("child")));
+		
+		XmlWriter elementWriter = new XmlWriter(new OutputProvider(OutputStream.nullOutputStream()), XmlConfig.DEFAULT);
+		elementWriter.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+		elementWriter.startElement("root").startElement("child").endElement();
+		assertThrows(IllegalStateException.class, () -> elementWriter.text("text"));
+	}
+	
+	@Test
+	void incrementalMatchesWriteXml() {
+		XmlConfig valuesConfig = new XmlConfig(true, true, "  ", true, false, StandardCharsets.UTF_8);
+		for (XmlConfig config : new XmlConfig[] { XmlConfig.DEFAULT, valuesConfig, new XmlConfig(false, false, "\t", true, true, StandardCharsets.UTF_8) }) {
+			XmlContainer root = new XmlContainer("root");
+			root.addAttribute("version", "1 & 2");
+			for (int i = 0; i < 3; i++) {
+				XmlContainer record = new XmlContainer("record");
+				record.addAttribute("id", String.valueOf(i));
+				record.addValue(new XmlValue("name", "Name \"" + i + "\""));
+				record.add(new XmlElement("flag"));
+				root.addContainer(record);
+			}
+			
+			StringOutputStream expected = new StringOutputStream();
+			XmlWriter elementWriter = new XmlWriter(new OutputProvider(expected), config);
+			elementWriter.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+			elementWriter.writeXml(root);
+			
+			StringOutputStream actual = new StringOutputStream();
+			XmlWriter writer = new XmlWriter(new OutputProvider(actual), config);
+			writer.writeDeclaration(new XmlDeclaration(Version.of(1, 0)));
+			writer.startElement("root").attribute("version", "1 & 2");
+			for (int i = 0; i < 3; i++) {
+				writer.startElement("record").attribute("id", i);
+				writer.startElement("name").text("Name \"" + i + "\"").endElement();
+				writer.startElement("flag").endElement();
+				writer.endElement();
+			}
+			writer.endElement();
+			assertEquals(expected.toString(), actual.toString());
+		}
+	}
+	
 	@Test
 	void close() {
-		assertDoesNotThrow(() -> new XmlWriter(new OutputProvider(OutputStream.nullOutputStream())));
+		assertDoesNotThrow(() -> new XmlWriter(new OutputProvider(OutputStream.nullOutputStream())).close());
+		
+		StringOutputStream stream = new StringOutputStream();
+		XmlWriter writer = new XmlWriter(new OutputProvider(stream), CUSTOM_CONFIG);
+		writer.startElement("root").startElement("child");
+		IllegalStateException exception = assertThrows(IllegalStateException.class, writer::close);
+		assertTrue(exception.getMessage().contains("2 unclosed"));
+		assertEquals(DECLARATION + "<root><child", stream.toString());
+		assertEquals(0, writer.getDepth());
 	}
 	
 	//region Internal classes